@@ -1,9 +1,9 @@
 package com.sequenceiq.cloudbreak.audit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider.INTERNAL_ACTOR_CRN;
 import static com.sequenceiq.cloudbreak.util.NullUtil.doIfNotNull;
 import static com.sequenceiq.cloudbreak.util.UuidUtil.uuidSupplier;
-import static io.grpc.internal.GrpcUtil.DEFAULT_MAX_MESSAGE_SIZE;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,7 +20,9 @@ import com.cloudera.thunderhead.service.audit.AuditGrpc.AuditBlockingStub;
 import com.cloudera.thunderhead.service.audit.AuditProto;
 import com.cloudera.thunderhead.service.audit.AuditProto.CreateAttemptAuditEventRequest;
 import com.cloudera.thunderhead.service.audit.AuditProto.CreateAuditEventRequest;
+import com.cloudera.thunderhead.service.audit.AuditProto.CreateAuditEventResponse;
 import com.cloudera.thunderhead.service.audit.AuditProto.UpdateAttemptAuditEventWithResultRequest;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.sequenceiq.cloudbreak.audit.config.AuditConfig;
 import com.sequenceiq.cloudbreak.audit.converter.AttemptAuditEventResultToGrpcAttemptAuditEventResultConverter;
 import com.sequenceiq.cloudbreak.audit.converter.AuditEventToGrpcAuditEventConverter;
@@ -28,12 +30,12 @@ import com.sequenceiq.cloudbreak.audit.model.AttemptAuditEventResult;
 import com.sequenceiq.cloudbreak.audit.model.AuditEvent;
 import com.sequenceiq.cloudbreak.audit.model.ListAuditEvent;
 import com.sequenceiq.cloudbreak.audit.util.ActorUtil;
+import com.sequenceiq.cloudbreak.grpc.ManagedChannelPool;
 import com.sequenceiq.cloudbreak.grpc.ManagedChannelWrapper;
 import com.sequenceiq.cloudbreak.grpc.altus.AltusMetadataInterceptor;
 import com.sequenceiq.cloudbreak.grpc.util.GrpcUtil;
 
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import io.opentracing.Tracer;
 
 @Component
@@ -51,13 +53,17 @@ public class AuditClient {
 
     private final Tracer tracer;
 
+    private final ManagedChannelPool channelPool;
+
     public AuditClient(AuditConfig auditConfig, AuditEventToGrpcAuditEventConverter auditEventConverter,
-            AttemptAuditEventResultToGrpcAttemptAuditEventResultConverter resultConverter, ActorUtil actorUtil, Tracer tracer) {
+            AttemptAuditEventResultToGrpcAttemptAuditEventResultConverter resultConverter, ActorUtil actorUtil, Tracer tracer,
+            ManagedChannelPool channelPool) {
         this.auditConfig = auditConfig;
         this.auditEventConverter = auditEventConverter;
         this.resultConverter = resultConverter;
         this.actorUtil = actorUtil;
         this.tracer = tracer;
+        this.channelPool = channelPool;
     }
 
     @Retryable(value = Exception.class, maxAttempts = 3, backoff = @Backoff(delay = 5000))
@@ -73,6 +79,48 @@ public class AuditClient {
         }
     }
 
+    /**
+     * Sends the audit event without blocking the caller, the call is made through the shared channel of the audit service.
+     *
+     * @param auditEvent the audit event
+     * @return the future of the response, it fails with a {@link io.grpc.StatusRuntimeException} if the call fails
+     */
+    public ListenableFuture<CreateAuditEventResponse> createAuditEventAsync(AuditEvent auditEvent) {
+        return createAuditEventAsync(auditEventConverter.convert(auditEvent));
+    }
+
+    /**
+     * Sends the already converted audit event without blocking the caller, the actor of the call is the actor of the event.
+     *
+     * @param protoAuditEvent the converted audit event
+     * @return the future of the response, it fails with a {@link io.grpc.StatusRuntimeException} if the call fails
+     */
+    public ListenableFuture<CreateAuditEventResponse> createAuditEventAsync(AuditProto.AuditEvent protoAuditEvent) {
+        checkNotNull(protoAuditEvent.getRequestId());
+        return AuditGrpc.newFutureStub(makeWrapper().getChannel())
+                .withInterceptors(GrpcUtil.getTracingInterceptor(tracer),
+                        new AltusMetadataInterceptor(protoAuditEvent.getRequestId(), getActorCrn(protoAuditEvent)))
+                .createAuditEvent(CreateAuditEventRequest.newBuilder()
+                        .setAuditEvent(protoAuditEvent)
+                        .build());
+    }
+
+    /**
+     * Sends the already converted audit event synchronously, the actor of the call is the actor of the event.
+     *
+     * @param protoAuditEvent the converted audit event
+     */
+    @Retryable(value = Exception.class, maxAttempts = 3, backoff = @Backoff(delay = 5000))
+    public void createConvertedAuditEvent(AuditProto.AuditEvent protoAuditEvent) {
+        try (ManagedChannelWrapper channelWrapper = makeWrapper()) {
+            LOGGER.info("Audit log entry will be created: {}", protoAuditEvent.getId());
+            newStub(channelWrapper.getChannel(), protoAuditEvent.getRequestId(), getActorCrn(protoAuditEvent))
+                    .createAuditEvent(CreateAuditEventRequest.newBuilder()
+                            .setAuditEvent(protoAuditEvent)
+                            .build());
+        }
+    }
+
     public void createAttemptAuditEvent(AuditEvent auditEvent) {
         try (ManagedChannelWrapper channelWrapper = makeWrapper()) {
             String actorCrn = actorUtil.getActorCrn(auditEvent.getActor());
@@ -95,17 +143,19 @@ public class AuditClient {
         }
     }
 
+    private String getActorCrn(AuditProto.AuditEvent protoAuditEvent) {
+        return protoAuditEvent.getActorCase() == AuditProto.AuditEvent.ActorCase.ACTORCRN
+                ? protoAuditEvent.getActorCrn()
+                : INTERNAL_ACTOR_CRN;
+    }
+
     /**
-     * Creates Managed Channel wrapper from endpoint address
+     * Returns the wrapper of the shared channel of the endpoint address
      *
      * @return the wrapper object
      */
     private ManagedChannelWrapper makeWrapper() {
-        return new ManagedChannelWrapper(
-                ManagedChannelBuilder.forAddress(auditConfig.getHost(), auditConfig.getPort())
-                        .usePlaintext()
-                        .maxInboundMessageSize(DEFAULT_MAX_MESSAGE_SIZE)
-                        .build());
+        return channelPool.getChannel(auditConfig.getHost(), auditConfig.getPort());
     }
 
     /**
@@ -0,0 +1,357 @@
+package com.sequenceiq.cloudbreak.audit.pipeline;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.cloudera.thunderhead.service.audit.AuditProto;
+import com.cloudera.thunderhead.service.audit.AuditProto.CreateAuditEventResponse;
+import com.google.common.annotations.VisibleForTesting;
+import com.sequenceiq.cloudbreak.audit.AuditClient;
+import com.sequenceiq.cloudbreak.audit.config.AuditConfig;
+import com.sequenceiq.cloudbreak.audit.converter.AuditEventToGrpcAuditEventConverter;
+import com.sequenceiq.cloudbreak.audit.model.AuditEvent;
+
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Sends the audit events to the audit service asynchronously, in batches. The events are queued by the callers and a single sender thread
+ * drains the queue into batches bounded by size and by the linger time, the events of a batch are sent concurrently through the shared channel.
+ * <ul>
+ *     <li>backpressure: a caller waits at most the enqueue timeout for a free slot of the bounded queue</li>
+ *     <li>spooling: only if {@code altus.audit.pipeline.spool.dir} is set, which has to be a persistent directory. The events that do not fit
+ *     into the queue, or that failed with a retryable status, are appended to the local file spool. While the audit service is unavailable
+ *     the events go directly to the spool, which is replayed in the order of spooling when the service recovers. Without a spool these
+ *     events are sent synchronously, with the retries of {@link AuditClient}, the ones that failed with a retryable status by the sender
+ *     thread.</li>
+ *     <li>metrics: {@code audit.pipeline.events} counters by outcome, the {@code audit.pipeline.lag} timer from the creation of the event to
+ *     its acknowledgement, the {@code audit.pipeline.batch.size} summary and the queue and spool size gauges</li>
+ * </ul>
+ * If the pipeline is disabled, or the audit service is not configured, the events are sent synchronously.
+ */
+@Component
+public class AuditEventPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditEventPipeline.class);
+
+    private static final Set<Status.Code> RETRYABLE_STATUS_CODES = EnumSet.of(Status.Code.UNAVAILABLE, Status.Code.DEADLINE_EXCEEDED,
+            Status.Code.RESOURCE_EXHAUSTED, Status.Code.ABORTED, Status.Code.CANCELLED, Status.Code.UNKNOWN);
+
+    private static final String OUTCOME_TAG = "outcome";
+
+    @Value("${altus.audit.pipeline.enabled:true}")
+    private boolean enabled;
+
+    @Value("${altus.audit.pipeline.queue.size:10000}")
+    private int queueSize;
+
+    @Value("${altus.audit.pipeline.batch.size:200}")
+    private int batchSize;
+
+    @Value("${altus.audit.pipeline.batch.linger.ms:100}")
+    private long lingerMillis;
+
+    @Value("${altus.audit.pipeline.batch.timeout.seconds:30}")
+    private long batchTimeoutSeconds;
+
+    @Value("${altus.audit.pipeline.enqueue.timeout.ms:50}")
+    private long enqueueTimeoutMillis;
+
+    @Value("${altus.audit.pipeline.spool.dir:}")
+    private String spoolDirectory;
+
+    @Value("${altus.audit.pipeline.spool.max.bytes:536870912}")
+    private long spoolMaxBytes;
+
+    @Value("${altus.audit.pipeline.replay.interval.seconds:30}")
+    private long replayIntervalSeconds;
+
+    @Inject
+    private AuditClient auditClient;
+
+    @Inject
+    private AuditConfig auditConfig;
+
+    @Inject
+    private AuditEventToGrpcAuditEventConverter auditEventConverter;
+
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<AuditProto.AuditEvent> queue;
+
+    private AuditEventSpool spool;
+
+    private Thread sender;
+
+    private volatile boolean running;
+
+    private volatile boolean available = true;
+
+    private long nextReplayAt;
+
+    public AuditEventPipeline() {
+        this(Metrics.globalRegistry);
+    }
+
+    @VisibleForTesting
+    AuditEventPipeline(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (enabled && auditConfig.isConfigured()) {
+            queue = new ArrayBlockingQueue<>(queueSize);
+            meterRegistry.gauge("audit.pipeline.queue.size", queue, BlockingQueue::size);
+            if (StringUtils.hasText(spoolDirectory)) {
+                spool = new AuditEventSpool(Paths.get(spoolDirectory), spoolMaxBytes);
+                meterRegistry.gauge("audit.pipeline.spool.bytes", spool, AuditEventSpool::getBytes);
+            } else {
+                LOGGER.warn("Audit event spool directory is not configured, audit events that cannot be sent are retried synchronously");
+            }
+            running = true;
+            sender = new Thread(this::run, "audit-event-sender");
+            sender.setDaemon(true);
+            sender.start();
+            LOGGER.info("Audit event pipeline is started with batch size {}, linger {} ms and spool directory '{}'", batchSize, lingerMillis, spoolDirectory);
+        }
+    }
+
+    /**
+     * Queues the audit event for sending. The caller waits for the audit service only if the pipeline is not running.
+     *
+     * @param auditEvent the audit event
+     */
+    public void submit(AuditEvent auditEvent) {
+        if (!running) {
+            auditClient.createAuditEvent(auditEvent);
+            return;
+        }
+        AuditProto.AuditEvent protoAuditEvent = auditEventConverter.convert(auditEvent);
+        if (!available && spool != null) {
+            spool(protoAuditEvent);
+            return;
+        }
+        try {
+            if (!queue.offer(protoAuditEvent, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                LOGGER.debug("Audit event queue is full, spooling or sending event {} synchronously", protoAuditEvent.getId());
+                spoolOrSend(auditEvent, protoAuditEvent);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            spoolOrSend(auditEvent, protoAuditEvent);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (running) {
+            running = false;
+            try {
+                sender.join(TimeUnit.SECONDS.toMillis(batchTimeoutSeconds));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<AuditProto.AuditEvent> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            remaining.forEach(this::spool);
+            if (spool != null) {
+                spool.close();
+            }
+        }
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<AuditProto.AuditEvent> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    if (available || spool == null) {
+                        send(batch).forEach(this::spool);
+                    } else {
+                        batch.forEach(this::spool);
+                    }
+                }
+                if (running) {
+                    replayIfDue();
+                }
+            } catch (InterruptedException e) {
+                LOGGER.info("Audit event sender is interrupted");
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.error("Unexpected error in the audit event sender", e);
+            }
+        }
+    }
+
+    private List<AuditProto.AuditEvent> nextBatch() throws InterruptedException {
+        List<AuditProto.AuditEvent> batch = new ArrayList<>();
+        AuditProto.AuditEvent first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+        if (first != null) {
+            batch.add(first);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+            while (batch.size() < batchSize) {
+                queue.drainTo(batch, batchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= batchSize || remaining <= 0L) {
+                    break;
+                }
+                AuditProto.AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * @return the events of the batch that failed with a retryable error and have to be spooled, or sent synchronously if there is no spool
+     */
+    private List<AuditProto.AuditEvent> send(List<AuditProto.AuditEvent> batch) throws InterruptedException {
+        DistributionSummary.builder("audit.pipeline.batch.size").register(meterRegistry).record(batch.size());
+        List<Future<CreateAuditEventResponse>> responses = new ArrayList<>(batch.size());
+        for (AuditProto.AuditEvent event : batch) {
+            responses.add(auditClient.createAuditEventAsync(event));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(batchTimeoutSeconds);
+        List<AuditProto.AuditEvent> failedEvents = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            AuditProto.AuditEvent event = batch.get(i);
+            try {
+                responses.get(i).get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                countEvent("sent");
+                Timer.builder("audit.pipeline.lag").register(meterRegistry)
+                        .record(Math.max(System.currentTimeMillis() - event.getTimestamp(), 0L), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                responses.get(i).cancel(true);
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                if (isRetryable(cause)) {
+                    failedEvents.add(event);
+                } else {
+                    countEvent("rejected");
+                    LOGGER.error("Audit service rejected event {}: {}", event.getId(), cause.getMessage(), cause);
+                }
+            }
+        }
+        if (!failedEvents.isEmpty()) {
+            LOGGER.warn("{} of {} audit events could not be sent, the audit service is considered to be unavailable", failedEvents.size(), batch.size());
+            markUnavailable();
+        }
+        return failedEvents;
+    }
+
+    private boolean isRetryable(Throwable cause) {
+        return cause instanceof TimeoutException || RETRYABLE_STATUS_CODES.contains(Status.fromThrowable(cause).getCode());
+    }
+
+    private void replayIfDue() throws InterruptedException {
+        if (spool == null || spool.isEmpty() || System.currentTimeMillis() < nextReplayAt) {
+            return;
+        }
+        nextReplayAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(replayIntervalSeconds);
+        try {
+            for (Path segment : spool.seal()) {
+                if (!replay(segment)) {
+                    return;
+                }
+            }
+            if (!available) {
+                LOGGER.info("Audit service is available again, the spooled audit events are replayed");
+            }
+            available = true;
+        } catch (IOException e) {
+            LOGGER.error("Cannot replay the audit event spool", e);
+        }
+    }
+
+    /**
+     * @return true if the whole segment is replayed
+     */
+    private boolean replay(Path segment) throws IOException, InterruptedException {
+        List<AuditProto.AuditEvent> events = spool.read(segment);
+        LOGGER.info("Replaying {} audit events of spool segment {}", events.size(), segment);
+        for (int from = 0; from < events.size(); from += batchSize) {
+            List<AuditProto.AuditEvent> batch = events.subList(from, Math.min(from + batchSize, events.size()));
+            List<AuditProto.AuditEvent> failedEvents = send(batch);
+            if (!failedEvents.isEmpty()) {
+                List<AuditProto.AuditEvent> remainingEvents = new ArrayList<>(failedEvents);
+                remainingEvents.addAll(events.subList(Math.min(from + batchSize, events.size()), events.size()));
+                spool.rewrite(segment, remainingEvents);
+                return false;
+            }
+        }
+        spool.delete(segment);
+        return true;
+    }
+
+    private void markUnavailable() {
+        available = false;
+        nextReplayAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(replayIntervalSeconds);
+    }
+
+    private void spoolOrSend(AuditEvent auditEvent, AuditProto.AuditEvent protoAuditEvent) {
+        if (spool != null) {
+            spool(protoAuditEvent);
+        } else {
+            auditClient.createAuditEvent(auditEvent);
+        }
+    }
+
+    private void spool(AuditProto.AuditEvent event) {
+        if (spool == null) {
+            sendSynchronously(event);
+        } else if (spool.append(event)) {
+            countEvent("spooled");
+        } else {
+            countEvent("dropped");
+            LOGGER.error("Audit event spool is full or cannot be written, dropping audit event: {}", event);
+        }
+    }
+
+    private void sendSynchronously(AuditProto.AuditEvent event) {
+        try {
+            auditClient.createConvertedAuditEvent(event);
+            countEvent("sent");
+        } catch (RuntimeException e) {
+            countEvent("dropped");
+            LOGGER.error("Audit event could not be sent synchronously either, dropping audit event: {}", event, e);
+        }
+    }
+
+    private void countEvent(String outcome) {
+        Counter.builder("audit.pipeline.events").tag(OUTCOME_TAG, outcome).register(meterRegistry).increment();
+    }
+
+    @VisibleForTesting
+    boolean isAvailable() {
+        return available;
+    }
+}
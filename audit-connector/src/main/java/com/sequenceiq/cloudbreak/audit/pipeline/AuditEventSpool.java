@@ -0,0 +1,179 @@
+package com.sequenceiq.cloudbreak.audit.pipeline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cloudera.thunderhead.service.audit.AuditProto;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Append-only file spool of the audit events that could not be sent. The events are appended length delimited to the active file, which is
+ * sealed into a segment before the replay, so the events spooled during the replay do not interfere with it. The segments are replayed in the
+ * order of sealing, and they survive restarts.
+ */
+class AuditEventSpool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditEventSpool.class);
+
+    private static final String ACTIVE_FILE_NAME = "audit-events.spool";
+
+    private static final String SEGMENT_PREFIX = "audit-events-";
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    private final Path directory;
+
+    private final Path activeFile;
+
+    private final long maxBytes;
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    private OutputStream activeOutput;
+
+    AuditEventSpool(Path directory, long maxBytes) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.activeFile = directory.resolve(ACTIVE_FILE_NAME);
+        this.maxBytes = maxBytes;
+        long existingBytes = Files.exists(activeFile) ? Files.size(activeFile) : 0L;
+        for (Path segment : listSegments()) {
+            existingBytes += Files.size(segment);
+        }
+        bytes.set(existingBytes);
+        if (existingBytes > 0L) {
+            LOGGER.info("Audit event spool {} contains {} bytes of events to replay", directory, existingBytes);
+        }
+    }
+
+    /**
+     * @return false if the event could not be spooled, because the spool is full or it cannot be written
+     */
+    synchronized boolean append(AuditProto.AuditEvent event) {
+        int serializedSize = event.getSerializedSize();
+        long entrySize = CodedOutputStream.computeUInt32SizeNoTag(serializedSize) + serializedSize;
+        if (bytes.get() + entrySize > maxBytes) {
+            return false;
+        }
+        try {
+            if (activeOutput == null) {
+                activeOutput = new BufferedOutputStream(Files.newOutputStream(activeFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+            }
+            event.writeDelimitedTo(activeOutput);
+            activeOutput.flush();
+            bytes.addAndGet(entrySize);
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Cannot append audit event to the spool {}", activeFile, e);
+            closeActiveOutput();
+            return false;
+        }
+    }
+
+    boolean isEmpty() {
+        return bytes.get() == 0L;
+    }
+
+    long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Seals the active file into a new segment.
+     *
+     * @return the segments to replay in order
+     */
+    synchronized List<Path> seal() throws IOException {
+        closeActiveOutput();
+        if (Files.exists(activeFile)) {
+            if (Files.size(activeFile) > 0L) {
+                long sequence = System.currentTimeMillis();
+                Path segment = segmentPath(sequence);
+                while (Files.exists(segment)) {
+                    segment = segmentPath(++sequence);
+                }
+                Files.move(activeFile, segment, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.delete(activeFile);
+            }
+        }
+        return listSegments();
+    }
+
+    List<AuditProto.AuditEvent> read(Path segment) throws IOException {
+        List<AuditProto.AuditEvent> events = new ArrayList<>();
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(segment))) {
+            AuditProto.AuditEvent event = AuditProto.AuditEvent.parseDelimitedFrom(input);
+            while (event != null) {
+                events.add(event);
+                event = AuditProto.AuditEvent.parseDelimitedFrom(input);
+            }
+        } catch (InvalidProtocolBufferException e) {
+            LOGGER.warn("The end of the audit spool segment {} is truncated, the events after the {}. are lost", segment, events.size(), e);
+        }
+        return events;
+    }
+
+    /**
+     * Replaces the content of the segment with the events that still have to be replayed.
+     */
+    void rewrite(Path segment, List<AuditProto.AuditEvent> remainingEvents) throws IOException {
+        Path tempFile = directory.resolve(segment.getFileName() + ".tmp");
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+            for (AuditProto.AuditEvent event : remainingEvents) {
+                event.writeDelimitedTo(output);
+            }
+        }
+        long previousSize = Files.size(segment);
+        Files.move(tempFile, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        bytes.addAndGet(Files.size(segment) - previousSize);
+    }
+
+    void delete(Path segment) throws IOException {
+        long size = Files.size(segment);
+        Files.delete(segment);
+        bytes.addAndGet(-size);
+    }
+
+    synchronized void close() {
+        closeActiveOutput();
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + '*' + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(Path::compareTo);
+        return segments;
+    }
+
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private void closeActiveOutput() {
+        if (activeOutput != null) {
+            try {
+                activeOutput.close();
+            } catch (IOException e) {
+                LOGGER.warn("Cannot close the audit spool {}", activeFile, e);
+            }
+            activeOutput = null;
+        }
+    }
+}
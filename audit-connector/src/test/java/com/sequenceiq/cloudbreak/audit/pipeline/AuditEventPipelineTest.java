@@ -0,0 +1,162 @@
+package com.sequenceiq.cloudbreak.audit.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cloudera.thunderhead.service.audit.AuditProto;
+import com.cloudera.thunderhead.service.audit.AuditProto.CreateAuditEventResponse;
+import com.google.common.util.concurrent.Futures;
+import com.sequenceiq.cloudbreak.audit.AuditClient;
+import com.sequenceiq.cloudbreak.audit.config.AuditConfig;
+import com.sequenceiq.cloudbreak.audit.converter.AuditEventToGrpcAuditEventConverter;
+import com.sequenceiq.cloudbreak.audit.model.AuditEvent;
+
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class AuditEventPipelineTest {
+
+    private static final long TIMEOUT_MILLIS = 5000L;
+
+    @TempDir
+    Path spoolDirectory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private AuditClient auditClient;
+
+    @Mock
+    private AuditConfig auditConfig;
+
+    @Mock
+    private AuditEventToGrpcAuditEventConverter auditEventConverter;
+
+    @InjectMocks
+    private AuditEventPipeline underTest = new AuditEventPipeline(meterRegistry);
+
+    @Mock
+    private AuditEvent auditEvent;
+
+    private final AuditProto.AuditEvent protoAuditEvent = AuditProto.AuditEvent.newBuilder().setId("id").build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "enabled", true);
+        ReflectionTestUtils.setField(underTest, "queueSize", 10);
+        ReflectionTestUtils.setField(underTest, "batchSize", 5);
+        ReflectionTestUtils.setField(underTest, "lingerMillis", 10L);
+        ReflectionTestUtils.setField(underTest, "batchTimeoutSeconds", 5L);
+        ReflectionTestUtils.setField(underTest, "enqueueTimeoutMillis", 10L);
+        ReflectionTestUtils.setField(underTest, "spoolDirectory", spoolDirectory.toString());
+        ReflectionTestUtils.setField(underTest, "spoolMaxBytes", 1024L);
+        ReflectionTestUtils.setField(underTest, "replayIntervalSeconds", 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void testEventIsSentAsynchronously() throws IOException {
+        when(auditConfig.isConfigured()).thenReturn(true);
+        when(auditEventConverter.convert(auditEvent)).thenReturn(protoAuditEvent);
+        when(auditClient.createAuditEventAsync(protoAuditEvent)).thenReturn(Futures.immediateFuture(CreateAuditEventResponse.getDefaultInstance()));
+        underTest.init();
+
+        underTest.submit(auditEvent);
+
+        verify(auditClient, timeout(TIMEOUT_MILLIS)).createAuditEventAsync(protoAuditEvent);
+        verify(auditClient, never()).createAuditEvent(any());
+    }
+
+    @Test
+    void testEventIsSpooledAndReplayedWhenServiceIsUnavailable() throws IOException {
+        when(auditConfig.isConfigured()).thenReturn(true);
+        when(auditEventConverter.convert(auditEvent)).thenReturn(protoAuditEvent);
+        when(auditClient.createAuditEventAsync(protoAuditEvent))
+                .thenReturn(Futures.immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException()))
+                .thenReturn(Futures.immediateFuture(CreateAuditEventResponse.getDefaultInstance()));
+        underTest.init();
+
+        underTest.submit(auditEvent);
+
+        verify(auditClient, timeout(TIMEOUT_MILLIS).times(2)).createAuditEventAsync(protoAuditEvent);
+        assertThat(meterRegistry.counter("audit.pipeline.events", "outcome", "spooled").count()).isEqualTo(1.0);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (meterRegistry.counter("audit.pipeline.events", "outcome", "sent").count() < 1.0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(underTest.isAvailable()).isTrue();
+    }
+
+    @Test
+    void testFailedEventIsSentSynchronouslyWhenSpoolDirectoryIsNotConfigured() throws IOException {
+        ReflectionTestUtils.setField(underTest, "spoolDirectory", "");
+        when(auditConfig.isConfigured()).thenReturn(true);
+        when(auditEventConverter.convert(auditEvent)).thenReturn(protoAuditEvent);
+        when(auditClient.createAuditEventAsync(protoAuditEvent)).thenReturn(Futures.immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException()));
+        underTest.init();
+
+        underTest.submit(auditEvent);
+
+        verify(auditClient, timeout(TIMEOUT_MILLIS)).createConvertedAuditEvent(protoAuditEvent);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (meterRegistry.counter("audit.pipeline.events", "outcome", "sent").count() < 1.0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(meterRegistry.counter("audit.pipeline.events", "outcome", "sent").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("audit.pipeline.events", "outcome", "dropped").count()).isEqualTo(0.0);
+        assertThat(meterRegistry.counter("audit.pipeline.events", "outcome", "spooled").count()).isEqualTo(0.0);
+        assertThat(meterRegistry.find("audit.pipeline.spool.bytes").gauge()).isNull();
+    }
+
+    @Test
+    void testFailedEventIsDroppedWhenSynchronousRetriesFailWithoutSpool() throws IOException {
+        ReflectionTestUtils.setField(underTest, "spoolDirectory", "");
+        when(auditConfig.isConfigured()).thenReturn(true);
+        when(auditEventConverter.convert(auditEvent)).thenReturn(protoAuditEvent);
+        when(auditClient.createAuditEventAsync(protoAuditEvent)).thenReturn(Futures.immediateFailedFuture(Status.UNAVAILABLE.asRuntimeException()));
+        doThrow(Status.UNAVAILABLE.asRuntimeException()).when(auditClient).createConvertedAuditEvent(protoAuditEvent);
+        underTest.init();
+
+        underTest.submit(auditEvent);
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (meterRegistry.counter("audit.pipeline.events", "outcome", "dropped").count() < 1.0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(meterRegistry.counter("audit.pipeline.events", "outcome", "dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("audit.pipeline.events", "outcome", "sent").count()).isEqualTo(0.0);
+    }
+
+    @Test
+    void testEventIsSentSynchronouslyWhenPipelineIsDisabled() throws IOException {
+        ReflectionTestUtils.setField(underTest, "enabled", false);
+        underTest.init();
+
+        underTest.submit(auditEvent);
+
+        verify(auditClient).createAuditEvent(auditEvent);
+    }
+}
@@ -0,0 +1,85 @@
+package com.sequenceiq.cloudbreak.audit.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.cloudera.thunderhead.service.audit.AuditProto;
+
+class AuditEventSpoolTest {
+
+    private static final long MAX_BYTES = 1024L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testSpooledEventsAreReadInOrder() throws IOException {
+        AuditEventSpool underTest = new AuditEventSpool(directory, MAX_BYTES);
+        underTest.append(event("1"));
+        underTest.append(event("2"));
+        List<Path> firstSegments = underTest.seal();
+        underTest.append(event("3"));
+
+        List<Path> segments = underTest.seal();
+
+        assertThat(segments).hasSize(2).startsWith(firstSegments.get(0));
+        assertThat(underTest.read(segments.get(0))).containsExactly(event("1"), event("2"));
+        assertThat(underTest.read(segments.get(1))).containsExactly(event("3"));
+    }
+
+    @Test
+    void testSpoolSurvivesRestart() throws IOException {
+        AuditEventSpool spool = new AuditEventSpool(directory, MAX_BYTES);
+        spool.append(event("1"));
+        long bytes = spool.getBytes();
+        spool.close();
+
+        AuditEventSpool underTest = new AuditEventSpool(directory, MAX_BYTES);
+
+        assertThat(underTest.getBytes()).isEqualTo(bytes);
+        List<Path> segments = underTest.seal();
+        assertThat(segments).hasSize(1);
+        assertThat(underTest.read(segments.get(0))).containsExactly(event("1"));
+    }
+
+    @Test
+    void testRewriteAndDeleteUpdateSize() throws IOException {
+        AuditEventSpool underTest = new AuditEventSpool(directory, MAX_BYTES);
+        underTest.append(event("1"));
+        long bytesOfOneEvent = underTest.getBytes();
+        underTest.append(event("2"));
+        Path segment = underTest.seal().get(0);
+
+        underTest.rewrite(segment, List.of(event("2")));
+
+        assertThat(underTest.getBytes()).isEqualTo(bytesOfOneEvent);
+        assertThat(underTest.read(segment)).containsExactly(event("2"));
+
+        underTest.delete(segment);
+
+        assertThat(underTest.isEmpty()).isTrue();
+        assertThat(underTest.seal()).isEmpty();
+    }
+
+    @Test
+    void testFullSpoolRefusesEvents() throws IOException {
+        AuditEventSpool underTest = new AuditEventSpool(directory, event("1").getSerializedSize() + 1L);
+
+        assertThat(underTest.append(event("1"))).isTrue();
+        assertThat(underTest.append(event("2"))).isFalse();
+    }
+
+    private AuditProto.AuditEvent event(String id) {
+        return AuditProto.AuditEvent.newBuilder()
+                .setId(id)
+                .setAccountId("accountId")
+                .setEventName("eventName")
+                .build();
+    }
+}
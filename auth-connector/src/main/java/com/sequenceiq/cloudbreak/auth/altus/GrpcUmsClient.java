@@ -45,6 +45,7 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider;
+import com.sequenceiq.cloudbreak.auth.altus.cache.UmsResourceRightDecisionCache;
 import com.sequenceiq.cloudbreak.auth.altus.config.UmsClientConfig;
 import com.sequenceiq.cloudbreak.auth.altus.exception.UmsOperationException;
 import com.sequenceiq.cloudbreak.auth.altus.model.AltusCredential;
@@ -76,6 +77,9 @@ public class GrpcUmsClient {
     @Inject
     private Tracer tracer;
 
+    @Inject
+    private UmsResourceRightDecisionCache resourceRightDecisionCache;
+
     public static GrpcUmsClient createClient(ManagedChannelWrapper channelWrapper, UmsClientConfig clientConfig, Tracer tracer) {
         GrpcUmsClient client = new GrpcUmsClient();
         client.channelWrapper = Preconditions.checkNotNull(channelWrapper);
@@ -570,6 +574,7 @@ public class GrpcUmsClient {
         try {
             UmsClient client = makeClient(channelWrapper.getChannel(), userCrn);
             client.assignMachineUserRole(RequestIdUtil.getOrGenerate(requestId), userCrn, accountId, machineUserCrn, roleCrn);
+            evictDecisionsOfMember(machineUserCrn);
         } catch (StatusRuntimeException ex) {
             if (Status.UNAVAILABLE.getCode().equals(ex.getStatus().getCode())) {
                 String errMessage = String.format("Cannot assign role '%s' to machine user '%s' as " +
@@ -594,6 +599,7 @@ public class GrpcUmsClient {
             String roleCrn, Optional<String> requestId, String accountId) {
         UmsClient client = makeClient(channelWrapper.getChannel(), userCrn);
         client.unassignMachineUserRole(RequestIdUtil.getOrGenerate(requestId), machineUserCrn, roleCrn, accountId);
+        evictDecisionsOfMember(machineUserCrn);
     }
 
     /**
@@ -746,6 +752,7 @@ public class GrpcUmsClient {
         UmsClient client = makeClient(channelWrapper.getChannel(), ThreadBasedUserCrnProvider.INTERNAL_ACTOR_CRN);
         LOGGER.info("Assigning {} role for resource {} to user {}", resourceRoleCrn, resourceCrn, userCrn);
         client.assignResourceRole(RequestIdUtil.getOrGenerate(requestId), userCrn, resourceCrn, resourceRoleCrn);
+        evictDecisionsOfResource(resourceCrn);
         LOGGER.info("Assigned {} role for resource {} to user {}", resourceRoleCrn, resourceCrn, userCrn);
     }
 
@@ -753,6 +760,7 @@ public class GrpcUmsClient {
         UmsClient client = makeClient(channelWrapper.getChannel(), ThreadBasedUserCrnProvider.INTERNAL_ACTOR_CRN);
         LOGGER.info("Unassigning {} role for resource {} from user {}", resourceRoleCrn, resourceCrn, userCrn);
         client.unassignResourceRole(RequestIdUtil.getOrGenerate(requestId), userCrn, resourceCrn, resourceRoleCrn);
+        evictDecisionsOfResource(resourceCrn);
         LOGGER.info("Unassigned {} role for resource {} from user {}", resourceRoleCrn, resourceCrn, userCrn);
     }
 
@@ -761,6 +769,7 @@ public class GrpcUmsClient {
             LOGGER.debug("Notify UMS about resource ('{}') was deleted", resourceCrn);
             UmsClient client = makeClient(channelWrapper.getChannel(), ThreadBasedUserCrnProvider.INTERNAL_ACTOR_CRN);
             client.notifyResourceDeleted(RequestIdUtil.getOrGenerate(requestId), resourceCrn);
+            evictDecisionsOfResource(resourceCrn);
             LOGGER.info("Notified UMS about deletion of resource {}", resourceCrn);
         } catch (Exception e) {
             LOGGER.error(String.format("Notifying UMS about deletion of resource %s has failed: ", resourceCrn), e);
@@ -835,4 +844,16 @@ public class GrpcUmsClient {
     public void setTracer(Tracer tracer) {
         this.tracer = tracer;
     }
+
+    private void evictDecisionsOfResource(String resourceCrn) {
+        if (resourceRightDecisionCache != null) {
+            resourceRightDecisionCache.evictResource(resourceCrn);
+        }
+    }
+
+    private void evictDecisionsOfMember(String memberCrn) {
+        if (resourceRightDecisionCache != null) {
+            resourceRightDecisionCache.evictMember(memberCrn);
+        }
+    }
 }
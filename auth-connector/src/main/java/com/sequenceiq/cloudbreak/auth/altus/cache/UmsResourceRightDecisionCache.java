@@ -0,0 +1,94 @@
+package com.sequenceiq.cloudbreak.auth.altus.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.sequenceiq.cloudbreak.cache.common.AbstractCacheDefinition;
+
+/**
+ * Cache of the authorization decisions of the list filtering, keyed by member, right and resource CRN. It is read and written in batches, so
+ * a list call asks UMS only about the resources whose decision is not cached. The decisions of a resource are evicted when its role
+ * assignments change, the decisions of a member when its account level roles change, the other changes are picked up after the TTL of the
+ * UMS rights caches.
+ */
+@Service
+public class UmsResourceRightDecisionCache extends AbstractCacheDefinition {
+
+    private static final long MAX_ENTRIES = 100000L;
+
+    private static final int MEMBER_INDEX = 0;
+
+    private static final int RESOURCE_INDEX = 2;
+
+    /**
+     * @deprecated {@link #ttlMinutes} was replaced by {@link #ttlSeconds} because it was not providing enough flexibility on ttl.
+     */
+    @Value("${altus.ums.rights.cache.ttl:1}")
+    @Deprecated
+    private long ttlMinutes;
+
+    @Value("${altus.ums.rights.cache.seconds.ttl:0}")
+    private long ttlSeconds;
+
+    /**
+     * @return the cached decisions of the resources, the resources without cached decision are missing from the result
+     */
+    public Map<String, Boolean> getDecisions(String memberCrn, String right, Collection<String> resourceCrns) {
+        Map<String, Boolean> decisions = new HashMap<>();
+        Cache<Object, Object> cache = nativeCache();
+        for (String resourceCrn : resourceCrns) {
+            Object decision = cache.getIfPresent(key(memberCrn, right, resourceCrn));
+            if (decision != null) {
+                decisions.put(resourceCrn, (Boolean) decision);
+            }
+        }
+        return decisions;
+    }
+
+    public void putDecisions(String memberCrn, String right, Map<String, Boolean> decisions) {
+        Cache<Object, Object> cache = nativeCache();
+        decisions.forEach((resourceCrn, decision) -> cache.put(key(memberCrn, right, resourceCrn), decision));
+    }
+
+    public void evictResource(String resourceCrn) {
+        nativeCache().asMap().keySet().removeIf(key -> resourceCrn.equals(((List<?>) key).get(RESOURCE_INDEX)));
+    }
+
+    public void evictMember(String memberCrn) {
+        nativeCache().asMap().keySet().removeIf(key -> memberCrn.equals(((List<?>) key).get(MEMBER_INDEX)));
+    }
+
+    @Override
+    protected String getName() {
+        return "umsResourceRightDecisionCache";
+    }
+
+    @Override
+    protected long getMaxEntries() {
+        return MAX_ENTRIES;
+    }
+
+    @Override
+    protected long getTimeToLiveSeconds() {
+        if (ttlSeconds != 0) {
+            return ttlSeconds;
+        }
+        return ttlMinutes == 0L ? 1 : TimeUnit.MINUTES.toSeconds(ttlMinutes);
+    }
+
+    private Cache<Object, Object> nativeCache() {
+        return ((CaffeineCache) cacheConfiguration()).getNativeCache();
+    }
+
+    private List<String> key(String memberCrn, String right, String resourceCrn) {
+        return List.of(memberCrn, right, resourceCrn);
+    }
+}
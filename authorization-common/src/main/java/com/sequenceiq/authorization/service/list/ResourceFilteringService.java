@@ -2,11 +2,12 @@ package com.sequenceiq.authorization.service.list;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -20,15 +21,24 @@ import org.springframework.stereotype.Service;
 import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
 import com.sequenceiq.cloudbreak.auth.altus.Crn;
 import com.sequenceiq.cloudbreak.auth.altus.GrpcUmsClient;
+import com.sequenceiq.cloudbreak.auth.altus.cache.UmsResourceRightDecisionCache;
 import com.sequenceiq.cloudbreak.logger.LoggerContextKey;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
 
+/**
+ * Filters the resources of the list calls by the rights of the user. The decisions are cached per user, right and resource, so UMS is asked
+ * only about the resources without cached decision, and the subresources of a parent with cached permission are not checked at all. A user
+ * with the right on account level has the right on every resource, so UMS is not asked about the resources in that case.
+ */
 @Service
 public class ResourceFilteringService {
 
     @Inject
     private GrpcUmsClient umsClient;
 
+    @Inject
+    private UmsResourceRightDecisionCache decisionCache;
+
     public <R extends Resource, E> List<E> filter(
             Crn userCrn,
             AuthorizationResourceAction action,
@@ -38,12 +48,52 @@ public class ResourceFilteringService {
             return resultMapper.apply(resourceCrn -> false);
         }
         Map<Optional<String>, List<R>> resourcesByParents = sortByParentResources(resources);
-        List<String> resourceCrns = flattenByParentResources(resourcesByParents);
-        List<Boolean> result = umsClient.hasRightsOnResources(userCrn.toString(), userCrn.toString(), resourceCrns, action.getRight(), getRequestId());
-        Map<String, Boolean> resultMap = calculateResultMap(resourcesByParents, result);
+        if (umsClient.checkAccountRight(userCrn.toString(), userCrn.toString(), action.getRight(), getRequestId())) {
+            return resultMapper.apply(resourceCrn -> true);
+        }
+        Map<String, Boolean> resultMap = calculateResultMap(userCrn.toString(), action.getRight(), resourcesByParents);
         return resultMapper.apply(resourceCrn -> resultMap.getOrDefault(resourceCrn, Boolean.FALSE));
     }
 
+    private <R extends Resource> Map<String, Boolean> calculateResultMap(String userCrn, String right,
+            Map<Optional<String>, List<R>> resourcesByParents) {
+        Set<String> allResourceCrns = new LinkedHashSet<>(flattenByParentResources(resourcesByParents));
+        Map<String, Boolean> decisions = decisionCache.getDecisions(userCrn, right, allResourceCrns);
+        List<String> missingResourceCrns = new ArrayList<>();
+        resourcesByParents.forEach((parentResource, subResources) -> {
+            if (parentResource.isPresent()) {
+                Boolean parentDecision = decisions.get(parentResource.get());
+                if (Boolean.TRUE.equals(parentDecision)) {
+                    return;
+                } else if (parentDecision == null) {
+                    missingResourceCrns.add(parentResource.get());
+                }
+            }
+            subResources.stream()
+                    .map(Resource::getResourceCrn)
+                    .filter(resourceCrn -> !decisions.containsKey(resourceCrn))
+                    .forEach(missingResourceCrns::add);
+        });
+        if (!missingResourceCrns.isEmpty()) {
+            List<String> distinctMissingResourceCrns = missingResourceCrns.stream().distinct().collect(Collectors.toList());
+            List<Boolean> result = umsClient.hasRightsOnResources(userCrn, userCrn, distinctMissingResourceCrns, right, getRequestId());
+            Map<String, Boolean> fetchedDecisions = new HashMap<>();
+            for (int i = 0; i < distinctMissingResourceCrns.size(); i++) {
+                fetchedDecisions.put(distinctMissingResourceCrns.get(i), result.get(i));
+            }
+            decisionCache.putDecisions(userCrn, right, fetchedDecisions);
+            decisions.putAll(fetchedDecisions);
+        }
+        Map<String, Boolean> resultMap = new HashMap<>();
+        resourcesByParents.forEach((parentResource, subResources) -> {
+            boolean parentAllowed = parentResource.map(decisions::get).orElse(Boolean.FALSE);
+            for (Resource resource : subResources) {
+                resultMap.put(resource.getResourceCrn(), parentAllowed || decisions.getOrDefault(resource.getResourceCrn(), Boolean.FALSE));
+            }
+        });
+        return resultMap;
+    }
+
     private <R extends Resource> Map<Optional<String>, List<R>> sortByParentResources(List<R> resources) {
         Map<Optional<String>, List<R>> resourcesByParents = new LinkedHashMap<>();
         resources.forEach(resource -> resourcesByParents
@@ -68,24 +118,6 @@ public class ResourceFilteringService {
         return resourceCrns;
     }
 
-    private <R extends Resource> Map<String, Boolean> calculateResultMap(Map<Optional<String>, List<R>> resourcesByParents, List<Boolean> result) {
-        Map<String, Boolean> resultMap = new HashMap<>();
-        Iterator<Boolean> resultIterator = result.iterator();
-        resourcesByParents.forEach((parentResource, subResources) -> {
-            if (parentResource.isPresent() && resultIterator.next()) {
-                for (Resource resource : subResources) {
-                    resultIterator.next();
-                    resultMap.put(resource.getResourceCrn(), Boolean.TRUE);
-                }
-            } else {
-                for (Resource resource : subResources) {
-                    resultMap.put(resource.getResourceCrn(), resultIterator.next());
-                }
-            }
-        });
-        return resultMap;
-    }
-
     private Optional<String> getRequestId() {
         String requestId = MDCBuilder.getMdcContextMap().get(LoggerContextKey.REQUEST_ID.toString());
         if (requestId == null) {
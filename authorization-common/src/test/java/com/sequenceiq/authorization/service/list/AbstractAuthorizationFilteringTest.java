@@ -23,6 +23,7 @@ import com.sequenceiq.cloudbreak.auth.altus.Crn;
 import com.sequenceiq.cloudbreak.auth.altus.CrnResourceDescriptor;
 import com.sequenceiq.cloudbreak.auth.altus.EntitlementService;
 import com.sequenceiq.cloudbreak.auth.altus.GrpcUmsClient;
+import com.sequenceiq.cloudbreak.auth.altus.cache.UmsResourceRightDecisionCache;
 
 @ExtendWith(MockitoExtension.class)
 public class AbstractAuthorizationFilteringTest {
@@ -53,6 +54,9 @@ public class AbstractAuthorizationFilteringTest {
     public void setUp() {
         resourceFilteringService = new ResourceFilteringService();
         ReflectionTestUtils.setField(resourceFilteringService, "umsClient", grpcUmsClient);
+        UmsResourceRightDecisionCache decisionCache = new UmsResourceRightDecisionCache();
+        ReflectionTestUtils.setField(decisionCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(resourceFilteringService, "decisionCache", decisionCache);
     }
 
     @Test
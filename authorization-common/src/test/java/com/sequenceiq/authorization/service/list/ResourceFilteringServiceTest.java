@@ -0,0 +1,125 @@
+package com.sequenceiq.authorization.service.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
+import com.sequenceiq.cloudbreak.auth.altus.Crn;
+import com.sequenceiq.cloudbreak.auth.altus.CrnResourceDescriptor;
+import com.sequenceiq.cloudbreak.auth.altus.GrpcUmsClient;
+import com.sequenceiq.cloudbreak.auth.altus.cache.UmsResourceRightDecisionCache;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceFilteringServiceTest {
+
+    private static final String ACCOUNT_ID = "ACCOUNT_ID";
+
+    private static final Crn USER_CRN = Crn.builder(CrnResourceDescriptor.USER)
+            .setAccountId(ACCOUNT_ID)
+            .setResource("USER_ID")
+            .build();
+
+    private static final String ENVIRONMENT_CRN = crn(CrnResourceDescriptor.ENVIRONMENT, "env-1");
+
+    private static final String DATAHUB_CRN = crn(CrnResourceDescriptor.DATAHUB, "datahub-1");
+
+    private static final String DATAHUB_CRN_2 = crn(CrnResourceDescriptor.DATAHUB, "datahub-2");
+
+    private static final AuthorizationResourceAction ACTION = AuthorizationResourceAction.DESCRIBE_DATAHUB;
+
+    @Mock
+    private GrpcUmsClient umsClient;
+
+    private final UmsResourceRightDecisionCache decisionCache = new UmsResourceRightDecisionCache();
+
+    private final ResourceFilteringService underTest = new ResourceFilteringService();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(decisionCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(underTest, "umsClient", umsClient);
+        ReflectionTestUtils.setField(underTest, "decisionCache", decisionCache);
+    }
+
+    @Test
+    void testAccountLevelRightAllowsEveryResource() {
+        when(umsClient.checkAccountRight(eq(USER_CRN.toString()), eq(USER_CRN.toString()), eq(ACTION.getRight()), any())).thenReturn(true);
+
+        List<String> result = filter(new Resource(DATAHUB_CRN, Optional.of(ENVIRONMENT_CRN)));
+
+        assertEquals(List.of(DATAHUB_CRN), result);
+        verify(umsClient, never()).hasRightsOnResources(any(), any(), anyList(), any(), any());
+    }
+
+    @Test
+    void testCachedDecisionsAreNotRequestedAgain() {
+        when(umsClient.hasRightsOnResources(eq(USER_CRN.toString()), eq(USER_CRN.toString()), eq(List.of(ENVIRONMENT_CRN, DATAHUB_CRN)),
+                eq(ACTION.getRight()), any())).thenReturn(List.of(false, true));
+        when(umsClient.hasRightsOnResources(eq(USER_CRN.toString()), eq(USER_CRN.toString()), eq(List.of(DATAHUB_CRN_2)),
+                eq(ACTION.getRight()), any())).thenReturn(List.of(false));
+
+        assertEquals(List.of(DATAHUB_CRN), filter(new Resource(DATAHUB_CRN, Optional.of(ENVIRONMENT_CRN))));
+        List<String> result = filter(new Resource(DATAHUB_CRN, Optional.of(ENVIRONMENT_CRN)),
+                new Resource(DATAHUB_CRN_2, Optional.of(ENVIRONMENT_CRN)));
+
+        assertEquals(List.of(DATAHUB_CRN), result);
+    }
+
+    @Test
+    void testSubresourcesOfAllowedParentAreNotRequested() {
+        when(umsClient.hasRightsOnResources(eq(USER_CRN.toString()), eq(USER_CRN.toString()), eq(List.of(ENVIRONMENT_CRN, DATAHUB_CRN)),
+                eq(ACTION.getRight()), any())).thenReturn(List.of(true, false));
+
+        filter(new Resource(DATAHUB_CRN, Optional.of(ENVIRONMENT_CRN)));
+        List<String> result = filter(new Resource(DATAHUB_CRN, Optional.of(ENVIRONMENT_CRN)),
+                new Resource(DATAHUB_CRN_2, Optional.of(ENVIRONMENT_CRN)));
+
+        assertEquals(List.of(DATAHUB_CRN, DATAHUB_CRN_2), result);
+    }
+
+    @Test
+    void testEvictedResourceIsRequestedAgain() {
+        when(umsClient.hasRightsOnResources(eq(USER_CRN.toString()), eq(USER_CRN.toString()), eq(List.of(DATAHUB_CRN)),
+                eq(ACTION.getRight()), any())).thenReturn(List.of(false), List.of(true));
+
+        assertEquals(List.of(), filter(new Resource(DATAHUB_CRN, Optional.empty())));
+        decisionCache.evictResource(DATAHUB_CRN);
+
+        assertEquals(List.of(DATAHUB_CRN), filter(new Resource(DATAHUB_CRN, Optional.empty())));
+    }
+
+    private List<String> filter(Resource... resources) {
+        List<Resource> resourceList = List.of(resources);
+        Function<Predicate<String>, List<String>> resultMapper = predicate -> resourceList.stream()
+                .map(Resource::getResourceCrn)
+                .filter(predicate)
+                .collect(Collectors.toList());
+        return underTest.filter(USER_CRN, ACTION, resourceList, resultMapper);
+    }
+
+    private static String crn(CrnResourceDescriptor descriptor, String resourceId) {
+        return Crn.builder(descriptor)
+                .setAccountId(ACCOUNT_ID)
+                .setResource(resourceId)
+                .build()
+                .toString();
+    }
+}
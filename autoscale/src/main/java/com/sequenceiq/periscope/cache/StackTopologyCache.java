@@ -0,0 +1,32 @@
+package com.sequenceiq.periscope.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.cache.common.AbstractCacheDefinition;
+
+@Component
+public class StackTopologyCache extends AbstractCacheDefinition {
+
+    public static final String STACK_TOPOLOGY_CACHE = "stackTopologyCache";
+
+    private static final long MAX_ENTRIES = 5000L;
+
+    private static final int TTL_IN_MINUTES = 15;
+
+    @Override
+    protected String getName() {
+        return STACK_TOPOLOGY_CACHE;
+    }
+
+    @Override
+    protected long getMaxEntries() {
+        return MAX_ENTRIES;
+    }
+
+    @Override
+    protected long getTimeToLiveSeconds() {
+        return TimeUnit.MINUTES.toSeconds(TTL_IN_MINUTES);
+    }
+}
@@ -19,6 +19,9 @@ public class PeriscopeNode implements Comparable<PeriscopeNode> {
     @Column(nullable = false)
     private boolean leader;
 
+    @Column(nullable = false)
+    private long averageEvaluationMillis;
+
     @Version
     private Long version;
 
@@ -53,6 +56,14 @@ public class PeriscopeNode implements Comparable<PeriscopeNode> {
         this.leader = leader;
     }
 
+    public long getAverageEvaluationMillis() {
+        return averageEvaluationMillis;
+    }
+
+    public void setAverageEvaluationMillis(long averageEvaluationMillis) {
+        this.averageEvaluationMillis = averageEvaluationMillis;
+    }
+
     public Long getVersion() {
         return version;
     }
@@ -91,6 +102,7 @@ public class PeriscopeNode implements Comparable<PeriscopeNode> {
         sb.append("uuid='").append(uuid).append('\'');
         sb.append("leader='").append(leader).append('\'');
         sb.append(", lastUpdated=").append(lastUpdated);
+        sb.append(", averageEvaluationMillis=").append(averageEvaluationMillis);
         sb.append('}');
         return sb.toString();
     }
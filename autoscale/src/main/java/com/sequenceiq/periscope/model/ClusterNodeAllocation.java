@@ -0,0 +1,21 @@
+package com.sequenceiq.periscope.model;
+
+public class ClusterNodeAllocation {
+
+    private final Long clusterId;
+
+    private final String periscopeNodeId;
+
+    public ClusterNodeAllocation(Long clusterId, String periscopeNodeId) {
+        this.clusterId = clusterId;
+        this.periscopeNodeId = periscopeNodeId;
+    }
+
+    public Long getClusterId() {
+        return clusterId;
+    }
+
+    public String getPeriscopeNodeId() {
+        return periscopeNodeId;
+    }
+}
@@ -1,5 +1,8 @@
 package com.sequenceiq.periscope.monitor;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 
@@ -12,39 +15,67 @@ import org.springframework.context.ApplicationContext;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
 import com.sequenceiq.periscope.monitor.context.EvaluatorContext;
 import com.sequenceiq.periscope.monitor.evaluator.EvaluatorExecutor;
+import com.sequenceiq.periscope.monitor.executor.EvaluatorSubmissionPolicy;
 import com.sequenceiq.periscope.monitor.executor.ExecutorServiceWithRegistry;
+import com.sequenceiq.periscope.service.PeriscopeMetricService;
 import com.sequenceiq.periscope.service.RejectedThreadService;
 
 public abstract class AbstractMonitor<M extends Monitored> implements Monitor<M> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractMonitor.class);
 
+    private static final String MONITOR_TAG = "monitor";
+
     private ApplicationContext applicationContext;
 
     private ExecutorServiceWithRegistry executorServiceWithRegistry;
 
     private RejectedThreadService rejectedThreadService;
 
+    private EvaluatorSubmissionPolicy evaluatorSubmissionPolicy;
+
+    private PeriscopeMetricService metricService;
+
     @Override
     public void execute(JobExecutionContext context) {
         MDCBuilder.buildMdcContext();
         evalContext(context);
+        long tickStart = System.currentTimeMillis();
+        long tickPeriod = getTickPeriodMillis(context);
         List<M> monitoredData = getMonitored();
         LOGGER.debug("Job started: {}, monitored: {}", context.getJobDetail().getKey(), monitoredData.size());
-        for (M monitored : monitoredData) {
+        List<M> submitted = new ArrayList<>(monitoredData.size());
+        for (int i = 0; i < monitoredData.size(); i++) {
+            if (evaluatorSubmissionPolicy.isSaturated(executorServiceWithRegistry.activeCount())) {
+                LOGGER.info("{} evaluators are in flight, {} of {} monitored items are left for the next tick of {}.",
+                        executorServiceWithRegistry.activeCount(), monitoredData.size() - i, monitoredData.size(), getIdentifier());
+                metricService.incrementMetricCounter(MonitorMetricType.MONITOR_TICK_THROTTLED, MONITOR_TAG, getIdentifier());
+                break;
+            }
+            M monitored = monitoredData.get(i);
             try {
                 EvaluatorExecutor evaluatorExecutor = getEvaluatorExecutorBean(monitored);
                 EvaluatorContext evaluatorContext = getContext(monitored);
                 evaluatorExecutor.setContext(evaluatorContext);
-                executorServiceWithRegistry.submitIfAbsent(evaluatorExecutor, evaluatorContext.getItemId());
-                LOGGER.debug("Successfully submitted {} for cluster {}.", evaluatorExecutor.getName(), evaluatorContext.getData());
+                long delay = evaluatorSubmissionPolicy.getSubmissionDelay(evaluatorContext.getItemId(), tickPeriod, isSubmissionJitterAllowed());
+                executorServiceWithRegistry.submitIfAbsent(evaluatorExecutor, evaluatorContext.getItemId(), delay);
+                LOGGER.debug("Successfully submitted {} for cluster {} with {} ms delay.", evaluatorExecutor.getName(), evaluatorContext.getData(), delay);
+                metricService.incrementMetricCounter(MonitorMetricType.MONITOR_EVALUATOR_SUBMITTED, MONITOR_TAG, getIdentifier());
                 rejectedThreadService.remove(evaluatorContext.getData());
-                monitored.setLastEvaluated(System.currentTimeMillis());
-                save(monitored);
+                monitored.setLastEvaluated(tickStart);
+                submitted.add(monitored);
             } catch (RejectedExecutionException ignore) {
                 LOGGER.info("Error in processing monitor: {}", monitored, ignore);
+                metricService.incrementMetricCounter(MonitorMetricType.MONITOR_EVALUATOR_REJECTED, MONITOR_TAG, getIdentifier());
             }
         }
+        if (!submitted.isEmpty()) {
+            saveAll(submitted, tickStart);
+        }
+        metricService.submit(MonitorMetricType.MONITOR_EVALUATORS_IN_FLIGHT, executorServiceWithRegistry.activeCount());
+        metricService.recordTimerMetric(MonitorMetricType.MONITOR_TICK_DURATION, Duration.ofMillis(System.currentTimeMillis() - tickStart),
+                MONITOR_TAG, getIdentifier());
+        LOGGER.debug("Job finished: {}, submitted: {}", context.getJobDetail().getKey(), submitted.size());
     }
 
     void evalContext(JobExecutionContext context) {
@@ -52,6 +83,8 @@ public abstract class AbstractMonitor<M extends Monitored> implements Monitor<M>
         applicationContext = (ApplicationContext) monitorContext.get(MonitorContext.APPLICATION_CONTEXT.name());
         executorServiceWithRegistry = applicationContext.getBean(ExecutorServiceWithRegistry.class);
         rejectedThreadService = applicationContext.getBean(RejectedThreadService.class);
+        evaluatorSubmissionPolicy = applicationContext.getBean(EvaluatorSubmissionPolicy.class);
+        metricService = applicationContext.getBean(PeriscopeMetricService.class);
     }
 
     protected ApplicationContext getApplicationContext() {
@@ -66,7 +99,28 @@ public abstract class AbstractMonitor<M extends Monitored> implements Monitor<M>
 
     protected abstract void save(M monitored);
 
+    /**
+     * Persists the monitored items that were submitted in a tick. Monitors that only update {@code lastEvaluated} should override it
+     * with a bulk update.
+     */
+    protected void saveAll(List<M> monitored, long lastEvaluated) {
+        monitored.forEach(this::save);
+    }
+
+    /**
+     * @return false if the evaluator has to run at the same offset in every tick, e.g. because it checks a time window
+     */
+    protected boolean isSubmissionJitterAllowed() {
+        return true;
+    }
+
     protected RejectedThreadService getRejectedThreadService() {
         return rejectedThreadService;
     }
+
+    private long getTickPeriodMillis(JobExecutionContext context) {
+        Date scheduledFireTime = context.getScheduledFireTime();
+        Date nextFireTime = context.getNextFireTime();
+        return scheduledFireTime != null && nextFireTime != null ? nextFireTime.getTime() - scheduledFireTime.getTime() : 0L;
+    }
 }
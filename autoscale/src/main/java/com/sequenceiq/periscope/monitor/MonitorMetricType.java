@@ -0,0 +1,23 @@
+package com.sequenceiq.periscope.monitor;
+
+import com.sequenceiq.cloudbreak.common.metrics.type.Metric;
+
+public enum MonitorMetricType implements Metric {
+
+    MONITOR_TICK_DURATION("monitor.tick.duration"),
+    MONITOR_EVALUATOR_SUBMITTED("monitor.evaluator.submitted"),
+    MONITOR_EVALUATOR_REJECTED("monitor.evaluator.rejected"),
+    MONITOR_TICK_THROTTLED("monitor.tick.throttled"),
+    MONITOR_EVALUATORS_IN_FLIGHT("monitor.evaluators.inflight");
+
+    private final String metricName;
+
+    MonitorMetricType(String metricName) {
+        this.metricName = metricName;
+    }
+
+    @Override
+    public String getMetricName() {
+        return metricName;
+    }
+}
@@ -29,6 +29,12 @@ public class TimeMonitor extends ClusterMonitor {
         return CronTimeEvaluator.class;
     }
 
+    @Override
+    protected boolean isSubmissionJitterAllowed() {
+        // the cron time evaluator checks the last period, a random delay could skip or repeat a trigger
+        return false;
+    }
+
     @Override
     protected List<Cluster> getMonitored() {
         return getClusterService().findTimeAlertClusterIdsForPeriscopeNodeId(StackType.WORKLOAD, true, getPeriscopeNodeConfig().getId())
@@ -15,8 +15,8 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
-import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
-import com.sequenceiq.cloudbreak.client.RestClientUtil;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
+import com.sequenceiq.cloudbreak.client.TlsClientCache;
 import com.sequenceiq.periscope.aspects.RequestLogging;
 import com.sequenceiq.periscope.domain.Cluster;
 import com.sequenceiq.periscope.model.InstanceConfig;
@@ -53,19 +53,22 @@ public class YarnMetricsClient {
     @Inject
     private YarnServiceConfigClient yarnServiceConfigClient;
 
+    @Inject
+    private TlsClientCache tlsClientCache;
+
     @Retryable(value = Exception.class, maxAttempts = 2, backoff = @Backoff(delay = 5000))
-    public YarnScalingServiceV1Response getYarnMetricsForCluster(Cluster cluster, StackV4Response stackV4Response,
+    public YarnScalingServiceV1Response getYarnMetricsForCluster(Cluster cluster, AutoscaleStackTopologyV4Response topology,
             String hostGroup, Optional<Integer> mandatoryDownScaleCount) throws Exception {
         TlsConfiguration tlsConfig = tlsSecurityService.getTls(cluster.getId());
         String clusterProxyUrl = clusterProxyConfigurationService.getClusterProxyUrl()
                 .orElseThrow(() -> new RuntimeException(String.format("ClusterProxy Not Configured for Cluster {}, " +
                         " cannot query YARN Metrics.", cluster.getStackCrn())));
 
-        Client restClient = RestClientUtil.createClient(tlsConfig.getServerCert(),
-                tlsConfig.getClientCert(), tlsConfig.getClientKey(), true);
         String yarnApiUrl = String.format(YARN_API_URL, clusterProxyUrl, cluster.getStackCrn());
+        Client restClient = tlsClientCache.getClientForSharedEndpoint(clusterProxyUrl, tlsConfig.getServerCert(),
+                tlsConfig.getClientCert(), tlsConfig.getClientKey(), true);
 
-        InstanceConfig instanceConfig = yarnServiceConfigClient.getInstanceConfigFromCM(cluster, stackV4Response, hostGroup);
+        InstanceConfig instanceConfig = yarnServiceConfigClient.getInstanceConfigFromCM(cluster, hostGroup);
         YarnScalingServiceV1Request yarnScalingServiceV1Request = new YarnScalingServiceV1Request();
         yarnScalingServiceV1Request.setInstanceTypes(List.of(
                 new HostGroupInstanceType(instanceConfig.getInstanceName(),
@@ -76,7 +79,7 @@ public class YarnMetricsClient {
                 .queryParam(PARAM_UPSCALE_FACTOR_NODE_RESOURCE_TYPE, DEFAULT_UPSCALE_RESOURCE_TYPE);
 
         mandatoryDownScaleCount.ifPresent(
-                scaleDownCount -> yarnMetricsURI.queryParam(PARAM_DOWNSCALE_FACTOR_IN_NODE_COUNT, stackV4Response.getNodeCount()));
+                scaleDownCount -> yarnMetricsURI.queryParam(PARAM_DOWNSCALE_FACTOR_IN_NODE_COUNT, topology.getNodeCount()));
 
         YarnScalingServiceV1Response yarnResponse = requestLogging.logResponseTime(
                 () -> restClient.target(yarnMetricsURI).request()
@@ -13,6 +13,7 @@ import com.cloudera.api.swagger.model.ApiConfig;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
 import com.sequenceiq.periscope.domain.Cluster;
 import com.sequenceiq.periscope.model.InstanceConfig;
+import com.sequenceiq.periscope.monitor.handler.CloudbreakCommunicator;
 import com.sequenceiq.periscope.monitor.handler.ClouderaManagerCommunicator;
 import com.sequenceiq.periscope.utils.StackResponseUtils;
 
@@ -33,9 +34,12 @@ public class YarnServiceConfigClient {
     @Inject
     private ClouderaManagerCommunicator clouderaManagerCommunicator;
 
+    @Inject
+    private CloudbreakCommunicator cloudbreakCommunicator;
+
     @Cacheable(cacheNames = "instanceConfigCache", unless = "#result.getDefaultValueUsed() == true", key = "#cluster.id + #hostGroup")
-    public InstanceConfig getInstanceConfigFromCM(Cluster cluster, StackV4Response stackV4Response, String hostGroup)
-            throws Exception {
+    public InstanceConfig getInstanceConfigFromCM(Cluster cluster, String hostGroup) throws Exception {
+        StackV4Response stackV4Response = cloudbreakCommunicator.getByCrn(cluster.getStackCrn());
         String nodeManagerRoleConfigName = stackResponseUtils
                 .getRoleConfigNameForHostGroup(stackV4Response, hostGroup, YARN_SERVICE, NODEMANAGER_ROLE);
 
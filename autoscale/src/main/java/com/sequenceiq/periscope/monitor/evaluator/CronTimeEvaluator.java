@@ -14,7 +14,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
-import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
 import com.sequenceiq.cloudbreak.message.CloudbreakMessagesService;
 import com.sequenceiq.periscope.api.model.ScalingStatus;
@@ -30,11 +30,11 @@ import com.sequenceiq.periscope.monitor.context.ClusterIdEvaluatorContext;
 import com.sequenceiq.periscope.monitor.context.EvaluatorContext;
 import com.sequenceiq.periscope.monitor.evaluator.load.YarnResponseUtils;
 import com.sequenceiq.periscope.monitor.event.ScalingEvent;
-import com.sequenceiq.periscope.monitor.handler.CloudbreakCommunicator;
 import com.sequenceiq.periscope.repository.TimeAlertRepository;
 import com.sequenceiq.periscope.service.ClusterService;
 import com.sequenceiq.periscope.service.DateService;
 import com.sequenceiq.periscope.service.HistoryService;
+import com.sequenceiq.periscope.service.StackTopologyService;
 import com.sequenceiq.periscope.utils.StackResponseUtils;
 
 @Component("CronTimeEvaluator")
@@ -61,7 +61,7 @@ public class CronTimeEvaluator extends EvaluatorExecutor {
     private EventPublisher eventPublisher;
 
     @Inject
-    private CloudbreakCommunicator cloudbreakCommunicator;
+    private StackTopologyService stackTopologyService;
 
     @Inject
     private YarnMetricsClient yarnMetricsClient;
@@ -145,27 +145,27 @@ public class CronTimeEvaluator extends EvaluatorExecutor {
     private void publish(TimeAlert alert) {
         ScalingEvent event = new ScalingEvent(alert);
 
-        StackV4Response stackV4Response = cloudbreakCommunicator.getByCrn(alert.getCluster().getStackCrn());
-        int hostGroupNodeCount = stackResponseUtils.getNodeCountForHostGroup(stackV4Response, alert.getScalingPolicy().getHostGroup());
+        AutoscaleStackTopologyV4Response topology = stackTopologyService.getTopology(alert.getCluster().getStackCrn());
+        int hostGroupNodeCount = stackResponseUtils.getNodeCountForHostGroup(topology, alert.getScalingPolicy().getHostGroup());
         int desiredAbsoluteNodeCount = scalingPolicyTargetCalculator.getDesiredAbsoluteNodeCount(event, hostGroupNodeCount);
         int targetIncrementNodeCount = desiredAbsoluteNodeCount - hostGroupNodeCount;
 
         event.setHostGroupNodeCount(hostGroupNodeCount);
         event.setDesiredAbsoluteHostGroupNodeCount(desiredAbsoluteNodeCount);
         if (targetIncrementNodeCount < 0) {
-            populateDecommissionCandidates(event, stackV4Response, alert.getCluster(), alert.getScalingPolicy(), -targetIncrementNodeCount);
+            populateDecommissionCandidates(event, topology, alert.getCluster(), alert.getScalingPolicy(), -targetIncrementNodeCount);
         }
 
         eventPublisher.publishEvent(event);
         LOGGER.debug("Time alert '{}' triggered  for cluster '{}'", alert.getName(), alert.getCluster().getStackCrn());
     }
 
-    private void populateDecommissionCandidates(ScalingEvent event, StackV4Response stackV4Response, Cluster cluster,
+    private void populateDecommissionCandidates(ScalingEvent event, AutoscaleStackTopologyV4Response topology, Cluster cluster,
             ScalingPolicy policy, int mandatoryDownScaleCount) {
         try {
             YarnScalingServiceV1Response yarnResponse = yarnMetricsClient.getYarnMetricsForCluster(cluster,
-                    stackV4Response, policy.getHostGroup(), Optional.of(mandatoryDownScaleCount));
-            Map<String, String> hostFqdnsToInstanceId = stackResponseUtils.getCloudInstanceIdsForHostGroup(stackV4Response, policy.getHostGroup());
+                    topology, policy.getHostGroup(), Optional.of(mandatoryDownScaleCount));
+            Map<String, String> hostFqdnsToInstanceId = stackResponseUtils.getCloudInstanceIdsForHostGroup(topology, policy.getHostGroup());
 
             List<String> decommissionNodes = yarnResponseUtils.getYarnRecommendedDecommissionHostsForHostGroup(cluster.getStackCrn(), yarnResponse,
                     hostFqdnsToInstanceId, mandatoryDownScaleCount, Optional.of(mandatoryDownScaleCount));
@@ -29,10 +29,12 @@ public abstract class EvaluatorExecutor implements Runnable {
     @Override
     public final void run() {
         long itemId = getContext().getItemId();
+        long start = System.nanoTime();
         try {
             execute();
         } finally {
             executorServiceWithRegistry.finished(this, itemId);
+            executorServiceWithRegistry.recordEvaluation(System.nanoTime() - start);
         }
     }
 
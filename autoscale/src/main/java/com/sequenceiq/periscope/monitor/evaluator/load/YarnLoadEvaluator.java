@@ -12,7 +12,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
-import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
 import com.sequenceiq.periscope.domain.Cluster;
 import com.sequenceiq.periscope.domain.LoadAlert;
@@ -25,9 +25,9 @@ import com.sequenceiq.periscope.monitor.evaluator.EvaluatorExecutor;
 import com.sequenceiq.periscope.monitor.evaluator.EventPublisher;
 import com.sequenceiq.periscope.monitor.event.ScalingEvent;
 import com.sequenceiq.periscope.monitor.event.UpdateFailedEvent;
-import com.sequenceiq.periscope.monitor.handler.CloudbreakCommunicator;
 import com.sequenceiq.periscope.repository.LoadAlertRepository;
 import com.sequenceiq.periscope.service.ClusterService;
+import com.sequenceiq.periscope.service.StackTopologyService;
 import com.sequenceiq.periscope.utils.StackResponseUtils;
 
 @Component("YarnLoadEvaluator")
@@ -54,7 +54,7 @@ public class YarnLoadEvaluator extends EvaluatorExecutor {
     private StackResponseUtils stackResponseUtils;
 
     @Inject
-    private CloudbreakCommunicator cloudbreakCommunicator;
+    private StackTopologyService stackTopologyService;
 
     @Inject
     private YarnResponseUtils yarnResponseUtils;
@@ -110,8 +110,8 @@ public class YarnLoadEvaluator extends EvaluatorExecutor {
     }
 
     protected void pollYarnMetricsAndScaleCluster() throws Exception {
-        StackV4Response stackV4Response = cloudbreakCommunicator.getByCrn(cluster.getStackCrn());
-        Map<String, String> hostFqdnsToInstanceId = stackResponseUtils.getCloudInstanceIdsForHostGroup(stackV4Response, policyHostGroup);
+        AutoscaleStackTopologyV4Response topology = stackTopologyService.getTopology(cluster.getStackCrn());
+        Map<String, String> hostFqdnsToInstanceId = stackResponseUtils.getCloudInstanceIdsForHostGroup(topology, policyHostGroup);
 
         int existingHostGroupSize = hostFqdnsToInstanceId.size();
         int configMaxNodeCount = loadAlertConfiguration.getMaxResourceValue() - existingHostGroupSize;
@@ -127,7 +127,7 @@ public class YarnLoadEvaluator extends EvaluatorExecutor {
                 .filter(mandatoryDownscale -> mandatoryDownscale < 0).map(downscale -> -1 * downscale);
 
         YarnScalingServiceV1Response yarnResponse = yarnMetricsClient
-                .getYarnMetricsForCluster(cluster, stackV4Response, policyHostGroup, mandatoryDownScaleCount);
+                .getYarnMetricsForCluster(cluster, topology, policyHostGroup, mandatoryDownScaleCount);
 
         int yarnRecommendedScaleUpCount = yarnResponseUtils.
                 getYarnRecommendedScaleUpCount(yarnResponse, policyHostGroup, maxAllowedUpScale, mandatoryUpScaleCount);
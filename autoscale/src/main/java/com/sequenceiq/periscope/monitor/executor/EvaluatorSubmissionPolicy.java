@@ -0,0 +1,50 @@
+package com.sequenceiq.periscope.monitor.executor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Decides when the evaluators of a monitor tick are submitted. Every cluster gets a stable offset within the first part of the
+ * tick period based on the hash of its id, so the evaluations of thousands of clusters do not hit the executor and the cluster
+ * managers at the same moment, and the time between two evaluations of a cluster stays close to the tick period.
+ */
+@Component
+public class EvaluatorSubmissionPolicy {
+
+    @Value("${periscope.monitor.submission.max-inflight:5000}")
+    private int maxInFlight;
+
+    @Value("${periscope.monitor.submission.spread-ratio:0.5}")
+    private double spreadRatio;
+
+    @Value("${periscope.monitor.submission.max-jitter-millis:1000}")
+    private long maxJitterMillis;
+
+    /**
+     * @param inFlight number of evaluators that are submitted but not finished yet
+     * @return true if no more evaluators should be submitted in the current tick
+     */
+    public boolean isSaturated(int inFlight) {
+        return inFlight >= maxInFlight;
+    }
+
+    /**
+     * @param itemId           id of the evaluated item, typically the cluster id
+     * @param tickPeriodMillis time between two ticks of the monitor, the evaluator is submitted without delay if it is unknown
+     * @param jitterAllowed    false if the evaluator relies on being executed at the same offset in every tick
+     * @return the delay of the submission in milliseconds
+     */
+    public long getSubmissionDelay(long itemId, long tickPeriodMillis, boolean jitterAllowed) {
+        long spreadWindow = (long) (tickPeriodMillis * spreadRatio);
+        if (spreadWindow <= 0) {
+            return 0L;
+        }
+        long offset = Math.floorMod(Hashing.murmur3_32().hashLong(itemId).asInt(), spreadWindow);
+        long jitter = jitterAllowed && maxJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMillis + 1) : 0L;
+        return Math.min(offset + jitter, spreadWindow);
+    }
+}
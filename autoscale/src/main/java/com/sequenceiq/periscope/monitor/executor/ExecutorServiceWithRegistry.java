@@ -2,12 +2,16 @@ package com.sequenceiq.periscope.monitor.executor;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.inject.Inject;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.sequenceiq.periscope.monitor.evaluator.EvaluatorExecutor;
@@ -24,10 +28,32 @@ public class ExecutorServiceWithRegistry {
     @Qualifier("periscopeListeningScheduledExecutorService")
     private ExecutorService executorService;
 
+    @Value("${periscope.ha.allocation.evaluation-time.smoothing-minutes:10}")
+    private long evaluationTimeSmoothingMinutes;
+
+    private final LongAdder evaluationCount = new LongAdder();
+
+    private final LongAdder evaluationNanos = new LongAdder();
+
+    private double smoothedEvaluationMillis;
+
+    private long lastSmoothedTimeMillis;
+
     public void submitIfAbsent(EvaluatorExecutor evaluatorExecutor, long clusterId) {
+        submitIfAbsent(evaluatorExecutor, clusterId, 0L);
+    }
+
+    /**
+     * The evaluator is registered right away, so it is not submitted again for the cluster while it is waiting for the delay.
+     */
+    public void submitIfAbsent(EvaluatorExecutor evaluatorExecutor, long clusterId, long delayMillis) {
         if (evaluatorExecutorRegistry.putIfAbsent(evaluatorExecutor, clusterId)) {
             try {
-                executorService.submit(evaluatorExecutor);
+                if (delayMillis > 0 && executorService instanceof ScheduledExecutorService) {
+                    ((ScheduledExecutorService) executorService).schedule(evaluatorExecutor, delayMillis, TimeUnit.MILLISECONDS);
+                } else {
+                    executorService.submit(evaluatorExecutor);
+                }
             } catch (RejectedExecutionException e) {
                 evaluatorExecutorRegistry.remove(evaluatorExecutor, clusterId);
                 throw e;
@@ -44,4 +70,32 @@ public class ExecutorServiceWithRegistry {
     public int activeCount() {
         return evaluatorExecutorRegistry.activeCount();
     }
+
+    public void recordEvaluation(long durationNanos) {
+        evaluationCount.increment();
+        evaluationNanos.add(durationNanos);
+    }
+
+    /**
+     * Folds the average execution time of the evaluators finished since the previous call into an exponentially weighted moving average,
+     * whose time constant is {@code periscope.ha.allocation.evaluation-time.smoothing-minutes}. The average is kept as it is when no
+     * evaluator has finished since the previous call.
+     *
+     * @return the smoothed execution time of the evaluators in milliseconds, or 0 if none has finished yet
+     */
+    public synchronized long smoothAverageEvaluationMillis(long currentTimeMillis) {
+        long count = evaluationCount.sumThenReset();
+        long nanos = evaluationNanos.sumThenReset();
+        if (count > 0L) {
+            double averageMillis = (double) nanos / count / TimeUnit.MILLISECONDS.toNanos(1L);
+            if (lastSmoothedTimeMillis == 0L) {
+                smoothedEvaluationMillis = averageMillis;
+            } else {
+                double elapsed = (double) (currentTimeMillis - lastSmoothedTimeMillis) / TimeUnit.MINUTES.toMillis(evaluationTimeSmoothingMinutes);
+                smoothedEvaluationMillis += (1.0 - Math.exp(-elapsed)) * (averageMillis - smoothedEvaluationMillis);
+            }
+            lastSmoothedTimeMillis = currentTimeMillis;
+        }
+        return Math.round(smoothedEvaluationMillis);
+    }
 }
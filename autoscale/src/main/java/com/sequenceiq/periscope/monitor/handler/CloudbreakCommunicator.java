@@ -9,6 +9,7 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.ClusterProxyConfiguration;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.connector.responses.AutoscaleRecommendationV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.AutoscaleStackV4Response;
@@ -35,6 +36,10 @@ public class CloudbreakCommunicator {
         return cloudbreakInternalCrnClient.withInternalCrn().autoscaleEndpoint().get(stackCrn);
     }
 
+    public AutoscaleStackTopologyV4Response getTopologyByCrn(String stackCrn) {
+        return cloudbreakInternalCrnClient.withInternalCrn().autoscaleEndpoint().getTopologyByCrn(stackCrn);
+    }
+
     public AutoscaleStackV4Response getAutoscaleClusterByCrn(String stackCrn) {
         return cloudbreakInternalCrnClient.withUserCrn(restRequestThreadLocalService.getCloudbreakUser().getUserCrn())
                 .autoscaleEndpoint().getAutoscaleClusterByCrn(stackCrn);
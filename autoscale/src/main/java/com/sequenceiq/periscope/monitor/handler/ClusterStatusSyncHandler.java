@@ -19,6 +19,7 @@ import com.sequenceiq.periscope.api.model.ClusterState;
 import com.sequenceiq.periscope.domain.Cluster;
 import com.sequenceiq.periscope.monitor.event.ClusterStatusSyncEvent;
 import com.sequenceiq.periscope.service.ClusterService;
+import com.sequenceiq.periscope.service.StackTopologyService;
 
 @Component
 public class ClusterStatusSyncHandler implements ApplicationListener<ClusterStatusSyncEvent> {
@@ -31,6 +32,9 @@ public class ClusterStatusSyncHandler implements ApplicationListener<ClusterStat
     @Inject
     private CloudbreakCommunicator cloudbreakCommunicator;
 
+    @Inject
+    private StackTopologyService stackTopologyService;
+
     @Override
     public void onApplicationEvent(ClusterStatusSyncEvent event) {
         long autoscaleClusterId = event.getClusterId();
@@ -44,6 +48,7 @@ public class ClusterStatusSyncHandler implements ApplicationListener<ClusterStat
         boolean clusterAvailable = Optional.ofNullable(statusResponse.getStatus()).map(Status::isAvailable).orElse(false)
                 && Optional.ofNullable(statusResponse.getClusterStatus()).map(Status::isAvailable).orElse(false);
         LOGGER.debug("Analysing CBCluster Status '{}' for Cluster '{}' ", statusResponse, cluster.getStackCrn());
+        stackTopologyService.evictIfStatusChanged(cluster.getStackCrn(), statusResponse.getStatus(), statusResponse.getClusterStatus());
 
         if (DELETE_COMPLETED.equals(statusResponse.getStatus())) {
             clusterService.removeById(autoscaleClusterId);
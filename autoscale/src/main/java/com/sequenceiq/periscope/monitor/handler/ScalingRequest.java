@@ -30,6 +30,7 @@ import com.sequenceiq.periscope.notification.HttpNotificationSender;
 import com.sequenceiq.periscope.service.AuditService;
 import com.sequenceiq.periscope.service.HistoryService;
 import com.sequenceiq.periscope.service.PeriscopeMetricService;
+import com.sequenceiq.periscope.service.StackTopologyService;
 
 @Component("ScalingRequest")
 @Scope("prototype")
@@ -73,6 +74,9 @@ public class ScalingRequest implements Runnable {
     @Inject
     private AuditService auditService;
 
+    @Inject
+    private StackTopologyService stackTopologyService;
+
     public ScalingRequest(Cluster cluster, ScalingPolicy policy, int totalNodes, int desiredNodeCount, List<String> decommissionNodeIds) {
         this.cluster = cluster;
         this.policy = policy;
@@ -95,6 +99,8 @@ public class ScalingRequest implements Runnable {
             }
         } catch (RuntimeException e) {
             LOGGER.error("Error while executing ScaleRequest", e);
+        } finally {
+            stackTopologyService.evict(cluster.getStackCrn());
         }
     }
 
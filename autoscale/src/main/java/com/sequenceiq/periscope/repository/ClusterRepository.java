@@ -1,5 +1,6 @@
 package com.sequenceiq.periscope.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,7 @@ import com.sequenceiq.cloudbreak.api.endpoint.v4.common.StackType;
 import com.sequenceiq.cloudbreak.workspace.repository.EntityType;
 import com.sequenceiq.periscope.api.model.ClusterState;
 import com.sequenceiq.periscope.domain.Cluster;
+import com.sequenceiq.periscope.model.ClusterNodeAllocation;
 
 @EntityType(entityClass = Cluster.class)
 @Transactional(Transactional.TxType.REQUIRED)
@@ -76,10 +78,24 @@ public interface ClusterRepository extends CrudRepository<Cluster, Long> {
     @Query("UPDATE Cluster c SET c.periscopeNodeId = NULL WHERE c.periscopeNodeId = :periscopeNodeId")
     void deallocateClustersOfNode(@Param("periscopeNodeId") String periscopeNodeId);
 
+    @Query("SELECT c.stackCrn FROM Cluster c WHERE :periscopeNodeId IS NULL or c.periscopeNodeId = :periscopeNodeId")
+    List<String> findStackCrnsByPeriscopeNodeId(@Param("periscopeNodeId") String periscopeNodeId);
+
+    @Query("SELECT new com.sequenceiq.periscope.model.ClusterNodeAllocation(c.id, c.periscopeNodeId) FROM Cluster c")
+    List<ClusterNodeAllocation> findAllNodeAllocations();
+
+    @Modifying
+    @Query("UPDATE Cluster c SET c.periscopeNodeId = :periscopeNodeId WHERE c.id IN :clusterIds")
+    void allocateClustersToNode(@Param("clusterIds") Collection<Long> clusterIds, @Param("periscopeNodeId") String periscopeNodeId);
+
     @Modifying
     @Query("UPDATE Cluster c SET c.lastEvaluated = :lastEvaluated WHERE c.id = :clusterId")
     void setClusterLastEvaluated(@Param("clusterId") Long clusterId, @Param("lastEvaluated") Long lastEvaluated);
 
+    @Modifying
+    @Query("UPDATE Cluster c SET c.lastEvaluated = :lastEvaluated WHERE c.id IN :clusterIds")
+    void setClustersLastEvaluated(@Param("clusterIds") Collection<Long> clusterIds, @Param("lastEvaluated") Long lastEvaluated);
+
     @Modifying
     @Query("UPDATE Cluster c SET c.lastScalingActivity = :lastScalingActivity WHERE c.id = :clusterId")
     void setClusterLastScalingActivity(@Param("clusterId") Long clusterId, @Param("lastScalingActivity") Long lastScalingActivity);
@@ -20,6 +20,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.google.common.collect.Lists;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.common.ClusterManagerVariant;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.common.StackType;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.AutoscaleStackV4Response;
@@ -44,6 +45,8 @@ public class ClusterService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClusterService.class);
 
+    private static final int LAST_EVALUATED_UPDATE_BATCH_SIZE = 1000;
+
     @Inject
     private ClusterRepository clusterRepository;
 
@@ -205,6 +208,11 @@ public class ClusterService {
         clusterRepository.setClusterLastEvaluated(clusterId, lastEvaluated);
     }
 
+    public void setLastEvaluated(List<Long> clusterIds, Long lastEvaluated) {
+        Lists.partition(clusterIds, LAST_EVALUATED_UPDATE_BATCH_SIZE)
+                .forEach(clusterIdBatch -> clusterRepository.setClustersLastEvaluated(clusterIdBatch, lastEvaluated));
+    }
+
     public void setLastScalingActivity(Long clusterId, Long lastScalingActivity) {
         clusterRepository.setClusterLastScalingActivity(clusterId, lastScalingActivity);
     }
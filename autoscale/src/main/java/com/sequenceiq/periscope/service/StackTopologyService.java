@@ -0,0 +1,87 @@
+package com.sequenceiq.periscope.service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.common.Status;
+import com.sequenceiq.periscope.cache.StackTopologyCache;
+import com.sequenceiq.periscope.monitor.handler.CloudbreakCommunicator;
+import com.sequenceiq.periscope.repository.ClusterRepository;
+import com.sequenceiq.periscope.service.ha.PeriscopeNodeConfig;
+
+/**
+ * Keeps the host groups and instances of the stacks between the evaluations. The topology of a stack changes only with the flows of
+ * Cloudbreak, so the cached topology is dropped when Periscope triggers a scaling and when the status sync finds that the status of the
+ * stack or of the cluster differs from the one the topology was fetched with. The cache is local to the node, so the topologies of the
+ * stacks whose cluster has moved to an other node are dropped as well: they are not kept up to date while the cluster is away.
+ */
+@Service
+public class StackTopologyService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StackTopologyService.class);
+
+    private static final long OWNERSHIP_CHECK_PERIOD = 10000L;
+
+    @Inject
+    private CloudbreakCommunicator cloudbreakCommunicator;
+
+    @Inject
+    private StackTopologyCache stackTopologyCache;
+
+    @Inject
+    private ClusterRepository clusterRepository;
+
+    @Inject
+    private PeriscopeNodeConfig periscopeNodeConfig;
+
+    public AutoscaleStackTopologyV4Response getTopology(String stackCrn) {
+        try {
+            return stackTopologyCache.cacheConfiguration().get(stackCrn, () -> cloudbreakCommunicator.getTopologyByCrn(stackCrn));
+        } catch (ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public void evict(String stackCrn) {
+        LOGGER.debug("Evicting the cached topology of stack '{}'", stackCrn);
+        stackTopologyCache.cacheConfiguration().evict(stackCrn);
+    }
+
+    public void evictIfStatusChanged(String stackCrn, Status status, Status clusterStatus) {
+        AutoscaleStackTopologyV4Response topology = stackTopologyCache.cacheConfiguration().get(stackCrn, AutoscaleStackTopologyV4Response.class);
+        if (topology != null && (topology.getStatus() != status || topology.getClusterStatus() != clusterStatus)) {
+            LOGGER.debug("Status of stack '{}' changed from '{}'/'{}' to '{}'/'{}'", stackCrn, topology.getStatus(), topology.getClusterStatus(),
+                    status, clusterStatus);
+            evict(stackCrn);
+        }
+    }
+
+    @Scheduled(initialDelay = OWNERSHIP_CHECK_PERIOD, fixedDelay = OWNERSHIP_CHECK_PERIOD)
+    public void evictStacksOfOtherNodes() {
+        Cache cache = stackTopologyCache.cacheConfiguration();
+        Set<Object> cachedStackCrns = ((CaffeineCache) cache).getNativeCache().asMap().keySet();
+        if (!cachedStackCrns.isEmpty()) {
+            Set<String> ownedStackCrns = new HashSet<>(clusterRepository.findStackCrnsByPeriscopeNodeId(periscopeNodeConfig.getId()));
+            cachedStackCrns.stream()
+                    .filter(stackCrn -> !ownedStackCrns.contains(stackCrn))
+                    .forEach(stackCrn -> {
+                        LOGGER.debug("Cluster of stack '{}' is not handled by this node, evicting its cached topology", stackCrn);
+                        cache.evict(stackCrn);
+                    });
+        }
+    }
+}
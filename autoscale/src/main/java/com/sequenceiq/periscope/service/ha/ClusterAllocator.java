@@ -0,0 +1,115 @@
+package com.sequenceiq.periscope.service.ha;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import com.sequenceiq.periscope.domain.PeriscopeNode;
+import com.sequenceiq.periscope.model.ClusterNodeAllocation;
+
+/**
+ * Assigns the clusters to the active periscope nodes with weighted rendezvous hashing: every cluster belongs to the node with the highest
+ * score, computed from the hash of the node and the cluster and from the weight of the node. When a node joins it takes over only the
+ * clusters it wins, when a node leaves only its clusters move, so the assignments change as little as possible.
+ * <p>
+ * When {@code periscope.ha.allocation.load-aware} is on, the weight of a node comes from the smoothed evaluation time it reported in its last
+ * heartbeat compared to the other nodes: a node with slower evaluations gets fewer clusters. A weight is only changed when the measured
+ * times call for a weight that differs from the applied one by more than a quarter, so the clusters do not move back and forth on small
+ * changes. The applied weights are kept in memory, a new leader starts from the measured times.
+ */
+@Component
+public class ClusterAllocator {
+
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+    private static final double MIN_WEIGHT = 0.5;
+
+    private static final double MAX_WEIGHT = 2.0;
+
+    private static final double REWEIGHT_THRESHOLD = 0.25;
+
+    private static final double HASH_RANGE = 0x1p53;
+
+    private static final int HASH_SHIFT = 11;
+
+    private static final double HALF = 0.5;
+
+    @Value("${periscope.ha.allocation.load-aware:false}")
+    private boolean loadAware;
+
+    private final Map<String, Double> appliedWeights = new ConcurrentHashMap<>();
+
+    /**
+     * @param allocations the current node of every cluster
+     * @param activeNodes the nodes the clusters can be assigned to, must not be empty
+     * @return the ids of the clusters that have to move, by their new node
+     */
+    public Map<String, List<Long>> reallocate(Collection<ClusterNodeAllocation> allocations, List<PeriscopeNode> activeNodes) {
+        Map<String, Double> weights = getWeights(activeNodes);
+        Map<String, List<Long>> moves = new HashMap<>();
+        for (ClusterNodeAllocation allocation : allocations) {
+            String owner = getOwner(allocation.getClusterId(), weights);
+            if (!owner.equals(allocation.getPeriscopeNodeId())) {
+                moves.computeIfAbsent(owner, nodeId -> new ArrayList<>()).add(allocation.getClusterId());
+            }
+        }
+        return moves;
+    }
+
+    @VisibleForTesting
+    String getOwner(long clusterId, Map<String, Double> weights) {
+        String owner = null;
+        double highestScore = Double.NEGATIVE_INFINITY;
+        for (Entry<String, Double> node : weights.entrySet()) {
+            double score = node.getValue() / -Math.log(uniformHash(node.getKey(), clusterId));
+            if (score > highestScore || (score == highestScore && node.getKey().compareTo(owner) < 0)) {
+                highestScore = score;
+                owner = node.getKey();
+            }
+        }
+        return owner;
+    }
+
+    @VisibleForTesting
+    Map<String, Double> getWeights(List<PeriscopeNode> activeNodes) {
+        Map<String, Double> weights = new HashMap<>();
+        double averageMillis = activeNodes.stream()
+                .mapToLong(PeriscopeNode::getAverageEvaluationMillis)
+                .filter(millis -> millis > 0L)
+                .average()
+                .orElse(0.0);
+        for (PeriscopeNode node : activeNodes) {
+            long nodeMillis = node.getAverageEvaluationMillis();
+            double weight = loadAware ? appliedWeights.getOrDefault(node.getUuid(), DEFAULT_WEIGHT) : DEFAULT_WEIGHT;
+            if (loadAware && nodeMillis > 0L && averageMillis > 0.0) {
+                double measuredWeight = Math.max(MIN_WEIGHT, Math.min(MAX_WEIGHT, averageMillis / nodeMillis));
+                if (Math.abs(measuredWeight - weight) > weight * REWEIGHT_THRESHOLD) {
+                    weight = measuredWeight;
+                }
+            }
+            weights.put(node.getUuid(), weight);
+        }
+        appliedWeights.keySet().retainAll(weights.keySet());
+        appliedWeights.putAll(weights);
+        return weights;
+    }
+
+    private double uniformHash(String nodeId, long clusterId) {
+        long hash = Hashing.murmur3_128().newHasher()
+                .putString(nodeId, StandardCharsets.UTF_8)
+                .putLong(clusterId)
+                .hash()
+                .asLong();
+        return ((hash >>> HASH_SHIFT) + HALF) / HASH_RANGE;
+    }
+}
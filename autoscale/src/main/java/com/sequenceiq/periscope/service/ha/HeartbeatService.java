@@ -15,6 +15,7 @@ import com.sequenceiq.cloudbreak.common.service.TransactionService.TransactionEx
 import com.sequenceiq.cloudbreak.service.Retry;
 import com.sequenceiq.cloudbreak.service.Retry.ActionFailedException;
 import com.sequenceiq.periscope.domain.PeriscopeNode;
+import com.sequenceiq.periscope.monitor.executor.ExecutorServiceWithRegistry;
 import com.sequenceiq.periscope.repository.ClusterRepository;
 import com.sequenceiq.periscope.repository.PeriscopeNodeRepository;
 
@@ -42,6 +43,9 @@ public class HeartbeatService {
     @Inject
     private TransactionService transactionService;
 
+    @Inject
+    private ExecutorServiceWithRegistry executorServiceWithRegistry;
+
     @PostConstruct
     public void init() {
         heartbeat(true);
@@ -55,11 +59,13 @@ public class HeartbeatService {
     private void heartbeat(boolean unLeaderIt) {
         if (periscopeNodeConfig.isNodeIdSpecified()) {
             String nodeId = periscopeNodeConfig.getId();
+            long averageEvaluationMillis = executorServiceWithRegistry.smoothAverageEvaluationMillis(clock.getCurrentTimeMillis());
             try {
                 retryService.testWith2SecDelayMax5Times(() -> {
                     try {
                         PeriscopeNode self = periscopeNodeRepository.findById(nodeId).orElse(new PeriscopeNode(nodeId));
                         self.setLastUpdated(clock.getCurrentTimeMillis());
+                        self.setAverageEvaluationMillis(averageEvaluationMillis);
                         if (unLeaderIt) {
                             self.setLeader(false);
                         }
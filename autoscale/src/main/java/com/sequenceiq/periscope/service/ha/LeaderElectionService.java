@@ -4,7 +4,6 @@ import static com.sequenceiq.periscope.service.NotFoundException.notFound;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +23,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.google.common.collect.Lists;
 import com.sequenceiq.cloudbreak.common.service.Clock;
 import com.sequenceiq.cloudbreak.common.service.TransactionService;
 import com.sequenceiq.cloudbreak.common.service.TransactionService.TransactionExecutionException;
@@ -47,6 +47,8 @@ public class LeaderElectionService {
 
     private static final long STACK_COLLECTOR_PERIOD = 10000L;
 
+    private static final int ALLOCATION_UPDATE_BATCH_SIZE = 1000;
+
     @Value("${periscope.ha.heartbeat.threshold:60000}")
     private Integer heartbeatThresholdRate;
 
@@ -74,6 +76,9 @@ public class LeaderElectionService {
     @Inject
     private PeriscopeMetricService metricService;
 
+    @Inject
+    private ClusterAllocator clusterAllocator;
+
     private Timer timer;
 
     private Supplier<Timer> timerFactory = Timer::new;
@@ -113,7 +118,7 @@ public class LeaderElectionService {
                             long limit = clock.getCurrentTimeMillis() - heartbeatThresholdRate;
                             List<PeriscopeNode> activeNodes = periscopeNodeRepository.findAllByLastUpdatedIsGreaterThan(limit);
                             if (!activeNodes.isEmpty()) {
-                                reallocateOrphanClusters(activeNodes);
+                                reallocateClusters(activeNodes);
                                 cleanupInactiveNodesByActiveNodes(activeNodes);
                             }
                         } catch (RuntimeException e) {
@@ -125,7 +130,11 @@ public class LeaderElectionService {
         }
     }
 
-    private void reallocateOrphanClusters(List<PeriscopeNode> activeNodes) {
+    /**
+     * Executes the missed time based alerts of the orphan clusters, then moves every cluster whose node differs from the one the allocator
+     * picks. The moves are written with one update per target node in a single transaction.
+     */
+    private void reallocateClusters(List<PeriscopeNode> activeNodes) {
         if (activeNodes.stream().noneMatch(n -> n.isLeader() && n.getUuid().equals(periscopeNodeConfig.getId()))) {
             Optional<PeriscopeNode> leader = activeNodes.stream().filter(PeriscopeNode::isLeader).findFirst();
             LOGGER.info("Leader is {}, let's drop leader scope", leader.isPresent() ? leader.get().getUuid() : "-");
@@ -134,20 +143,26 @@ public class LeaderElectionService {
         }
         List<String> nodeIds = activeNodes.stream().map(PeriscopeNode::getUuid).collect(Collectors.toList());
         List<Cluster> orphanClusters = clusterRepository.findAllByPeriscopeNodeIdNotInOrPeriscopeNodeIdIsNull(nodeIds);
-        if (!orphanClusters.isEmpty()) {
-            Iterator<PeriscopeNode> iterator = activeNodes.iterator();
-            for (Cluster cluster : orphanClusters) {
-                if (!iterator.hasNext()) {
-                    iterator = activeNodes.iterator();
-                }
-                if (isExecutionOfMissedTimeBasedAlertsNeeded(cluster)) {
-                    LOGGER.info("Executing missed alerts on cluster {}", cluster.getId());
-                    executeMissedTimeBasedAlerts(cluster);
-                }
-                cluster.setPeriscopeNodeId(iterator.next().getUuid());
-                LOGGER.info("Allocationg cluster {} to node {}", cluster.getId(), cluster.getPeriscopeNodeId());
+        for (Cluster cluster : orphanClusters) {
+            if (isExecutionOfMissedTimeBasedAlertsNeeded(cluster)) {
+                LOGGER.info("Executing missed alerts on cluster {}", cluster.getId());
+                executeMissedTimeBasedAlerts(cluster);
+            }
+        }
+        Map<String, List<Long>> moves = clusterAllocator.reallocate(clusterRepository.findAllNodeAllocations(), activeNodes);
+        if (!moves.isEmpty()) {
+            try {
+                transactionService.required(() -> {
+                    moves.forEach((nodeId, clusterIds) -> {
+                        LOGGER.info("Allocating clusters {} to node {}", clusterIds, nodeId);
+                        Lists.partition(clusterIds, ALLOCATION_UPDATE_BATCH_SIZE)
+                                .forEach(clusterIdBatch -> clusterRepository.allocateClustersToNode(clusterIdBatch, nodeId));
+                    });
+                    return null;
+                });
+            } catch (TransactionExecutionException e) {
+                LOGGER.error("Unable to allocate clusters to the periscope nodes", e);
             }
-            clusterRepository.saveAll(orphanClusters);
         }
     }
 
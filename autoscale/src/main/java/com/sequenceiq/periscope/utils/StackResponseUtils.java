@@ -1,5 +1,6 @@
 package com.sequenceiq.periscope.utils;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -12,6 +13,8 @@ import com.cloudera.api.swagger.model.ApiClusterTemplate;
 import com.cloudera.api.swagger.model.ApiClusterTemplateHostTemplate;
 import com.cloudera.api.swagger.model.ApiClusterTemplateRoleConfigGroup;
 import com.cloudera.api.swagger.model.ApiClusterTemplateService;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleHostGroupTopologyV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.base.InstanceMetadataType;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.base.InstanceStatus;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
@@ -37,6 +40,12 @@ public class StackResponseUtils {
                         InstanceMetaDataV4Response::getInstanceId));
     }
 
+    public Map<String, String> getCloudInstanceIdsForHostGroup(AutoscaleStackTopologyV4Response topology, String hostGroup) {
+        return getHostGroupTopology(topology, hostGroup)
+                .map(hostGroupTopology -> Collections.unmodifiableMap(hostGroupTopology.getInstanceIdsByFqdn()))
+                .orElse(Map.of());
+    }
+
     public Integer getNodeCountForHostGroup(StackV4Response stackResponse, String hostGroup) {
         return stackResponse.getInstanceGroups().stream()
                 .filter(instanceGroupV4Response -> instanceGroupV4Response.getName().equalsIgnoreCase(hostGroup))
@@ -46,6 +55,12 @@ public class StackResponseUtils {
                 .intValue();
     }
 
+    public Integer getNodeCountForHostGroup(AutoscaleStackTopologyV4Response topology, String hostGroup) {
+        return getHostGroupTopology(topology, hostGroup)
+                .map(AutoscaleHostGroupTopologyV4Response::getNodeCount)
+                .orElse(0);
+    }
+
     public String getRoleConfigNameForHostGroup(StackV4Response stackResponse, String hostGroupName, String serviceType, String roleType)
             throws Exception {
         String template = stackResponse.getCluster().getBlueprint().getBlueprint();
@@ -72,4 +87,10 @@ public class StackResponseUtils {
 
         return roleReferenceName;
     }
+
+    private Optional<AutoscaleHostGroupTopologyV4Response> getHostGroupTopology(AutoscaleStackTopologyV4Response topology, String hostGroup) {
+        return topology.getHostGroups().stream()
+                .filter(hostGroupTopology -> hostGroupTopology.getName().equalsIgnoreCase(hostGroup))
+                .findFirst();
+    }
 }
@@ -0,0 +1,9 @@
+-- // periscope node evaluation time
+-- Migration SQL that makes the change goes here.
+
+ALTER TABLE periscopenode ADD COLUMN IF NOT EXISTS averageevaluationmillis BIGINT NOT NULL DEFAULT 0;
+
+-- //@UNDO
+-- SQL to undo the change goes here.
+
+ALTER TABLE periscopenode DROP COLUMN IF EXISTS averageevaluationmillis;
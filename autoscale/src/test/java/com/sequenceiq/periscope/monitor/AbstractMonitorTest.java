@@ -1,12 +1,17 @@
 package com.sequenceiq.periscope.monitor;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.annotation.Nonnull;
 
@@ -23,8 +28,10 @@ import com.sequenceiq.periscope.api.model.ClusterState;
 import com.sequenceiq.periscope.domain.Cluster;
 import com.sequenceiq.periscope.monitor.context.EvaluatorContext;
 import com.sequenceiq.periscope.monitor.evaluator.EvaluatorExecutor;
+import com.sequenceiq.periscope.monitor.executor.EvaluatorSubmissionPolicy;
 import com.sequenceiq.periscope.monitor.executor.ExecutorServiceWithRegistry;
 import com.sequenceiq.periscope.service.ClusterService;
+import com.sequenceiq.periscope.service.PeriscopeMetricService;
 import com.sequenceiq.periscope.service.RejectedThreadService;
 import com.sequenceiq.periscope.service.ha.PeriscopeNodeConfig;
 
@@ -34,6 +41,14 @@ public class AbstractMonitorTest {
 
     private static final long CLUSTER_ID = 1L;
 
+    private static final long OTHER_CLUSTER_ID = 2L;
+
+    private static final long DELAY = 1500L;
+
+    private static final int IN_FLIGHT = 42;
+
+    private static final String MONITOR_ID = "monitorId";
+
     @Mock
     private PeriscopeNodeConfig periscopeNodeConfig;
 
@@ -49,6 +64,12 @@ public class AbstractMonitorTest {
     @Mock
     private RejectedThreadService rejectedThreadService;
 
+    @Mock
+    private EvaluatorSubmissionPolicy evaluatorSubmissionPolicy;
+
+    @Mock
+    private PeriscopeMetricService metricService;
+
     @Mock
     private Monitored monitored;
 
@@ -69,11 +90,71 @@ public class AbstractMonitorTest {
 
         underTest.execute(getContext());
 
-        verify(executorServiceWithRegistry).submitIfAbsent(testExecutor, CLUSTER_ID);
+        verify(executorServiceWithRegistry).submitIfAbsent(testExecutor, CLUSTER_ID, 0L);
         verify(monitored).setLastEvaluated(anyLong());
         verify(rejectedThreadService).remove(CLUSTER_ID);
     }
 
+    @Test
+    public void testExecuteSubmitsWithDelayOfPolicy() {
+        when(evaluatorSubmissionPolicy.getSubmissionDelay(CLUSTER_ID, 0L, true)).thenReturn(DELAY);
+
+        underTest.execute(getContext());
+
+        verify(executorServiceWithRegistry).submitIfAbsent(testExecutor, CLUSTER_ID, DELAY);
+        verify(metricService).incrementMetricCounter(MonitorMetricType.MONITOR_EVALUATOR_SUBMITTED, "monitor", MONITOR_ID);
+    }
+
+    @Test
+    public void testExecuteWhenSaturated() {
+        when(executorServiceWithRegistry.activeCount()).thenReturn(IN_FLIGHT);
+        when(evaluatorSubmissionPolicy.isSaturated(IN_FLIGHT)).thenReturn(true);
+
+        underTest.execute(getContext());
+
+        verify(executorServiceWithRegistry, never()).submitIfAbsent(any(), anyLong(), anyLong());
+        verify(monitored, never()).setLastEvaluated(anyLong());
+        verify(metricService).incrementMetricCounter(MonitorMetricType.MONITOR_TICK_THROTTLED, "monitor", MONITOR_ID);
+    }
+
+    @Test
+    public void testExecuteWhenRejected() {
+        doThrow(new RejectedExecutionException("")).when(executorServiceWithRegistry).submitIfAbsent(testExecutor, CLUSTER_ID, 0L);
+
+        underTest.execute(getContext());
+
+        verify(monitored, never()).setLastEvaluated(anyLong());
+        verify(metricService).incrementMetricCounter(MonitorMetricType.MONITOR_EVALUATOR_REJECTED, "monitor", MONITOR_ID);
+        verify(metricService, never()).incrementMetricCounter(MonitorMetricType.MONITOR_EVALUATOR_SUBMITTED, "monitor", MONITOR_ID);
+    }
+
+    @Test
+    public void testClusterMonitorUpdatesLastEvaluatedInBulk() {
+        ClusterMonitor clusterMonitor = new ClusterMonitor() {
+            @Override
+            public String getIdentifier() {
+                return MONITOR_ID;
+            }
+
+            @Override
+            public String getTriggerExpression() {
+                return null;
+            }
+
+            @Override
+            public Class<?> getEvaluatorType(Cluster cluster) {
+                return TestExecutor.class;
+            }
+        };
+        when(periscopeNodeConfig.getId()).thenReturn("nodeId");
+        when(clusterService.findAllForNode(ClusterState.RUNNING, true, "nodeId")).thenReturn(List.of(getCluster(CLUSTER_ID), getCluster(OTHER_CLUSTER_ID)));
+
+        clusterMonitor.execute(getContext());
+
+        verify(clusterService).setLastEvaluated(eq(List.of(CLUSTER_ID, OTHER_CLUSTER_ID)), anyLong());
+        verify(clusterService, never()).setLastEvaluated(anyLong(), anyLong());
+    }
+
     private JobExecutionContext getContext() {
         JobExecutionContext jobExecutionContext = mock(JobExecutionContext.class);
         JobDetail jobDetail = mock(JobDetail.class);
@@ -88,6 +169,8 @@ public class AbstractMonitorTest {
         when(applicationContext.getBean(PeriscopeNodeConfig.class)).thenReturn(periscopeNodeConfig);
         when(applicationContext.getBean(testExecutor.getClass().getSimpleName(), EvaluatorExecutor.class)).thenReturn(testExecutor);
         when(applicationContext.getBean(RejectedThreadService.class)).thenReturn(rejectedThreadService);
+        when(applicationContext.getBean(EvaluatorSubmissionPolicy.class)).thenReturn(evaluatorSubmissionPolicy);
+        when(applicationContext.getBean(PeriscopeMetricService.class)).thenReturn(metricService);
 
         return jobExecutionContext;
     }
@@ -115,7 +198,7 @@ public class AbstractMonitorTest {
 
             @Override
             public String getIdentifier() {
-                return null;
+                return MONITOR_ID;
             }
 
             @Override
@@ -31,7 +31,7 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.verification.VerificationMode;
 
-import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.periscope.api.model.AdjustmentType;
 import com.sequenceiq.periscope.domain.Cluster;
 import com.sequenceiq.periscope.domain.ScalingPolicy;
@@ -42,9 +42,9 @@ import com.sequenceiq.periscope.monitor.context.ClusterIdEvaluatorContext;
 import com.sequenceiq.periscope.monitor.evaluator.load.YarnResponseUtils;
 import com.sequenceiq.periscope.monitor.event.ScalingEvent;
 import com.sequenceiq.periscope.monitor.executor.ExecutorServiceWithRegistry;
-import com.sequenceiq.periscope.monitor.handler.CloudbreakCommunicator;
 import com.sequenceiq.periscope.service.ClusterService;
 import com.sequenceiq.periscope.service.DateService;
+import com.sequenceiq.periscope.service.StackTopologyService;
 import com.sequenceiq.periscope.utils.MockStackResponseGenerator;
 import com.sequenceiq.periscope.utils.StackResponseUtils;
 
@@ -69,7 +69,7 @@ public class CronTimeEvaluatorTest {
     private YarnResponseUtils yarnResponseUtils;
 
     @Mock
-    private CloudbreakCommunicator cloudbreakCommunicator;
+    private StackTopologyService stackTopologyService;
 
     @Mock
     private YarnMetricsClient yarnMetricsClient;
@@ -165,18 +165,18 @@ public class CronTimeEvaluatorTest {
             Integer desiredNodeCount, Optional<Integer> yarnGivenDecommissionCount) throws Exception {
 
         TimeAlert alert = getAAlert(desiredNodeCount);
-        StackV4Response stackV4Response = MockStackResponseGenerator
-                .getMockStackV4Response(clusterCrn, testHostGroup, "testFqdn" + testHostGroup, currentHostGroupCount);
+        AutoscaleStackTopologyV4Response topology = MockStackResponseGenerator
+                .getMockStackTopology(clusterCrn, testHostGroup, "testFqdn" + testHostGroup, currentHostGroupCount);
 
-        when(cloudbreakCommunicator.getByCrn(anyString())).thenReturn(stackV4Response);
-        when(stackResponseUtils.getNodeCountForHostGroup(stackV4Response, testHostGroup)).thenCallRealMethod();
+        when(stackTopologyService.getTopology(anyString())).thenReturn(topology);
+        when(stackResponseUtils.getNodeCountForHostGroup(topology, testHostGroup)).thenCallRealMethod();
         when(scalingPolicyTargetCalculator.getDesiredAbsoluteNodeCount(any(ScalingEvent.class), anyInt())).thenCallRealMethod();
         when(dateService.isTrigger(any(TimeAlert.class), anyLong())).thenReturn(true);
 
         if (!"SCALE_UP_MODE".equals(testMode)) {
             YarnScalingServiceV1Response yarnScalingServiceV1Response = getMockYarnScalingResponse("test", yarnGivenDecommissionCount.get());
-            when(stackResponseUtils.getCloudInstanceIdsForHostGroup(any(), any())).thenCallRealMethod();
-            when(yarnMetricsClient.getYarnMetricsForCluster(any(Cluster.class), any(StackV4Response.class), anyString(), any(Optional.class)))
+            when(stackResponseUtils.getCloudInstanceIdsForHostGroup(any(AutoscaleStackTopologyV4Response.class), any())).thenCallRealMethod();
+            when(yarnMetricsClient.getYarnMetricsForCluster(any(Cluster.class), any(AutoscaleStackTopologyV4Response.class), anyString(), any(Optional.class)))
                     .thenReturn(yarnScalingServiceV1Response);
             when(yarnResponseUtils.getYarnRecommendedDecommissionHostsForHostGroup(anyString(), any(YarnScalingServiceV1Response.class),
                     any(Map.class), anyInt(), any(Optional.class))).thenCallRealMethod();
@@ -187,8 +187,9 @@ public class CronTimeEvaluatorTest {
         VerificationMode verificationMode = "SCALE_UP_MODE".equals(testMode) ? never() : times(1);
         ArgumentCaptor<ScalingEvent> captor = ArgumentCaptor.forClass(ScalingEvent.class);
         verify(eventPublisher).publishEvent(captor.capture());
-        verify(stackResponseUtils, verificationMode).getCloudInstanceIdsForHostGroup(any(), any());
-        verify(yarnMetricsClient, verificationMode).getYarnMetricsForCluster(any(Cluster.class), any(StackV4Response.class), anyString(), any(Optional.class));
+        verify(stackResponseUtils, verificationMode).getCloudInstanceIdsForHostGroup(any(AutoscaleStackTopologyV4Response.class), any());
+        verify(yarnMetricsClient, verificationMode).getYarnMetricsForCluster(any(Cluster.class), any(AutoscaleStackTopologyV4Response.class), anyString(),
+                any(Optional.class));
         verify(yarnResponseUtils, verificationMode).getYarnRecommendedDecommissionHostsForHostGroup(anyString(), any(YarnScalingServiceV1Response.class),
                 any(Map.class), anyInt(), any(Optional.class));
 
@@ -31,7 +31,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.periscope.api.model.AdjustmentType;
 import com.sequenceiq.periscope.api.model.ClusterState;
 import com.sequenceiq.periscope.domain.Cluster;
@@ -47,8 +47,8 @@ import com.sequenceiq.periscope.monitor.evaluator.EventPublisher;
 import com.sequenceiq.periscope.monitor.event.ScalingEvent;
 import com.sequenceiq.periscope.monitor.event.UpdateFailedEvent;
 import com.sequenceiq.periscope.monitor.executor.ExecutorServiceWithRegistry;
-import com.sequenceiq.periscope.monitor.handler.CloudbreakCommunicator;
 import com.sequenceiq.periscope.service.ClusterService;
+import com.sequenceiq.periscope.service.StackTopologyService;
 import com.sequenceiq.periscope.utils.MockStackResponseGenerator;
 import com.sequenceiq.periscope.utils.StackResponseUtils;
 
@@ -73,7 +73,7 @@ public class YarnLoadEvaluatorTest {
     private ExecutorServiceWithRegistry executorServiceWithRegistry;
 
     @Mock
-    private CloudbreakCommunicator cloudbreakCommunicator;
+    private StackTopologyService stackTopologyService;
 
     @Mock
     private StackResponseUtils stackResponseUtils;
@@ -187,15 +187,15 @@ public class YarnLoadEvaluatorTest {
         MockitoAnnotations.initMocks(this);
         Cluster cluster = getARunningCluster();
         String hostGroup = "compute";
-        StackV4Response stackV4Response = MockStackResponseGenerator
-                .getMockStackV4Response(CLOUDBREAK_STACK_CRN, hostGroup, fqdnBase, currentHostGroupCount);
+        AutoscaleStackTopologyV4Response topology = MockStackResponseGenerator
+                .getMockStackTopology(CLOUDBREAK_STACK_CRN, hostGroup, fqdnBase, currentHostGroupCount);
 
         YarnScalingServiceV1Response upScale = getMockYarnScalingResponse(hostGroup, yarnUpScaleCount, yarnDownScaleCount);
 
         when(clusterService.findById(anyLong())).thenReturn(cluster);
-        when(cloudbreakCommunicator.getByCrn(anyString())).thenReturn(stackV4Response);
-        when(stackResponseUtils.getCloudInstanceIdsForHostGroup(any(), any())).thenCallRealMethod();
-        when(yarnMetricsClient.getYarnMetricsForCluster(any(Cluster.class), any(StackV4Response.class), anyString(), any(Optional.class)))
+        when(stackTopologyService.getTopology(anyString())).thenReturn(topology);
+        when(stackResponseUtils.getCloudInstanceIdsForHostGroup(any(AutoscaleStackTopologyV4Response.class), any())).thenCallRealMethod();
+        when(yarnMetricsClient.getYarnMetricsForCluster(any(Cluster.class), any(AutoscaleStackTopologyV4Response.class), anyString(), any(Optional.class)))
                 .thenReturn(upScale);
         when(yarnResponseUtils.getYarnRecommendedScaleUpCount(any(YarnScalingServiceV1Response.class), anyString(), anyInt(), any(Optional.class)))
                 .thenCallRealMethod();
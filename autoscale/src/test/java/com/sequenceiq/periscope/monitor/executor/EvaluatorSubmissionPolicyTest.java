@@ -0,0 +1,73 @@
+package com.sequenceiq.periscope.monitor.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.stream.LongStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class EvaluatorSubmissionPolicyTest {
+
+    private static final long TICK_PERIOD = 120_000L;
+
+    private static final long SPREAD_WINDOW = 60_000L;
+
+    private static final long MAX_JITTER = 1000L;
+
+    private static final int MAX_IN_FLIGHT = 100;
+
+    private static final long CLUSTER_COUNT = 10_000L;
+
+    private final EvaluatorSubmissionPolicy underTest = new EvaluatorSubmissionPolicy();
+
+    @Before
+    public void setup() {
+        ReflectionTestUtils.setField(underTest, "maxInFlight", MAX_IN_FLIGHT);
+        ReflectionTestUtils.setField(underTest, "spreadRatio", 0.5);
+        ReflectionTestUtils.setField(underTest, "maxJitterMillis", MAX_JITTER);
+    }
+
+    @Test
+    public void testIsSaturated() {
+        assertFalse(underTest.isSaturated(MAX_IN_FLIGHT - 1));
+        assertTrue(underTest.isSaturated(MAX_IN_FLIGHT));
+    }
+
+    @Test
+    public void testDelayWithoutJitterIsStable() {
+        LongStream.range(0, CLUSTER_COUNT).forEach(clusterId -> {
+            long delay = underTest.getSubmissionDelay(clusterId, TICK_PERIOD, false);
+            assertTrue(delay >= 0 && delay < SPREAD_WINDOW);
+            assertEquals(delay, underTest.getSubmissionDelay(clusterId, TICK_PERIOD, false));
+        });
+    }
+
+    @Test
+    public void testDelayWithJitterStaysInWindow() {
+        LongStream.range(0, CLUSTER_COUNT).forEach(clusterId -> {
+            long delay = underTest.getSubmissionDelay(clusterId, TICK_PERIOD, true);
+            long stableDelay = underTest.getSubmissionDelay(clusterId, TICK_PERIOD, false);
+            assertTrue(delay >= stableDelay && delay <= Math.min(stableDelay + MAX_JITTER, SPREAD_WINDOW));
+        });
+    }
+
+    @Test
+    public void testDelaysAreSpreadOverTheWindow() {
+        long buckets = 10L;
+        long[] clustersPerBucket = new long[(int) buckets];
+        LongStream.range(0, CLUSTER_COUNT).forEach(clusterId ->
+                clustersPerBucket[(int) (underTest.getSubmissionDelay(clusterId, TICK_PERIOD, false) * buckets / SPREAD_WINDOW)]++);
+        for (long clusterCount : clustersPerBucket) {
+            assertTrue("Clusters are not spread evenly: " + clusterCount, Math.abs(clusterCount - CLUSTER_COUNT / buckets) < CLUSTER_COUNT / buckets / 5);
+        }
+    }
+
+    @Test
+    public void testNoDelayWhenTickPeriodIsUnknown() {
+        assertEquals(0L, underTest.getSubmissionDelay(1L, 0L, true));
+    }
+}
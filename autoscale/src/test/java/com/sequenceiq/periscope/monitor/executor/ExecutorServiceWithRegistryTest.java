@@ -1,5 +1,6 @@
 package com.sequenceiq.periscope.monitor.executor;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -11,12 +12,14 @@ import static org.mockito.Mockito.when;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.sequenceiq.periscope.monitor.evaluator.EvaluatorExecutor;
 
@@ -74,6 +77,21 @@ public class ExecutorServiceWithRegistryTest {
         verify(evaluatorExecutorRegistry).remove(any(), eq(CLUSTER_ID));
     }
 
+    @Test
+    public void testSmoothedEvaluationTimeKeepsTheAverageWithoutEvaluations() {
+        ReflectionTestUtils.setField(executorServiceWithRegistry, "evaluationTimeSmoothingMinutes", 10L);
+        assertEquals(0L, executorServiceWithRegistry.smoothAverageEvaluationMillis(1_000L));
+
+        executorServiceWithRegistry.recordEvaluation(TimeUnit.MILLISECONDS.toNanos(50L));
+        executorServiceWithRegistry.recordEvaluation(TimeUnit.MILLISECONDS.toNanos(150L));
+        assertEquals(100L, executorServiceWithRegistry.smoothAverageEvaluationMillis(2_000L));
+
+        assertEquals(100L, executorServiceWithRegistry.smoothAverageEvaluationMillis(32_000L));
+
+        executorServiceWithRegistry.recordEvaluation(TimeUnit.MILLISECONDS.toNanos(400L));
+        assertEquals(290L, executorServiceWithRegistry.smoothAverageEvaluationMillis(2_000L + TimeUnit.MINUTES.toMillis(10L)));
+    }
+
     private EvaluatorExecutor getEvaluatorExecutor() {
         EvaluatorExecutor evaluatorExecutor = mock(EvaluatorExecutor.class);
         when(evaluatorExecutor.getName()).thenReturn("");
@@ -19,6 +19,7 @@ import com.sequenceiq.periscope.api.model.ClusterState;
 import com.sequenceiq.periscope.domain.Cluster;
 import com.sequenceiq.periscope.monitor.event.ClusterStatusSyncEvent;
 import com.sequenceiq.periscope.service.ClusterService;
+import com.sequenceiq.periscope.service.StackTopologyService;
 
 public class ClusterStatusSyncHandlerTest {
 
@@ -32,6 +33,9 @@ public class ClusterStatusSyncHandlerTest {
     @Mock
     private CloudbreakCommunicator cloudbreakCommunicator;
 
+    @Mock
+    private StackTopologyService stackTopologyService;
+
     @InjectMocks
     private ClusterStatusSyncHandler underTest;
 
@@ -92,6 +96,7 @@ public class ClusterStatusSyncHandlerTest {
 
         verify(clusterService, never()).setState(anyLong(), any(ClusterState.class));
         verify(cloudbreakCommunicator).getStackStatusByCrn(CLOUDBREAK_STACK_CRN);
+        verify(stackTopologyService).evictIfStatusChanged(CLOUDBREAK_STACK_CRN, Status.AVAILABLE, Status.UPDATE_IN_PROGRESS);
     }
 
     @Test
@@ -0,0 +1,107 @@
+package com.sequenceiq.periscope.service;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.common.Status;
+import com.sequenceiq.periscope.cache.StackTopologyCache;
+import com.sequenceiq.periscope.monitor.handler.CloudbreakCommunicator;
+import com.sequenceiq.periscope.repository.ClusterRepository;
+import com.sequenceiq.periscope.service.ha.PeriscopeNodeConfig;
+import com.sequenceiq.periscope.utils.MockStackResponseGenerator;
+
+public class StackTopologyServiceTest {
+
+    private static final String STACK_CRN = "stackCrn";
+
+    private static final String OTHER_STACK_CRN = "otherStackCrn";
+
+    private static final String NODE_ID = "nodeId";
+
+    @InjectMocks
+    private StackTopologyService underTest;
+
+    @Mock
+    private CloudbreakCommunicator cloudbreakCommunicator;
+
+    @Mock
+    private ClusterRepository clusterRepository;
+
+    @Mock
+    private PeriscopeNodeConfig periscopeNodeConfig;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+        ReflectionTestUtils.setField(underTest, "stackTopologyCache", new StackTopologyCache());
+        when(cloudbreakCommunicator.getTopologyByCrn(STACK_CRN))
+                .thenAnswer(invocation -> MockStackResponseGenerator.getMockStackTopology(STACK_CRN, "compute", "fqdn", 3));
+    }
+
+    @Test
+    public void testTopologyIsFetchedOnceUntilEvicted() {
+        AutoscaleStackTopologyV4Response first = underTest.getTopology(STACK_CRN);
+
+        assertSame(first, underTest.getTopology(STACK_CRN));
+        verify(cloudbreakCommunicator, times(1)).getTopologyByCrn(STACK_CRN);
+
+        underTest.evict(STACK_CRN);
+        underTest.getTopology(STACK_CRN);
+
+        verify(cloudbreakCommunicator, times(2)).getTopologyByCrn(STACK_CRN);
+    }
+
+    @Test
+    public void testTopologyIsEvictedOnlyWhenStatusChanges() {
+        AutoscaleStackTopologyV4Response first = underTest.getTopology(STACK_CRN);
+
+        underTest.evictIfStatusChanged(STACK_CRN, Status.AVAILABLE, Status.AVAILABLE);
+        assertSame(first, underTest.getTopology(STACK_CRN));
+
+        underTest.evictIfStatusChanged(STACK_CRN, Status.AVAILABLE, Status.UPDATE_IN_PROGRESS);
+        underTest.getTopology(STACK_CRN);
+
+        verify(cloudbreakCommunicator, times(2)).getTopologyByCrn(STACK_CRN);
+    }
+
+    @Test
+    public void testTopologiesOfStacksOfOtherNodesAreEvicted() {
+        when(cloudbreakCommunicator.getTopologyByCrn(OTHER_STACK_CRN))
+                .thenAnswer(invocation -> MockStackResponseGenerator.getMockStackTopology(OTHER_STACK_CRN, "compute", "fqdn", 3));
+        when(periscopeNodeConfig.getId()).thenReturn(NODE_ID);
+        when(clusterRepository.findStackCrnsByPeriscopeNodeId(NODE_ID)).thenReturn(List.of(STACK_CRN));
+        AutoscaleStackTopologyV4Response owned = underTest.getTopology(STACK_CRN);
+        underTest.getTopology(OTHER_STACK_CRN);
+
+        underTest.evictStacksOfOtherNodes();
+
+        assertSame(owned, underTest.getTopology(STACK_CRN));
+        underTest.getTopology(OTHER_STACK_CRN);
+        verify(cloudbreakCommunicator, times(1)).getTopologyByCrn(STACK_CRN);
+        verify(cloudbreakCommunicator, times(2)).getTopologyByCrn(OTHER_STACK_CRN);
+    }
+
+    @Test
+    public void testFailedFetchIsNotCached() {
+        IllegalStateException failure = new IllegalStateException("cloudbreak is not available");
+        when(cloudbreakCommunicator.getTopologyByCrn(OTHER_STACK_CRN)).thenThrow(failure);
+
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> underTest.getTopology(OTHER_STACK_CRN)));
+        assertThrows(IllegalStateException.class, () -> underTest.getTopology(OTHER_STACK_CRN));
+
+        verify(cloudbreakCommunicator, times(2)).getTopologyByCrn(OTHER_STACK_CRN);
+    }
+}
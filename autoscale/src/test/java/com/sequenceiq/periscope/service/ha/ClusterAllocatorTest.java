@@ -0,0 +1,122 @@
+package com.sequenceiq.periscope.service.ha;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.periscope.domain.PeriscopeNode;
+import com.sequenceiq.periscope.model.ClusterNodeAllocation;
+
+public class ClusterAllocatorTest {
+
+    private static final long CLUSTER_COUNT = 10_000L;
+
+    private final ClusterAllocator underTest = new ClusterAllocator();
+
+    @Before
+    public void setup() {
+        ReflectionTestUtils.setField(underTest, "loadAware", true);
+    }
+
+    @Test
+    public void testOrphanClustersAreAllocatedEvenly() {
+        List<PeriscopeNode> nodes = List.of(node("node1", 0L), node("node2", 0L), node("node3", 0L));
+
+        Map<String, List<Long>> moves = underTest.reallocate(allocations(id -> null), nodes);
+
+        assertEquals(CLUSTER_COUNT, moves.values().stream().mapToLong(List::size).sum());
+        moves.values().forEach(clusterIds -> assertEquals(CLUSTER_COUNT / 3.0, clusterIds.size(), CLUSTER_COUNT * 0.03));
+    }
+
+    @Test
+    public void testNewNodeTakesOverOnlyItsShare() {
+        List<PeriscopeNode> nodes = List.of(node("node1", 0L), node("node2", 0L), node("node3", 0L));
+        Map<Long, String> owners = owners(nodes);
+
+        Map<String, List<Long>> moves = underTest.reallocate(allocations(owners::get),
+                List.of(node("node1", 0L), node("node2", 0L), node("node3", 0L), node("node4", 0L)));
+
+        assertEquals(List.of("node4"), List.copyOf(moves.keySet()));
+        assertEquals(CLUSTER_COUNT / 4.0, moves.get("node4").size(), CLUSTER_COUNT * 0.03);
+    }
+
+    @Test
+    public void testOnlyTheClustersOfTheLeavingNodeMove() {
+        List<PeriscopeNode> nodes = List.of(node("node1", 0L), node("node2", 0L), node("node3", 0L));
+        Map<Long, String> owners = owners(nodes);
+
+        Map<String, List<Long>> moves = underTest.reallocate(allocations(owners::get), List.of(node("node1", 0L), node("node2", 0L)));
+
+        List<Long> movedClusterIds = moves.values().stream().flatMap(List::stream).collect(Collectors.toList());
+        assertTrue(movedClusterIds.stream().allMatch(clusterId -> "node3".equals(owners.get(clusterId))));
+        assertEquals(owners.values().stream().filter("node3"::equals).count(), movedClusterIds.size());
+    }
+
+    @Test
+    public void testSlowNodeGetsFewerClusters() {
+        List<PeriscopeNode> nodes = List.of(node("node1", 100L), node("node2", 100L), node("slow", 400L));
+
+        Map<String, Double> weights = underTest.getWeights(nodes);
+        Map<String, Long> clusterCounts = owners(nodes).values().stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertEquals(Map.of("node1", 2.0, "node2", 2.0, "slow", 0.5), weights);
+        assertTrue(clusterCounts.get("slow") * 3 < clusterCounts.get("node1"));
+    }
+
+    @Test
+    public void testWeightsAreEqualWithoutMeasurementsOrWhenNotLoadAware() {
+        assertEquals(Map.of("node1", 1.0, "node2", 1.0), underTest.getWeights(List.of(node("node1", 0L), node("node2", 300L))));
+
+        ReflectionTestUtils.setField(underTest, "loadAware", false);
+
+        assertEquals(Map.of("node1", 1.0, "node2", 1.0), underTest.getWeights(List.of(node("node1", 100L), node("node2", 300L))));
+    }
+
+    @Test
+    public void testSmallChangesOfTheEvaluationTimesDoNotChangeTheWeights() {
+        assertEquals(Map.of("node1", 1.0, "node2", 1.0), underTest.getWeights(List.of(node("node1", 100L), node("node2", 100L))));
+
+        assertEquals(Map.of("node1", 1.0, "node2", 1.0), underTest.getWeights(List.of(node("node1", 90L), node("node2", 110L))));
+
+        Map<String, Double> weights = underTest.getWeights(List.of(node("node1", 50L), node("node2", 150L)));
+        assertEquals(2.0, weights.get("node1"), 0.0);
+        assertEquals(2.0 / 3.0, weights.get("node2"), 0.0001);
+
+        weights = underTest.getWeights(List.of(node("node1", 60L), node("node2", 140L)));
+        assertEquals(2.0, weights.get("node1"), 0.0);
+        assertEquals(2.0 / 3.0, weights.get("node2"), 0.0001);
+    }
+
+    @Test
+    public void testNodeWithoutEvaluationsKeepsItsWeight() {
+        assertEquals(0.5, underTest.getWeights(List.of(node("node1", 100L), node("node2", 100L), node("slow", 400L))).get("slow"), 0.0);
+
+        assertEquals(0.5, underTest.getWeights(List.of(node("node1", 100L), node("node2", 100L), node("slow", 0L))).get("slow"), 0.0);
+    }
+
+    private Map<Long, String> owners(List<PeriscopeNode> nodes) {
+        Map<String, Double> weights = underTest.getWeights(nodes);
+        return LongStream.range(0L, CLUSTER_COUNT).boxed().collect(Collectors.toMap(Function.identity(), id -> underTest.getOwner(id, weights)));
+    }
+
+    private List<ClusterNodeAllocation> allocations(Function<Long, String> currentOwner) {
+        return LongStream.range(0L, CLUSTER_COUNT)
+                .mapToObj(id -> new ClusterNodeAllocation(id, currentOwner.apply(id)))
+                .collect(Collectors.toList());
+    }
+
+    private PeriscopeNode node(String uuid, long averageEvaluationMillis) {
+        PeriscopeNode node = new PeriscopeNode(uuid);
+        node.setAverageEvaluationMillis(averageEvaluationMillis);
+        return node;
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.function.Supplier;
@@ -34,6 +35,7 @@ import com.sequenceiq.cloudbreak.common.service.TransactionService.TransactionEx
 import com.sequenceiq.periscope.domain.Cluster;
 import com.sequenceiq.periscope.domain.PeriscopeNode;
 import com.sequenceiq.periscope.domain.TimeAlert;
+import com.sequenceiq.periscope.model.ClusterNodeAllocation;
 import com.sequenceiq.periscope.monitor.evaluator.CronTimeEvaluator;
 import com.sequenceiq.periscope.repository.ClusterRepository;
 import com.sequenceiq.periscope.repository.PeriscopeNodeRepository;
@@ -79,6 +81,9 @@ public class LeaderElectionServiceTest {
     @Mock
     private PeriscopeMetricService metricService;
 
+    @Mock
+    private ClusterAllocator clusterAllocator;
+
     @Before
     public void init() {
         when(periscopeNodeConfig.isNodeIdSpecified()).thenReturn(true);
@@ -148,16 +153,40 @@ public class LeaderElectionServiceTest {
         when(timerFactory.get()).thenReturn(spyTimer);
         PeriscopeNode leader = new PeriscopeNode("nodeid");
         leader.setLeader(true);
-        when(periscopeNodeRepository.findAllByLastUpdatedIsGreaterThan(anyLong())).thenReturn(Collections.singletonList(leader));
+        List<PeriscopeNode> activeNodes = Collections.singletonList(leader);
+        List<ClusterNodeAllocation> allocations = List.of(new ClusterNodeAllocation(1L, null), new ClusterNodeAllocation(2L, "nodeid"));
+        when(periscopeNodeRepository.findAllByLastUpdatedIsGreaterThan(anyLong())).thenReturn(activeNodes);
+        when(periscopeNodeRepository.findById("nodeid")).thenReturn(Optional.of(leader));
         when(clusterRepository.findAllByPeriscopeNodeIdNotInOrPeriscopeNodeIdIsNull(any())).thenReturn(Collections.singletonList(new Cluster()));
+        when(clusterRepository.findAllNodeAllocations()).thenReturn(allocations);
+        when(clusterAllocator.reallocate(allocations, activeNodes)).thenReturn(Map.of("nodeid", List.of(1L)));
+        when(transactionService.required(any(Supplier.class))).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
 
         underTest.leaderElection();
 
         spyTimer.lastTask.run();
 
-        verify(transactionService, times(2)).required(any(Supplier.class));
+        verify(transactionService, times(3)).required(any(Supplier.class));
         verify(clusterRepository, times(1)).findAllByPeriscopeNodeIdNotInOrPeriscopeNodeIdIsNull(any(List.class));
-        verify(clusterRepository, times(1)).saveAll(any(List.class));
+        verify(clusterRepository, times(1)).allocateClustersToNode(List.of(1L), "nodeid");
+    }
+
+    @Test
+    public void testReallocateClustersIsLeaderNothingToMove() throws TransactionExecutionException {
+        when(periscopeNodeRepository.countByLeaderIsTrueAndLastUpdatedIsGreaterThan(anyLong())).thenReturn(0L);
+        SpyTimer spyTimer = new SpyTimer();
+        when(timerFactory.get()).thenReturn(spyTimer);
+        PeriscopeNode leader = new PeriscopeNode("nodeid");
+        leader.setLeader(true);
+        when(periscopeNodeRepository.findAllByLastUpdatedIsGreaterThan(anyLong())).thenReturn(Collections.singletonList(leader));
+        when(clusterAllocator.reallocate(any(), any())).thenReturn(Map.of());
+
+        underTest.leaderElection();
+
+        spyTimer.lastTask.run();
+
+        verify(transactionService, times(2)).required(any(Supplier.class));
+        verify(clusterRepository, times(0)).allocateClustersToNode(any(), anyString());
     }
 
     @Test
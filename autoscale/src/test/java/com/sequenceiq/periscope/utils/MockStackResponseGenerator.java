@@ -1,10 +1,15 @@
 package com.sequenceiq.periscope.utils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleHostGroupTopologyV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.common.Status;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.instancegroup.InstanceGroupV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.instancegroup.instancemetadata.InstanceMetaDataV4Response;
@@ -47,6 +52,34 @@ public class MockStackResponseGenerator {
         return mockReponse;
     }
 
+    public static AutoscaleStackTopologyV4Response getMockStackTopology(String clusterCrn, String hostGroup, String fqdnBase,
+            int currentHostGroupCount) {
+        List<AutoscaleHostGroupTopologyV4Response> hostGroups = new ArrayList<>();
+        hostGroups.add(hostGroupTopology("master", Map.of("master1", "test_instanceid" + "master1")));
+        hostGroups.add(hostGroupTopology("worker", Map.of("worker1", "test_instanceid" + "worker1", "worker2", "test_instanceid" + "worker2")));
+
+        Map<String, String> instanceIdsByFqdn = new HashMap<>();
+        for (int i = 1; i <= currentHostGroupCount; i++) {
+            instanceIdsByFqdn.put(fqdnBase + i, "test_instanceid_" + hostGroup + i);
+        }
+        hostGroups.add(hostGroupTopology(hostGroup, instanceIdsByFqdn));
+
+        AutoscaleStackTopologyV4Response mockResponse = new AutoscaleStackTopologyV4Response();
+        mockResponse.setCrn(clusterCrn);
+        mockResponse.setStatus(Status.AVAILABLE);
+        mockResponse.setClusterStatus(Status.AVAILABLE);
+        mockResponse.setHostGroups(hostGroups);
+        mockResponse.setNodeCount(hostGroups.stream().mapToInt(AutoscaleHostGroupTopologyV4Response::getNodeCount).sum());
+        return mockResponse;
+    }
+
+    public static AutoscaleHostGroupTopologyV4Response hostGroupTopology(String hostGroupName, Map<String, String> instanceIdsByFqdn) {
+        AutoscaleHostGroupTopologyV4Response hostGroupTopology = new AutoscaleHostGroupTopologyV4Response(hostGroupName);
+        hostGroupTopology.setNodeCount(instanceIdsByFqdn.size());
+        hostGroupTopology.setInstanceIdsByFqdn(instanceIdsByFqdn);
+        return hostGroupTopology;
+    }
+
     public static InstanceTemplateV4Response awsTemplate() {
         InstanceTemplateV4Response awsTemplate = new InstanceTemplateV4Response();
         awsTemplate.setCloudPlatform(CloudPlatform.AWS);
@@ -11,6 +11,7 @@ import java.util.Map;
 
 import org.junit.Test;
 
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.blueprint.responses.BlueprintV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.StackV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.response.cluster.ClusterV4Response;
@@ -45,6 +46,26 @@ public class StackResponseUtilsTest {
         assertEquals("Retrieved HostGroup Instance Count should match.", Integer.valueOf(3), nodeCountForHostGroup);
     }
 
+    @Test
+    public void testGetCloudInstanceIdsForHostGroupFromTopology() {
+        AutoscaleStackTopologyV4Response topology = MockStackResponseGenerator.getMockStackTopology("test-crn", "compute", "test_fqdn", 3);
+
+        Map<String, String> instanceIdsForHostGroups = underTest.getCloudInstanceIdsForHostGroup(topology, "Compute");
+
+        assertEquals("Retrieved Instance Ids should match",
+                Map.of("test_fqdn1", "test_instanceid_compute1", "test_fqdn2", "test_instanceid_compute2", "test_fqdn3", "test_instanceid_compute3"),
+                instanceIdsForHostGroups);
+        assertTrue(underTest.getCloudInstanceIdsForHostGroup(topology, "gateway").isEmpty());
+    }
+
+    @Test
+    public void testGetNodeCountForHostGroupFromTopology() {
+        AutoscaleStackTopologyV4Response topology = MockStackResponseGenerator.getMockStackTopology("test-crn", "compute", "test_fqdn", 3);
+
+        assertEquals("Retrieved HostGroup Instance Count should match.", Integer.valueOf(3), underTest.getNodeCountForHostGroup(topology, "compute"));
+        assertEquals("Missing HostGroup should have no instances.", Integer.valueOf(0), underTest.getNodeCountForHostGroup(topology, "gateway"));
+    }
+
     @Test
     public void testGetRoleConfigNameForHostGroup() throws Exception {
         validateGetRoleConfigNameForHostGroup("YARN", "NODEMANAGER",
@@ -1,7 +1,5 @@
 package com.sequenceiq.cloudbreak.ccmimpl.ccmv2;
 
-import static io.grpc.internal.GrpcUtil.DEFAULT_MAX_MESSAGE_SIZE;
-
 import javax.inject.Inject;
 
 import org.slf4j.Logger;
@@ -19,12 +17,12 @@ import com.cloudera.thunderhead.service.clusterconnectivitymanagementv2.ClusterC
 import com.cloudera.thunderhead.service.clusterconnectivitymanagementv2.ClusterConnectivityManagementV2Proto.UnregisterAgentRequest;
 import com.cloudera.thunderhead.service.clusterconnectivitymanagementv2.ClusterConnectivityManagementV2Proto.UnregisterAgentResponse;
 import com.sequenceiq.cloudbreak.ccmimpl.ccmv2.config.GrpcCcmV2Config;
+import com.sequenceiq.cloudbreak.grpc.ManagedChannelPool;
 import com.sequenceiq.cloudbreak.grpc.ManagedChannelWrapper;
 import com.sequenceiq.cloudbreak.grpc.altus.AltusMetadataInterceptor;
 import com.sequenceiq.cloudbreak.grpc.util.GrpcUtil;
 
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import io.opentracing.Tracer;
 
 import java.util.Optional;
@@ -40,6 +38,9 @@ public class GrpcCcmV2Client {
     @Inject
     private Tracer tracer;
 
+    @Inject
+    private ManagedChannelPool channelPool;
+
     public InvertingProxy getOrCreateInvertingProxy(String requestId, String accountId, String actorCrn) {
         try (ManagedChannelWrapper channelWrapper = makeWrapper()) {
             ClusterConnectivityManagementV2BlockingStub client = makeClient(channelWrapper.getChannel(), requestId, actorCrn);
@@ -83,11 +84,7 @@ public class GrpcCcmV2Client {
     }
 
     private ManagedChannelWrapper makeWrapper() {
-        return new ManagedChannelWrapper(
-                ManagedChannelBuilder.forAddress(grpcCcmV2Config.getHost(), grpcCcmV2Config.getPort())
-                        .usePlaintext()
-                        .maxInboundMessageSize(DEFAULT_MAX_MESSAGE_SIZE)
-                        .build());
+        return channelPool.getChannel(grpcCcmV2Config.getHost(), grpcCcmV2Config.getPort());
     }
 
     private ClusterConnectivityManagementV2BlockingStub makeClient(ManagedChannel channel, String requestId, String actorCrn) {
@@ -6,7 +6,6 @@ import javax.inject.Inject;
 import javax.net.ssl.SSLContext;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,7 +14,7 @@ import org.springframework.stereotype.Component;
 import com.cloudera.api.swagger.client.ApiClient;
 import com.sequenceiq.cloudbreak.client.CertificateTrustManager;
 import com.sequenceiq.cloudbreak.client.HttpClientConfig;
-import com.sequenceiq.cloudbreak.client.KeyStoreUtil;
+import com.sequenceiq.cloudbreak.client.TlsClientCache;
 import com.sequenceiq.cloudbreak.cm.client.tracing.CmOkHttpTracingInterceptor;
 import com.sequenceiq.cloudbreak.util.HostUtil;
 
@@ -44,6 +43,9 @@ public class ClouderaManagerApiClientProvider {
     @Inject
     private CmOkHttpTracingInterceptor cmOkHttpTracingInterceptor;
 
+    @Inject
+    private TlsClientCache tlsClientCache;
+
     public ApiClient getDefaultClient(Integer gatewayPort, HttpClientConfig clientConfig, String apiVersion) throws ClouderaManagerClientInitException {
         ApiClient client = getClouderaManagerClient(clientConfig, gatewayPort, "admin", "admin", apiVersion);
         client.getHttpClient().interceptors().add(cmOkHttpTracingInterceptor);
@@ -112,10 +114,9 @@ public class ClouderaManagerApiClientProvider {
         cmClient.setVerifyingSsl(true);
         try {
             if (isCmSslConfigValidClientConfigValid(clientConfig) && !clientConfig.isClusterProxyEnabled()) {
-                SSLContext sslContext = SSLContexts.custom()
-                        .loadTrustMaterial(KeyStoreUtil.createTrustStore(clientConfig.getServerCert()), null)
-                        .loadKeyMaterial(KeyStoreUtil.createKeyStore(clientConfig.getClientCert(), clientConfig.getClientKey()), "consul".toCharArray())
-                        .build();
+                // the same socket factory lets the clients of the same cluster reuse each other's connections from the shared OkHttp pool
+                SSLContext sslContext = tlsClientCache.getSslContext(clientConfig.getServerCert(), clientConfig.getClientCert(),
+                        clientConfig.getClientKey());
                 cmClient.getHttpClient().setSslSocketFactory(sslContext.getSocketFactory());
                 cmClient.getHttpClient().setHostnameVerifier(CertificateTrustManager.hostnameVerifier());
             }
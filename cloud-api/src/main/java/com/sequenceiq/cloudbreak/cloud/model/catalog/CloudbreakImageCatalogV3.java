@@ -1,6 +1,7 @@
 package com.sequenceiq.cloudbreak.cloud.model.catalog;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -11,6 +12,8 @@ public class CloudbreakImageCatalogV3 {
 
     private final Versions versions;
 
+    private volatile ImageCatalogIndex index;
+
     @JsonCreator
     public CloudbreakImageCatalogV3(
             @JsonProperty(value = "images", required = true) Images images,
@@ -26,4 +29,14 @@ public class CloudbreakImageCatalogV3 {
     public Versions getVersions() {
         return versions;
     }
+
+    @JsonIgnore
+    public ImageCatalogIndex getIndex() {
+        ImageCatalogIndex currentIndex = index;
+        if (currentIndex == null) {
+            currentIndex = new ImageCatalogIndex(images);
+            index = currentIndex;
+        }
+        return currentIndex;
+    }
 }
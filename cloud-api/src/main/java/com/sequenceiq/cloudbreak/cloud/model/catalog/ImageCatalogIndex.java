@@ -0,0 +1,44 @@
+package com.sequenceiq.cloudbreak.cloud.model.catalog;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lookup of the images of a parsed catalog by their identifier. Base images take precedence over cdh images with the same identifier,
+ * the same way as the linear search over the catalog did.
+ */
+public class ImageCatalogIndex {
+
+    private final Map<String, Image> baseImagesByUuid;
+
+    private final Map<String, Image> cdhImagesByUuid;
+
+    public ImageCatalogIndex(Images images) {
+        baseImagesByUuid = indexByUuid(images.getBaseImages());
+        cdhImagesByUuid = indexByUuid(images.getCdhImages());
+    }
+
+    public Optional<Image> getImage(String uuid) {
+        return getBaseImage(uuid).or(() -> getCdhImage(uuid));
+    }
+
+    public Optional<Image> getBaseImage(String uuid) {
+        return Optional.ofNullable(uuid).map(baseImagesByUuid::get);
+    }
+
+    public Optional<Image> getCdhImage(String uuid) {
+        return Optional.ofNullable(uuid).map(cdhImagesByUuid::get);
+    }
+
+    private static Map<String, Image> indexByUuid(List<Image> images) {
+        Map<String, Image> imagesByUuid = new HashMap<>();
+        for (Image image : images) {
+            if (image != null && image.getUuid() != null) {
+                imagesByUuid.putIfAbsent(image.getUuid(), image);
+            }
+        }
+        return Map.copyOf(imagesByUuid);
+    }
+}
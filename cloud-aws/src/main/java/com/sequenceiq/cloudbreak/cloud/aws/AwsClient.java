@@ -4,17 +4,24 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.function.Supplier;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceClient;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
@@ -41,6 +48,8 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.securitytoken.AWSSecurityTokenService;
 import com.google.common.annotations.VisibleForTesting;
+import com.sequenceiq.cloudbreak.cloud.aws.cache.AwsClientCacheKey;
+import com.sequenceiq.cloudbreak.cloud.aws.cache.AwsSdkClientCache;
 import com.sequenceiq.cloudbreak.cloud.aws.client.AmazonSecurityTokenServiceClient;
 import com.sequenceiq.cloudbreak.cloud.aws.client.AmazonAutoScalingClient;
 import com.sequenceiq.cloudbreak.cloud.aws.client.AmazonClientExceptionHandler;
@@ -65,6 +74,7 @@ import com.sequenceiq.cloudbreak.cloud.model.CloudCredential;
 import com.sequenceiq.cloudbreak.cloud.model.InstanceAuthentication;
 import com.sequenceiq.cloudbreak.service.Retry;
 
+import io.micrometer.core.instrument.Metrics;
 import io.opentracing.Tracer;
 
 @Component
@@ -77,6 +87,15 @@ public class AwsClient {
 
     private static final int MAX_CONSECUTIVE_RETRIES_BEFORE_THROTTLING = 200;
 
+    @Value("${cb.aws.client.cache.max.entries:500}")
+    private long clientCacheMaxEntries;
+
+    @Value("${cb.aws.client.cache.idle.timeout.minutes:60}")
+    private long clientCacheIdleTimeoutMinutes;
+
+    @Value("${cb.aws.client.cache.shutdown.grace.minutes:180}")
+    private long clientCacheShutdownGraceMinutes;
+
     @Inject
     private AwsSessionCredentialClient credentialClient;
 
@@ -95,6 +114,21 @@ public class AwsClient {
     @Inject
     private SdkClientExceptionMapper sdkClientExceptionMapper;
 
+    private AwsSdkClientCache clientCache;
+
+    @PostConstruct
+    public void initClientCache() {
+        clientCache = new AwsSdkClientCache(clientCacheMaxEntries, Duration.ofMinutes(clientCacheIdleTimeoutMinutes),
+                Duration.ofMinutes(clientCacheShutdownGraceMinutes), this::shutdownClient, Metrics.globalRegistry);
+    }
+
+    @PreDestroy
+    public void closeClientCache() {
+        if (clientCache != null) {
+            clientCache.close();
+        }
+    }
+
     public AuthenticatedContext createAuthenticatedContext(CloudContext cloudContext, CloudCredential cloudCredential) {
         AuthenticatedContext authenticatedContext = new AuthenticatedContext(cloudContext, cloudCredential);
         try {
@@ -112,7 +146,8 @@ public class AwsClient {
     }
 
     public AmazonEc2Client createAccessWithMinimalRetries(AwsCredentialView awsCredential, String regionName) {
-        AmazonEC2 ec2Client = createAccessWithClientConfiguration(awsCredential, regionName, getClientConfigurationWithMinimalRetries());
+        AmazonEC2 ec2Client = cached("ec2-minimal-retries", awsCredential, regionName,
+                () -> createAccessWithClientConfiguration(awsCredential, regionName, getClientConfigurationWithMinimalRetries()));
         return new AmazonEc2Client(ec2Client, retry);
     }
 
@@ -125,7 +160,7 @@ public class AwsClient {
     }
 
     private AmazonEC2 createAccess(AwsCredentialView awsCredential, String regionName) {
-        return createAccessWithClientConfiguration(awsCredential, regionName, getDefaultClientConfiguration());
+        return cached("ec2", awsCredential, regionName, () -> createAccessWithClientConfiguration(awsCredential, regionName, getDefaultClientConfiguration()));
     }
 
     @VisibleForTesting
@@ -139,11 +174,12 @@ public class AwsClient {
     }
 
     public AmazonCloudWatchClient createCloudWatchClient(AwsCredentialView awsCredential, String regionName) {
-        AmazonCloudWatch client = proxy(com.amazonaws.services.cloudwatch.AmazonCloudWatchClient.builder()
+        AmazonCloudWatch client = cached("cloudwatch", awsCredential, regionName, () -> proxy(
+                com.amazonaws.services.cloudwatch.AmazonCloudWatchClient.builder()
                 .withCredentials(getCredentialProvider(awsCredential))
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
                 .withRegion(regionName)
-                .build(), awsCredential, regionName);
+                .build(), awsCredential, regionName));
         return new AmazonCloudWatchClient(client);
     }
 
@@ -153,11 +189,12 @@ public class AwsClient {
     }
 
     public AmazonSecurityTokenServiceClient createSecurityTokenService(AwsCredentialView awsCredential, String region) {
-        AWSSecurityTokenService client = proxy(com.amazonaws.services.securitytoken.AWSSecurityTokenServiceClient.builder()
+        AWSSecurityTokenService client = cached("sts", awsCredential, region, () -> proxy(
+                com.amazonaws.services.securitytoken.AWSSecurityTokenServiceClient.builder()
                 .withCredentials(getCredentialProvider(awsCredential))
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
                 .withRegion(region)
-                .build(), awsCredential, region);
+                .build(), awsCredential, region));
         return new AmazonSecurityTokenServiceClient(client);
     }
 
@@ -173,27 +210,28 @@ public class AwsClient {
 
     public AmazonIdentityManagementClient createAmazonIdentityManagement(AwsCredentialView awsCredential) {
         String region = awsDefaultZoneProvider.getDefaultZone(awsCredential);
-        AmazonIdentityManagement client = proxy(AmazonIdentityManagementClientBuilder.standard()
+        AmazonIdentityManagement client = cached("iam", awsCredential, region, () -> proxy(AmazonIdentityManagementClientBuilder.standard()
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
                 .withRegion(region)
                 .withClientConfiguration(getDefaultClientConfiguration())
                 .withCredentials(getCredentialProvider(awsCredential))
-                .build(), awsCredential, region);
+                .build(), awsCredential, region));
         return new AmazonIdentityManagementClient(client);
     }
 
     public AmazonKmsClient createAWSKMS(AwsCredentialView awsCredential, String regionName) {
-        AWSKMS client = proxy(AWSKMSClientBuilder.standard()
+        AWSKMS client = cached("kms", awsCredential, regionName, () -> proxy(AWSKMSClientBuilder.standard()
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
                 .withCredentials(getCredentialProvider(awsCredential))
                 .withRegion(regionName)
-                .build(), awsCredential, regionName);
+                .build(), awsCredential, regionName));
         return new AmazonKmsClient(client);
     }
 
     public AmazonCloudFormationClient createCloudFormationClient(AwsCredentialView awsCredential, String regionName) {
-        AmazonCloudFormation cloudFormationClient = createCloudFormation(awsCredential, regionName);
-        return new AmazonCloudFormationClient(proxy(cloudFormationClient, awsCredential, regionName), retry);
+        AmazonCloudFormation cloudFormationClient = cached("cloudformation", awsCredential, regionName,
+                () -> proxy(createCloudFormation(awsCredential, regionName), awsCredential, regionName));
+        return new AmazonCloudFormationClient(cloudFormationClient, retry);
     }
 
     @VisibleForTesting
@@ -207,62 +245,65 @@ public class AwsClient {
     }
 
     public AmazonElasticLoadBalancingClient createElasticLoadBalancingClient(AwsCredentialView awsCredential, String regionName) {
-        AmazonElasticLoadBalancing client = proxy(com.amazonaws.services.elasticloadbalancingv2.AmazonElasticLoadBalancingClient.builder()
+        AmazonElasticLoadBalancing client = cached("elb", awsCredential, regionName, () -> proxy(
+                com.amazonaws.services.elasticloadbalancingv2.AmazonElasticLoadBalancingClient.builder()
                 .withCredentials(getCredentialProvider(awsCredential))
                 .withRegion(regionName)
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
                 .withClientConfiguration(getDefaultClientConfiguration())
-                .build(), awsCredential, regionName);
+                .build(), awsCredential, regionName));
         return new AmazonElasticLoadBalancingClient(client);
     }
 
     public AmazonEfsClient createElasticFileSystemClient(AwsCredentialView awsCredential, String regionName) {
-        AmazonElasticFileSystem client = proxy(com.amazonaws.services.elasticfilesystem.AmazonElasticFileSystemClient.builder()
+        AmazonElasticFileSystem client = cached("efs", awsCredential, regionName, () -> proxy(
+                com.amazonaws.services.elasticfilesystem.AmazonElasticFileSystemClient.builder()
                 .withCredentials(getCredentialProvider(awsCredential))
                 .withRegion(regionName)
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
-                .build(), awsCredential, regionName);
+                .build(), awsCredential, regionName));
         return new AmazonEfsClient(client, retry);
     }
 
     public AmazonAutoScalingClient createAutoScalingClient(AwsCredentialView awsCredential, String regionName) {
-        AmazonAutoScaling client = proxy(com.amazonaws.services.autoscaling.AmazonAutoScalingClient.builder()
+        AmazonAutoScaling client = cached("autoscaling", awsCredential, regionName, () -> proxy(
+                com.amazonaws.services.autoscaling.AmazonAutoScalingClient.builder()
                 .withCredentials(getCredentialProvider(awsCredential))
                 .withRegion(regionName)
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
                 .withClientConfiguration(getDefaultClientConfiguration())
-                .build(), awsCredential, regionName);
+                .build(), awsCredential, regionName));
         return new AmazonAutoScalingClient(client, retry);
     }
 
     public AmazonS3Client createS3Client(AwsCredentialView awsCredential) {
         String regionName = awsDefaultZoneProvider.getDefaultZone(awsCredential);
-        AmazonS3 client = proxy(AmazonS3ClientBuilder.standard()
+        AmazonS3 client = cached("s3", awsCredential, regionName, () -> proxy(AmazonS3ClientBuilder.standard()
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
                 .withCredentials(getCredentialProvider(awsCredential))
                 .withRegion(regionName)
                 .withForceGlobalBucketAccessEnabled(Boolean.TRUE)
-                .build(), awsCredential, regionName);
+                .build(), awsCredential, regionName));
         return new AmazonS3Client(client);
     }
 
     public AmazonDynamoDBClient createDynamoDbClient(AwsCredentialView awsCredential, String region) {
-        final AmazonDynamoDB client = proxy(AmazonDynamoDBClientBuilder.standard()
+        final AmazonDynamoDB client = cached("dynamodb", awsCredential, region, () -> proxy(AmazonDynamoDBClientBuilder.standard()
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
                 .withClientConfiguration(getDynamoDbClientConfiguration())
                 .withCredentials(getCredentialProvider(awsCredential))
                 .withRegion(region)
-                .build(), awsCredential, region);
+                .build(), awsCredential, region));
         return new AmazonDynamoDBClient(client);
     }
 
     public AmazonRdsClient createRdsClient(AwsCredentialView awsCredentialView, String region) {
-        final AmazonRDS client = proxy(AmazonRDSClientBuilder.standard()
+        final AmazonRDS client = cached("rds", awsCredentialView, region, () -> proxy(AmazonRDSClientBuilder.standard()
                 .withRequestHandlers(new AwsTracingRequestHandler(tracer))
                 .withCredentials(getCredentialProvider(awsCredentialView))
                 .withClientConfiguration(getDefaultClientConfiguration())
                 .withRegion(region)
-                .build(), awsCredentialView, region);
+                .build(), awsCredentialView, region));
         return new AmazonRdsClient(client);
     }
 
@@ -366,6 +407,31 @@ public class AwsClient {
         return new AwsSessionCredentialProvider(awsCredential, Objects.requireNonNull(credentialClient));
     }
 
+    /**
+     * Returns the cached client of the credential, region and client type, building it on the first call. Credentials without a CRN are
+     * not cached, in line with the session credential cache.
+     */
+    private <T> T cached(String clientType, AwsCredentialView awsCredential, String region, Supplier<T> clientFactory) {
+        if (clientCache == null || awsCredential.getCredentialCrn() == null) {
+            return clientFactory.get();
+        }
+        return clientCache.get(AwsClientCacheKey.of(clientType, awsCredential, region), clientFactory);
+    }
+
+    private void shutdownClient(Object client) {
+        Object target = client;
+        if (client instanceof Advised) {
+            try {
+                target = ((Advised) client).getTargetSource().getTarget();
+            } catch (Exception e) {
+                LOGGER.warn("Cannot get the AWS client behind the proxy to shut it down", e);
+            }
+        }
+        if (target instanceof AmazonWebServiceClient) {
+            ((AmazonWebServiceClient) target).shutdown();
+        }
+    }
+
     private <T> T proxy(T client, AwsCredentialView awsCredentialView, String region) {
         AspectJProxyFactory proxyFactory = new AspectJProxyFactory(client);
         proxyFactory.addAspect(new AmazonClientExceptionHandler(awsCredentialView, region, sdkClientExceptionMapper));
@@ -0,0 +1,84 @@
+package com.sequenceiq.cloudbreak.cloud.aws.cache;
+
+import java.util.Objects;
+
+import com.sequenceiq.cloudbreak.cloud.aws.view.AwsCredentialView;
+
+/**
+ * Identifies a cached AWS SDK client. Besides the credential CRN, the region and the client type the key holds every credential attribute
+ * the client is built from, so a credential changed under the same CRN gets a new client instead of one holding the old role or keys.
+ */
+public class AwsClientCacheKey {
+
+    private final String clientType;
+
+    private final String region;
+
+    private final String credentialCrn;
+
+    private final String credentialName;
+
+    private final String roleArn;
+
+    private final String externalId;
+
+    private final String accessKey;
+
+    private final String secretKey;
+
+    private final Boolean governmentCloud;
+
+    private AwsClientCacheKey(String clientType, String region, AwsCredentialView awsCredential) {
+        this.clientType = clientType;
+        this.region = region;
+        credentialCrn = awsCredential.getCredentialCrn();
+        credentialName = awsCredential.getName();
+        roleArn = awsCredential.getRoleArn();
+        externalId = awsCredential.getExternalId();
+        accessKey = awsCredential.getAccessKey();
+        secretKey = awsCredential.getSecretKey();
+        governmentCloud = awsCredential.isGovernmentCloudEnabled();
+    }
+
+    public static AwsClientCacheKey of(String clientType, AwsCredentialView awsCredential, String region) {
+        return new AwsClientCacheKey(clientType, region, awsCredential);
+    }
+
+    public String getClientType() {
+        return clientType;
+    }
+
+    public String getCredentialCrn() {
+        return credentialCrn;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AwsClientCacheKey that = (AwsClientCacheKey) o;
+        return Objects.equals(clientType, that.clientType)
+                && Objects.equals(region, that.region)
+                && Objects.equals(credentialCrn, that.credentialCrn)
+                && Objects.equals(credentialName, that.credentialName)
+                && Objects.equals(roleArn, that.roleArn)
+                && Objects.equals(externalId, that.externalId)
+                && Objects.equals(accessKey, that.accessKey)
+                && Objects.equals(secretKey, that.secretKey)
+                && Objects.equals(governmentCloud, that.governmentCloud);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(clientType, region, credentialCrn, credentialName, roleArn, externalId, accessKey, secretKey, governmentCloud);
+    }
+
+    @Override
+    public String toString() {
+        return "AwsClientCacheKey{clientType='" + clientType + "', region='" + region + "', credentialCrn='" + credentialCrn + "'}";
+    }
+}
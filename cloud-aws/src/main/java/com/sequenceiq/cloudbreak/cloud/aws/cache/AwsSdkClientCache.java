@@ -0,0 +1,110 @@
+package com.sequenceiq.cloudbreak.cloud.aws.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounded cache of the AWS SDK clients, so the flows, pollers and platform resource calls reuse a warm client with its connection pool
+ * instead of building a new client with a new connection manager on every call. The clients never hold session credentials themselves, the
+ * credential provider fetches them from the session credential cache on every request, so an idle timeout is enough to expire them.
+ * <p>
+ * An evicted client may still be used by a caller that got it earlier, e.g. by a long running poller, so it is shut down only after a grace
+ * period. Metrics: the {@code aws.client.cache} counter tagged by client type and by whether the client was {@code created} or a
+ * creation was {@code avoided}.
+ */
+public class AwsSdkClientCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AwsSdkClientCache.class);
+
+    private final Cache<AwsClientCacheKey, Object> clients;
+
+    private final Duration shutdownGracePeriod;
+
+    private final Consumer<Object> clientShutdown;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ScheduledExecutorService shutdownExecutor;
+
+    public AwsSdkClientCache(long maxEntries, Duration idleTimeout, Duration shutdownGracePeriod, Consumer<Object> clientShutdown,
+            MeterRegistry meterRegistry) {
+        this.shutdownGracePeriod = shutdownGracePeriod;
+        this.clientShutdown = clientShutdown;
+        this.meterRegistry = meterRegistry;
+        shutdownExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("aws-client-cache-shutdown-%d")
+                .setDaemon(true)
+                .build());
+        clients = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(idleTimeout)
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(AwsClientCacheKey key, Supplier<T> clientFactory) {
+        boolean[] created = {false};
+        T client = (T) clients.get(key, k -> {
+            created[0] = true;
+            return clientFactory.get();
+        });
+        Counter.builder("aws.client.cache")
+                .tag("type", key.getClientType())
+                .tag("result", created[0] ? "created" : "avoided")
+                .register(meterRegistry)
+                .increment();
+        return client;
+    }
+
+    public long size() {
+        clients.cleanUp();
+        return clients.estimatedSize();
+    }
+
+    /**
+     * Shuts down every cached client and the clients still waiting for their grace period.
+     */
+    public void close() {
+        clients.invalidateAll();
+        clients.cleanUp();
+        for (Runnable pendingShutdown : shutdownExecutor.shutdownNow()) {
+            pendingShutdown.run();
+        }
+    }
+
+    private void onRemoval(AwsClientCacheKey key, Object client, RemovalCause cause) {
+        if (client != null) {
+            LOGGER.debug("AWS client {} is removed from the cache ({}), shutting it down in {}", key, cause, shutdownGracePeriod);
+            if (shutdownExecutor.isShutdown() || cause == RemovalCause.EXPLICIT) {
+                shutdown(key, client);
+            } else {
+                shutdownExecutor.schedule(() -> shutdown(key, client), shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void shutdown(AwsClientCacheKey key, Object client) {
+        try {
+            clientShutdown.accept(client);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to shut down AWS client {}", key, e);
+        }
+    }
+}
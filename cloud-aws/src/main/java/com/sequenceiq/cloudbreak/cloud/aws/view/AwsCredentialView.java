@@ -101,7 +101,7 @@ public class AwsCredentialView {
     }
 
     public String getCredentialCrn() {
-        return cloudCredential.getId();
+        return cloudCredential == null ? null : cloudCredential.getId();
     }
 
     public String getDefaultRegion() {
@@ -0,0 +1,81 @@
+package com.sequenceiq.cloudbreak.cloud.aws.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.sequenceiq.cloudbreak.cloud.aws.view.AwsCredentialView;
+import com.sequenceiq.cloudbreak.cloud.model.CloudCredential;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AwsSdkClientCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<Object> shutDownClients = Collections.synchronizedList(new ArrayList<>());
+
+    private final AwsSdkClientCache underTest = new AwsSdkClientCache(2L, Duration.ofHours(1L), Duration.ofHours(1L), shutDownClients::add, meterRegistry);
+
+    @AfterEach
+    public void tearDown() {
+        underTest.close();
+    }
+
+    @Test
+    public void testClientIsReusedForTheSameCredentialRegionAndType() {
+        AwsCredentialView credential = credential("crn", "role");
+        Object first = underTest.get(AwsClientCacheKey.of("ec2", credential, "eu-west-1"), Object::new);
+        Object second = underTest.get(AwsClientCacheKey.of("ec2", credential("crn", "role"), "eu-west-1"), Object::new);
+        Object otherRegion = underTest.get(AwsClientCacheKey.of("ec2", credential, "us-east-1"), Object::new);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, otherRegion);
+        Assertions.assertEquals(2.0, meterRegistry.get("aws.client.cache").tag("type", "ec2").tag("result", "created").counter().count());
+        Assertions.assertEquals(1.0, meterRegistry.get("aws.client.cache").tag("type", "ec2").tag("result", "avoided").counter().count());
+    }
+
+    @Test
+    public void testChangedCredentialGetsNewClient() {
+        Object first = underTest.get(AwsClientCacheKey.of("s3", credential("crn", "role"), "eu-west-1"), Object::new);
+        Object second = underTest.get(AwsClientCacheKey.of("s3", credential("crn", "other-role"), "eu-west-1"), Object::new);
+
+        Assertions.assertNotSame(first, second);
+    }
+
+    @Test
+    public void testEvictedAndClosedClientsAreShutDown() {
+        Object first = underTest.get(AwsClientCacheKey.of("ec2", credential("crn1", "role"), "eu-west-1"), Object::new);
+        Object second = underTest.get(AwsClientCacheKey.of("ec2", credential("crn2", "role"), "eu-west-1"), Object::new);
+        Object third = underTest.get(AwsClientCacheKey.of("ec2", credential("crn3", "role"), "eu-west-1"), Object::new);
+
+        Assertions.assertEquals(2L, underTest.size());
+        underTest.close();
+
+        Assertions.assertEquals(3, shutDownClients.size());
+        Assertions.assertTrue(shutDownClients.containsAll(List.of(first, second, third)));
+    }
+
+    @Test
+    public void testFailedClientCreationIsNotCached() {
+        AwsClientCacheKey key = AwsClientCacheKey.of("iam", credential("crn", "role"), "eu-west-1");
+
+        Assertions.assertThrows(IllegalStateException.class, () -> underTest.get(key, () -> {
+            throw new IllegalStateException("missing keys");
+        }));
+        Object client = underTest.get(key, Object::new);
+
+        Assertions.assertNotNull(client);
+        Assertions.assertEquals(1L, underTest.size());
+    }
+
+    private AwsCredentialView credential(String crn, String roleArn) {
+        return new AwsCredentialView(new CloudCredential(crn, "name", Map.of("roleArn", roleArn), false));
+    }
+}
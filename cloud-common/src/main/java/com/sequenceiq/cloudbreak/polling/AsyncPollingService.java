@@ -0,0 +1,252 @@
+package com.sequenceiq.cloudbreak.polling;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Non-blocking counterpart of {@link PollingService}. The same {@link StatusCheckerTask} contract is used, but instead of
+ * parking the caller thread between attempts, every attempt is scheduled on a shared scheduler and the outcome is
+ * delivered through a {@link CompletableFuture}. A handful of scheduler threads can drive thousands of in-flight polls.
+ */
+@Component
+public class AsyncPollingService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncPollingService.class);
+
+    private static final String ACTIVE_POLLS_METRIC = "polling.async.active";
+
+    private static final String ATTEMPTS_METRIC = "polling.async.attempts";
+
+    private static final String SCHEDULER_LAG_METRIC = "polling.async.scheduler.lag";
+
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicInteger activePolls;
+
+    private final DistributionSummary attemptsPerPoll;
+
+    private final Timer schedulerLag;
+
+    @Autowired
+    public AsyncPollingService(@Value("${cb.polling.async.scheduler.pool.size:4}") int schedulerPoolSize) {
+        this(createScheduler(schedulerPoolSize), Metrics.globalRegistry);
+    }
+
+    AsyncPollingService(ScheduledExecutorService scheduler, MeterRegistry meterRegistry) {
+        this.scheduler = scheduler;
+        activePolls = meterRegistry.gauge(ACTIVE_POLLS_METRIC, new AtomicInteger());
+        attemptsPerPoll = DistributionSummary.builder(ATTEMPTS_METRIC)
+                .description("Number of status check attempts of a finished asynchronous poll")
+                .register(meterRegistry);
+        schedulerLag = Timer.builder(SCHEDULER_LAG_METRIC)
+                .description("Delay between the planned and the actual start of a polling attempt")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Asynchronous version of {@link PollingService#pollWithTimeout(StatusCheckerTask, Object, long, int, int)}.
+     *
+     * @param interval    waits this many milliseconds between status checking attempts
+     * @param maxAttempts signals how many times will the status check be executed before timeout
+     */
+    public <T> CompletableFuture<Pair<PollingResult, Exception>> pollWithTimeout(StatusCheckerTask<T> statusCheckerTask, T t, long interval,
+            int maxAttempts, int maxConsecutiveFailures) {
+        return pollWithTimeout(statusCheckerTask, t, interval, new AttemptBasedTimeoutChecker(maxAttempts), maxConsecutiveFailures);
+    }
+
+    public <T> CompletableFuture<Pair<PollingResult, Exception>> pollWithAbsoluteTimeout(StatusCheckerTask<T> statusCheckerTask, T t, long interval,
+            long maximumWaitTimeInSeconds, int maxConsecutiveFailures) {
+        return pollWithTimeout(statusCheckerTask, t, interval, new AbsolutTimeBasedTimeoutChecker(maximumWaitTimeInSeconds), maxConsecutiveFailures);
+    }
+
+    /**
+     * Starts polling and returns immediately. The returned future completes with the same result the blocking
+     * {@link PollingService} would return, or exceptionally if {@link StatusCheckerTask#handleException(Exception)} or
+     * {@link StatusCheckerTask#handleTimeout(Object)} throws. Cancelling the future stops the polling after the attempt in progress.
+     */
+    public <T> CompletableFuture<Pair<PollingResult, Exception>> pollWithTimeout(StatusCheckerTask<T> statusCheckerTask, T t, long interval,
+            TimeoutChecker timeoutChecker, int maxConsecutiveFailures) {
+        Poll<T> poll = new Poll<>(statusCheckerTask, t, interval, timeoutChecker, maxConsecutiveFailures, MDC.getCopyOfContextMap());
+        activePolls.incrementAndGet();
+        schedule(poll, 0L, poll::start);
+        return poll.result;
+    }
+
+    public <T> CompletableFuture<PollingResult> pollWithAbsoluteTimeoutSingleFailure(StatusCheckerTask<T> statusCheckerTask, T t, int interval,
+            long maximumWaitTimeInSeconds) {
+        return pollWithAbsoluteTimeout(statusCheckerTask, t, interval, maximumWaitTimeInSeconds, 1).thenApply(Pair::getLeft);
+    }
+
+    public <T> CompletableFuture<PollingResult> pollWithAttemptSingleFailure(StatusCheckerTask<T> statusCheckerTask, T t, int interval, int maxAttempts) {
+        return pollWithTimeout(statusCheckerTask, t, interval, maxAttempts, 1).thenApply(Pair::getLeft);
+    }
+
+    public int getActivePolls() {
+        return activePolls.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        LOGGER.debug("Shutting down async polling scheduler with {} active polls.", activePolls.get());
+        scheduler.shutdownNow();
+    }
+
+    private <T> void schedule(Poll<T> poll, long delay, Runnable step) {
+        long plannedStart = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+        try {
+            scheduler.schedule(() -> {
+                schedulerLag.record(System.nanoTime() - plannedStart, TimeUnit.NANOSECONDS);
+                poll.runWithMdc(step);
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Async polling attempt could not be scheduled.", e);
+            poll.fail(e);
+        }
+    }
+
+    private static ScheduledExecutorService createScheduler(int poolSize) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(poolSize,
+                new ThreadFactoryBuilder().setNameFormat("async-polling-%d").setDaemon(true).build());
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private final class Poll<T> {
+
+        private final CompletableFuture<Pair<PollingResult, Exception>> result = new CompletableFuture<>();
+
+        private final StatusCheckerTask<T> statusCheckerTask;
+
+        private final T t;
+
+        private final long interval;
+
+        private final TimeoutChecker timeoutChecker;
+
+        private final int maxConsecutiveFailures;
+
+        private final Map<String, String> mdcContext;
+
+        private volatile int attempts;
+
+        private int consecutiveFailures;
+
+        private Exception actual;
+
+        private Poll(StatusCheckerTask<T> statusCheckerTask, T t, long interval, TimeoutChecker timeoutChecker, int maxConsecutiveFailures,
+                Map<String, String> mdcContext) {
+            this.statusCheckerTask = statusCheckerTask;
+            this.t = t;
+            this.interval = interval;
+            this.timeoutChecker = timeoutChecker;
+            this.maxConsecutiveFailures = maxConsecutiveFailures;
+            this.mdcContext = mdcContext;
+        }
+
+        private void start() {
+            if (statusCheckerTask.initialExitCheck(t) && statusCheckerTask.exitPolling(t)) {
+                exit();
+            } else {
+                attempt();
+            }
+        }
+
+        private void attempt() {
+            LOGGER.debug("Async polling attempt {}.", attempts);
+            boolean success = false;
+            try {
+                success = statusCheckerTask.checkStatus(t);
+                consecutiveFailures = 0;
+            } catch (Exception ex) {
+                consecutiveFailures++;
+                actual = ex;
+                LOGGER.debug("Exception occurred in the polling: {}. Number of consecutive failures: [{}/{}]",
+                        ex.getMessage(), consecutiveFailures, maxConsecutiveFailures, ex);
+            }
+            if (consecutiveFailures >= maxConsecutiveFailures) {
+                LOGGER.debug("Polling failure reached the limit which was {}, poller will drop the last exception.", maxConsecutiveFailures);
+                statusCheckerTask.handleException(actual);
+                finish(new ImmutablePair<>(PollingResult.FAILURE, actual));
+            } else if (success) {
+                LOGGER.debug(statusCheckerTask.successMessage(t));
+                finish(new ImmutablePair<>(PollingResult.SUCCESS, actual));
+            } else {
+                schedule(this, interval, this::afterInterval);
+            }
+        }
+
+        private void afterInterval() {
+            attempts++;
+            if (timeoutChecker.checkTimeout()) {
+                LOGGER.debug("Async poller timeout.");
+                statusCheckerTask.handleTimeout(t);
+                finish(new ImmutablePair<>(PollingResult.TIMEOUT, actual));
+            } else if (statusCheckerTask.exitPolling(t)) {
+                exit();
+            } else {
+                attempt();
+            }
+        }
+
+        private void exit() {
+            LOGGER.debug("Async poller exiting.");
+            finish(new ImmutablePair<>(PollingResult.EXIT, actual));
+        }
+
+        private void finish(Pair<PollingResult, Exception> pollingResult) {
+            recordCompletion();
+            result.complete(pollingResult);
+        }
+
+        private void fail(Throwable throwable) {
+            recordCompletion();
+            result.completeExceptionally(throwable);
+        }
+
+        private void recordCompletion() {
+            activePolls.decrementAndGet();
+            attemptsPerPoll.record(attempts);
+        }
+
+        private void runWithMdc(Runnable step) {
+            if (result.isDone()) {
+                LOGGER.debug("Async poll was cancelled, skipping further attempts.");
+                recordCompletion();
+                return;
+            }
+            if (mdcContext != null) {
+                MDC.setContextMap(mdcContext);
+            }
+            try {
+                step.run();
+            } catch (RuntimeException e) {
+                fail(e);
+            } finally {
+                MDC.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.sequenceiq.cloudbreak.polling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sequenceiq.cloudbreak.common.exception.CloudbreakServiceException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AsyncPollingServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 10L;
+
+    private MeterRegistry meterRegistry;
+
+    private ScheduledExecutorService scheduler;
+
+    private AsyncPollingService underTest;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        underTest = new AsyncPollingService(scheduler, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void testSuccessAfterAttempts() throws Exception {
+        CountingTask task = new CountingTask(3, false);
+
+        Pair<PollingResult, Exception> result = underTest.pollWithTimeout(task, null, 1L, 10, 1).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(PollingResult.SUCCESS, result.getLeft());
+        assertEquals(3, task.checks.get());
+        assertEquals(0, underTest.getActivePolls());
+        assertEquals(1L, meterRegistry.get("polling.async.attempts").summary().count());
+    }
+
+    @Test
+    void testTimeout() throws Exception {
+        CountingTask task = new CountingTask(Integer.MAX_VALUE, false);
+
+        PollingResult result = underTest.pollWithAttemptSingleFailure(task, null, 1, 3).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(PollingResult.TIMEOUT, result);
+        assertEquals(3, task.checks.get());
+        assertEquals(1, task.timeouts.get());
+    }
+
+    @Test
+    void testExitBeforeFirstAttempt() throws Exception {
+        CountingTask task = new CountingTask(1, true);
+
+        PollingResult result = underTest.pollWithAttemptSingleFailure(task, null, 1, 3).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(PollingResult.EXIT, result);
+        assertEquals(0, task.checks.get());
+    }
+
+    @Test
+    void testFailureIsPropagatedThroughHandleException() {
+        SimpleStatusCheckerTask<Object> task = new SimpleStatusCheckerTask<>() {
+            @Override
+            public boolean checkStatus(Object o) {
+                throw new IllegalStateException("failed");
+            }
+
+            @Override
+            public void handleTimeout(Object o) {
+            }
+
+            @Override
+            public String successMessage(Object o) {
+                return "success";
+            }
+
+            @Override
+            public boolean exitPolling(Object o) {
+                return false;
+            }
+        };
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> underTest.pollWithTimeout(task, null, 1L, 10, 2).get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertEquals(CloudbreakServiceException.class, exception.getCause().getClass());
+        assertEquals(0, underTest.getActivePolls());
+    }
+
+    private static class CountingTask implements StatusCheckerTask<Object> {
+
+        private final AtomicInteger checks = new AtomicInteger();
+
+        private final AtomicInteger timeouts = new AtomicInteger();
+
+        private final int successAfter;
+
+        private final boolean exit;
+
+        CountingTask(int successAfter, boolean exit) {
+            this.successAfter = successAfter;
+            this.exit = exit;
+        }
+
+        @Override
+        public boolean checkStatus(Object o) {
+            return checks.incrementAndGet() >= successAfter;
+        }
+
+        @Override
+        public void handleTimeout(Object o) {
+            timeouts.incrementAndGet();
+        }
+
+        @Override
+        public String successMessage(Object o) {
+            return "success";
+        }
+
+        @Override
+        public boolean exitPolling(Object o) {
+            return exit;
+        }
+
+        @Override
+        public void handleException(Exception e) {
+        }
+    }
+}
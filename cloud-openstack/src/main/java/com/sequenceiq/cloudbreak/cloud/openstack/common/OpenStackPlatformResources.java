@@ -207,7 +207,7 @@ public class OpenStackPlatformResources implements PlatformResources {
     }
 
     @Override
-    @Cacheable(cacheNames = "cloudResourceRegionCache", key = "{ #cloudCredential?.id, #availabilityZonesNeeded }")
+    @Cacheable(cacheNames = "cloudResourceRegionCache", key = "{ #cloudCredential?.id, #availabilityZonesNeeded }", sync = true)
     public CloudRegions regions(CloudCredential cloudCredential, Region region, Map<String, String> filters, boolean availabilityZonesNeeded) {
         Set<String> regionsFromOpenStack = openStackClient.getRegion(cloudCredential);
         OSClient<?> osClient = openStackClient.createOSClient(cloudCredential);
@@ -232,7 +232,7 @@ public class OpenStackPlatformResources implements PlatformResources {
     }
 
     @Override
-    @Cacheable(cacheNames = "cloudResourceVmTypeCache", key = "#cloudCredential?.id + #region.getRegionName()")
+    @Cacheable(cacheNames = "cloudResourceVmTypeCache", key = "#cloudCredential?.id + #region.getRegionName()", sync = true)
     public CloudVmTypes virtualMachines(CloudCredential cloudCredential, Region region, Map<String, String> filters) {
         OSClient<?> osClient = openStackClient.createOSClient(cloudCredential);
         Map<String, Set<VmType>> cloudVmResponses = new HashMap<>();
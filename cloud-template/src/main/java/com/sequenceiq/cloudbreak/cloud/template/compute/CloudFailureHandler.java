@@ -135,9 +135,10 @@ public class CloudFailureHandler {
             for (int i = compute.size() - 1; i >= 0; i--) {
                 for (CloudResourceStatus cloudResourceStatus : statuses) {
                     try {
-                        if (compute.get(i).resourceType().equals(cloudResourceStatus.getCloudResource().getType())) {
+                        CloudResource cloudResource = cloudResourceStatus.getCloudResource();
+                        if (cloudResource != null && compute.get(i).resourceType().equals(cloudResource.getType())) {
                             ResourceDeletionCallablePayload payload = new ResourceDeletionCallablePayload(
-                                    ctx, auth, cloudResourceStatus.getCloudResource(), compute.get(i), false);
+                                    ctx, auth, cloudResource, compute.get(i), false);
                             ResourceDeletionCallable deletionCallable = resourceActionFactory.buildDeletionCallable(payload);
                             Future<ResourceRequestResult<List<CloudResourceStatus>>> future = resourceBuilderExecutor.submit(deletionCallable);
                             futures.add(future);
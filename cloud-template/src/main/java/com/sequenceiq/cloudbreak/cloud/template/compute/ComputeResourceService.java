@@ -4,14 +4,19 @@ import static com.sequenceiq.cloudbreak.cloud.scheduler.PollGroup.CANCELLED;
 import static com.sequenceiq.cloudbreak.cloud.template.compute.CloudFailureHandler.ScaleContext;
 import static java.lang.String.format;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -264,46 +269,148 @@ public class ComputeResourceService {
             this.auth = auth;
         }
 
+        /**
+         * Builds the groups concurrently. The creation chunks of the groups are taken in turns, so the instances of a big group do not
+         * hold back the smaller ones, and at most {@link ResourceBuilderContext#getParallelResourceRequest()} chunks run at a time, a new
+         * one is submitted whenever a running chunk has finished. The created instances of a chunk are polled on the calling thread, and
+         * the failure handling of a group runs once its last chunk has been polled, regardless of the other groups.
+         */
         public List<CloudResourceStatus> buildResources(CloudStack cloudStack, Iterable<Group> groups,
                 Boolean upscale, AdjustmentType adjustmentType, Long threshold) {
             List<CloudResourceStatus> results = new ArrayList<>();
-            Collection<Future<ResourceRequestResult<List<CloudResourceStatus>>>> futures = new ArrayList<>();
-            for (Group group : getOrderedCopy(groups)) {
-                List<CloudInstance> instances = group.getInstances();
+            CompletionService<ResourceRequestResult<List<CloudResourceStatus>>> completionService = new ExecutorCompletionService<>(resourceBuilderExecutor);
+            Map<Future<ResourceRequestResult<List<CloudResourceStatus>>>, ChunkRequest> runningChunks = new HashMap<>();
+            Deque<ChunkRequest> pendingChunks = new ArrayDeque<>(createChunkRequests(groups));
+            int budget = Math.max(1, ctx.getParallelResourceRequest());
+            LOGGER.debug("Submit {} creation chunks, at most {} at a time", pendingChunks.size(), budget);
+            try {
+                while (!pendingChunks.isEmpty() || !runningChunks.isEmpty()) {
+                    while (!pendingChunks.isEmpty() && runningChunks.size() < budget) {
+                        ChunkRequest chunkRequest = pendingChunks.poll();
+                        runningChunks.put(submit(completionService, chunkRequest, cloudStack), chunkRequest);
+                    }
+                    Future<ResourceRequestResult<List<CloudResourceStatus>>> completed = takeCompleted(completionService);
+                    ChunkRequest chunkRequest = runningChunks.remove(completed);
+                    List<CloudResourceStatus> chunkResourceStatuses = getChunkResourceStatuses(completed, chunkRequest);
+                    GroupCreation groupCreation = chunkRequest.getGroupCreation();
+                    groupCreation.chunkFinished(waitForResourceCreations(List.of(chunkResourceStatuses)));
+                    if (groupCreation.isFinished()) {
+                        results.addAll(finishGroup(groupCreation, groups, upscale, adjustmentType, threshold));
+                    }
+                }
+            } catch (RuntimeException e) {
+                drainRunningChunks(completionService, runningChunks);
+                throw e;
+            }
+            return results;
+        }
 
-                LOGGER.debug("Split the instances to {} chunks to execute the operation in parallel", createBatchSize);
+        private List<ChunkRequest> createChunkRequests(Iterable<Group> groups) {
+            List<Deque<ChunkRequest>> chunksOfGroups = new ArrayList<>();
+            for (Group group : getOrderedCopy(groups)) {
+                if (group.getInstances().isEmpty()) {
+                    LOGGER.debug("Group {} has no instances to create", group.getName());
+                    continue;
+                }
+                LOGGER.debug("Split the instances of group {} to {} chunks to execute the operation in parallel", group.getName(), createBatchSize);
                 AtomicInteger counter = new AtomicInteger();
-                Collection<List<CloudInstance>> instancesChunks = instances.stream()
+                Collection<List<CloudInstance>> instancesChunks = group.getInstances().stream()
                         .collect(Collectors.groupingBy(it -> counter.getAndIncrement() / createBatchSize)).values();
+                GroupCreation groupCreation = new GroupCreation(group, instancesChunks.size());
+                chunksOfGroups.add(instancesChunks.stream()
+                        .map(instancesChunk -> new ChunkRequest(groupCreation, instancesChunk))
+                        .collect(Collectors.toCollection(ArrayDeque::new)));
+            }
+            List<ChunkRequest> interleaved = new ArrayList<>();
+            while (chunksOfGroups.stream().anyMatch(chunks -> !chunks.isEmpty())) {
+                chunksOfGroups.stream().filter(chunks -> !chunks.isEmpty()).forEach(chunks -> interleaved.add(chunks.poll()));
+            }
+            return interleaved;
+        }
 
-                for (List<CloudInstance> instancesChunk : instancesChunks) {
-                    LOGGER.debug("Submit the create operation thread with {} instances", instancesChunk.size());
-                    ResourceCreationCallablePayload creationCallablePayload = new ResourceCreationCallablePayload(instancesChunk, group, ctx, auth, cloudStack);
-                    ResourceCreationCallable creationCallable = resourceActionFactory.buildCreationCallable(creationCallablePayload);
-                    Future<ResourceRequestResult<List<CloudResourceStatus>>> future = resourceBuilderExecutor.submit(creationCallable);
-                    futures.add(future);
+        private Future<ResourceRequestResult<List<CloudResourceStatus>>> submit(
+                CompletionService<ResourceRequestResult<List<CloudResourceStatus>>> completionService, ChunkRequest chunkRequest, CloudStack cloudStack) {
+            Group group = chunkRequest.getGroupCreation().getGroup();
+            LOGGER.debug("Submit the create operation thread with {} instances of group {}", chunkRequest.getInstances().size(), group.getName());
+            ResourceCreationCallablePayload creationCallablePayload
+                    = new ResourceCreationCallablePayload(chunkRequest.getInstances(), group, ctx, auth, cloudStack);
+            ResourceCreationCallable creationCallable = resourceActionFactory.buildCreationCallable(creationCallablePayload);
+            return completionService.submit(creationCallable);
+        }
+
+        private Future<ResourceRequestResult<List<CloudResourceStatus>>> takeCompleted(
+                CompletionService<ResourceRequestResult<List<CloudResourceStatus>>> completionService) {
+            try {
+                return completionService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException(format("Building of %s has been interrupted", auth.getCloudContext().getName()));
+            }
+        }
+
+        /**
+         * The instances of a chunk whose creation thread has failed are reported as failed, so they count against the failure threshold
+         * of their group.
+         */
+        private List<CloudResourceStatus> getChunkResourceStatuses(Future<ResourceRequestResult<List<CloudResourceStatus>>> completed,
+                ChunkRequest chunkRequest) {
+            try {
+                ResourceRequestResult<List<CloudResourceStatus>> creationResult = completed.get();
+                return FutureResult.SUCCESS == creationResult.getStatus() ? creationResult.getResult() : new ArrayList<>();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException(format("Building of %s has been interrupted", auth.getCloudContext().getName()));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CancellationException) {
+                    throw (CancellationException) e.getCause();
                 }
+                LOGGER.error("Failed to execute the request", e);
+                String statusReason = format("Failed to create the resources of the instances of group %s: %s",
+                        chunkRequest.getGroupCreation().getGroup().getName(), e.getCause().getMessage());
+                return chunkRequest.getInstances().stream()
+                        .map(instance -> new CloudResourceStatus(null, ResourceStatus.FAILED, statusReason, instance.getTemplate().getPrivateId()))
+                        .collect(Collectors.toList());
+            }
+        }
 
-                if (!futures.isEmpty()) {
-                    LOGGER.debug("Wait for all {} creation threads to finish", futures.size());
-                    List<List<CloudResourceStatus>> cloudResourceStatusChunks = waitForRequests(futures).get(FutureResult.SUCCESS);
-                    List<CloudResourceStatus> resourceStatuses = waitForResourceCreations(cloudResourceStatusChunks);
-                    List<CloudResourceStatus> failedResources = filterResourceStatuses(resourceStatuses, ResourceStatus.FAILED);
-                    CloudFailureContext cloudFailureContext = new CloudFailureContext(auth, new ScaleContext(upscale, adjustmentType, threshold), ctx);
-                    cloudFailureHandler.rollbackIfNecessary(cloudFailureContext, failedResources, resourceStatuses, group, resourceBuilders,
-                            getFullNodeCount(groups)
-                    );
-                    results.addAll(filterResourceStatuses(resourceStatuses, ResourceStatus.CREATED));
+        private void drainRunningChunks(CompletionService<ResourceRequestResult<List<CloudResourceStatus>>> completionService,
+                Map<Future<ResourceRequestResult<List<CloudResourceStatus>>>, ChunkRequest> runningChunks) {
+            LOGGER.debug("Group creation failed, wait for the {} running creation chunks to finish before failing", runningChunks.size());
+            while (!runningChunks.isEmpty()) {
+                try {
+                    Future<ResourceRequestResult<List<CloudResourceStatus>>> completed = takeCompleted(completionService);
+                    ChunkRequest chunkRequest = runningChunks.remove(completed);
+                    GroupCreation groupCreation = chunkRequest.getGroupCreation();
+                    groupCreation.chunkFinished(getChunkResourceStatuses(completed, chunkRequest));
+                    LOGGER.info("Creation chunk of group {} has finished after the build had failed, resource statuses of the group so far: {}",
+                            groupCreation.getGroup().getName(), groupCreation.getResourceStatuses());
+                } catch (CancellationException chunkFailure) {
+                    LOGGER.debug("Creation chunk has been cancelled after the build had failed", chunkFailure);
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
                 }
             }
-            return results;
+        }
+
+        private List<CloudResourceStatus> finishGroup(GroupCreation groupCreation, Iterable<Group> groups, Boolean upscale,
+                AdjustmentType adjustmentType, Long threshold) {
+            Group group = groupCreation.getGroup();
+            List<CloudResourceStatus> resourceStatuses = groupCreation.getResourceStatuses();
+            LOGGER.debug("All creation threads of group {} have finished", group.getName());
+            List<CloudResourceStatus> failedResources = filterResourceStatuses(resourceStatuses, ResourceStatus.FAILED);
+            CloudFailureContext cloudFailureContext = new CloudFailureContext(auth, new ScaleContext(upscale, adjustmentType, threshold), ctx);
+            cloudFailureHandler.rollbackIfNecessary(cloudFailureContext, failedResources, resourceStatuses, group, resourceBuilders,
+                    getFullNodeCount(groups)
+            );
+            return filterResourceStatuses(resourceStatuses, ResourceStatus.CREATED);
         }
 
         private List<CloudResourceStatus> waitForResourceCreations(List<List<CloudResourceStatus>> cloudResourceStatusChunks) {
             List<CloudResourceStatus> result = new ArrayList<>();
             for (List<CloudResourceStatus> cloudResourceStatuses : cloudResourceStatusChunks) {
                 List<CloudResourceStatus> instanceResourceStatuses = cloudResourceStatuses.stream()
-                        .filter(crs -> ResourceType.isInstanceResource(crs.getCloudResource().getType()))
+                        .filter(crs -> crs.getCloudResource() != null && ResourceType.isInstanceResource(crs.getCloudResource().getType()))
                         .filter(crs -> ResourceStatus.IN_PROGRESS.equals(crs.getStatus())).collect(Collectors.toList());
                 if (!instanceResourceStatuses.isEmpty()) {
                     LOGGER.debug("Poll {} instance's state whether they have reached the created state", instanceResourceStatuses.size());
@@ -362,4 +469,55 @@ public class ComputeResourceService {
             return byLengthOrdering.sortedCopy(groups);
         }
     }
+
+    private static class GroupCreation {
+
+        private final Group group;
+
+        private final List<CloudResourceStatus> resourceStatuses = new ArrayList<>();
+
+        private int remainingChunks;
+
+        GroupCreation(Group group, int chunks) {
+            this.group = group;
+            remainingChunks = chunks;
+        }
+
+        void chunkFinished(List<CloudResourceStatus> chunkResourceStatuses) {
+            resourceStatuses.addAll(chunkResourceStatuses);
+            remainingChunks--;
+        }
+
+        boolean isFinished() {
+            return remainingChunks == 0;
+        }
+
+        Group getGroup() {
+            return group;
+        }
+
+        List<CloudResourceStatus> getResourceStatuses() {
+            return resourceStatuses;
+        }
+    }
+
+    private static class ChunkRequest {
+
+        private final GroupCreation groupCreation;
+
+        private final List<CloudInstance> instances;
+
+        ChunkRequest(GroupCreation groupCreation, List<CloudInstance> instances) {
+            this.groupCreation = groupCreation;
+            this.instances = instances;
+        }
+
+        GroupCreation getGroupCreation() {
+            return groupCreation;
+        }
+
+        List<CloudInstance> getInstances() {
+            return instances;
+        }
+    }
 }
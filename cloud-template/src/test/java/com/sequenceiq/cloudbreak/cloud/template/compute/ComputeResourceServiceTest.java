@@ -0,0 +1,301 @@
+package com.sequenceiq.cloudbreak.cloud.template.compute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.cloud.context.AuthenticatedContext;
+import com.sequenceiq.cloudbreak.cloud.context.CloudContext;
+import com.sequenceiq.cloudbreak.cloud.exception.RolledbackResourcesException;
+import com.sequenceiq.cloudbreak.cloud.model.CloudCredential;
+import com.sequenceiq.cloudbreak.cloud.model.CloudInstance;
+import com.sequenceiq.cloudbreak.cloud.model.CloudResource;
+import com.sequenceiq.cloudbreak.cloud.model.CloudResourceStatus;
+import com.sequenceiq.cloudbreak.cloud.model.CloudStack;
+import com.sequenceiq.cloudbreak.cloud.model.CloudVmInstanceStatus;
+import com.sequenceiq.cloudbreak.cloud.model.Group;
+import com.sequenceiq.cloudbreak.cloud.model.InstanceStatus;
+import com.sequenceiq.cloudbreak.cloud.model.InstanceTemplate;
+import com.sequenceiq.cloudbreak.cloud.model.ResourceStatus;
+import com.sequenceiq.cloudbreak.cloud.scheduler.PollGroup;
+import com.sequenceiq.cloudbreak.cloud.scheduler.SyncPollingScheduler;
+import com.sequenceiq.cloudbreak.cloud.store.InMemoryStateStore;
+import com.sequenceiq.cloudbreak.cloud.task.PollTask;
+import com.sequenceiq.cloudbreak.cloud.template.ComputeResourceBuilder;
+import com.sequenceiq.cloudbreak.cloud.template.context.ResourceBuilderContext;
+import com.sequenceiq.cloudbreak.cloud.template.init.ResourceBuilders;
+import com.sequenceiq.cloudbreak.cloud.template.task.ResourcePollTaskFactory;
+import com.sequenceiq.common.api.type.AdjustmentType;
+import com.sequenceiq.common.api.type.InstanceGroupType;
+import com.sequenceiq.common.api.type.ResourceType;
+
+@ExtendWith(MockitoExtension.class)
+class ComputeResourceServiceTest {
+
+    private static final Long STACK_ID = 1L;
+
+    private static final int CREATE_BATCH_SIZE = 2;
+
+    private static final long CHUNK_CREATION_MILLIS = 100L;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+    private final ConcurrentTaskExecutor resourceBuilderExecutor = new ConcurrentTaskExecutor(executorService);
+
+    @Mock
+    private ResourceBuilders resourceBuilders;
+
+    @Mock
+    private ResourceActionFactory resourceActionFactory;
+
+    @Mock
+    private ResourcePollTaskFactory resourcePollTaskFactory;
+
+    @Mock
+    private SyncPollingScheduler<List<CloudVmInstanceStatus>> syncVMPollingScheduler;
+
+    @Mock
+    private SyncPollingScheduler<List<CloudResourceStatus>> syncPollingScheduler;
+
+    @Mock
+    private ComputeResourceBuilder<ResourceBuilderContext> computeResourceBuilder;
+
+    @Mock
+    private CloudStack cloudStack;
+
+    @Spy
+    private CloudFailureHandler cloudFailureHandler = new CloudFailureHandler();
+
+    @InjectMocks
+    private ComputeResourceService underTest;
+
+    private final ResourceBuilderContext ctx = new ResourceBuilderContext("stack", null, 1);
+
+    private final AuthenticatedContext auth = new AuthenticatedContext(CloudContext.Builder.builder()
+            .withId(STACK_ID)
+            .withName("stack")
+            .withPlatform("MOCK")
+            .build(), new CloudCredential());
+
+    private final Set<Long> failingPrivateIds = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "createBatchSize", CREATE_BATCH_SIZE);
+        ReflectionTestUtils.setField(underTest, "resourceBuilderExecutor", resourceBuilderExecutor);
+        ReflectionTestUtils.setField(cloudFailureHandler, "resourceBuilderExecutor", resourceBuilderExecutor);
+        ReflectionTestUtils.setField(cloudFailureHandler, "resourceActionFactory", resourceActionFactory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        InMemoryStateStore.deleteStack(STACK_ID);
+    }
+
+    @Test
+    void testCreatedResourcesOfEveryGroupAreReturned() {
+        Group master = createGroup("master", 0L, 1);
+        Group worker = createGroup("worker", 10L, 3);
+        when(cloudStack.getGroups()).thenReturn(List.of(worker, master));
+        mockCreation();
+
+        List<CloudResourceStatus> result = underTest.buildResourcesForLaunch(ctx, auth, cloudStack, AdjustmentType.EXACT, 4L);
+
+        assertEquals(Set.of(0L, 10L, 11L, 12L), result.stream().map(CloudResourceStatus::getPrivateId).collect(Collectors.toSet()));
+        verify(resourceActionFactory, times(3)).buildCreationCallable(any());
+        verify(cloudFailureHandler).rollbackIfNecessary(any(), eq(List.of()), anyList(), eq(master), eq(resourceBuilders), eq(4));
+        verify(cloudFailureHandler).rollbackIfNecessary(any(), eq(List.of()), anyList(), eq(worker), eq(resourceBuilders), eq(4));
+    }
+
+    @Test
+    void testGroupWithoutInstancesIsSkipped() {
+        Group empty = createGroup("empty", 0L, 0);
+        Group worker = createGroup("worker", 10L, 2);
+        when(cloudStack.getGroups()).thenReturn(List.of(empty, worker));
+        mockCreation();
+
+        List<CloudResourceStatus> result = underTest.buildResourcesForLaunch(ctx, auth, cloudStack, AdjustmentType.EXACT, 2L);
+
+        assertEquals(2, result.size());
+        verify(resourceActionFactory, times(1)).buildCreationCallable(any());
+        verify(cloudFailureHandler).rollbackIfNecessary(any(), anyList(), anyList(), eq(worker), any(), anyInt());
+        verify(cloudFailureHandler, never()).rollbackIfNecessary(any(), anyList(), anyList(), eq(empty), any(), anyInt());
+    }
+
+    @Test
+    void testFailedInstanceWithinTheThresholdIsRolledBackAndTheOthersAreReturned() {
+        Group worker = createGroup("worker", 10L, 4);
+        failingPrivateIds.add(11L);
+        mockCreation();
+        mockDeletion();
+
+        List<CloudResourceStatus> result = underTest.buildResourcesForUpscale(ctx, auth, cloudStack, List.of(worker), AdjustmentType.EXACT, 3L);
+
+        assertEquals(Set.of(10L, 12L, 13L), result.stream().map(CloudResourceStatus::getPrivateId).collect(Collectors.toSet()));
+        verify(resourceActionFactory, times(1)).buildDeletionCallable(any());
+    }
+
+    @Test
+    void testFailedInstanceOverTheThresholdRollsBackTheWholeGroup() {
+        Group worker = createGroup("worker", 10L, 4);
+        failingPrivateIds.add(11L);
+        mockCreation();
+        mockDeletion();
+
+        assertThrows(RolledbackResourcesException.class,
+                () -> underTest.buildResourcesForUpscale(ctx, auth, cloudStack, List.of(worker), AdjustmentType.EXACT, 4L));
+
+        verify(resourceActionFactory, times(4)).buildDeletionCallable(any());
+    }
+
+    @Test
+    void testFailedCreationThreadCountsAgainstTheThreshold() {
+        ReflectionTestUtils.setField(underTest, "createBatchSize", 1);
+        Group worker = createGroup("worker", 10L, 2);
+        when(resourceActionFactory.buildCreationCallable(any())).thenAnswer(invocation -> {
+            ResourceCreationCallablePayload payload = invocation.getArgument(0);
+            ResourceCreationCallable creationCallable = mock(ResourceCreationCallable.class);
+            if (payload.getInstances().get(0).getTemplate().getPrivateId().equals(11L)) {
+                when(creationCallable.call()).thenThrow(new IllegalStateException("creation thread failed"));
+            } else {
+                when(creationCallable.call()).thenReturn(createResult(payload.getInstances(), ResourceStatus.CREATED));
+            }
+            return creationCallable;
+        });
+        mockDeletion();
+
+        RolledbackResourcesException exception = assertThrows(RolledbackResourcesException.class,
+                () -> underTest.buildResourcesForUpscale(ctx, auth, cloudStack, List.of(worker), AdjustmentType.EXACT, 2L));
+
+        assertEquals("Failed to create the resources of the instances of group worker: creation thread failed", exception.getMessage());
+        verify(resourceActionFactory, times(1)).buildDeletionCallable(any());
+    }
+
+    @Test
+    void testAtMostTheParallelResourceRequestsOfChunksRunAtATime() {
+        ResourceBuilderContext parallelCtx = new ResourceBuilderContext("stack", null, 2);
+        Group worker = createGroup("worker", 10L, 8);
+        AtomicInteger runningChunks = new AtomicInteger();
+        AtomicInteger maxRunningChunks = new AtomicInteger();
+        when(resourceActionFactory.buildCreationCallable(any())).thenAnswer(invocation -> {
+            ResourceCreationCallablePayload payload = invocation.getArgument(0);
+            ResourceCreationCallable creationCallable = mock(ResourceCreationCallable.class);
+            when(creationCallable.call()).thenAnswer(call -> {
+                maxRunningChunks.accumulateAndGet(runningChunks.incrementAndGet(), Math::max);
+                Thread.sleep(CHUNK_CREATION_MILLIS);
+                runningChunks.decrementAndGet();
+                return createResult(payload.getInstances());
+            });
+            return creationCallable;
+        });
+
+        List<CloudResourceStatus> result = underTest.buildResourcesForUpscale(parallelCtx, auth, cloudStack, List.of(worker), AdjustmentType.EXACT, 8L);
+
+        assertEquals(8, result.size());
+        verify(resourceActionFactory, times(4)).buildCreationCallable(any());
+        assertEquals(2, maxRunningChunks.get());
+    }
+
+    @Test
+    void testCreatedInstancesArePolledOnTheCallingThread() throws Exception {
+        InMemoryStateStore.putStack(STACK_ID, PollGroup.POLLABLE);
+        Group worker = createGroup("worker", 10L, 3);
+        when(cloudStack.getGroups()).thenReturn(List.of(worker));
+        when(resourceActionFactory.buildCreationCallable(any())).thenAnswer(invocation -> {
+            ResourceCreationCallablePayload payload = invocation.getArgument(0);
+            ResourceCreationCallable creationCallable = mock(ResourceCreationCallable.class);
+            when(creationCallable.call()).thenReturn(createResult(payload.getInstances(), ResourceStatus.IN_PROGRESS));
+            return creationCallable;
+        });
+        when(resourceBuilders.compute(any())).thenReturn(List.of(computeResourceBuilder));
+        when(computeResourceBuilder.resourceType()).thenReturn(ResourceType.MOCK_INSTANCE);
+        PollTask<List<CloudResourceStatus>> pollTask = mock(PollTask.class);
+        when(resourcePollTaskFactory.newPollResourceTask(eq(computeResourceBuilder), eq(auth), anyList(), eq(ctx), eq(true))).thenReturn(pollTask);
+        List<Thread> pollingThreads = new ArrayList<>();
+        when(syncPollingScheduler.schedule(pollTask)).thenAnswer(invocation -> {
+            pollingThreads.add(Thread.currentThread());
+            return List.of(new CloudResourceStatus(null, ResourceStatus.CREATED));
+        });
+
+        List<CloudResourceStatus> result = underTest.buildResourcesForLaunch(ctx, auth, cloudStack, AdjustmentType.EXACT, 3L);
+
+        assertEquals(3, result.size());
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread(), Thread.currentThread()), pollingThreads);
+    }
+
+    private Group createGroup(String name, long firstPrivateId, int instanceCount) {
+        List<CloudInstance> instances = LongStream.range(firstPrivateId, firstPrivateId + instanceCount)
+                .mapToObj(privateId -> new CloudInstance(null, new InstanceTemplate("large", name, privateId, List.of(), InstanceStatus.CREATE_REQUESTED,
+                        Map.of(), 0L, "image"), null))
+                .collect(Collectors.toList());
+        return new Group(name, InstanceGroupType.CORE, instances, null, null, null, null, null, 50, Optional.empty());
+    }
+
+    private void mockCreation() {
+        when(resourceActionFactory.buildCreationCallable(any())).thenAnswer(invocation -> {
+            ResourceCreationCallablePayload payload = invocation.getArgument(0);
+            ResourceCreationCallable creationCallable = mock(ResourceCreationCallable.class);
+            when(creationCallable.call()).thenReturn(createResult(payload.getInstances()));
+            return creationCallable;
+        });
+    }
+
+    private void mockDeletion() {
+        when(resourceBuilders.compute(any())).thenReturn(List.of(computeResourceBuilder));
+        when(computeResourceBuilder.resourceType()).thenReturn(ResourceType.MOCK_INSTANCE);
+        when(resourceActionFactory.buildDeletionCallable(any())).thenReturn(mock(ResourceDeletionCallable.class));
+    }
+
+    private ResourceRequestResult<List<CloudResourceStatus>> createResult(List<CloudInstance> instances) {
+        List<CloudResourceStatus> resourceStatuses = createResult(instances, ResourceStatus.CREATED).getResult();
+        resourceStatuses.stream()
+                .filter(resourceStatus -> failingPrivateIds.contains(resourceStatus.getPrivateId()))
+                .forEach(resourceStatus -> resourceStatus.setStatus(ResourceStatus.FAILED));
+        return new ResourceRequestResult<>(FutureResult.SUCCESS, resourceStatuses);
+    }
+
+    private ResourceRequestResult<List<CloudResourceStatus>> createResult(List<CloudInstance> instances, ResourceStatus status) {
+        List<CloudResourceStatus> resourceStatuses = new ArrayList<>();
+        for (CloudInstance instance : instances) {
+            Long privateId = instance.getTemplate().getPrivateId();
+            CloudResource cloudResource = CloudResource.builder()
+                    .type(ResourceType.MOCK_INSTANCE)
+                    .name("instance-" + privateId)
+                    .build();
+            resourceStatuses.add(new CloudResourceStatus(cloudResource, status, "creation failed", privateId));
+        }
+        return new ResourceRequestResult<>(FutureResult.SUCCESS, resourceStatuses);
+    }
+}
@@ -1,7 +1,5 @@
 package com.sequenceiq.cloudbreak.client;
 
-import static io.grpc.internal.GrpcUtil.DEFAULT_MAX_MESSAGE_SIZE;
-
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,10 +13,10 @@ import org.springframework.stereotype.Component;
 import com.cloudera.thunderhead.service.publicendpointmanagement.PublicEndpointManagementProto.CreateDnsEntryResponse;
 import com.cloudera.thunderhead.service.publicendpointmanagement.PublicEndpointManagementProto.DeleteDnsEntryResponse;
 import com.cloudera.thunderhead.service.publicendpointmanagement.PublicEndpointManagementProto.PollCertificateSigningResponse;
+import com.sequenceiq.cloudbreak.grpc.ManagedChannelPool;
 import com.sequenceiq.cloudbreak.grpc.ManagedChannelWrapper;
 
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import io.opentracing.Tracer;
 
 @Component
@@ -32,6 +30,9 @@ public class GrpcClusterDnsClient {
     @Inject
     private Tracer tracer;
 
+    @Inject
+    private ManagedChannelPool channelPool;
+
     public String signCertificate(String actorCrn, String accountId, String environment, byte[] csr,
             Optional<String> requestId) {
         try (ManagedChannelWrapper channelWrapper = makeWrapper()) {
@@ -104,11 +105,7 @@ public class GrpcClusterDnsClient {
     }
 
     private ManagedChannelWrapper makeWrapper() {
-        return new ManagedChannelWrapper(
-                ManagedChannelBuilder.forAddress(clusterDnsConfig.getEndpoint(), clusterDnsConfig.getPort())
-                        .usePlaintext()
-                        .maxInboundMessageSize(DEFAULT_MAX_MESSAGE_SIZE)
-                        .build());
+        return channelPool.getChannel(clusterDnsConfig.getEndpoint(), clusterDnsConfig.getPort());
     }
 
     private ClusterDnsClient makeClient(ManagedChannel channel, String accountId) {
@@ -1,22 +1,63 @@
 package com.sequenceiq.cloudbreak.cache.common;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import javax.inject.Inject;
+
 import org.springframework.cache.Cache;
 import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.env.Environment;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sequenceiq.cloudbreak.cache.CacheDefinition;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Base of the Caffeine backed cache definitions. The defaults of the subclasses can be overridden per cache with the
+ * {@code cb.cache.<name>.max-entries}, {@code cb.cache.<name>.max-weight} and {@code cb.cache.<name>.ttl-seconds} properties. The
+ * statistics of every cache are published as {@code cache.*} meters tagged with the name of the cache.
+ */
 public abstract class AbstractCacheDefinition implements CacheDefinition {
 
+    private static final String PROPERTY_PREFIX = "cb.cache.";
+
+    @Inject
+    private Environment environment;
+
+    private Cache cache;
+
+    /**
+     * @return the cache of the definition, it is built on the first call and the same instance is returned for every cache manager
+     */
     @Override
-    public final Cache cacheConfiguration() {
-        Caffeine<Object, Object> builder = Caffeine.newBuilder()
-                .recordStats()
-                .maximumSize(getMaxEntries())
-                .expireAfterWrite(getTimeToLiveSeconds(), TimeUnit.SECONDS);
-        return new CaffeineCache(getName(), builder.build());
+    public final synchronized Cache cacheConfiguration() {
+        if (cache == null) {
+            cache = buildCache();
+        }
+        return cache;
+    }
+
+    private Cache buildCache() {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        long maxWeight = getProperty("max-weight", getMaxWeight());
+        if (maxWeight > 0) {
+            builder.maximumWeight(maxWeight).weigher(this::weigh);
+        } else {
+            builder.maximumSize(getProperty("max-entries", getMaxEntries()));
+        }
+        builder.expireAfterWrite(getProperty("ttl-seconds", getTimeToLiveSeconds()), TimeUnit.SECONDS);
+        CaffeineCache caffeineCache = new CaffeineCache(getName(), builder.build());
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, caffeineCache.getNativeCache(), getName());
+        return caffeineCache;
+    }
+
+    private long getProperty(String key, long defaultValue) {
+        return environment == null ? defaultValue : environment.getProperty(PROPERTY_PREFIX + getName() + '.' + key, Long.class, defaultValue);
     }
 
     protected abstract String getName();
@@ -24,4 +65,24 @@ public abstract class AbstractCacheDefinition implements CacheDefinition {
     protected abstract long getMaxEntries();
 
     protected abstract long getTimeToLiveSeconds();
+
+    /**
+     * @return the maximum weight of the entries, if positive the cache is bounded by {@link #weigh(Object, Object)} instead of the entry count
+     */
+    protected long getMaxWeight() {
+        return 0L;
+    }
+
+    /**
+     * @return the weight of an entry, by default the number of elements of collection and map values, 1 for other values
+     */
+    protected int weigh(Object key, Object value) {
+        Object unwrapped = value instanceof Optional ? ((Optional<?>) value).orElse(null) : value;
+        if (unwrapped instanceof Collection) {
+            return Math.max(((Collection<?>) unwrapped).size(), 1);
+        } else if (unwrapped instanceof Map) {
+            return Math.max(((Map<?, ?>) unwrapped).size(), 1);
+        }
+        return 1;
+    }
 }
@@ -9,9 +9,16 @@ import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.ssl.SSLContexts;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.apache.connector.ApacheHttpClientBuilderConfigurator;
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.logging.LoggingFeature;
 import org.glassfish.jersey.logging.LoggingFeature.Verbosity;
 import org.glassfish.jersey.media.multipart.MultiPartFeature;
@@ -20,9 +27,9 @@ import org.slf4j.LoggerFactory;
 
 public class RestClientUtil {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(RestClientUtil.class);
+    public static final int CONNECT_TIMEOUT_MS = 20_000;
 
-    private static final int CONNECT_TIMEOUT_MS = 20_000;
+    private static final Logger LOGGER = LoggerFactory.getLogger(RestClientUtil.class);
 
     private static final Map<ConfigKey, Client> CLIENTS = new ConcurrentHashMap<>();
 
@@ -50,6 +57,10 @@ public class RestClientUtil {
 
     public static Client createClient(String serverCert, String clientCert, String clientKey, int connectionTimeout, OptionalInt readTimeout, boolean debug)
             throws Exception {
+        return createClient(createSslContext(serverCert, clientCert, clientKey), connectionTimeout, readTimeout, debug);
+    }
+
+    public static SSLContext createSslContext(String serverCert, String clientCert, String clientKey) throws Exception {
         SSLContext sslContext;
         if (StringUtils.isNoneBlank(serverCert, clientCert, clientKey)) {
             sslContext = SSLContexts.custom()
@@ -59,20 +70,44 @@ public class RestClientUtil {
         } else {
             sslContext = CertificateTrustManager.sslContext();
         }
-        return createClient(sslContext, connectionTimeout, readTimeout, debug);
+        return sslContext;
     }
 
     public static Client createClient(SSLContext sslContext, boolean debug) {
         return createClient(sslContext, CONNECT_TIMEOUT_MS, OptionalInt.empty(), debug);
     }
 
+    /**
+     * Creates a client that executes its requests through the given connection manager, so the opened connections are kept alive and
+     * reused between requests. The connection manager is not shut down when the client is closed, its lifecycle belongs to the caller.
+     */
+    public static Client createPooledClient(SSLContext sslContext, HttpClientConnectionManager connectionManager, int connectionTimeout,
+            OptionalInt readTimeout, boolean debug) {
+        ClientConfig config = createClientConfig(connectionTimeout, readTimeout);
+        config.connectorProvider(new ApacheConnectorProvider());
+        config.property(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
+        config.property(ApacheClientProperties.CONNECTION_MANAGER_SHARED, true);
+        config.property(ApacheClientProperties.REQUEST_CONFIG, RequestConfig.custom().setConnectionRequestTimeout(connectionTimeout).build());
+        config.property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED);
+        // connections authenticated with a client certificate would be bound to the principal and not reused without this
+        config.register((ApacheHttpClientBuilderConfigurator) HttpClientBuilder::disableConnectionState);
+        return createClient(sslContext, config, debug);
+    }
+
     private static Client createClient(SSLContext sslContext, int connectionTimeout, OptionalInt readTimeout, boolean debug) {
+        return createClient(sslContext, createClientConfig(connectionTimeout, readTimeout), debug);
+    }
+
+    private static ClientConfig createClientConfig(int connectionTimeout, OptionalInt readTimeout) {
         ClientConfig config = new ClientConfig();
         config.property(ClientProperties.FOLLOW_REDIRECTS, "false");
         config.property(ClientProperties.CONNECT_TIMEOUT, connectionTimeout);
         readTimeout.ifPresent(rt -> config.property(ClientProperties.READ_TIMEOUT, rt));
         config.register(MultiPartFeature.class);
+        return config;
+    }
 
+    private static Client createClient(SSLContext sslContext, ClientConfig config, boolean debug) {
         ClientBuilder builder = ClientBuilder.newBuilder().withConfig(config);
         builder.sslContext(sslContext);
         builder.hostnameVerifier(CertificateTrustManager.hostnameVerifier());
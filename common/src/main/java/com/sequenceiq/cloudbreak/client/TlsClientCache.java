@@ -0,0 +1,368 @@
+package com.sequenceiq.cloudbreak.client;
+
+import static com.google.common.base.Strings.nullToEmpty;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sequenceiq.cloudbreak.common.exception.CloudbreakServiceException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Keeps the 2-way-TLS Jersey clients of cluster endpoints (salt-bootstrap, YARN through cluster proxy) alive between calls, so the keystores
+ * are parsed and the TLS handshake is done once per endpoint instead of on every call. The clients are keyed by the endpoint and the
+ * fingerprint of the certificates; when a client is requested with rotated certificates, the clients of the old certificates are dropped.
+ * <p>
+ * The returned clients are shared between threads and callers, so they must not be closed by the caller. A client dropped from the cache
+ * is closed and its connection manager is shut down once all of its connections are returned and it was not used for the idle connection
+ * timeout.
+ */
+@Component
+public class TlsClientCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TlsClientCache.class);
+
+    private static final String CACHE_NAME = "tlsClientCache";
+
+    private static final String REQUESTS_METRIC = "rest.client.tls.requests";
+
+    private static final String HANDSHAKES_METRIC = "rest.client.tls.handshakes";
+
+    private static final String HANDSHAKES_SAVED_METRIC = "rest.client.tls.handshakes.saved";
+
+    private static final String POOL_LEASED_METRIC = "rest.client.tls.pool.leased";
+
+    private static final String POOL_PENDING_METRIC = "rest.client.tls.pool.pending";
+
+    private static final String POOL_SATURATION_METRIC = "rest.client.tls.pool.saturation";
+
+    @Value("${cb.tls.client.cache.maxEntries:1000}")
+    private long maxEntries;
+
+    @Value("${cb.tls.client.cache.idleClientTimeoutMinutes:30}")
+    private long idleClientTimeoutMinutes;
+
+    @Value("${cb.tls.client.cache.maxConnectionsPerEndpoint:20}")
+    private int maxConnectionsPerEndpoint;
+
+    @Value("${cb.tls.client.cache.idleConnectionTimeoutSeconds:60}")
+    private long idleConnectionTimeoutSeconds;
+
+    private Cache<TlsClientKey, PooledClient> clients;
+
+    private Cache<String, SSLContext> sslContexts;
+
+    private Counter requests;
+
+    private Counter handshakes;
+
+    private ScheduledExecutorService idleConnectionEvictor;
+
+    private final Queue<PooledClient> retiredClients = new ConcurrentLinkedQueue<>();
+
+    @PostConstruct
+    void init() {
+        clients = Caffeine.newBuilder()
+                .recordStats()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(idleClientTimeoutMinutes, TimeUnit.MINUTES)
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .build();
+        sslContexts = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(idleClientTimeoutMinutes, TimeUnit.MINUTES)
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, clients, CACHE_NAME);
+        requests = Metrics.counter(REQUESTS_METRIC);
+        handshakes = Metrics.counter(HANDSHAKES_METRIC);
+        Metrics.gauge(HANDSHAKES_SAVED_METRIC, this, cache -> cache.requests.count() - cache.handshakes.count());
+        Metrics.gauge(POOL_LEASED_METRIC, this, cache -> cache.sumPoolStats(PoolStats::getLeased));
+        Metrics.gauge(POOL_PENDING_METRIC, this, cache -> cache.sumPoolStats(PoolStats::getPending));
+        Metrics.gauge(POOL_SATURATION_METRIC, this, TlsClientCache::getPoolSaturation);
+        idleConnectionEvictor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("tls-client-idle-evictor-%d").setDaemon(true).build());
+        idleConnectionEvictor.scheduleWithFixedDelay(this::evictIdleConnections, idleConnectionTimeoutSeconds, idleConnectionTimeoutSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        idleConnectionEvictor.shutdownNow();
+        clients.invalidateAll();
+        clients.cleanUp();
+        retiredClients.forEach(PooledClient::close);
+        retiredClients.clear();
+    }
+
+    public Client getClient(String endpoint, String serverCert, String clientCert, String clientKey, boolean debug) {
+        return getClient(endpoint, serverCert, clientCert, clientKey, RestClientUtil.CONNECT_TIMEOUT_MS, OptionalInt.empty(), debug);
+    }
+
+    public Client getClient(String endpoint, String serverCert, String clientCert, String clientKey, int connectionTimeout, OptionalInt readTimeout,
+            boolean debug) {
+        return getClient(endpoint, serverCert, clientCert, clientKey, connectionTimeout, readTimeout, debug, true);
+    }
+
+    /**
+     * Returns a client for an endpoint that serves several clusters with different certificates, like the cluster proxy. The clients of the
+     * other certificates of the endpoint are not treated as rotated, they expire from the cache when they are not used anymore.
+     */
+    public Client getClientForSharedEndpoint(String endpoint, String serverCert, String clientCert, String clientKey, boolean debug) {
+        return getClient(endpoint, serverCert, clientCert, clientKey, RestClientUtil.CONNECT_TIMEOUT_MS, OptionalInt.empty(), debug, false);
+    }
+
+    /**
+     * @return the SSL context of the given certificates, the same instance is returned for the same certificates, so HTTP clients
+     * that pool their connections by SSL socket factory can reuse the connections opened by each other
+     */
+    public SSLContext getSslContext(String serverCert, String clientCert, String clientKey) throws Exception {
+        String fingerprint = fingerprint(serverCert, clientCert, clientKey);
+        SSLContext sslContext = sslContexts.getIfPresent(fingerprint);
+        if (sslContext == null) {
+            sslContext = RestClientUtil.createSslContext(serverCert, clientCert, clientKey);
+            sslContexts.put(fingerprint, sslContext);
+        }
+        return sslContext;
+    }
+
+    public void invalidate(String endpoint) {
+        clients.asMap().keySet().removeIf(key -> key.endpoint.equals(endpoint));
+    }
+
+    long getCachedClientCount() {
+        return clients.asMap().size();
+    }
+
+    long getRetiredClientCount() {
+        return retiredClients.size();
+    }
+
+    private Client getClient(String endpoint, String serverCert, String clientCert, String clientKey, int connectionTimeout, OptionalInt readTimeout,
+            boolean debug, boolean dropRotatedCertificates) {
+        TlsClientKey key = new TlsClientKey(endpoint, fingerprint(serverCert, clientCert, clientKey), connectionTimeout, readTimeout, debug);
+        PooledClient pooledClient = clients.getIfPresent(key);
+        if (pooledClient == null) {
+            if (dropRotatedCertificates) {
+                invalidateRotatedCertificates(key);
+            }
+            pooledClient = clients.get(key, k -> createPooledClient(k, serverCert, clientCert, clientKey));
+        }
+        pooledClient.lastUsed = System.currentTimeMillis();
+        return pooledClient.client;
+    }
+
+    private void invalidateRotatedCertificates(TlsClientKey key) {
+        clients.asMap().keySet().removeIf(cached -> cached.endpoint.equals(key.endpoint) && !cached.fingerprint.equals(key.fingerprint));
+    }
+
+    private PooledClient createPooledClient(TlsClientKey key, String serverCert, String clientCert, String clientKey) {
+        try {
+            SSLContext sslContext = getSslContext(serverCert, clientCert, clientKey);
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("https", new HandshakeCountingSocketFactory(sslContext, handshakes))
+                    .build());
+            connectionManager.setMaxTotal(maxConnectionsPerEndpoint);
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerEndpoint);
+            Client client = RestClientUtil.createPooledClient(sslContext, connectionManager, key.connectionTimeout, key.readTimeout, key.debug);
+            PooledClient pooledClient = new PooledClient(client, connectionManager);
+            client.register(new RequestCountingFilter(key, pooledClient));
+            LOGGER.debug("Pooled TLS client has been created for endpoint {}, cache size: {}", key.endpoint, clients.estimatedSize());
+            return pooledClient;
+        } catch (Exception e) {
+            throw new CloudbreakServiceException("Failed to create rest client with 2-way-ssl config for " + key.endpoint, e);
+        }
+    }
+
+    /**
+     * The client is not closed here, because a caller may still use it. It is retired, and closed by {@link #closeRetiredClients()} when
+     * none of its connections are leased anymore.
+     */
+    private void onRemoval(TlsClientKey key, PooledClient pooledClient, RemovalCause cause) {
+        LOGGER.debug("Pooled TLS client of endpoint {} is removed from the cache, cause: {}", key == null ? null : key.endpoint, cause);
+        if (pooledClient != null) {
+            pooledClient.connectionManager.closeIdleConnections(0L, TimeUnit.MILLISECONDS);
+            retiredClients.add(pooledClient);
+        }
+    }
+
+    private void evictIdleConnections() {
+        try {
+            clients.cleanUp();
+            clients.asMap().values().forEach(pooledClient -> {
+                pooledClient.connectionManager.closeExpiredConnections();
+                pooledClient.connectionManager.closeIdleConnections(idleConnectionTimeoutSeconds, TimeUnit.SECONDS);
+            });
+            closeRetiredClients();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to evict idle connections of the pooled TLS clients", e);
+        }
+    }
+
+    void closeRetiredClients() {
+        long unusedSince = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(idleConnectionTimeoutSeconds);
+        Iterator<PooledClient> iterator = retiredClients.iterator();
+        while (iterator.hasNext()) {
+            PooledClient pooledClient = iterator.next();
+            if (pooledClient.lastUsed <= unusedSince && pooledClient.connectionManager.getTotalStats().getLeased() == 0) {
+                iterator.remove();
+                pooledClient.close();
+            }
+        }
+    }
+
+    private int sumPoolStats(ToIntFunction<PoolStats> stat) {
+        return clients.asMap().values().stream()
+                .mapToInt(pooledClient -> stat.applyAsInt(pooledClient.connectionManager.getTotalStats()))
+                .sum();
+    }
+
+    private double getPoolSaturation() {
+        int max = sumPoolStats(PoolStats::getMax);
+        return max == 0 ? 0.0 : (double) sumPoolStats(PoolStats::getLeased) / max;
+    }
+
+    private static String fingerprint(String serverCert, String clientCert, String clientKey) {
+        return Hashing.sha256()
+                .hashString(String.join("\n", nullToEmpty(serverCert), nullToEmpty(clientCert), nullToEmpty(clientKey)), StandardCharsets.UTF_8)
+                .toString();
+    }
+
+    private static final class TlsClientKey {
+
+        private final String endpoint;
+
+        private final String fingerprint;
+
+        private final int connectionTimeout;
+
+        private final OptionalInt readTimeout;
+
+        private final boolean debug;
+
+        private TlsClientKey(String endpoint, String fingerprint, int connectionTimeout, OptionalInt readTimeout, boolean debug) {
+            this.endpoint = endpoint;
+            this.fingerprint = fingerprint;
+            this.connectionTimeout = connectionTimeout;
+            this.readTimeout = readTimeout;
+            this.debug = debug;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TlsClientKey that = (TlsClientKey) o;
+            return connectionTimeout == that.connectionTimeout
+                    && debug == that.debug
+                    && Objects.equals(endpoint, that.endpoint)
+                    && Objects.equals(fingerprint, that.fingerprint)
+                    && Objects.equals(readTimeout, that.readTimeout);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(endpoint, fingerprint, connectionTimeout, readTimeout, debug);
+        }
+    }
+
+    private static final class PooledClient {
+
+        private final Client client;
+
+        private final PoolingHttpClientConnectionManager connectionManager;
+
+        private volatile long lastUsed;
+
+        private PooledClient(Client client, PoolingHttpClientConnectionManager connectionManager) {
+            this.client = client;
+            this.connectionManager = connectionManager;
+        }
+
+        private void close() {
+            try {
+                client.close();
+            } finally {
+                connectionManager.shutdown();
+            }
+        }
+    }
+
+    private static final class HandshakeCountingSocketFactory extends SSLConnectionSocketFactory {
+
+        private final Counter handshakes;
+
+        private HandshakeCountingSocketFactory(SSLContext sslContext, Counter handshakes) {
+            super(sslContext, CertificateTrustManager.hostnameVerifier());
+            this.handshakes = handshakes;
+        }
+
+        @Override
+        protected void prepareSocket(SSLSocket socket) {
+            handshakes.increment();
+        }
+    }
+
+    /**
+     * Marks the client as used on every request, not only when it is requested from the cache, so a caller that keeps the client for
+     * longer than the idle timeouts does not get it expired from the cache or closed as a retired client between its requests.
+     */
+    private final class RequestCountingFilter implements ClientRequestFilter {
+
+        private final TlsClientKey key;
+
+        private final PooledClient pooledClient;
+
+        private RequestCountingFilter(TlsClientKey key, PooledClient pooledClient) {
+            this.key = key;
+            this.pooledClient = pooledClient;
+        }
+
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+            requests.increment();
+            pooledClient.lastUsed = System.currentTimeMillis();
+            clients.getIfPresent(key);
+        }
+    }
+}
@@ -19,18 +19,29 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import net.sf.json.JSONArray;
 import net.sf.json.JSONException;
+import net.sf.json.JSONNull;
 import net.sf.json.JSONObject;
+import net.sf.json.util.JSONUtils;
 
+/**
+ * JSON document stored as a string. The string is parsed into a Jackson tree on the first read and the typed values and path lookups are
+ * served from that tree until the value changes. The typed values are still created on every call, because the callers own and often
+ * modify the returned objects.
+ */
 public class Json implements Serializable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Json.class);
 
     private String value;
 
+    private transient volatile JsonNode tree;
+
     public Json(String value) {
         this.value = value;
     }
@@ -52,19 +63,27 @@ public class Json implements Serializable {
     }
 
     public <T> T get(Class<T> valueType) throws IOException {
-        return JsonUtil.readValue(value, valueType);
+        JsonNode parsedTree = getTree();
+        if (parsedTree == null || TreeNode.class.isAssignableFrom(valueType)) {
+            return JsonUtil.readValue(value, valueType);
+        }
+        return JsonUtil.treeToValue(parsedTree, valueType);
     }
 
     public <T> T getSilent(Class<T> valueType) {
         try {
-            return JsonUtil.readValue(value, valueType);
+            return get(valueType);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
     }
 
     public <T> T get(TypeReference<T> valueType) throws IOException {
-        return JsonUtil.readValue(value, valueType);
+        JsonNode parsedTree = getTree();
+        if (parsedTree == null) {
+            return JsonUtil.readValue(value, valueType);
+        }
+        return JsonUtil.treeToValue(parsedTree, valueType);
     }
 
     public static Json silent(Object value) {
@@ -88,6 +107,40 @@ public class Json implements Serializable {
     @JsonIgnore
     public <T> T getValue(String path) {
         String[] split = path.split("\\.");
+        JsonNode node = getTree();
+        for (int i = 0; node != null && i < split.length - 1; i++) {
+            node = node.isObject() ? node.get(split[i]) : null;
+        }
+        if (node == null || !node.isObject()) {
+            return getValueByJsonLib(split);
+        }
+        JsonNode leaf = node.get(split[split.length - 1]);
+        if (leaf == null) {
+            return null;
+        } else if (leaf.isNull()) {
+            return (T) JSONNull.getInstance();
+        } else if (leaf.isInt() || leaf.isLong()) {
+            return (T) leaf.numberValue();
+        } else if (leaf.isBoolean()) {
+            return (T) Boolean.valueOf(leaf.booleanValue());
+        } else if (leaf.isTextual() && isPlainText(leaf.textValue())) {
+            return (T) leaf.textValue();
+        }
+        return getValueByJsonLib(split);
+    }
+
+    /**
+     * Strings json-lib returns as they are. It converts the strings holding JSON, keywords, functions or quotes, so those are read by json-lib.
+     */
+    private boolean isPlainText(String text) {
+        return !JSONUtils.mayBeJSON(text) && !"true".equals(text) && !"false".equals(text) && !text.startsWith("function")
+                && !text.startsWith("\"") && !text.endsWith("\"") && !text.startsWith("'") && !text.endsWith("'");
+    }
+
+    /**
+     * Lookup of the values json-lib converts to its own types, e.g. the objects, arrays, decimals, big numbers and the strings holding JSON.
+     */
+    private <T> T getValueByJsonLib(String[] split) {
         JSONObject jsonObject = JSONObject.fromObject(value);
         if (split.length == 1) {
             return (T) jsonObject.get(split[0]);
@@ -137,7 +190,7 @@ public class Json implements Serializable {
             object = object.getJSONObject(split[i]);
         }
         object.remove(split[split.length - 1]);
-        value = jsonObject.toString();
+        setValue(jsonObject.toString());
     }
 
     @JsonIgnore
@@ -170,7 +223,7 @@ public class Json implements Serializable {
             object = object.getJSONObject(split[i]);
         }
         object.put(split[split.length - 1], newValue);
-        value = jsonObject.toString();
+        setValue(jsonObject.toString());
     }
 
     @Override
@@ -204,4 +257,30 @@ public class Json implements Serializable {
     public List<String> asArray() {
         return (List<String>) JSONArray.fromObject(value).stream().map(Object::toString).collect(Collectors.toList());
     }
+
+    private void setValue(String value) {
+        this.value = value;
+        tree = null;
+    }
+
+    /**
+     * Returns the parsed tree of the value, or null when the value is missing or cannot be parsed by Jackson. In that case the callers fall
+     * back to parsing the string, so they fail or behave the same way as before.
+     */
+    private JsonNode getTree() {
+        JsonNode parsedTree = tree;
+        if (parsedTree == null && value != null) {
+            try {
+                parsedTree = JsonUtil.readTree(value);
+            } catch (IOException e) {
+                LOGGER.debug("Json value cannot be parsed into a tree: {}", e.getMessage());
+                return null;
+            }
+            if (parsedTree == null || parsedTree.isMissingNode()) {
+                return null;
+            }
+            tree = parsedTree;
+        }
+        return parsedTree;
+    }
 }
@@ -154,6 +154,10 @@ public class JsonUtil {
         return MAPPER.treeToValue(n, valueType);
     }
 
+    public static <T> T treeToValue(JsonNode n, TypeReference<T> valueTypeRef) throws IOException {
+        return MAPPER.readerFor(valueTypeRef).readValue(n);
+    }
+
     public static boolean isValid(String content) {
         try {
             readTree(content);
@@ -1,10 +1,12 @@
 package com.sequenceiq.cloudbreak.common.metrics;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 import com.google.common.util.concurrent.AtomicDouble;
@@ -60,6 +62,16 @@ public abstract class AbstractMetricService implements MetricService {
         return Metrics.gaugeMapSize(getMetricName(metric), Tags.empty(), map);
     }
 
+    @Override
+    public <T> T gauge(Metric metric, T stateObject, ToDoubleFunction<T> valueFunction, String... tags) {
+        return Metrics.gauge(getMetricName(metric), Tags.of(tags), stateObject, valueFunction);
+    }
+
+    @Override
+    public void recordTimerMetric(Metric metric, Duration duration, String... tags) {
+        recordTimer(duration.toMillis(), metric, tags);
+    }
+
     protected void incrementMetricCounter(String metric, String... tags) {
         Counter counter = Metrics.counter(metric, tags);
         counter.increment();
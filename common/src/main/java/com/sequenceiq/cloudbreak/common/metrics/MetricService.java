@@ -1,6 +1,8 @@
 package com.sequenceiq.cloudbreak.common.metrics;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.function.ToDoubleFunction;
 
 import com.sequenceiq.cloudbreak.common.metrics.type.Metric;
 
@@ -14,4 +16,8 @@ public interface MetricService {
     void incrementMetricCounter(Metric metric, String... tags);
 
     <T, U> Map<T, U> gaugeMapSize(Metric metric, Map<T, U> map);
+
+    <T> T gauge(Metric metric, T stateObject, ToDoubleFunction<T> valueFunction, String... tags);
+
+    void recordTimerMetric(Metric metric, Duration duration, String... tags);
 }
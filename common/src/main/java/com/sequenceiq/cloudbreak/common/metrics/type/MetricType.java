@@ -3,6 +3,7 @@ package com.sequenceiq.cloudbreak.common.metrics.type;
 public enum MetricType implements Metric {
     VAULT_READ("vault.read"),
     VAULT_READ_FAILED("vault.read.failed"),
+    VAULT_READ_LATENCY("vault.read.latency"),
     VAULT_WRITE("vault.write"),
     VAULT_WRITE_FAILED("vault.write.failed"),
     VAULT_DELETE("vault.delete"),
@@ -14,6 +14,8 @@ import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.quartz.model.JobInitializer;
 import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerConfig;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.BatchStatusCheckerJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.service.StatusCheckerJobService;
 
 @Component
 public class QuartzJobInitializer {
@@ -26,6 +28,12 @@ public class QuartzJobInitializer {
     @Inject
     private Optional<List<JobInitializer>> initJobDefinitions;
 
+    @Inject
+    private Optional<List<BatchStatusCheckerJob<?>>> batchStatusCheckerJobs;
+
+    @Inject
+    private StatusCheckerJobService statusCheckerJobService;
+
     @Inject
     private Scheduler scheduler;
 
@@ -37,6 +45,9 @@ public class QuartzJobInitializer {
             } catch (SchedulerException e) {
                 LOGGER.error("Error during clearing quartz jobs", e);
             }
+            if (properties.isBatchSyncEnabled()) {
+                batchStatusCheckerJobs.ifPresent(jobs -> jobs.forEach(statusCheckerJobService::scheduleBatch));
+            }
             for (JobInitializer jobDef : initJobDefinitions.get()) {
                 jobDef.initJobs();
             }
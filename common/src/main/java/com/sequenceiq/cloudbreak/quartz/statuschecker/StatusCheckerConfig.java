@@ -1,12 +1,21 @@
 package com.sequenceiq.cloudbreak.quartz.statuschecker;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import javax.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sequenceiq.cloudbreak.logger.concurrent.MDCCleanerThreadPoolExecutor;
+
 @Configuration
 public class StatusCheckerConfig {
 
@@ -18,9 +27,25 @@ public class StatusCheckerConfig {
     @Value("${statuschecker.enabled:true}")
     private boolean autoSyncEnabled;
 
+    @Value("${statuschecker.batch.enabled:false}")
+    private boolean batchSyncEnabled;
+
+    @Value("${statuschecker.batch.size:50}")
+    private int batchSize;
+
+    @Value("${statuschecker.batch.parallelism:10}")
+    private int batchParallelism;
+
+    @Bean
+    public ExecutorService statusCheckerBatchExecutor() {
+        return new MDCCleanerThreadPoolExecutor(batchParallelism, batchParallelism, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("status-checker-batch-%d").build(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
     @PostConstruct
     void logEnablement() {
         LOGGER.info("Auto sync is {}", autoSyncEnabled ? "enabled" : "disabled");
+        LOGGER.info("Batched auto sync is {}", batchSyncEnabled ? "enabled" : "disabled");
     }
 
     public boolean isAutoSyncEnabled() {
@@ -30,4 +55,12 @@ public class StatusCheckerConfig {
     public int getIntervalInSeconds() {
         return intervalInSeconds;
     }
+
+    public boolean isBatchSyncEnabled() {
+        return batchSyncEnabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
 }
@@ -0,0 +1,113 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.job;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Lists;
+import com.sequenceiq.cloudbreak.logger.MDCBuilder;
+import com.sequenceiq.cloudbreak.quartz.TracedQuartzJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerConfig;
+
+import io.opentracing.Tracer;
+
+/**
+ * Status checker that syncs every resource of a service from a single Quartz job instead of one job per resource.
+ * The resources are loaded in batches of {@code statuschecker.batch.size}, and the resources of a batch are synced
+ * in parallel on the {@code statusCheckerBatchExecutor}, at most {@code statuschecker.batch.parallelism} at a time.
+ * <p>
+ * The batches are not grouped by environment or region. The resources of a batch are loaded together, but the provider and
+ * cluster manager calls of a sync depend on the state of the single resource, so they are made per resource and in parallel.
+ *
+ * @param <T> the type of the synced resource
+ */
+public abstract class BatchStatusCheckerJob<T> extends TracedQuartzJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchStatusCheckerJob.class);
+
+    @Inject
+    private StatusCheckerConfig statusCheckerConfig;
+
+    @Inject
+    @Named("statusCheckerBatchExecutor")
+    private ExecutorService statusCheckerBatchExecutor;
+
+    public BatchStatusCheckerJob(Tracer tracer, String jobName) {
+        super(tracer, jobName);
+    }
+
+    @Override
+    protected Object getMdcContextObject() {
+        return null;
+    }
+
+    @Override
+    protected void executeTracedJob(JobExecutionContext context) throws JobExecutionException {
+        List<Long> resourceIds = findSyncableResourceIds();
+        LOGGER.debug("Batched status check started for {} resources with batch size {}", resourceIds.size(), statusCheckerConfig.getBatchSize());
+        for (List<Long> idBatch : Lists.partition(resourceIds, statusCheckerConfig.getBatchSize())) {
+            try {
+                syncBatch(loadBatch(idBatch));
+            } catch (Exception e) {
+                LOGGER.info("Exception during loading status check batch {}", idBatch, e);
+            }
+        }
+    }
+
+    protected abstract List<Long> findSyncableResourceIds();
+
+    /**
+     * Loads the resources of a batch with as few queries as possible. Resources that have a running flow should be left out.
+     */
+    protected abstract Collection<T> loadBatch(Collection<Long> resourceIds);
+
+    /**
+     * Syncs a single resource of a batch. It is called concurrently for the resources of the same batch.
+     */
+    protected abstract void syncResource(T resource);
+
+    protected abstract Long getResourceId(T resource);
+
+    /**
+     * @return the per resource status checker job that is not scheduled anymore when batched sync is enabled
+     */
+    public abstract Class<? extends StatusCheckerJob> getReplacedJobClass();
+
+    /**
+     * @return false if the auto sync of the service is turned off, the batch job is not scheduled then, like the per resource jobs
+     */
+    public boolean isAutoSyncEnabled() {
+        return true;
+    }
+
+    private void syncBatch(Collection<T> resources) {
+        Map<String, String> mdcContextMap = MDCBuilder.getMdcContextMap();
+        List<CompletableFuture<Void>> syncs = resources.stream()
+                .map(resource -> CompletableFuture.runAsync(() -> {
+                    MDCBuilder.buildMdcContextFromMap(mdcContextMap);
+                    syncResourceSafely(resource);
+                }, statusCheckerBatchExecutor))
+                .collect(toList());
+        CompletableFuture.allOf(syncs.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void syncResourceSafely(T resource) {
+        try {
+            syncResource(resource);
+        } catch (Exception e) {
+            LOGGER.info("Exception during status check of resource {}", getResourceId(resource), e);
+        }
+    }
+}
@@ -7,6 +7,8 @@ import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 
@@ -24,9 +26,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 
 import com.sequenceiq.cloudbreak.quartz.model.JobResourceAdapter;
 import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerConfig;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.BatchStatusCheckerJob;
 
 @Service
 public class StatusCheckerJobService {
@@ -35,6 +39,10 @@ public class StatusCheckerJobService {
 
     private static final String TRIGGER_GROUP = "status-checker-triggers";
 
+    private static final String BATCH_JOB_GROUP = "status-checker-batch-jobs";
+
+    private static final String BATCH_TRIGGER_GROUP = "status-checker-batch-triggers";
+
     private static final String LOCAL_ID = "localId";
 
     private static final String REMOTE_RESOURCE_CRN = "remoteResourceCrn";
@@ -52,13 +60,21 @@ public class StatusCheckerJobService {
     @Inject
     private ApplicationContext applicationContext;
 
+    private final Set<Class<?>> batchedJobClasses = ConcurrentHashMap.newKeySet();
+
     public <T> void schedule(JobResourceAdapter<T> resource) {
+        if (isReplacedByBatchJob(resource)) {
+            return;
+        }
         JobDetail jobDetail = buildJobDetail(resource.getLocalId(), resource.getRemoteResourceId(), resource.getJobClassForResource());
         Trigger trigger = buildJobTrigger(jobDetail, RANDOM.nextInt(properties.getIntervalInSeconds()));
         schedule(jobDetail, trigger, resource.getLocalId());
     }
 
     public <T> void schedule(JobResourceAdapter<T> resource, int delayInSeconds) {
+        if (isReplacedByBatchJob(resource)) {
+            return;
+        }
         JobDetail jobDetail = buildJobDetail(resource.getLocalId(), resource.getRemoteResourceId(), resource.getJobClassForResource());
         Trigger trigger = buildJobTrigger(jobDetail, delayInSeconds);
         schedule(jobDetail, trigger, resource.getLocalId());
@@ -85,6 +101,42 @@ public class StatusCheckerJobService {
         }
     }
 
+    /**
+     * Schedules a single job that syncs every resource of the batch job's type. The per resource jobs replaced by it
+     * are not scheduled afterwards. Nothing is scheduled if the auto sync of the service is disabled.
+     */
+    public void scheduleBatch(BatchStatusCheckerJob<?> batchJob) {
+        Class<?> jobClass = ClassUtils.getUserClass(batchJob);
+        String jobName = jobClass.getSimpleName();
+        if (!batchJob.isAutoSyncEnabled()) {
+            LOGGER.info("Batched status checker job {} is not scheduled, auto sync is disabled", jobName);
+            return;
+        }
+        batchedJobClasses.add(batchJob.getReplacedJobClass());
+        JobDetail jobDetail = JobBuilder.newJob(jobClass.asSubclass(Job.class))
+                .withIdentity(jobName, BATCH_JOB_GROUP)
+                .withDescription("Batched status checker Job")
+                .storeDurably()
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .forJob(jobDetail)
+                .withIdentity(jobName, BATCH_TRIGGER_GROUP)
+                .withDescription("Batched status checker Trigger")
+                .startAt(delayedStart(properties.getIntervalInSeconds()))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule()
+                        .withIntervalInSeconds(properties.getIntervalInSeconds())
+                        .repeatForever()
+                        .withMisfireHandlingInstructionNextWithRemainingCount())
+                .build();
+        try {
+            scheduler.deleteJob(jobDetail.getKey());
+            scheduler.scheduleJob(jobDetail, trigger);
+            LOGGER.info("Batched status checker job {} is scheduled instead of {} jobs", jobName, batchJob.getReplacedJobClass().getSimpleName());
+        } catch (SchedulerException e) {
+            LOGGER.error(String.format("Error during scheduling batched quartz job: %s", jobName), e);
+        }
+    }
+
     public void unschedule(String id) {
         try {
             scheduler.deleteJob(JobKey.jobKey(id, JOB_GROUP));
@@ -101,6 +153,14 @@ public class StatusCheckerJobService {
         }
     }
 
+    private <T> boolean isReplacedByBatchJob(JobResourceAdapter<T> resource) {
+        boolean replaced = batchedJobClasses.contains(resource.getJobClassForResource());
+        if (replaced) {
+            LOGGER.debug("Quartz job is not scheduled for {}, it is synced by a batched status checker job", resource.getLocalId());
+        }
+        return replaced;
+    }
+
     private <T> JobDetail buildJobDetail(String sdxId, String crn, Class<? extends Job> clazz) {
         JobDataMap jobDataMap = new JobDataMap();
 
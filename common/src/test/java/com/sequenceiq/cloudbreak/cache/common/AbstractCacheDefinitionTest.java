@@ -0,0 +1,95 @@
+package com.sequenceiq.cloudbreak.cache.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.benmanes.caffeine.cache.Policy;
+
+class AbstractCacheDefinitionTest {
+
+    private static final String CACHE_NAME = "testCache";
+
+    @Test
+    void testDefaultsOfDefinitionAreUsed() {
+        Cache cache = new TestCacheDefinition(0L).cacheConfiguration();
+
+        Policy<Object, Object> policy = nativeCache(cache).policy();
+        assertEquals(10L, policy.eviction().get().getMaximum());
+        assertEquals(60L, policy.expireAfterWrite().get().getExpiresAfter(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testPropertiesOverrideDefinition() {
+        TestCacheDefinition definition = new TestCacheDefinition(0L);
+        ReflectionTestUtils.setField(definition, "environment", new MockEnvironment()
+                .withProperty("cb.cache.testCache.max-entries", "20")
+                .withProperty("cb.cache.testCache.ttl-seconds", "120"));
+
+        Cache cache = definition.cacheConfiguration();
+
+        Policy<Object, Object> policy = nativeCache(cache).policy();
+        assertEquals(20L, policy.eviction().get().getMaximum());
+        assertEquals(120L, policy.expireAfterWrite().get().getExpiresAfter(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCacheIsBuiltOnce() {
+        TestCacheDefinition definition = new TestCacheDefinition(0L);
+
+        assertSame(definition.cacheConfiguration(), definition.cacheConfiguration());
+    }
+
+    @Test
+    void testWeightBoundedCache() {
+        Cache cache = new TestCacheDefinition(5L).cacheConfiguration();
+
+        cache.put("key", List.of(1, 2, 3));
+        nativeCache(cache).cleanUp();
+
+        Policy<Object, Object> policy = nativeCache(cache).policy();
+        assertEquals(5L, policy.eviction().get().getMaximum());
+        assertEquals(3L, policy.eviction().get().weightedSize().getAsLong());
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache(Cache cache) {
+        return ((CaffeineCache) cache).getNativeCache();
+    }
+
+    private static class TestCacheDefinition extends AbstractCacheDefinition {
+
+        private final long maxWeight;
+
+        TestCacheDefinition(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        @Override
+        protected String getName() {
+            return CACHE_NAME;
+        }
+
+        @Override
+        protected long getMaxEntries() {
+            return 10L;
+        }
+
+        @Override
+        protected long getTimeToLiveSeconds() {
+            return 60L;
+        }
+
+        @Override
+        protected long getMaxWeight() {
+            return maxWeight;
+        }
+    }
+}
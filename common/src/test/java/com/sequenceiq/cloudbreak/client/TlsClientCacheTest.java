@@ -0,0 +1,125 @@
+package com.sequenceiq.cloudbreak.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.OptionalInt;
+import java.util.Queue;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TlsClientCacheTest {
+
+    private static final String ENDPOINT = "https://gateway:9443";
+
+    private TlsClientCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new TlsClientCache();
+        ReflectionTestUtils.setField(underTest, "maxEntries", 10L);
+        ReflectionTestUtils.setField(underTest, "idleClientTimeoutMinutes", 1L);
+        ReflectionTestUtils.setField(underTest, "maxConnectionsPerEndpoint", 2);
+        ReflectionTestUtils.setField(underTest, "idleConnectionTimeoutSeconds", 1L);
+        underTest.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void testClientIsReusedForSameEndpointAndCertificates() {
+        Client client = underTest.getClient(ENDPOINT, null, null, null, false);
+
+        assertSame(client, underTest.getClient(ENDPOINT, null, null, null, false));
+        assertEquals(1L, underTest.getCachedClientCount());
+    }
+
+    @Test
+    void testDifferentSettingsGetDifferentClients() {
+        Client client = underTest.getClient(ENDPOINT, null, null, null, false);
+
+        assertNotSame(client, underTest.getClient(ENDPOINT, null, null, null, true));
+        assertNotSame(client, underTest.getClient(ENDPOINT, null, null, null, 1, OptionalInt.of(1), false));
+        assertNotSame(client, underTest.getClient("https://other-gateway:9443", null, null, null, false));
+        assertEquals(4L, underTest.getCachedClientCount());
+    }
+
+    @Test
+    void testRotatedCertificatesReplaceTheClientsOfTheEndpoint() {
+        Client client = underTest.getClient(ENDPOINT, "server-cert", null, null, false);
+        underTest.getClient(ENDPOINT, "server-cert", null, null, true);
+        underTest.getClient("https://other-gateway:9443", "server-cert", null, null, false);
+
+        Client rotatedClient = underTest.getClient(ENDPOINT, "rotated-server-cert", null, null, false);
+
+        assertNotSame(client, rotatedClient);
+        assertEquals(2L, underTest.getCachedClientCount());
+    }
+
+    @Test
+    void testInvalidate() {
+        underTest.getClient(ENDPOINT, null, null, null, false);
+        underTest.getClient(ENDPOINT, null, null, null, true);
+
+        underTest.invalidate(ENDPOINT);
+
+        assertEquals(0L, underTest.getCachedClientCount());
+    }
+
+    @Test
+    void testClientsOfSharedEndpointAreKeptForEveryCertificate() {
+        Client client = underTest.getClientForSharedEndpoint(ENDPOINT, "server-cert", null, null, false);
+        Client otherClient = underTest.getClientForSharedEndpoint(ENDPOINT, "other-server-cert", null, null, false);
+
+        assertNotSame(client, otherClient);
+        assertSame(client, underTest.getClientForSharedEndpoint(ENDPOINT, "server-cert", null, null, false));
+        assertEquals(2L, underTest.getCachedClientCount());
+    }
+
+    @Test
+    void testRemovedClientIsClosedWhenItIsNotUsedAnymore() {
+        Client client = underTest.getClient(ENDPOINT, null, null, null, false);
+        underTest.invalidate(ENDPOINT);
+        assertEquals(1L, underTest.getRetiredClientCount());
+
+        ReflectionTestUtils.setField(underTest, "idleConnectionTimeoutSeconds", 60L);
+        underTest.closeRetiredClients();
+        assertEquals(1L, underTest.getRetiredClientCount());
+
+        ReflectionTestUtils.setField(underTest, "idleConnectionTimeoutSeconds", 0L);
+        underTest.closeRetiredClients();
+
+        assertEquals(0L, underTest.getRetiredClientCount());
+        assertThrows(IllegalStateException.class, () -> client.target(ENDPOINT));
+    }
+
+    @Test
+    void testRemovedClientIsNotClosedWhileItIsUsed() {
+        Client client = underTest.getClient(ENDPOINT, null, null, null, false);
+        underTest.invalidate(ENDPOINT);
+        Queue<?> retiredClients = (Queue<?>) ReflectionTestUtils.getField(underTest, "retiredClients");
+        ReflectionTestUtils.setField(retiredClients.peek(), "lastUsed", 0L);
+
+        assertThrows(ProcessingException.class, () -> client.target("http://localhost:1").request().get());
+        ReflectionTestUtils.setField(underTest, "idleConnectionTimeoutSeconds", 60L);
+        underTest.closeRetiredClients();
+
+        assertEquals(1L, underTest.getRetiredClientCount());
+    }
+
+    @Test
+    void testSslContextIsSharedForSameCertificates() throws Exception {
+        assertSame(underTest.getSslContext(null, null, null), underTest.getSslContext(null, null, null));
+    }
+}
@@ -12,6 +12,7 @@ import org.reflections.scanners.TypeAnnotationsScanner;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.Sets;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.BatchStatusCheckerJob;
 import com.sequenceiq.cloudbreak.quartz.statuschecker.job.StatusCheckerJob;
 
 public class EnforceStatusCheckerAnnotationUtil {
@@ -27,10 +28,10 @@ public class EnforceStatusCheckerAnnotationUtil {
     public static void enforceDisablingConcurrentExecution() {
         Set<Class> annotatedStatusCheckers = REFLECTIONS.getTypesAnnotatedWith(DisallowConcurrentExecution.class)
                 .stream()
-                .filter(clazz -> StatusCheckerJob.class.isAssignableFrom(clazz))
+                .filter(clazz -> StatusCheckerJob.class.isAssignableFrom(clazz) || BatchStatusCheckerJob.class.isAssignableFrom(clazz))
                 .collect(Collectors.toSet());
-        Set<Class<? extends StatusCheckerJob>> statusCheckers = REFLECTIONS.getSubTypesOf(StatusCheckerJob.class);
-        Set<Class<? extends StatusCheckerJob>> statusCheckersWithMissingAnnotation =
+        Set<Class> statusCheckers = Sets.union(REFLECTIONS.getSubTypesOf(StatusCheckerJob.class), REFLECTIONS.getSubTypesOf(BatchStatusCheckerJob.class));
+        Set<Class> statusCheckersWithMissingAnnotation =
                 Sets.difference(statusCheckers, annotatedStatusCheckers);
         assertTrue("These classes are missing @DisallowConcurrentExecution annotation: " + Joiner.on(",").join(statusCheckersWithMissingAnnotation),
                 statusCheckersWithMissingAnnotation.isEmpty());
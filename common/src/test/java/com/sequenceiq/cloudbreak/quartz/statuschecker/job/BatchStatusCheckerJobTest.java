@@ -0,0 +1,138 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerConfig;
+
+import io.opentracing.Tracer;
+
+@ExtendWith(MockitoExtension.class)
+class BatchStatusCheckerJobTest {
+
+    @Mock
+    private StatusCheckerConfig statusCheckerConfig;
+
+    @Spy
+    private ExecutorService statusCheckerBatchExecutor = Executors.newFixedThreadPool(3);
+
+    @InjectMocks
+    private TestBatchStatusCheckerJob underTest = new TestBatchStatusCheckerJob(mock(Tracer.class));
+
+    @AfterEach
+    void tearDown() {
+        statusCheckerBatchExecutor.shutdownNow();
+    }
+
+    @Test
+    void testResourcesAreLoadedInBatchesAndAllSynced() throws JobExecutionException {
+        when(statusCheckerConfig.getBatchSize()).thenReturn(3);
+
+        underTest.executeTracedJob(mock(JobExecutionContext.class));
+
+        assertEquals(List.of(List.of(1L, 2L, 3L), List.of(4L, 5L)), underTest.loadedBatches);
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), underTest.syncedResources);
+    }
+
+    @Test
+    void testResourcesOfABatchAreSyncedInParallel() throws JobExecutionException {
+        when(statusCheckerConfig.getBatchSize()).thenReturn(3);
+        underTest.firstBatchLatch = new CountDownLatch(3);
+
+        underTest.executeTracedJob(mock(JobExecutionContext.class));
+
+        assertEquals(0L, underTest.firstBatchLatch.getCount());
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), underTest.syncedResources);
+    }
+
+    @Test
+    void testFailingResourceDoesNotStopTheOthers() throws JobExecutionException {
+        when(statusCheckerConfig.getBatchSize()).thenReturn(5);
+        underTest.failingResource = 1L;
+
+        underTest.executeTracedJob(mock(JobExecutionContext.class));
+
+        assertEquals(Set.of(2L, 3L, 4L, 5L), underTest.syncedResources);
+    }
+
+    private static class TestBatchStatusCheckerJob extends BatchStatusCheckerJob<Long> {
+
+        private final List<List<Long>> loadedBatches = new ArrayList<>();
+
+        private final Set<Long> syncedResources = ConcurrentHashMap.newKeySet();
+
+        private Long failingResource;
+
+        private CountDownLatch firstBatchLatch;
+
+        TestBatchStatusCheckerJob(Tracer tracer) {
+            super(tracer, "test");
+        }
+
+        @Override
+        protected List<Long> findSyncableResourceIds() {
+            return List.of(1L, 2L, 3L, 4L, 5L);
+        }
+
+        @Override
+        protected Collection<Long> loadBatch(Collection<Long> resourceIds) {
+            loadedBatches.add(new ArrayList<>(resourceIds));
+            return resourceIds.stream().collect(Collectors.toList());
+        }
+
+        @Override
+        protected void syncResource(Long resource) {
+            if (resource.equals(failingResource)) {
+                throw new IllegalStateException("sync failed");
+            }
+            if (firstBatchLatch != null && resource <= 3L) {
+                firstBatchLatch.countDown();
+                awaitOtherResourcesOfTheBatch();
+            }
+            syncedResources.add(resource);
+        }
+
+        @Override
+        protected Long getResourceId(Long resource) {
+            return resource;
+        }
+
+        @Override
+        public Class<? extends StatusCheckerJob> getReplacedJobClass() {
+            return StatusCheckerJob.class;
+        }
+
+        private void awaitOtherResourcesOfTheBatch() {
+            try {
+                if (!firstBatchLatch.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("resources of the batch were not synced in parallel");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.sequenceiq.cloudbreak.quartz.statuschecker.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDetail;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+
+import com.sequenceiq.cloudbreak.quartz.model.JobResourceAdapter;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.StatusCheckerConfig;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.BatchStatusCheckerJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.StatusCheckerJob;
+
+@ExtendWith(MockitoExtension.class)
+class StatusCheckerJobServiceTest {
+
+    private static final int INTERVAL_IN_SECONDS = 180;
+
+    @Mock
+    private StatusCheckerConfig properties;
+
+    @Mock
+    private Scheduler scheduler;
+
+    @InjectMocks
+    private StatusCheckerJobService underTest;
+
+    @Test
+    void testBatchJobReplacesThePerResourceJobs() throws SchedulerException {
+        BatchStatusCheckerJob<?> batchJob = mock(BatchStatusCheckerJob.class);
+        when(batchJob.isAutoSyncEnabled()).thenReturn(true);
+        doReturn(StatusCheckerJob.class).when(batchJob).getReplacedJobClass();
+        when(properties.getIntervalInSeconds()).thenReturn(INTERVAL_IN_SECONDS);
+        JobResourceAdapter<?> resource = mockResource();
+
+        underTest.scheduleBatch(batchJob);
+        underTest.schedule(resource);
+
+        verify(scheduler, times(1)).scheduleJob(any(JobDetail.class), any(Trigger.class));
+    }
+
+    @Test
+    void testBatchJobIsNotScheduledWhenAutoSyncIsDisabled() throws SchedulerException {
+        BatchStatusCheckerJob<?> batchJob = mock(BatchStatusCheckerJob.class);
+        when(batchJob.isAutoSyncEnabled()).thenReturn(false);
+
+        underTest.scheduleBatch(batchJob);
+
+        verify(scheduler, never()).scheduleJob(any(JobDetail.class), any(Trigger.class));
+        verify(batchJob, never()).getReplacedJobClass();
+    }
+
+    private JobResourceAdapter<?> mockResource() {
+        JobResourceAdapter<?> resource = mock(JobResourceAdapter.class);
+        when(resource.getLocalId()).thenReturn("1");
+        doReturn(StatusCheckerJob.class).when(resource).getJobClassForResource();
+        return resource;
+    }
+}
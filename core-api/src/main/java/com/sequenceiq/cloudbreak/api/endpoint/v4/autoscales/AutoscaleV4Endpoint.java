@@ -19,6 +19,7 @@ import javax.ws.rs.QueryParam;
 import com.cloudera.cdp.shaded.javax.ws.rs.core.MediaType;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.request.UpdateStackV4Request;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AuthorizeForAutoscaleV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackV4Responses;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.CertificateV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.ClusterProxyConfiguration;
@@ -86,6 +87,13 @@ public interface AutoscaleV4Endpoint {
     @ApiOperation(value = StackOpDescription.GET_BY_CRN, produces = APPLICATION_JSON, notes = Notes.STACK_NOTES, nickname = "getStackStatusForAutoscale")
     StackStatusV4Response getStatusByCrn(@PathParam("crn") String crn);
 
+    @GET
+    @Path("/stack/crn/{crn}/topology")
+    @Produces(APPLICATION_JSON)
+    @ApiOperation(value = StackOpDescription.GET_AUTOSCALE_TOPOLOGY_BY_CRN, produces = APPLICATION_JSON, notes = Notes.STACK_NOTES,
+            nickname = "getStackTopologyForAutoscale")
+    AutoscaleStackTopologyV4Response getTopologyByCrn(@PathParam("crn") String crn);
+
     @GET
     @Path("/stack/crn/{crn}/authorize/{userId}/{tenant}/{permission}")
     @Produces(APPLICATION_JSON)
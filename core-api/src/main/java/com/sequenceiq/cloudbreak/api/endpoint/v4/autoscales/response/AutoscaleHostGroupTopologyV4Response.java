@@ -0,0 +1,58 @@
+package com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class AutoscaleHostGroupTopologyV4Response {
+
+    @ApiModelProperty
+    private String name;
+
+    @ApiModelProperty("number of the not terminated instances of the host group")
+    private int nodeCount;
+
+    @ApiModelProperty("cloud instance ids of the not terminated instances of the host group by their discovery FQDN")
+    private Map<String, String> instanceIdsByFqdn = new HashMap<>();
+
+    public AutoscaleHostGroupTopologyV4Response() {
+    }
+
+    public AutoscaleHostGroupTopologyV4Response(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public void setNodeCount(int nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+
+    public Map<String, String> getInstanceIdsByFqdn() {
+        return instanceIdsByFqdn;
+    }
+
+    public void setInstanceIdsByFqdn(Map<String, String> instanceIdsByFqdn) {
+        this.instanceIdsByFqdn = instanceIdsByFqdn;
+    }
+
+    @Override
+    public String toString() {
+        return "AutoscaleHostGroupTopologyV4Response{"
+                + "name='" + name + '\''
+                + ", nodeCount=" + nodeCount
+                + ", instanceIdsByFqdn=" + instanceIdsByFqdn
+                + '}';
+    }
+}
@@ -0,0 +1,78 @@
+package com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sequenceiq.cloudbreak.api.endpoint.v4.common.Status;
+import com.sequenceiq.cloudbreak.doc.ModelDescriptions.StackModelDescription;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class AutoscaleStackTopologyV4Response {
+
+    @ApiModelProperty
+    private String crn;
+
+    @ApiModelProperty
+    private Status status;
+
+    @ApiModelProperty
+    private Status clusterStatus;
+
+    @ApiModelProperty(StackModelDescription.NODE_COUNT)
+    private int nodeCount;
+
+    @ApiModelProperty
+    private List<AutoscaleHostGroupTopologyV4Response> hostGroups = new ArrayList<>();
+
+    public String getCrn() {
+        return crn;
+    }
+
+    public void setCrn(String crn) {
+        this.crn = crn;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Status getClusterStatus() {
+        return clusterStatus;
+    }
+
+    public void setClusterStatus(Status clusterStatus) {
+        this.clusterStatus = clusterStatus;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public void setNodeCount(int nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+
+    public List<AutoscaleHostGroupTopologyV4Response> getHostGroups() {
+        return hostGroups;
+    }
+
+    public void setHostGroups(List<AutoscaleHostGroupTopologyV4Response> hostGroups) {
+        this.hostGroups = hostGroups;
+    }
+
+    @Override
+    public String toString() {
+        return "AutoscaleStackTopologyV4Response{"
+                + "crn='" + crn + '\''
+                + ", status=" + status
+                + ", clusterStatus=" + clusterStatus
+                + ", nodeCount=" + nodeCount
+                + ", hostGroups=" + hostGroups
+                + '}';
+    }
+}
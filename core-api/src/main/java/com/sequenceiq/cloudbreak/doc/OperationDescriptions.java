@@ -25,6 +25,7 @@ public class OperationDescriptions {
         public static final String GET_BY_CRN_IN_WORKSPACE = "get stack by crn in workspace";
         public static final String GET_AUTOSCALE_BY_NAME = "get autoscale stack by name in workspace";
         public static final String GET_AUTOSCALE_BY_CRN = "get autoscale stack by crn in workspace";
+        public static final String GET_AUTOSCALE_TOPOLOGY_BY_CRN = "get the host groups and instances of the stack by crn for autoscaling";
         public static final String CREATE_IN_WORKSPACE = "create stack in workspace";
         public static final String CREATE_IN_WORKSPACE_INTERNAL = "create stack in workspace, internal only";
         public static final String DELETE_BY_NAME_IN_WORKSPACE = "delete stack by name in workspace";
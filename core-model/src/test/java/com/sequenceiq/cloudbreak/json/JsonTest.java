@@ -2,6 +2,7 @@ package com.sequenceiq.cloudbreak.json;
 
 import static org.hamcrest.core.Is.is;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.Assert;
@@ -58,6 +59,66 @@ public class JsonTest {
         Assert.assertThat(value.toString(), is("{\"depth3\":\"value\"}"));
     }
 
+    @Test
+    public void testGetValueAfterReplaceValue() {
+        Json json = new Json("{\"depth1\":{\"depth2\":\"value\"}}");
+        String value = json.getValue("depth1.depth2");
+        Assert.assertThat(value, is("value"));
+
+        json.replaceValue("depth1.depth2", "newValue");
+
+        String newValue = json.getValue("depth1.depth2");
+        Map<String, Object> expected = Map.of("depth1", Map.of("depth2", "newValue"));
+        Assert.assertThat(newValue, is("newValue"));
+        Assert.assertThat(json.getMap(), is(expected));
+    }
+
+    @Test
+    public void testGetMapReturnsNewMapOnEveryCall() {
+        Json json = new Json(Map.of("key", "value"));
+
+        Map<String, Object> first = json.getMap();
+        first.put("other", "value");
+
+        Map<String, Object> expected = new HashMap<>(Map.of("key", "value"));
+        Assert.assertThat(json.getMap(), is(expected));
+    }
+
+    @Test
+    public void testGetValueOfLeavesIsTheSameAsJsonLib() {
+        String js = "{\"leaves\":{"
+                + "\"int\":1,\"negative\":-42,\"long\":12345678901234,\"bigInteger\":123456789012345678901234567890,"
+                + "\"decimal\":1.5,\"preciseDecimal\":3.141592653589793238,\"exponent\":1e3,"
+                + "\"true\":true,\"false\":false,\"null\":null,\"nullString\":\"null\",\"trueString\":\"true\","
+                + "\"text\":\"value\",\"emptyText\":\"\",\"quotedText\":\"'quoted'\","
+                + "\"objectText\":\"{\\\"key\\\":\\\"value\\\"}\",\"arrayText\":\"[1,2]\","
+                + "\"object\":{\"key\":\"value\"},\"array\":[1,\"two\"]}}";
+        Json json = new Json(js);
+        JSONObject jsonLibLeaves = JSONObject.fromObject(js).getJSONObject("leaves");
+
+        for (Object key : jsonLibLeaves.keySet()) {
+            Object expected = jsonLibLeaves.get(key);
+            Object actual = json.getValue("leaves." + key);
+
+            Assert.assertEquals("Value of " + key, expected, actual);
+            Assert.assertEquals("Type of " + key, expected.getClass(), actual.getClass());
+        }
+        Assert.assertNull(json.getValue("leaves.missing"));
+    }
+
+    @Test
+    public void testGetValueAfterRemove() {
+        Json json = new Json("{\"depth1\":{\"depth2\":\"value\",\"other\":1}}");
+        String value = json.getValue("depth1.depth2");
+        Assert.assertThat(value, is("value"));
+
+        json.remove("depth1.depth2");
+
+        Map<String, Object> expected = Map.of("depth1", Map.of("other", 1));
+        Assert.assertNull(json.getValue("depth1.depth2"));
+        Assert.assertThat(json.getMap(), is(expected));
+    }
+
     @Test
     public void test() {
         String js = "{\"depth1\":{\"depth2\":\"value\"}}";
@@ -26,6 +26,7 @@ import com.sequenceiq.authorization.resource.AuthorizationResourceAction;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.AutoscaleV4Endpoint;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.request.UpdateStackV4Request;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AuthorizeForAutoscaleV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackV4Responses;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.CertificateV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.ClusterProxyConfiguration;
@@ -133,6 +134,13 @@ public class AutoscaleV4Controller implements AutoscaleV4Endpoint {
         return stackOperations.getStatus(crn);
     }
 
+    @Override
+    @DisableCheckPermissions
+    @PreAuthorize("hasRole('AUTOSCALE')")
+    public AutoscaleStackTopologyV4Response getTopologyByCrn(@TenantAwareParam String crn) {
+        return stackCommonService.getTopologyForAutoscale(crn);
+    }
+
     @Override
     @DisableCheckPermissions
     @PreAuthorize("hasRole('AUTOSCALE')")
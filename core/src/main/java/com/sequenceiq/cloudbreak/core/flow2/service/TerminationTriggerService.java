@@ -20,6 +20,7 @@ import com.sequenceiq.flow.core.ApplicationFlowInformation;
 import com.sequenceiq.flow.core.FlowLogService;
 import com.sequenceiq.flow.domain.FlowLog;
 import com.sequenceiq.flow.service.FlowCancelService;
+import com.sequenceiq.flow.service.flowlog.codec.FlowPayloadCodecs;
 
 @Service
 public class TerminationTriggerService {
@@ -56,7 +57,7 @@ public class TerminationTriggerService {
         Optional<FlowLog> optionalFlowLog = findLatestTerminationFlowLogWithInitState(stack);
         if (optionalFlowLog.isPresent()) {
             FlowLog flowLog = optionalFlowLog.get();
-            LOGGER.debug("Found termination flowlog with id [{}] and payload [{}]", flowLog.getFlowId(), flowLog.getPayload());
+            LOGGER.debug("Found termination flowlog with id [{}] and payload [{}]", flowLog.getFlowId(), FlowPayloadCodecs.getPayloadJson(flowLog));
             handleIfFlowLogExistsForTermination(stack, forced, flowLog);
         } else {
             LOGGER.debug("Couldn't find termination FlowLog with 'INIT_STATE'. Triggering termination");
@@ -87,7 +88,7 @@ public class TerminationTriggerService {
     private boolean isRunningFlowForced(FlowLog fl) {
         Class<?> payloadType = fl.getPayloadType();
         if (TerminationEvent.class.equals(payloadType)) {
-            TerminationEvent payload = (TerminationEvent) JsonReader.jsonToJava(fl.getPayload());
+            TerminationEvent payload = (TerminationEvent) JsonReader.jsonToJava(FlowPayloadCodecs.getPayloadJson(fl));
             return Boolean.TRUE.equals(payload.getForced());
         } else {
             LOGGER.warn("Payloadtype [{}] is not 'TerminationEvent' for flow [{}]", fl.getPayloadType(), fl.getFlowId());
@@ -128,10 +128,11 @@ public class StackUpscaleService {
 
     public void setupTls(StackContext context) throws CloudbreakException {
         Stack stack = context.getStack();
-        for (InstanceMetaData gwInstance : stack.getGatewayInstanceMetadata()) {
-            if (!stack.getTunnel().useCcm() && CREATED.equals(gwInstance.getInstanceStatus())) {
-                tlsSetupService.setupTls(stack, gwInstance);
-            }
+        if (!stack.getTunnel().useCcm()) {
+            List<InstanceMetaData> createdGateways = stack.getGatewayInstanceMetadata().stream()
+                    .filter(gwInstance -> CREATED.equals(gwInstance.getInstanceStatus()))
+                    .collect(Collectors.toList());
+            tlsSetupService.setupTls(stack, createdGateways);
         }
     }
 
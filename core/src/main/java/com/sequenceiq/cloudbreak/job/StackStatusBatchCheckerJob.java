@@ -0,0 +1,103 @@
+package com.sequenceiq.cloudbreak.job;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.domain.stack.Stack;
+import com.sequenceiq.cloudbreak.domain.stack.instance.InstanceMetaData;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.BatchStatusCheckerJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.StatusCheckerJob;
+import com.sequenceiq.cloudbreak.service.stack.InstanceMetaDataService;
+import com.sequenceiq.cloudbreak.service.stack.StackService;
+import com.sequenceiq.flow.core.FlowLogService;
+
+import io.opentracing.Tracer;
+
+/**
+ * Syncs the stacks in batches. The stacks of a batch and their not terminated instances are loaded with one query each. Every stack
+ * still queries its own instances on the provider, after its cluster manager has been checked, because the instances to query
+ * depend on the host statuses reported by the cluster manager.
+ */
+@DisallowConcurrentExecution
+@Component
+public class StackStatusBatchCheckerJob extends BatchStatusCheckerJob<StackStatusBatchCheckerJob.StackWithRunningInstances> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StackStatusBatchCheckerJob.class);
+
+    @Inject
+    private StackService stackService;
+
+    @Inject
+    private InstanceMetaDataService instanceMetaDataService;
+
+    @Inject
+    private FlowLogService flowLogService;
+
+    @Inject
+    private StackStatusCheckerJob stackStatusCheckerJob;
+
+    public StackStatusBatchCheckerJob(Tracer tracer) {
+        super(tracer, "Stack Status Batch Checker Job");
+    }
+
+    @Override
+    protected List<Long> findSyncableResourceIds() {
+        return stackService.getAliveIdsByStatuses(stackStatusCheckerJob.syncableStates());
+    }
+
+    @Override
+    protected Collection<StackWithRunningInstances> loadBatch(Collection<Long> resourceIds) {
+        Set<Long> stacksWithRunningFlow = flowLogService.findAllResourceIdsWithRunningFlow(resourceIds);
+        if (!stacksWithRunningFlow.isEmpty()) {
+            LOGGER.debug("Stack sync is skipped, because flow is running for stacks: {}", stacksWithRunningFlow);
+        }
+        List<Long> stackIds = resourceIds.stream()
+                .filter(id -> !stacksWithRunningFlow.contains(id))
+                .collect(Collectors.toList());
+        if (stackIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Set<InstanceMetaData>> runningInstancesByStackId = instanceMetaDataService.findNotTerminatedForStacks(stackIds);
+        return stackService.getAllByIds(stackIds).stream()
+                .map(stack -> new StackWithRunningInstances(stack, runningInstancesByStackId.getOrDefault(stack.getId(), Collections.emptySet())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void syncResource(StackWithRunningInstances resource) {
+        stackStatusCheckerJob.syncStack(resource.stack, resource.runningInstances);
+    }
+
+    @Override
+    protected Long getResourceId(StackWithRunningInstances resource) {
+        return resource.stack.getId();
+    }
+
+    @Override
+    public Class<? extends StatusCheckerJob> getReplacedJobClass() {
+        return StackStatusCheckerJob.class;
+    }
+
+    static class StackWithRunningInstances {
+
+        private final Stack stack;
+
+        private final Set<InstanceMetaData> runningInstances;
+
+        StackWithRunningInstances(Stack stack, Set<InstanceMetaData> runningInstances) {
+            this.stack = stack;
+            this.runningInstances = runningInstances;
+        }
+    }
+}
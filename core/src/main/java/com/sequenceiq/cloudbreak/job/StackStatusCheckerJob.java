@@ -195,8 +195,19 @@ public class StackStatusCheckerJob extends StatusCheckerJob {
     }
 
     private void doSync(Stack stack) {
+        doSync(stack, instanceMetaDataService.findNotTerminatedForStack(stack.getId()));
+    }
+
+    /**
+     * Syncs a stack with the instance metadata loaded for a whole batch.
+     * Used by {@link StackStatusBatchCheckerJob}, it does not rely on the local id of the job.
+     */
+    void syncStack(Stack stack, Set<InstanceMetaData> runningInstances) {
+        ThreadBasedUserCrnProvider.doAs(DATAHUB_INTERNAL_ACTOR_CRN, () -> doSync(stack, runningInstances));
+    }
+
+    private void doSync(Stack stack, Set<InstanceMetaData> runningInstances) {
         ClusterApi connector = clusterApiConnectors.getConnector(stack);
-        Set<InstanceMetaData> runningInstances = instanceMetaDataService.findNotTerminatedForStack(stack.getId());
         try {
             if (isClusterManagerRunning(stack, connector)) {
                 ExtendedHostStatuses extendedHostStatuses = connector.clusterStatusService().getExtendedHostStatuses();
@@ -220,7 +231,7 @@ public class StackStatusCheckerJob extends StatusCheckerJob {
                 .filter(i -> !Set.of(SERVICES_UNHEALTHY, STOPPED).contains(i.getInstanceStatus()))
                 .map(InstanceMetaData::getDiscoveryFQDN)
                 .collect(toSet());
-        ifFlowNotRunning(() -> updateStates(stack, failedInstances, newFailedNodeNames, newHealtyHostNames, hostCertExpiring));
+        ifFlowNotRunning(stack.getId(), () -> updateStates(stack, failedInstances, newFailedNodeNames, newHealtyHostNames, hostCertExpiring));
         syncInstances(stack, runningInstances, failedInstances, InstanceSyncState.RUNNING, true);
     }
 
@@ -237,8 +248,8 @@ public class StackStatusCheckerJob extends StatusCheckerJob {
         }
     }
 
-    private void ifFlowNotRunning(Runnable function) {
-        if (flowLogService.isOtherFlowRunning(getStackId())) {
+    private void ifFlowNotRunning(Long stackId, Runnable function) {
+        if (flowLogService.isOtherFlowRunning(stackId)) {
             return;
         }
         function.run();
@@ -270,7 +281,7 @@ public class StackStatusCheckerJob extends StatusCheckerJob {
         List<CloudVmInstanceStatus> instanceStatuses = stackInstanceStatusChecker.queryInstanceStatuses(stack, cloudInstances);
         LOGGER.debug("Cluster '{}' state check on provider, instances: {}", stack.getId(), instanceStatuses);
         SyncConfig syncConfig = new SyncConfig(true, cmServerRunning);
-        ifFlowNotRunning(() -> syncService.autoSync(stack, runningInstances, instanceStatuses, defaultState, syncConfig));
+        ifFlowNotRunning(stack.getId(), () -> syncService.autoSync(stack, runningInstances, instanceStatuses, defaultState, syncConfig));
     }
 
     private ClusterStatusResult queryClusterStatus(ClusterApi connector) {
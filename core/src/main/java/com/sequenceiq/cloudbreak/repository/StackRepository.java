@@ -121,6 +121,10 @@ public interface StackRepository extends WorkspaceResourceRepository<Stack, Long
             + "WHERE s.stackStatus.status IN :statuses AND (s.type is not 'TEMPLATE' OR s.type is null)")
     List<StackStatusView> findByStatuses(@Param("statuses") List<Status> statuses);
 
+    @Query("SELECT s.id FROM Stack s WHERE s.stackStatus.status IN :statuses AND s.terminated = null AND (s.type is not 'TEMPLATE' OR s.type is null) "
+            + "ORDER BY s.id")
+    List<Long> findAliveIdsByStatuses(@Param("statuses") Collection<Status> statuses);
+
     @Query("SELECT s.id as id, "
             + "s.resourceCrn as crn, "
             + "ss.status as status, "
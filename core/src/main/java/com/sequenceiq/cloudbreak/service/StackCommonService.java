@@ -4,7 +4,9 @@ import static com.sequenceiq.cloudbreak.common.anonymizer.AnonymizerUtil.anonymi
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import javax.inject.Inject;
 
@@ -15,6 +17,8 @@ import org.springframework.stereotype.Service;
 
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.request.AmbariAddressV4Request;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.request.UpdateStackV4Request;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleHostGroupTopologyV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.CertificateV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.common.StackType;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.dto.NameOrCrn;
@@ -36,6 +40,7 @@ import com.sequenceiq.cloudbreak.controller.StackCreatorService;
 import com.sequenceiq.cloudbreak.controller.validation.filesystem.FileSystemValidator;
 import com.sequenceiq.cloudbreak.converter.spi.CredentialToCloudCredentialConverter;
 import com.sequenceiq.cloudbreak.domain.ImageCatalog;
+import com.sequenceiq.cloudbreak.domain.projection.StackClusterStatusView;
 import com.sequenceiq.cloudbreak.domain.stack.Stack;
 import com.sequenceiq.cloudbreak.domain.stack.StackValidation;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
@@ -45,6 +50,7 @@ import com.sequenceiq.cloudbreak.service.cluster.flow.ClusterOperationService;
 import com.sequenceiq.cloudbreak.service.image.ImageCatalogService;
 import com.sequenceiq.cloudbreak.service.image.ImageChangeDto;
 import com.sequenceiq.cloudbreak.service.stack.CloudParameterCache;
+import com.sequenceiq.cloudbreak.service.stack.InstanceMetaDataService;
 import com.sequenceiq.cloudbreak.service.stack.StackService;
 import com.sequenceiq.cloudbreak.service.stack.flow.StackOperationService;
 import com.sequenceiq.cloudbreak.service.user.UserService;
@@ -115,6 +121,9 @@ public class StackCommonService {
     @Inject
     private BlueprintUpdaterConnectors blueprintUpdaterConnectors;
 
+    @Inject
+    private InstanceMetaDataService instanceMetaDataService;
+
     public StackV4Response createInWorkspace(StackV4Request stackRequest, User user, Workspace workspace, boolean distroxRequest) {
         return stackCreatorService.createStack(user, workspace, stackRequest, distroxRequest);
     }
@@ -265,6 +274,32 @@ public class StackCommonService {
         return stackService.getByAmbariAddress(json.getAmbariAddress());
     }
 
+    /**
+     * Builds the host groups and the not terminated instances of the stack from the status projection and the instance metadata, without
+     * loading and converting the whole stack like {@link #getByCrn(String, Set)} does.
+     */
+    public AutoscaleStackTopologyV4Response getTopologyForAutoscale(String crn) {
+        StackClusterStatusView stackStatus = stackService.getStatusByCrn(crn);
+        Map<String, AutoscaleHostGroupTopologyV4Response> hostGroups = new TreeMap<>();
+        instanceMetaDataService.getAllInstanceMetadataByStackId(stackStatus.getId()).stream()
+                .filter(instanceMetaData -> !instanceMetaData.isTerminated())
+                .forEach(instanceMetaData -> {
+                    AutoscaleHostGroupTopologyV4Response hostGroup = hostGroups.computeIfAbsent(instanceMetaData.getInstanceGroupName(),
+                            AutoscaleHostGroupTopologyV4Response::new);
+                    hostGroup.setNodeCount(hostGroup.getNodeCount() + 1);
+                    if (instanceMetaData.getDiscoveryFQDN() != null) {
+                        hostGroup.getInstanceIdsByFqdn().put(instanceMetaData.getDiscoveryFQDN(), instanceMetaData.getInstanceId());
+                    }
+                });
+        AutoscaleStackTopologyV4Response response = new AutoscaleStackTopologyV4Response();
+        response.setCrn(stackStatus.getCrn());
+        response.setStatus(stackStatus.getStatus());
+        response.setClusterStatus(stackStatus.getClusterStatus());
+        response.setNodeCount(hostGroups.values().stream().mapToInt(AutoscaleHostGroupTopologyV4Response::getNodeCount).sum());
+        response.setHostGroups(List.copyOf(hostGroups.values()));
+        return response;
+    }
+
     public Set<AutoscaleStackV4Response> getAllForAutoscale() {
         LOGGER.debug("Get all stack, autoscale authorized only.");
         return stackService.getAllForAutoscale();
@@ -7,14 +7,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.client.Client;
+import javax.ws.rs.client.Invocation.Builder;
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.Response.Status.Family;
 
 import org.apache.commons.lang3.StringUtils;
@@ -28,6 +32,8 @@ import org.springframework.util.CollectionUtils;
 
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sequenceiq.cloudbreak.client.RestClientUtil;
 import com.sequenceiq.cloudbreak.cloud.model.catalog.CloudbreakImageCatalogV3;
 import com.sequenceiq.cloudbreak.cloud.model.catalog.Image;
@@ -40,6 +46,10 @@ import com.sequenceiq.cloudbreak.util.FileReaderUtils;
 public class CachedImageCatalogProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(CachedImageCatalogProvider.class);
 
+    private static final long MAX_REMOTE_CATALOGS = 100L;
+
+    private static final long REMOTE_CATALOG_TTL_HOURS = 1L;
+
     @Value("${cb.etc.config.dir:}")
     private String etcConfigDir;
 
@@ -52,6 +62,15 @@ public class CachedImageCatalogProvider {
     @Inject
     private ImageCatalogServiceProxy imageCatalogServiceProxy;
 
+    /**
+     * The validators and the parsed catalog of the last download by catalog url, which outlive the imageCatalogCache entry so an expired
+     * catalog can be revalidated. A catalog is downloaded and parsed again at least once an hour.
+     */
+    private final Cache<String, RemoteCatalog> remoteCatalogs = Caffeine.newBuilder()
+            .maximumSize(MAX_REMOTE_CATALOGS)
+            .expireAfterWrite(REMOTE_CATALOG_TTL_HOURS, TimeUnit.HOURS)
+            .build();
+
     @Cacheable(cacheNames = "imageCatalogCache", key = "#catalogUrl")
     public CloudbreakImageCatalogV3 getImageCatalogV3(String catalogUrl) throws CloudbreakImageCatalogException {
         CloudbreakImageCatalogV3 catalog;
@@ -66,15 +85,23 @@ public class CachedImageCatalogProvider {
             if (catalogUrl.startsWith("http")) {
                 Client client = RestClientUtil.get();
                 WebTarget target = client.target(catalogUrl);
-                Response response = target.request().get();
-                content = readResponse(target, response);
+                RemoteCatalog previous = remoteCatalogs.getIfPresent(catalogUrl);
+                Response response = conditionalRequest(target.request(), previous).get();
+                try {
+                    if (previous != null && response.getStatus() == Status.NOT_MODIFIED.getStatusCode()) {
+                        LOGGER.debug("ImageCatalog has not been modified at '{}' since the last download, the parsed catalog is reused.", catalogUrl);
+                        return previous.getCatalog();
+                    }
+                    content = readResponse(target, response);
+                    catalog = parseCatalog(content);
+                    rememberRemoteCatalog(catalogUrl, response, catalog);
+                } finally {
+                    response.close();
+                }
             } else {
                 content = readCatalogFromFile(catalogUrl);
+                catalog = parseCatalog(content);
             }
-            catalog = objectMapper.readValue(content, CloudbreakImageCatalogV3.class);
-            imageCatalogServiceProxy.validate(catalog);
-            cleanAndValidateMaps(catalog);
-            catalog = filterImagesByOsType(catalog);
             long timeOfParse = System.currentTimeMillis() - started;
             LOGGER.debug("ImageCatalog has been get and parsed from '{}' and took '{}' ms.", catalogUrl, timeOfParse);
         } catch (RuntimeException e) {
@@ -87,6 +114,38 @@ public class CachedImageCatalogProvider {
         return catalog;
     }
 
+    private CloudbreakImageCatalogV3 parseCatalog(String content) throws IOException, CloudbreakImageCatalogException {
+        CloudbreakImageCatalogV3 catalog = objectMapper.readValue(content, CloudbreakImageCatalogV3.class);
+        imageCatalogServiceProxy.validate(catalog);
+        cleanAndValidateMaps(catalog);
+        catalog = filterImagesByOsType(catalog);
+        // the lookup index is built once here, before the catalog is shared through the cache
+        catalog.getIndex();
+        return catalog;
+    }
+
+    private Builder conditionalRequest(Builder request, RemoteCatalog previous) {
+        if (previous != null) {
+            if (previous.getEntityTag() != null) {
+                request.header(HttpHeaders.IF_NONE_MATCH, previous.getEntityTag());
+            }
+            if (previous.getLastModified() != null) {
+                request.header(HttpHeaders.IF_MODIFIED_SINCE, previous.getLastModified());
+            }
+        }
+        return request;
+    }
+
+    private void rememberRemoteCatalog(String catalogUrl, Response response, CloudbreakImageCatalogV3 catalog) {
+        String entityTag = response.getHeaderString(HttpHeaders.ETAG);
+        String lastModified = response.getHeaderString(HttpHeaders.LAST_MODIFIED);
+        if (entityTag != null || lastModified != null) {
+            remoteCatalogs.put(catalogUrl, new RemoteCatalog(entityTag, lastModified, catalog));
+        } else {
+            remoteCatalogs.invalidate(catalogUrl);
+        }
+    }
+
     private CloudbreakImageCatalogV3 filterImagesByOsType(CloudbreakImageCatalogV3 catalog) {
         LOGGER.debug("Filtering images by OS type {}", getEnabledLinuxTypes());
         if (CollectionUtils.isEmpty(getEnabledLinuxTypes()) || Objects.isNull(catalog) || Objects.isNull(catalog.getImages())) {
@@ -162,4 +221,31 @@ public class CachedImageCatalogProvider {
                 .peek(i -> i.getImageSetsByProvider().values().removeIf(Objects::isNull))
                 .allMatch(i -> i.getImageSetsByProvider().isEmpty());
     }
+
+    private static class RemoteCatalog {
+
+        private final String entityTag;
+
+        private final String lastModified;
+
+        private final CloudbreakImageCatalogV3 catalog;
+
+        RemoteCatalog(String entityTag, String lastModified, CloudbreakImageCatalogV3 catalog) {
+            this.entityTag = entityTag;
+            this.lastModified = lastModified;
+            this.catalog = catalog;
+        }
+
+        String getEntityTag() {
+            return entityTag;
+        }
+
+        String getLastModified() {
+            return lastModified;
+        }
+
+        CloudbreakImageCatalogV3 getCatalog() {
+            return catalog;
+        }
+    }
 }
@@ -11,9 +11,7 @@ public class ImageProvider {
 
     public Image getCurrentImageFromCatalog(String currentImageId, CloudbreakImageCatalogV3 imageCatalog)
             throws CloudbreakImageNotFoundException {
-        return imageCatalog.getImages().getCdhImages().stream()
-                .filter(img -> currentImageId.equals(img.getUuid()))
-                .findFirst()
+        return imageCatalog.getIndex().getCdhImage(currentImageId)
                 .orElseThrow(() -> new CloudbreakImageNotFoundException(String.format("Image not found with id: %s", currentImageId)));
     }
 }
@@ -75,7 +75,7 @@ public class VersionBasedImageProvider {
         List<Image> cdhImages = filterImagesByPlatforms(imageFilter.getPlatforms(), imageCatalogV3.getImages().getCdhImages(), vMImageUUIDs);
 
         List<Image> defaultImages = defaultVMImageUUIDs.stream()
-                .map(imageId -> getImage(imageId, imageCatalogV3.getImages()))
+                .map(imageId -> imageCatalogV3.getIndex().getImage(imageId))
                 .flatMap(Optional::stream)
                 .collect(Collectors.toList());
 
@@ -109,18 +109,4 @@ public class VersionBasedImageProvider {
         return img -> vMImageUUIDs.contains(img.getUuid())
                 && img.getImageSetsByProvider().keySet().stream().anyMatch(p -> platforms.stream().anyMatch(platform -> platform.equalsIgnoreCase(p)));
     }
-
-    private Optional<? extends Image> getImage(String imageId, Images images) {
-        Optional<? extends Image> image = findFirstWithImageId(imageId, images.getBaseImages());
-        if (image.isEmpty()) {
-            image = findFirstWithImageId(imageId, images.getCdhImages());
-        }
-        return image;
-    }
-
-    private Optional<? extends Image> findFirstWithImageId(String imageId, Collection<? extends Image> images) {
-        return images.stream()
-                .filter(img -> img.getUuid().equals(imageId))
-                .findFirst();
-    }
 }
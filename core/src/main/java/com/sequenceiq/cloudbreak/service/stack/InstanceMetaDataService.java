@@ -1,8 +1,11 @@
 package com.sequenceiq.cloudbreak.service.stack;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -145,6 +148,11 @@ public class InstanceMetaDataService {
         return repository.findNotTerminatedForStack(stackId);
     }
 
+    public Map<Long, Set<InstanceMetaData>> findNotTerminatedForStacks(Collection<Long> stackIds) {
+        return repository.findNotTerminatedForStacks(stackIds).stream()
+                .collect(Collectors.groupingBy(im -> im.getInstanceGroup().getStack().getId(), Collectors.toSet()));
+    }
+
     public Set<InstanceMetaData> findNotTerminatedForStackWithoutInstanceGroups(Long stackId) {
         return repository.findNotTerminatedForStackWithoutInstanceGroups(stackId);
     }
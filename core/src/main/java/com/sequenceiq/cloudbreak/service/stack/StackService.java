@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -709,6 +710,22 @@ public class StackService implements ResourceIdProvider, ResourcePropertyProvide
         return stackRepository.findByStatuses(statuses);
     }
 
+    public List<Long> getAliveIdsByStatuses(Collection<Status> statuses) {
+        return stackRepository.findAliveIdsByStatuses(statuses);
+    }
+
+    public List<Stack> getAllByIds(Collection<Long> ids) {
+        try {
+            return transactionService.required(() -> {
+                List<Stack> stacks = new ArrayList<>();
+                stackRepository.findAllById(ids).forEach(stacks::add);
+                return stacks;
+            });
+        } catch (TransactionExecutionException e) {
+            throw new TransactionRuntimeExecutionException(e);
+        }
+    }
+
     public List<StackStatusView> getStatuses(Set<Long> stackIds) {
         return stackRepository.findStackStatusesWithoutAuth(stackIds);
     }
@@ -4,6 +4,13 @@ import static com.sequenceiq.cloudbreak.common.exception.NotFoundException.notFo
 
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 
 import javax.inject.Inject;
 import javax.net.ssl.SSLContext;
@@ -11,6 +18,7 @@ import javax.net.ssl.TrustManager;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.WebTarget;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.glassfish.jersey.SslConfigurator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +30,8 @@ import com.sequenceiq.cloudbreak.client.CertificateTrustManager.SavingX509TrustM
 import com.sequenceiq.cloudbreak.client.RestClientUtil;
 import com.sequenceiq.cloudbreak.domain.stack.Stack;
 import com.sequenceiq.cloudbreak.domain.stack.instance.InstanceMetaData;
-import com.sequenceiq.cloudbreak.polling.PollingService;
+import com.sequenceiq.cloudbreak.polling.AsyncPollingService;
+import com.sequenceiq.cloudbreak.polling.PollingResult;
 import com.sequenceiq.cloudbreak.polling.nginx.NginxCertListenerTask;
 import com.sequenceiq.cloudbreak.polling.nginx.NginxPollerObject;
 import com.sequenceiq.cloudbreak.service.CloudbreakException;
@@ -41,7 +50,7 @@ public class TlsSetupService {
     private static final int MAX_FAILURE = 1;
 
     @Inject
-    private PollingService<NginxPollerObject> nginxPollerService;
+    private AsyncPollingService asyncPollingService;
 
     @Inject
     private NginxCertListenerTask nginxCertListenerTask;
@@ -53,25 +62,26 @@ public class TlsSetupService {
     private InstanceMetaDataService instanceMetaDataService;
 
     public void setupTls(Stack stack, InstanceMetaData gwInstance) throws CloudbreakException {
+        setupTls(stack, List.of(gwInstance));
+    }
+
+    /**
+     * Fetches the certificate of the Nginx of every gateway. The gateways are polled at the same time on the scheduler of the
+     * {@link AsyncPollingService}, so the flow thread waits once for the slowest gateway instead of polling them one after the other.
+     */
+    public void setupTls(Stack stack, Collection<InstanceMetaData> gwInstances) throws CloudbreakException {
         try {
-            SavingX509TrustManager x509TrustManager = new SavingX509TrustManager();
-            TrustManager[] trustManagers = {x509TrustManager};
-            SSLContext sslContext = SslConfigurator.newInstance().createSSLContext();
-            sslContext.init(null, trustManagers, new SecureRandom());
-            Client client = RestClientUtil.createClient(sslContext, false);
-            Integer gatewayPort = stack.getGatewayPort();
-            String ip = gatewayConfigService.getGatewayIp(stack, gwInstance);
-            LOGGER.debug("Trying to fetch the server's certificate: {}:{}", ip, gatewayPort);
-            nginxPollerService.pollWithAbsoluteTimeout(
-                    nginxCertListenerTask, new NginxPollerObject(client, ip, gatewayPort, x509TrustManager),
-                    POLLING_INTERVAL, TEN_MIN, MAX_FAILURE);
-            WebTarget nginxTarget = client.target(String.format("https://%s:%d", ip, gatewayPort));
-            nginxTarget.path("/").request().get().close();
-            X509Certificate[] chain = x509TrustManager.getChain();
-            String serverCert = PkiUtil.convert(chain[0]);
-            InstanceMetaData metaData = getInstanceMetaData(gwInstance);
-            metaData.setServerCert(BaseEncoding.base64().encode(serverCert.getBytes()));
-            instanceMetaDataService.save(metaData);
+            Map<InstanceMetaData, NginxPollerObject> pollerObjects = new LinkedHashMap<>();
+            List<CompletableFuture<Pair<PollingResult, Exception>>> polls = new ArrayList<>();
+            for (InstanceMetaData gwInstance : gwInstances) {
+                NginxPollerObject pollerObject = createPollerObject(stack, gwInstance);
+                pollerObjects.put(gwInstance, pollerObject);
+                polls.add(asyncPollingService.pollWithAbsoluteTimeout(nginxCertListenerTask, pollerObject, POLLING_INTERVAL, TEN_MIN, MAX_FAILURE));
+            }
+            CompletableFuture.allOf(polls.toArray(CompletableFuture[]::new)).join();
+            for (Entry<InstanceMetaData, NginxPollerObject> pollerObject : pollerObjects.entrySet()) {
+                saveServerCert(pollerObject.getKey(), pollerObject.getValue());
+            }
         } catch (Exception e) {
             throw new CloudbreakException("Failed to retrieve the server's certificate from Nginx."
                     + " Please check your security group is open enough and the Management Console can access your VPC and subnet."
@@ -79,6 +89,28 @@ public class TlsSetupService {
         }
     }
 
+    private NginxPollerObject createPollerObject(Stack stack, InstanceMetaData gwInstance) throws Exception {
+        SavingX509TrustManager x509TrustManager = new SavingX509TrustManager();
+        TrustManager[] trustManagers = {x509TrustManager};
+        SSLContext sslContext = SslConfigurator.newInstance().createSSLContext();
+        sslContext.init(null, trustManagers, new SecureRandom());
+        Client client = RestClientUtil.createClient(sslContext, false);
+        Integer gatewayPort = stack.getGatewayPort();
+        String ip = gatewayConfigService.getGatewayIp(stack, gwInstance);
+        LOGGER.debug("Trying to fetch the server's certificate: {}:{}", ip, gatewayPort);
+        return new NginxPollerObject(client, ip, gatewayPort, x509TrustManager);
+    }
+
+    private void saveServerCert(InstanceMetaData gwInstance, NginxPollerObject pollerObject) throws Exception {
+        WebTarget nginxTarget = pollerObject.getClient().target(String.format("https://%s:%d", pollerObject.getIp(), pollerObject.getGatewayPort()));
+        nginxTarget.path("/").request().get().close();
+        X509Certificate[] chain = pollerObject.getTrustManager().getChain();
+        String serverCert = PkiUtil.convert(chain[0]);
+        InstanceMetaData metaData = getInstanceMetaData(gwInstance);
+        metaData.setServerCert(BaseEncoding.base64().encode(serverCert.getBytes()));
+        instanceMetaDataService.save(metaData);
+    }
+
     private InstanceMetaData getInstanceMetaData(InstanceMetaData gwInstance) {
         return instanceMetaDataService.findById(gwInstance.getId())
                 .orElseThrow(notFound("Instance metadata", gwInstance.getId()));
@@ -0,0 +1,109 @@
+package com.sequenceiq.cloudbreak.converter.spi;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.sequenceiq.cloudbreak.cloud.model.Image;
+import com.sequenceiq.cloudbreak.cloud.model.StackTags;
+import com.sequenceiq.cloudbreak.common.json.Json;
+import com.sequenceiq.cloudbreak.common.json.JsonUtil;
+import com.sequenceiq.common.api.type.InstanceGroupType;
+
+/**
+ * Measures the Json reads {@link StackToCloudStackConverter} does while it converts a stack: the template attributes and the image of every
+ * instance and the tags of the stack. The {@code memoized} variant reads the same Json objects on every conversion, like the converter does
+ * with the entities of a loaded stack, the {@code reparsed} variant parses the string on every read, like Json did before it kept the
+ * parsed tree.
+ * Run it with {@code ./gradlew :core:stackToCloudStackJsonBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StackToCloudStackJsonBenchmark {
+
+    private static final int INSTANCE_COUNT = 500;
+
+    private static final int GROUP_COUNT = 5;
+
+    @Param({"memoized", "reparsed"})
+    private String mode;
+
+    private List<Json> templateAttributes;
+
+    private List<Json> instanceImages;
+
+    private Json stackTags;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StackToCloudStackJsonBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        templateAttributes = new ArrayList<>();
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            Map<String, Object> attributes = new HashMap<>();
+            attributes.put("encrypted", Boolean.TRUE);
+            attributes.put("type", "DEFAULT");
+            attributes.put("spotPercentage", 0);
+            attributes.put("platformKey", "group" + i);
+            templateAttributes.add(new Json(attributes));
+        }
+        Map<InstanceGroupType, String> userData = new EnumMap<>(InstanceGroupType.class);
+        userData.put(InstanceGroupType.CORE, "#!/bin/bash\n" + "echo core userdata\n".repeat(100));
+        userData.put(InstanceGroupType.GATEWAY, "#!/bin/bash\n" + "echo gateway userdata\n".repeat(100));
+        Map<String, String> packageVersions = Map.of("cm", "7.2.8", "stack", "7.2.8", "salt", "3000.5");
+        Json image = new Json(new Image("cdp-runtime-7.2.8", userData, "centos7", "redhat7", "https://example.com/catalog", "cdp-default",
+                "image-id", packageVersions));
+        instanceImages = new ArrayList<>();
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            instanceImages.add(new Json(image.getValue()));
+        }
+        Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            tags.put("tag" + i, "value" + i);
+        }
+        stackTags = new Json(new StackTags(tags, Map.of(), Map.of("Cloudera-Resource-Name", "crn:cdp:datahub:us-west-1:account:cluster:id")));
+    }
+
+    @Benchmark
+    public void convert(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < INSTANCE_COUNT; i++) {
+            blackhole.consume(read(templateAttributes.get(i % GROUP_COUNT), Map.class));
+            blackhole.consume(read(instanceImages.get(i), Image.class).getImageName());
+        }
+        blackhole.consume(read(stackTags, StackTags.class));
+    }
+
+    private <T> T read(Json json, Class<T> valueType) throws IOException {
+        return "memoized".equals(mode) ? json.get(valueType) : JsonUtil.readValue(json.getValue(), valueType);
+    }
+}
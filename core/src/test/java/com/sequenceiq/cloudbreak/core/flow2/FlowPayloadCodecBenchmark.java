@@ -0,0 +1,126 @@
+package com.sequenceiq.cloudbreak.core.flow2;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.cedarsoftware.util.io.JsonReader;
+import com.cedarsoftware.util.io.JsonWriter;
+import com.sequenceiq.cloudbreak.common.event.Selectable;
+import com.sequenceiq.cloudbreak.common.type.ClusterManagerType;
+import com.sequenceiq.cloudbreak.common.type.ScalingType;
+import com.sequenceiq.cloudbreak.core.flow2.event.StackAndClusterUpscaleTriggerEvent;
+import com.sequenceiq.cloudbreak.reactor.api.event.StackEvent;
+import com.sequenceiq.cloudbreak.reactor.api.event.cluster.InstallClusterRequest;
+import com.sequenceiq.cloudbreak.reactor.api.event.orchestration.BootstrapMachinesRequest;
+import com.sequenceiq.flow.conf.JsonIoConfig;
+import com.sequenceiq.flow.domain.FlowLogPayloadFormat;
+import com.sequenceiq.flow.service.flowlog.codec.FlowPayloadCodec;
+import com.sequenceiq.flow.service.flowlog.codec.FlowPayloadCodecs;
+
+/**
+ * Compares the flow log payload formats on payloads the stack and cluster provision flows store.
+ * Run it with {@code ./gradlew :core:flowPayloadBenchmark}, the size of the encoded payloads is logged before the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlowPayloadCodecBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlowPayloadCodecBenchmark.class);
+
+    private static final long STACK_ID = 1L;
+
+    private static final int HOST_COUNT = 50;
+
+    @Param({"JSON_IO", "DEFLATED_JSON_IO"})
+    private FlowLogPayloadFormat format;
+
+    @Param({"stackEvent", "bootstrapMachines", "installCluster", "upscale"})
+    private String payloadType;
+
+    private FlowPayloadCodec codec;
+
+    private Map<String, Object> writeOptions;
+
+    private Selectable payload;
+
+    private Map<Object, Object> variables;
+
+    private String encodedPayload;
+
+    private String encodedVariables;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FlowPayloadCodecBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        new JsonIoConfig().setupJsonReader();
+        writeOptions = new JsonIoConfig().getCustomWriteOptions();
+        codec = FlowPayloadCodecs.get(format);
+        payload = createPayload();
+        variables = new HashMap<>();
+        variables.put("CLUSTER_NAME", "benchmark-cluster");
+        variables.put("HOST_GROUP", "worker");
+        variables.put("ADJUSTMENT", HOST_COUNT);
+        encodedPayload = codec.encode(JsonWriter.objectToJson(payload, writeOptions));
+        encodedVariables = codec.encode(JsonWriter.objectToJson(variables, writeOptions));
+        LOGGER.info("{} {} payload size: {}, variables size: {}", format, payloadType, encodedPayload.length(), encodedVariables.length());
+    }
+
+    @Benchmark
+    public String encode() {
+        return codec.encode(JsonWriter.objectToJson(payload, writeOptions)) + codec.encode(JsonWriter.objectToJson(variables, writeOptions));
+    }
+
+    @Benchmark
+    public Object[] decode() {
+        return new Object[]{JsonReader.jsonToJava(codec.decode(encodedPayload)), JsonReader.jsonToJava(codec.decode(encodedVariables))};
+    }
+
+    private Selectable createPayload() {
+        switch (payloadType) {
+            case "bootstrapMachines":
+                return new BootstrapMachinesRequest(STACK_ID, true);
+            case "installCluster":
+                return new InstallClusterRequest(STACK_ID);
+            case "upscale":
+                Set<String> hostNames = IntStream.range(0, HOST_COUNT)
+                        .mapToObj(i -> "worker" + i + ".benchmark-cluster.example.com")
+                        .collect(Collectors.toSet());
+                return new StackAndClusterUpscaleTriggerEvent("FULL_UPSCALE_TRIGGER_EVENT", STACK_ID, "worker", HOST_COUNT, ScalingType.UPSCALE_TOGETHER,
+                        hostNames, false, true, null, false, false, ClusterManagerType.CLOUDERA_MANAGER);
+            default:
+                return new StackEvent("STACK_SYNC", STACK_ID);
+        }
+    }
+}
@@ -4,11 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -17,14 +20,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleHostGroupTopologyV4Response;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.autoscales.response.AutoscaleStackTopologyV4Response;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.common.StackType;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.common.Status;
+import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.base.InstanceStatus;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.dto.NameOrCrn;
 import com.sequenceiq.cloudbreak.api.endpoint.v4.stacks.request.StackImageChangeV4Request;
 import com.sequenceiq.cloudbreak.common.exception.BadRequestException;
 import com.sequenceiq.cloudbreak.domain.ImageCatalog;
+import com.sequenceiq.cloudbreak.domain.projection.StackClusterStatusView;
 import com.sequenceiq.cloudbreak.domain.stack.Stack;
+import com.sequenceiq.cloudbreak.domain.stack.instance.InstanceGroup;
+import com.sequenceiq.cloudbreak.domain.stack.instance.InstanceMetaData;
 import com.sequenceiq.cloudbreak.service.image.ImageCatalogService;
 import com.sequenceiq.cloudbreak.service.image.ImageChangeDto;
+import com.sequenceiq.cloudbreak.service.stack.InstanceMetaDataService;
 import com.sequenceiq.cloudbreak.service.stack.StackService;
 import com.sequenceiq.cloudbreak.service.stack.flow.StackOperationService;
 import com.sequenceiq.cloudbreak.service.user.UserService;
@@ -57,6 +68,9 @@ class StackCommonServiceTest {
     @Mock
     private CloudbreakRestRequestThreadLocalService restRequestThreadLocalService;
 
+    @Mock
+    private InstanceMetaDataService instanceMetaDataService;
+
     @InjectMocks
     private StackCommonService underTest;
 
@@ -164,4 +178,51 @@ class StackCommonServiceTest {
 
         verify(stackOperationService).removeInstances(stack, WORKSPACE_ID, nodes, true, user);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetTopologyForAutoscale() {
+        StackClusterStatusView stackStatus = mock(StackClusterStatusView.class);
+        when(stackStatus.getId()).thenReturn(STACK_ID);
+        when(stackStatus.getCrn()).thenReturn("crn");
+        when(stackStatus.getStatus()).thenReturn(Status.AVAILABLE);
+        when(stackStatus.getClusterStatus()).thenReturn(Status.UPDATE_IN_PROGRESS);
+        when(stackService.getStatusByCrn("crn")).thenReturn(stackStatus);
+        InstanceGroup compute = instanceGroup("compute");
+        InstanceGroup master = instanceGroup("master");
+        when(instanceMetaDataService.getAllInstanceMetadataByStackId(STACK_ID)).thenReturn(Set.of(
+                instanceMetaData(compute, "compute1.example.com", "i-1", InstanceStatus.SERVICES_HEALTHY),
+                instanceMetaData(compute, "compute2.example.com", "i-2", InstanceStatus.TERMINATED),
+                instanceMetaData(compute, null, "i-3", InstanceStatus.REQUESTED),
+                instanceMetaData(master, "master1.example.com", "i-4", InstanceStatus.SERVICES_HEALTHY)));
+
+        AutoscaleStackTopologyV4Response result = underTest.getTopologyForAutoscale("crn");
+
+        assertEquals("crn", result.getCrn());
+        assertEquals(Status.AVAILABLE, result.getStatus());
+        assertEquals(Status.UPDATE_IN_PROGRESS, result.getClusterStatus());
+        assertEquals(3, result.getNodeCount());
+        assertEquals(2, result.getHostGroups().size());
+        AutoscaleHostGroupTopologyV4Response computeTopology = result.getHostGroups().get(0);
+        assertEquals("compute", computeTopology.getName());
+        assertEquals(2, computeTopology.getNodeCount());
+        assertEquals(Map.of("compute1.example.com", "i-1"), computeTopology.getInstanceIdsByFqdn());
+        AutoscaleHostGroupTopologyV4Response masterTopology = result.getHostGroups().get(1);
+        assertEquals("master", masterTopology.getName());
+        assertEquals(List.of("i-4"), List.copyOf(masterTopology.getInstanceIdsByFqdn().values()));
+    }
+
+    private InstanceGroup instanceGroup(String name) {
+        InstanceGroup instanceGroup = new InstanceGroup();
+        instanceGroup.setGroupName(name);
+        return instanceGroup;
+    }
+
+    private InstanceMetaData instanceMetaData(InstanceGroup instanceGroup, String fqdn, String instanceId, InstanceStatus status) {
+        InstanceMetaData instanceMetaData = new InstanceMetaData();
+        instanceMetaData.setInstanceGroup(instanceGroup);
+        instanceMetaData.setDiscoveryFQDN(fqdn);
+        instanceMetaData.setInstanceId(instanceId);
+        instanceMetaData.setInstanceStatus(status);
+        return instanceMetaData;
+    }
+}
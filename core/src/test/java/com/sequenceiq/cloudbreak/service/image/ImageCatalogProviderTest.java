@@ -2,6 +2,9 @@ package com.sequenceiq.cloudbreak.service.image;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -19,6 +22,7 @@ import java.util.stream.Collectors;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Invocation.Builder;
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status.Family;
 import javax.ws.rs.core.Response.StatusType;
@@ -243,6 +247,34 @@ public class ImageCatalogProviderTest {
 
     }
 
+    @Test
+    public void testHttpImageCatalogNotModifiedReusesParsedCatalog() throws CloudbreakImageCatalogException, IOException {
+        String path = getPath(CB_IMAGE_CATALOG_VALID_JSON);
+        String catalogUrl = "http";
+
+        when(clientMock.target(catalogUrl)).thenReturn(webTargetMock);
+        when(webTargetMock.request()).thenReturn(builderMock);
+        when(builderMock.get()).thenReturn(responseMock);
+        when(responseMock.getStatusInfo()).thenReturn(statusTypeMock);
+        when(statusTypeMock.getFamily()).thenReturn(Family.SUCCESSFUL);
+        when(responseMock.getStatus()).thenReturn(Response.Status.NOT_MODIFIED.getStatusCode());
+        when(responseMock.getHeaderString(HttpHeaders.ETAG)).thenReturn("\"catalog-v1\"");
+        when(responseMock.readEntity(String.class)).thenReturn(Files.readString(Paths.get(path, CB_IMAGE_CATALOG_V2_JSON)));
+
+        ReflectionTestUtils.setField(underTest, "etcConfigDir", path);
+        ReflectionTestUtils.setField(underTest, "enabledLinuxTypes", Collections.emptyList());
+
+        CloudbreakImageCatalogV3 downloadedCatalog = underTest.getImageCatalogV3(catalogUrl);
+        CloudbreakImageCatalogV3 revalidatedCatalog = underTest.getImageCatalogV3(catalogUrl);
+
+        assertSame(downloadedCatalog, revalidatedCatalog);
+        verify(builderMock).header(HttpHeaders.IF_NONE_MATCH, "\"catalog-v1\"");
+        verify(responseMock, times(1)).readEntity(String.class);
+        verify(responseMock, times(2)).close();
+        String imageId = downloadedCatalog.getImages().getBaseImages().get(0).getUuid();
+        assertSame(downloadedCatalog.getImages().getBaseImages().get(0), revalidatedCatalog.getIndex().getImage(imageId).get());
+    }
+
     @Test(expected = CloudbreakImageCatalogException.class)
     public void testHttpImageCatalogNotValidJson() throws CloudbreakImageCatalogException {
         String path = getPath(CB_IMAGE_CATALOG_VALID_JSON);
@@ -0,0 +1,74 @@
+package com.sequenceiq.cloudbreak.service.stack.flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sequenceiq.cloudbreak.domain.stack.Stack;
+import com.sequenceiq.cloudbreak.domain.stack.instance.InstanceMetaData;
+import com.sequenceiq.cloudbreak.polling.AsyncPollingService;
+import com.sequenceiq.cloudbreak.polling.PollingResult;
+import com.sequenceiq.cloudbreak.polling.nginx.NginxCertListenerTask;
+import com.sequenceiq.cloudbreak.polling.nginx.NginxPollerObject;
+import com.sequenceiq.cloudbreak.service.CloudbreakException;
+import com.sequenceiq.cloudbreak.service.GatewayConfigService;
+import com.sequenceiq.cloudbreak.service.stack.InstanceMetaDataService;
+
+@ExtendWith(MockitoExtension.class)
+class TlsSetupServiceTest {
+
+    @Mock
+    private AsyncPollingService asyncPollingService;
+
+    @Mock
+    private NginxCertListenerTask nginxCertListenerTask;
+
+    @Mock
+    private GatewayConfigService gatewayConfigService;
+
+    @Mock
+    private InstanceMetaDataService instanceMetaDataService;
+
+    @InjectMocks
+    private TlsSetupService underTest;
+
+    @Test
+    void testGatewaysArePolledAtTheSameTimeAndFailureIsReported() {
+        Stack stack = new Stack();
+        stack.setGatewayPort(9443);
+        InstanceMetaData gateway1 = new InstanceMetaData();
+        InstanceMetaData gateway2 = new InstanceMetaData();
+        when(gatewayConfigService.getGatewayIp(stack, gateway1)).thenReturn("10.0.0.1");
+        when(gatewayConfigService.getGatewayIp(stack, gateway2)).thenReturn("10.0.0.2");
+        when(asyncPollingService.pollWithAbsoluteTimeout(eq(nginxCertListenerTask), any(NginxPollerObject.class), anyLong(), anyLong(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(new ImmutablePair<>(PollingResult.SUCCESS, null)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("nginx is not reachable")));
+
+        assertThrows(CloudbreakException.class, () -> underTest.setupTls(stack, List.of(gateway1, gateway2)));
+
+        ArgumentCaptor<NginxPollerObject> pollerObjects = ArgumentCaptor.forClass(NginxPollerObject.class);
+        verify(asyncPollingService, times(2)).pollWithAbsoluteTimeout(eq(nginxCertListenerTask), pollerObjects.capture(), anyLong(), anyLong(),
+                anyInt());
+        List<NginxPollerObject> polled = pollerObjects.getAllValues();
+        assertEquals(List.of("10.0.0.1", "10.0.0.2"), List.of(polled.get(0).getIp(), polled.get(1).getIp()));
+        verifyNoInteractions(instanceMetaDataService);
+    }
+}
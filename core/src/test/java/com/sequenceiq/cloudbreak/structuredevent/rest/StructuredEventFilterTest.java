@@ -39,6 +39,7 @@ import com.sequenceiq.cloudbreak.structuredevent.CloudbreakRestRequestThreadLoca
 import com.sequenceiq.cloudbreak.structuredevent.LegacyDefaultStructuredEventClient;
 import com.sequenceiq.cloudbreak.structuredevent.event.StructuredRestCallEvent;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestRequestDetails;
+import com.sequenceiq.cloudbreak.structuredevent.rest.capture.RestBodyCapture;
 import com.sequenceiq.flow.ha.NodeConfig;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +67,7 @@ class StructuredEventFilterTest {
     public void setup() {
         ReflectionTestUtils.setField(underTest, "legacyRestUrlParsers", new ArrayList<>());
         ReflectionTestUtils.setField(underTest, "contentLogging", true);
+        ReflectionTestUtils.setField(underTest, "maxContentLength", RestBodyCapture.DEFAULT_MAX_CONTENT_LENGTH);
     }
 
     @Test
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import org.junit.Test;
@@ -21,14 +22,11 @@ import org.springframework.util.concurrent.ListenableFuture;
 
 import com.google.common.collect.ImmutableMap;
 import com.sequenceiq.cloudbreak.conf.StructuredEventSenderConfig;
-import com.sequenceiq.cloudbreak.structuredevent.event.StructuredEvent;
 import com.sequenceiq.cloudbreak.structuredevent.event.StructuredRestCallEvent;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestCallDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestRequestDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestResponseDetails;
 
-import reactor.bus.Event;
-
 @RunWith(MockitoJUnitRunner.class)
 public class KafkaStructuredEventHandlerTest {
 
@@ -44,11 +42,10 @@ public class KafkaStructuredEventHandlerTest {
     @Test
     public void checkEventTypeBasedTopicDistribution() throws ExecutionException, InterruptedException {
         StructuredRestCallEvent structuredEvent = createDummyStructuredRestEvent();
-        Event<StructuredEvent> event = new Event<>(structuredEvent);
         ListenableFuture<SendResult<String, String>> futures = generateMockFutureWrappers();
         when(kafkaTemplate.send(eq("cbStructuredRestCallEvent"), anyString())).thenReturn(futures);
 
-        classIntest.accept(event);
+        classIntest.sendBatch(List.of(structuredEvent));
 
         verify(kafkaTemplate).send(eq("cbStructuredRestCallEvent"), anyString());
     }
@@ -1,7 +1,6 @@
 package com.sequenceiq.cloudbreak.datalakedr;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static io.grpc.internal.GrpcUtil.DEFAULT_MAX_MESSAGE_SIZE;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -19,12 +18,12 @@ import com.cloudera.thunderhead.service.datalakedr.datalakeDRProto.RestoreDatala
 import com.sequenceiq.cloudbreak.datalakedr.config.DatalakeDrConfig;
 import com.sequenceiq.cloudbreak.datalakedr.converter.GrpcStatusResponseToDatalakeDrStatusResponseConverter;
 import com.sequenceiq.cloudbreak.datalakedr.model.DatalakeDrStatusResponse;
+import com.sequenceiq.cloudbreak.grpc.ManagedChannelPool;
 import com.sequenceiq.cloudbreak.grpc.ManagedChannelWrapper;
 import com.sequenceiq.cloudbreak.grpc.altus.AltusMetadataInterceptor;
 import com.sequenceiq.cloudbreak.grpc.util.GrpcUtil;
 
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import io.opentracing.Tracer;
 
 @Component
@@ -40,10 +39,14 @@ public class DatalakeDrClient {
 
     private final Tracer tracer;
 
-    public DatalakeDrClient(DatalakeDrConfig datalakeDrConfig, GrpcStatusResponseToDatalakeDrStatusResponseConverter statusConverter, Tracer tracer) {
+    private final ManagedChannelPool channelPool;
+
+    public DatalakeDrClient(DatalakeDrConfig datalakeDrConfig, GrpcStatusResponseToDatalakeDrStatusResponseConverter statusConverter, Tracer tracer,
+            ManagedChannelPool channelPool) {
         this.datalakeDrConfig = datalakeDrConfig;
         this.statusConverter = statusConverter;
         this.tracer = tracer;
+        this.channelPool = channelPool;
     }
 
     public DatalakeDrStatusResponse triggerbackup(String datalakeName, String backupLocation, String backupName, String actorCrn) {
@@ -122,16 +125,12 @@ public class DatalakeDrClient {
     }
 
     /**
-     * Creates Managed Channel wrapper from endpoint address
+     * Returns the wrapper of the shared channel of the endpoint address
      *
      * @return the wrapper object
      */
     private ManagedChannelWrapper makeWrapper() {
-        return new ManagedChannelWrapper(
-            ManagedChannelBuilder.forAddress(datalakeDrConfig.getHost(), datalakeDrConfig.getPort())
-                .usePlaintext()
-                .maxInboundMessageSize(DEFAULT_MAX_MESSAGE_SIZE)
-                .build());
+        return channelPool.getChannel(datalakeDrConfig.getHost(), datalakeDrConfig.getPort());
     }
 
     /**
@@ -0,0 +1,75 @@
+package com.sequenceiq.datalake.job;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.google.common.collect.Lists;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.BatchStatusCheckerJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.StatusCheckerJob;
+import com.sequenceiq.datalake.entity.SdxCluster;
+import com.sequenceiq.datalake.repository.SdxClusterRepository;
+import com.sequenceiq.flow.core.FlowLogService;
+
+import io.opentracing.Tracer;
+
+@DisallowConcurrentExecution
+@Component
+public class SdxClusterStatusBatchCheckerJob extends BatchStatusCheckerJob<SdxCluster> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SdxClusterStatusBatchCheckerJob.class);
+
+    @Inject
+    private SdxClusterRepository sdxClusterRepository;
+
+    @Inject
+    private FlowLogService flowLogService;
+
+    @Inject
+    private SdxClusterStatusCheckerJob sdxClusterStatusCheckerJob;
+
+    public SdxClusterStatusBatchCheckerJob(Tracer tracer) {
+        super(tracer, "SDX Cluster Status Batch Checker");
+    }
+
+    @Override
+    protected List<Long> findSyncableResourceIds() {
+        return sdxClusterRepository.findAllAliveIds();
+    }
+
+    @Override
+    protected Collection<SdxCluster> loadBatch(Collection<Long> resourceIds) {
+        Set<Long> sdxClustersWithRunningFlow = flowLogService.findAllResourceIdsWithRunningFlow(resourceIds);
+        if (!sdxClustersWithRunningFlow.isEmpty()) {
+            LOGGER.debug("Sdx StatusChecker is skipped, because flow is running for datalakes: {}", sdxClustersWithRunningFlow);
+        }
+        List<Long> sdxClusterIds = resourceIds.stream()
+                .filter(id -> !sdxClustersWithRunningFlow.contains(id))
+                .collect(Collectors.toList());
+        return sdxClusterIds.isEmpty() ? Collections.emptyList() : Lists.newArrayList(sdxClusterRepository.findAllById(sdxClusterIds));
+    }
+
+    @Override
+    protected void syncResource(SdxCluster sdxCluster) {
+        sdxClusterStatusCheckerJob.syncSdx(sdxCluster);
+    }
+
+    @Override
+    protected Long getResourceId(SdxCluster sdxCluster) {
+        return sdxCluster.getId();
+    }
+
+    @Override
+    public Class<? extends StatusCheckerJob> getReplacedJobClass() {
+        return SdxClusterStatusCheckerJob.class;
+    }
+}
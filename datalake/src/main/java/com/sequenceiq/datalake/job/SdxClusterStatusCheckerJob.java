@@ -66,34 +66,43 @@ public class SdxClusterStatusCheckerJob extends StatusCheckerJob {
 
     private void handleSdxStatusChange() {
         Optional<SdxCluster> cluster = sdxClusterRepository.findById(Long.valueOf(getLocalId()));
-        cluster.ifPresent(sdx -> {
-            StackStatusV4Response stack = cloudbreakInternalCrnClient.withInternalCrn().autoscaleEndpoint().getStatusByCrn(getRemoteResourceCrn());
-            updateCertExpirationStateIfDifferent(sdx, stack);
-            SdxStatusEntity status = sdxStatusService.getActualStatusForSdx(sdx);
-            switch (status.getStatus()) {
-                case RUNNING:
-                    handleRunningSdx(stack, sdx);
-                    break;
-                case STOPPED:
-                    handleStoppedSdx(stack, sdx);
-                    break;
-                case CLUSTER_AMBIGUOUS:
-                    handleAmbiguousSdx(stack, sdx);
-                    break;
-                case SYNC_FAILED:
-                case DATALAKE_UPGRADE_FAILED:
-                case START_FAILED:
-                case STOP_FAILED:
-                case REPAIR_FAILED:
-                    handleFailedSdx(stack, sdx);
-                    break;
-                case DELETED_ON_PROVIDER_SIDE:
-                    handleDeletedOnProviderSideSdx(sdx);
-                    break;
-                default:
-                    LOGGER.debug("Sdx StatusChecker Job will ignore state '{}' for datalake: '{}'", status.getStatus(), getLocalId());
-            }
-        });
+        cluster.ifPresent(sdx -> handleSdxStatusChange(sdx, getRemoteResourceCrn()));
+    }
+
+    /**
+     * Syncs a datalake loaded by {@link SdxClusterStatusBatchCheckerJob}, it does not rely on the local id of the job.
+     */
+    void syncSdx(SdxCluster sdx) {
+        handleSdxStatusChange(sdx, sdx.getStackCrn());
+    }
+
+    private void handleSdxStatusChange(SdxCluster sdx, String stackCrn) {
+        StackStatusV4Response stack = cloudbreakInternalCrnClient.withInternalCrn().autoscaleEndpoint().getStatusByCrn(stackCrn);
+        updateCertExpirationStateIfDifferent(sdx, stack);
+        SdxStatusEntity status = sdxStatusService.getActualStatusForSdx(sdx);
+        switch (status.getStatus()) {
+            case RUNNING:
+                handleRunningSdx(stack, sdx);
+                break;
+            case STOPPED:
+                handleStoppedSdx(stack, sdx);
+                break;
+            case CLUSTER_AMBIGUOUS:
+                handleAmbiguousSdx(stack, sdx);
+                break;
+            case SYNC_FAILED:
+            case DATALAKE_UPGRADE_FAILED:
+            case START_FAILED:
+            case STOP_FAILED:
+            case REPAIR_FAILED:
+                handleFailedSdx(stack, sdx);
+                break;
+            case DELETED_ON_PROVIDER_SIDE:
+                handleDeletedOnProviderSideSdx(sdx);
+                break;
+            default:
+                LOGGER.debug("Sdx StatusChecker Job will ignore state '{}' for datalake: '{}'", status.getStatus(), sdx.getId());
+        }
     }
 
     private void updateCertExpirationStateIfDifferent(SdxCluster sdx, StackStatusV4Response stack) {
@@ -111,14 +120,14 @@ public class SdxClusterStatusCheckerJob extends StatusCheckerJob {
         if (stack.getStatus() == Status.AVAILABLE && stack.getClusterStatus() == Status.AVAILABLE) {
             sdxStatusService.setStatusForDatalakeAndNotify(DatalakeStatusEnum.RUNNING, ResourceEvent.CLUSTER_AMBARI_CLUSTER_SYNCHRONIZED,
                     Collections.singleton(sdx.getClusterName()), "", sdx);
-            logStateChange(DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.CLUSTER_AMBIGUOUS);
+            logStateChange(sdx, DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.CLUSTER_AMBIGUOUS);
         }
     }
 
     private void handleStoppedSdx(StackStatusV4Response stack, SdxCluster sdx) {
         if (stack.getStatus().isAvailable() && isClusterAvailable(stack)) {
             sdxStatusService.setStatusForDatalakeAndNotify(DatalakeStatusEnum.RUNNING, ResourceEvent.SDX_START_FINISHED, "", sdx);
-            logStateChange(DatalakeStatusEnum.STOPPED, DatalakeStatusEnum.RUNNING);
+            logStateChange(sdx, DatalakeStatusEnum.STOPPED, DatalakeStatusEnum.RUNNING);
         } else if (stack.getStatus() == Status.DELETE_COMPLETED) {
             setDeleteCompleted(stack, sdx);
         } else if (stack.getStatus() == Status.DELETE_FAILED) {
@@ -133,7 +142,7 @@ public class SdxClusterStatusCheckerJob extends StatusCheckerJob {
     private void handleFailedSdx(StackStatusV4Response stack, SdxCluster sdx) {
         if (stack.getStatus().isAvailable() && stack.getClusterStatus().isAvailable()) {
             sdxStatusService.setStatusForDatalakeAndNotify(DatalakeStatusEnum.RUNNING, ResourceEvent.SDX_REPAIR_FINISHED, "", sdx);
-            logStateChange(DatalakeStatusEnum.STOPPED, DatalakeStatusEnum.RUNNING);
+            logStateChange(sdx, DatalakeStatusEnum.STOPPED, DatalakeStatusEnum.RUNNING);
         } else if (stack.getStatus() == Status.DELETE_COMPLETED) {
             setDeleteCompleted(stack, sdx);
         } else if (stack.getStatus() == Status.DELETE_FAILED) {
@@ -148,24 +157,24 @@ public class SdxClusterStatusCheckerJob extends StatusCheckerJob {
     private void setDeleteFailed(StackStatusV4Response stack, SdxCluster sdx) {
         sdxStatusService.setStatusForDatalakeAndNotify(DatalakeStatusEnum.DELETE_FAILED, ResourceEvent.SDX_CLUSTER_DELETION_FAILED, stack.getStatusReason(),
                 sdx);
-        logStateChange(DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.DELETE_FAILED);
+        logStateChange(sdx, DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.DELETE_FAILED);
     }
 
     private void setDeletedOnProviderSide(StackStatusV4Response stack, SdxCluster sdx) {
         sdxStatusService.setStatusForDatalakeAndNotify(DatalakeStatusEnum.DELETED_ON_PROVIDER_SIDE, ResourceEvent.SDX_CLUSTER_DELETED_ON_PROVIDER_SIDE, "", sdx);
-        logStateChange(DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.DELETED_ON_PROVIDER_SIDE);
+        logStateChange(sdx, DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.DELETED_ON_PROVIDER_SIDE);
     }
 
     private void setDeleteCompleted(StackStatusV4Response stack, SdxCluster sdx) {
         sdxStatusService.setStatusForDatalakeAndNotify(DatalakeStatusEnum.STACK_DELETED, ResourceEvent.SDX_CLUSTER_DELETION_FINISHED, "", sdx);
         jobService.unschedule(String.valueOf(sdx.getId()));
-        logStateChange(DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.STACK_DELETED);
+        logStateChange(sdx, DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.STACK_DELETED);
     }
 
     private void handleRunningSdx(StackStatusV4Response stack, SdxCluster sdx) {
         if (stack.getStatus().isStopped()) {
             sdxStatusService.setStatusForDatalakeAndNotify(DatalakeStatusEnum.STOPPED, ResourceEvent.SDX_STOP_FINISHED, "", sdx);
-            logStateChange(DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.STOPPED);
+            logStateChange(sdx, DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.STOPPED);
         } else if (stack.getStatus() == Status.DELETE_COMPLETED) {
             setDeleteCompleted(stack, sdx);
         } else if (stack.getStatus() == Status.DELETE_FAILED) {
@@ -176,12 +185,12 @@ public class SdxClusterStatusCheckerJob extends StatusCheckerJob {
             String statusReason = stack.getStatus() == Status.AMBIGUOUS ? stack.getStatusReason() : stack.getClusterStatusReason();
             sdxStatusService.setStatusForDatalakeAndNotify(DatalakeStatusEnum.CLUSTER_AMBIGUOUS, ResourceEvent.CLUSTER_AMBARI_CLUSTER_SYNCHRONIZED,
                     Collections.singleton(sdx.getClusterName()), statusReason, sdx);
-            logStateChange(DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.CLUSTER_AMBIGUOUS);
+            logStateChange(sdx, DatalakeStatusEnum.RUNNING, DatalakeStatusEnum.CLUSTER_AMBIGUOUS);
         }
     }
 
-    private void logStateChange(DatalakeStatusEnum from, DatalakeStatusEnum to) {
-        LOGGER.info("Sdx StatusChecker job changed the status of datalake: '{}', from: '{}', to: '{}'", getLocalId(), from.name(), to.name());
+    private void logStateChange(SdxCluster sdx, DatalakeStatusEnum from, DatalakeStatusEnum to) {
+        LOGGER.info("Sdx StatusChecker job changed the status of datalake: '{}', from: '{}', to: '{}'", sdx.getId(), from.name(), to.name());
     }
 
 }
@@ -33,6 +33,13 @@ public interface SdxClusterRepository extends CrudRepository<SdxCluster, Long> {
             "AND s.stackCrn is not null")
     List<SdxClusterIdView> findAllAliveView();
 
+    @Query("SELECT s.id " +
+            "FROM SdxCluster s " +
+            "WHERE s.deleted is null " +
+            "AND s.stackCrn is not null " +
+            "ORDER BY s.id")
+    List<Long> findAllAliveIds();
+
     Optional<SdxCluster> findByAccountIdAndClusterNameAndDeletedIsNull(String accountId, String clusterName);
 
     Optional<SdxCluster> findByAccountIdAndCrnAndDeletedIsNull(String accountId, String crn);
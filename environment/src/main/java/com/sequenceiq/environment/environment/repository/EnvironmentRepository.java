@@ -72,6 +72,9 @@ public interface EnvironmentRepository extends AccountAwareResourceRepository<En
     @Query("SELECT e FROM Environment e WHERE e.archived = false and e.status in (:statuses)")
     List<Environment> findAllRunningAndStatusIn(@Param("statuses") Collection<EnvironmentStatus> statuses);
 
+    @Query("SELECT e.id FROM Environment e WHERE e.archived = false and e.status in (:statuses) ORDER BY e.id")
+    List<Long> findAllRunningIdsAndStatusIn(@Param("statuses") Collection<EnvironmentStatus> statuses);
+
     @Query("SELECT new com.sequenceiq.authorization.service.list.ResourceWithId(e.id, e.resourceCrn) FROM Environment e " +
             "WHERE e.accountId = :accountId AND e.archived = false")
     List<ResourceWithId> findAsAuthorizationResourcesInAccount(@Param("accountId") String accountId);
@@ -63,6 +63,25 @@ public class EnvironmentService extends AbstractAccountAwareResourceService<Envi
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EnvironmentService.class);
 
+    private static final List<EnvironmentStatus> AUTO_SYNC_STATUSES = List.of(
+            EnvironmentStatus.AVAILABLE,
+            EnvironmentStatus.UPDATE_FAILED,
+            EnvironmentStatus.START_DATAHUB_FAILED,
+            EnvironmentStatus.START_DATALAKE_FAILED,
+            EnvironmentStatus.START_FREEIPA_FAILED,
+            EnvironmentStatus.START_DATAHUB_STARTED,
+            EnvironmentStatus.START_DATALAKE_STARTED,
+            EnvironmentStatus.START_FREEIPA_STARTED,
+            EnvironmentStatus.START_SYNCHRONIZE_USERS_STARTED,
+            EnvironmentStatus.START_SYNCHRONIZE_USERS_FAILED,
+            EnvironmentStatus.STOP_DATAHUB_FAILED,
+            EnvironmentStatus.STOP_DATALAKE_FAILED,
+            EnvironmentStatus.STOP_FREEIPA_FAILED,
+            EnvironmentStatus.STOP_DATAHUB_STARTED,
+            EnvironmentStatus.STOP_DATALAKE_STARTED,
+            EnvironmentStatus.STOP_FREEIPA_STARTED,
+            EnvironmentStatus.ENV_STOPPED);
+
     @Value("${environment.admin.group.default.prefix:}")
     private String adminGroupNamePrefix;
 
@@ -387,24 +406,15 @@ public class EnvironmentService extends AbstractAccountAwareResourceService<Envi
     }
 
     public List<Environment> findAllForAutoSync() {
-        return environmentRepository.findAllRunningAndStatusIn(List.of(
-                EnvironmentStatus.AVAILABLE,
-                EnvironmentStatus.UPDATE_FAILED,
-                EnvironmentStatus.START_DATAHUB_FAILED,
-                EnvironmentStatus.START_DATALAKE_FAILED,
-                EnvironmentStatus.START_FREEIPA_FAILED,
-                EnvironmentStatus.START_DATAHUB_STARTED,
-                EnvironmentStatus.START_DATALAKE_STARTED,
-                EnvironmentStatus.START_FREEIPA_STARTED,
-                EnvironmentStatus.START_SYNCHRONIZE_USERS_STARTED,
-                EnvironmentStatus.START_SYNCHRONIZE_USERS_FAILED,
-                EnvironmentStatus.STOP_DATAHUB_FAILED,
-                EnvironmentStatus.STOP_DATALAKE_FAILED,
-                EnvironmentStatus.STOP_FREEIPA_FAILED,
-                EnvironmentStatus.STOP_DATAHUB_STARTED,
-                EnvironmentStatus.STOP_DATALAKE_STARTED,
-                EnvironmentStatus.STOP_FREEIPA_STARTED,
-                EnvironmentStatus.ENV_STOPPED));
+        return environmentRepository.findAllRunningAndStatusIn(AUTO_SYNC_STATUSES);
+    }
+
+    public List<Long> findAllIdsForAutoSync() {
+        return environmentRepository.findAllRunningIdsAndStatusIn(AUTO_SYNC_STATUSES);
+    }
+
+    public List<Environment> findAllEnvironmentsByIds(Collection<Long> ids) {
+        return Lists.newArrayList(environmentRepository.findAllById(ids));
     }
 
     @Override
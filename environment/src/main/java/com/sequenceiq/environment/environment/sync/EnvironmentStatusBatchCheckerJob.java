@@ -0,0 +1,81 @@
+package com.sequenceiq.environment.environment.sync;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.BatchStatusCheckerJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.StatusCheckerJob;
+import com.sequenceiq.environment.environment.domain.Environment;
+import com.sequenceiq.environment.environment.service.EnvironmentService;
+import com.sequenceiq.flow.core.FlowLogService;
+
+import io.opentracing.Tracer;
+
+@DisallowConcurrentExecution
+@Component
+public class EnvironmentStatusBatchCheckerJob extends BatchStatusCheckerJob<Environment> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnvironmentStatusBatchCheckerJob.class);
+
+    private final EnvironmentService environmentService;
+
+    private final FlowLogService flowLogService;
+
+    private final EnvironmentStatusCheckerJob environmentStatusCheckerJob;
+
+    private final AutoSyncConfig autoSyncConfig;
+
+    public EnvironmentStatusBatchCheckerJob(EnvironmentService environmentService, FlowLogService flowLogService,
+            EnvironmentStatusCheckerJob environmentStatusCheckerJob, AutoSyncConfig autoSyncConfig, Tracer tracer) {
+        super(tracer, "Environment Status Batch Checker Job");
+        this.environmentService = environmentService;
+        this.flowLogService = flowLogService;
+        this.environmentStatusCheckerJob = environmentStatusCheckerJob;
+        this.autoSyncConfig = autoSyncConfig;
+    }
+
+    @Override
+    protected List<Long> findSyncableResourceIds() {
+        return environmentService.findAllIdsForAutoSync();
+    }
+
+    @Override
+    protected Collection<Environment> loadBatch(Collection<Long> resourceIds) {
+        Set<Long> environmentsWithRunningFlow = flowLogService.findAllResourceIdsWithRunningFlow(resourceIds);
+        if (!environmentsWithRunningFlow.isEmpty()) {
+            LOGGER.info("Environment sync is skipped, because flow is running for environments: {}", environmentsWithRunningFlow);
+        }
+        List<Long> environmentIds = resourceIds.stream()
+                .filter(id -> !environmentsWithRunningFlow.contains(id))
+                .collect(Collectors.toList());
+        return environmentIds.isEmpty() ? Collections.emptyList() : environmentService.findAllEnvironmentsByIds(environmentIds);
+    }
+
+    @Override
+    protected void syncResource(Environment environment) {
+        environmentStatusCheckerJob.syncAnEnv(environment);
+    }
+
+    @Override
+    protected Long getResourceId(Environment environment) {
+        return environment.getId();
+    }
+
+    @Override
+    public boolean isAutoSyncEnabled() {
+        return autoSyncConfig.isEnabled();
+    }
+
+    @Override
+    public Class<? extends StatusCheckerJob> getReplacedJobClass() {
+        return EnvironmentStatusCheckerJob.class;
+    }
+}
@@ -0,0 +1,12 @@
+package com.sequenceiq.flow.converter;
+
+import com.sequenceiq.cloudbreak.converter.DefaultEnumConverter;
+import com.sequenceiq.flow.domain.FlowLogPayloadFormat;
+
+public class FlowLogPayloadFormatConverter extends DefaultEnumConverter<FlowLogPayloadFormat> {
+
+    @Override
+    public FlowLogPayloadFormat getDefault() {
+        return FlowLogPayloadFormat.JSON_IO;
+    }
+}
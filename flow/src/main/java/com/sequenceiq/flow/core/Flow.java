@@ -21,6 +21,8 @@ public interface Flow {
 
     String getFlowId();
 
+    Long getResourceId();
+
     void setFlowFailed(Exception exception);
 
     boolean isFlowFailed();
@@ -32,6 +32,7 @@ import com.sequenceiq.flow.core.model.FlowAcceptResult;
 import com.sequenceiq.flow.domain.FlowLog;
 import com.sequenceiq.flow.ha.NodeConfig;
 import com.sequenceiq.flow.service.flowlog.FlowChainLogService;
+import com.sequenceiq.flow.service.flowlog.codec.FlowPayloadCodecs;
 
 import io.opentracing.Scope;
 import io.opentracing.Span;
@@ -300,13 +301,13 @@ public class Flow2Handler implements Consumer<Event<? extends Payload>> {
                         .filter(fc -> fc.getClass().equals(flowLog.getFlowType())).findFirst();
                 try {
                     String flowChainType = flowChainLogService.getFlowChainType(flowLog.getFlowChainId());
-                    Payload payload = (Payload) JsonReader.jsonToJava(flowLog.getPayload());
+                    Payload payload = (Payload) JsonReader.jsonToJava(FlowPayloadCodecs.getPayloadJson(flowLog));
                     Flow flow = flowConfig.get().createFlow(flowLog.getFlowId(), flowLog.getFlowChainId(), payload.getResourceId(), flowChainType);
                     runningFlows.put(flow, flowLog.getFlowChainId());
                     if (flowLog.getFlowChainId() != null) {
                         flowChainHandler.restoreFlowChain(flowLog.getFlowChainId());
                     }
-                    Map<Object, Object> variables = (Map<Object, Object>) JsonReader.jsonToJava(flowLog.getVariables());
+                    Map<Object, Object> variables = (Map<Object, Object>) JsonReader.jsonToJava(FlowPayloadCodecs.getVariablesJson(flowLog));
                     flow.initialize(flowLog.getCurrentState(), variables);
                     RestartAction restartAction = flowConfig.get().getRestartAction(flowLog.getNextEvent());
                     if (restartAction != null) {
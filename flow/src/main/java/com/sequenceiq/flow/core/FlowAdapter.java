@@ -14,6 +14,8 @@ import io.opentracing.SpanContext;
 public class FlowAdapter<S extends FlowState, E extends FlowEvent> implements Flow {
     private final String flowId;
 
+    private final Long resourceId;
+
     private final StateMachine<S, E> flowMachine;
 
     private final StateConverter<S> stateConverter;
@@ -28,9 +30,10 @@ public class FlowAdapter<S extends FlowState, E extends FlowEvent> implements Fl
 
     private final FlowEventListener<S, E> flowEventListener;
 
-    public FlowAdapter(String flowId, StateMachine<S, E> flowMachine, MessageFactory<E> messageFactory, StateConverter<S> stateConverter,
+    public FlowAdapter(String flowId, Long resourceId, StateMachine<S, E> flowMachine, MessageFactory<E> messageFactory, StateConverter<S> stateConverter,
             EventConverter<E> eventConverter, Class<? extends FlowConfiguration<E>> flowConfigClass, FlowEventListener<S, E> flowEventListener) {
         this.flowId = flowId;
+        this.resourceId = resourceId;
         this.flowMachine = flowMachine;
         this.messageFactory = messageFactory;
         this.stateConverter = stateConverter;
@@ -90,6 +93,11 @@ public class FlowAdapter<S extends FlowState, E extends FlowEvent> implements Fl
         return flowId;
     }
 
+    @Override
+    public Long getResourceId() {
+        return resourceId;
+    }
+
     @Override
     public void setFlowFailed(Exception exception) {
         flowFailed = true;
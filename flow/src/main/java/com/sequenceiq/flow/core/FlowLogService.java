@@ -1,5 +1,6 @@
 package com.sequenceiq.flow.core;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,6 +32,8 @@ public interface FlowLogService {
 
     boolean isOtherFlowRunning(Long stackId);
 
+    Set<Long> findAllResourceIdsWithRunningFlow(Collection<Long> resourceIds);
+
     boolean repeatedFlowState(FlowLog lastFlowLog, String event);
 
     void updateLastFlowLogPayload(FlowLog lastFlowLog, Payload payload, Map<Object, Object> variables);
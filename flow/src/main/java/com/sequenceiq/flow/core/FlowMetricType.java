@@ -4,7 +4,11 @@ import com.sequenceiq.cloudbreak.common.metrics.type.Metric;
 
 public enum FlowMetricType implements Metric {
     FLOW_STEP("flowstep"),
-    ACTIVE_FLOWS("activeflow");
+    ACTIVE_FLOWS("activeflow"),
+    ACTIVE_FLOW_DURATION("activeflow.duration"),
+    EVENTBUS_BACKLOG("eventbus.backlog"),
+    EVENTBUS_DISPATCH_LATENCY("eventbus.dispatch.latency"),
+    EVENTBUS_REJECTED("eventbus.rejected");
 
     private final String metricName;
 
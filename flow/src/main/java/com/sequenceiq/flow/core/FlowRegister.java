@@ -1,5 +1,6 @@
 package com.sequenceiq.flow.core;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -7,8 +8,6 @@ import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -23,7 +22,7 @@ public class FlowRegister {
     @Inject
     private MetricService metricService;
 
-    private Map<String, Pair<Flow, String>> runningFlows;
+    private Map<String, RunningFlow> runningFlows;
 
     @PostConstruct
     public void init() {
@@ -31,30 +30,48 @@ public class FlowRegister {
     }
 
     public void put(Flow flow, String chainFlowId) {
-        LOGGER.info("Put flow {} to running flows", flow.getFlowId());
-        runningFlows.put(flow.getFlowId(), new ImmutablePair<>(flow, chainFlowId));
-        LOGGER.info("Running flows after put: {}", runningFlows.keySet());
+        String flowId = flow.getFlowId();
+        RunningFlow runningFlow = new RunningFlow(flow, chainFlowId, System.currentTimeMillis());
+        runningFlows.put(flowId, runningFlow);
+        LOGGER.info("Put flow {} of resource {} to running flows, number of running flows: {}", flowId, flow.getResourceId(), runningFlows.size());
     }
 
     public Flow get(String flowId) {
-        Pair<Flow, String> p = runningFlows.get(flowId);
-        return p != null ? p.getLeft() : null;
+        RunningFlow runningFlow = runningFlows.get(flowId);
+        return runningFlow != null ? runningFlow.flow : null;
     }
 
     public String getFlowChainId(String flowId) {
-        Pair<Flow, String> p = runningFlows.get(flowId);
-        return p != null ? p.getRight() : null;
+        RunningFlow runningFlow = runningFlows.get(flowId);
+        return runningFlow != null ? runningFlow.flowChainId : null;
     }
 
     public Flow remove(String flowId) {
-        LOGGER.info("Remove flow {} from running flows", flowId);
-        Pair<Flow, String> pair = runningFlows.remove(flowId);
-        metricService.submit(FlowMetricType.ACTIVE_FLOWS, runningFlows.size());
-        LOGGER.info("Running flows after removal: {}", runningFlows.keySet());
-        return pair == null ? null : pair.getLeft();
+        RunningFlow runningFlow = runningFlows.remove(flowId);
+        LOGGER.info("Remove flow {} from running flows, number of running flows: {}", flowId, runningFlows.size());
+        if (runningFlow == null) {
+            return null;
+        }
+        metricService.recordTimerMetric(FlowMetricType.ACTIVE_FLOW_DURATION, Duration.ofMillis(System.currentTimeMillis() - runningFlow.startTime));
+        return runningFlow.flow;
     }
 
     public Set<String> getRunningFlowIds() {
         return runningFlows.keySet();
     }
+
+    private static class RunningFlow {
+
+        private final Flow flow;
+
+        private final String flowChainId;
+
+        private final long startTime;
+
+        RunningFlow(Flow flow, String flowChainId, long startTime) {
+            this.flow = flow;
+            this.flowChainId = flowChainId;
+            this.startTime = startTime;
+        }
+    }
 }
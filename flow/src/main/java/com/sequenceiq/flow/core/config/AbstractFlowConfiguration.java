@@ -83,7 +83,7 @@ public abstract class AbstractFlowConfiguration<S extends FlowState, E extends F
         StateMachine<S, E> sm = stateMachineFactory.getStateMachine();
         FlowEventListener<S, E> fl = (FlowEventListener<S, E>) applicationContext.getBean(FlowEventListener.class, getEdgeConfig().initState,
                 getEdgeConfig().finalState, flowChainType, getClass().getSimpleName(), flowChainId, flowId, stackId);
-        Flow flow = new FlowAdapter<>(flowId, sm, new MessageFactory<>(), new StateConverterAdapter<>(stateType),
+        Flow flow = new FlowAdapter<>(flowId, stackId, sm, new MessageFactory<>(), new StateConverterAdapter<>(stateType),
                 new EventConverterAdapter<>(eventType), (Class<? extends FlowConfiguration<E>>) getClass(), fl);
         sm.addStateListener(fl);
         return flow;
@@ -1,5 +1,6 @@
 package com.sequenceiq.flow.domain;
 
+import com.sequenceiq.flow.converter.FlowLogPayloadFormatConverter;
 import com.sequenceiq.flow.converter.StateStatusConverter;
 
 import java.util.Date;
@@ -41,6 +42,9 @@ public class FlowLog {
     @Column(length = Integer.MAX_VALUE, columnDefinition = "TEXT")
     private String variables;
 
+    @Convert(converter = FlowLogPayloadFormatConverter.class)
+    private FlowLogPayloadFormat payloadFormat;
+
     private Class<?> flowType;
 
     private String currentState;
@@ -150,6 +154,14 @@ public class FlowLog {
         this.payloadType = payloadType;
     }
 
+    public FlowLogPayloadFormat getPayloadFormat() {
+        return payloadFormat;
+    }
+
+    public void setPayloadFormat(FlowLogPayloadFormat payloadFormat) {
+        this.payloadFormat = payloadFormat;
+    }
+
     public Class<?> getFlowType() {
         return flowType;
     }
@@ -0,0 +1,6 @@
+package com.sequenceiq.flow.domain;
+
+public enum FlowLogPayloadFormat {
+    JSON_IO,
+    DEFLATED_JSON_IO
+}
@@ -2,6 +2,7 @@ package com.sequenceiq.flow.reactor.config;
 
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -15,9 +16,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 
+import com.sequenceiq.cloudbreak.common.metrics.MetricService;
 import com.sequenceiq.cloudbreak.logger.MDCBuilder;
 import com.sequenceiq.cloudbreak.logger.concurrent.MDCCleanerThreadPoolExecutor;
 import com.sequenceiq.flow.core.ApplicationFlowInformation;
+import com.sequenceiq.flow.reactor.dispatcher.EventLaneResolver;
+import com.sequenceiq.flow.reactor.dispatcher.LaneDispatcher;
 import com.sequenceiq.flow.reactor.eventbus.ConsumerCheckerEventBus;
 import com.sequenceiq.flow.reactor.eventbus.EventCanNotBeDeliveredException;
 import com.sequenceiq.flow.reactor.handler.ConsumerNotFoundHandler;
@@ -27,6 +31,7 @@ import reactor.Environment;
 import reactor.bus.Event;
 import reactor.bus.EventBus;
 import reactor.bus.spec.EventBusSpec;
+import reactor.core.Dispatcher;
 import reactor.core.dispatch.ThreadPoolExecutorDispatcher;
 import reactor.core.support.Exceptions;
 import reactor.core.support.NamedDaemonThreadFactory;
@@ -46,6 +51,16 @@ public class EventBusConfig {
     @Value("${cb.eventbus.threadpool.backlog.size:1000}")
     private int eventBusThreadPoolBacklogSize;
 
+    @Value("${cb.eventbus.dispatcher.lanes.enabled:false}")
+    private boolean laneDispatcherEnabled;
+
+    @Value("${cb.eventbus.dispatcher.lanes.priority.selectors:FLOWCANCEL,.*TERMINAT.*}")
+    private List<String> prioritySelectors;
+
+    @Inject
+    @Lazy
+    private MetricService metricService;
+
     @Inject
     @Lazy
     private ApplicationFlowInformation applicationFlowInformation;
@@ -54,7 +69,7 @@ public class EventBusConfig {
     @Lazy
     private FlowLogDBService flowLogDBService;
 
-    private void handleFlowFail(Throwable throwable, ThreadPoolExecutorDispatcher dispatcher) {
+    private void handleFlowFail(Throwable throwable, Dispatcher dispatcher) {
         try {
             if (dispatcher.alive()) {
                 String flowId = getFlowIdFromThrowable(throwable);
@@ -134,8 +149,9 @@ public class EventBusConfig {
 
     @Bean
     public EventBus reactor(MDCCleanerThreadPoolExecutor threadPoolExecutor, Environment env) {
-        ThreadPoolExecutorDispatcher dispatcher = new ThreadPoolExecutorDispatcher(eventBusThreadPoolBacklogSize, eventBusThreadPoolCoreSize,
-                threadPoolExecutor);
+        Dispatcher dispatcher = laneDispatcherEnabled
+                ? new LaneDispatcher(threadPoolExecutor, eventBusThreadPoolBacklogSize, new EventLaneResolver(prioritySelectors), metricService)
+                : new ThreadPoolExecutorDispatcher(eventBusThreadPoolBacklogSize, eventBusThreadPoolCoreSize, threadPoolExecutor);
         EventBus eventBus = new EventBusSpec()
                 .env(env)
                 .dispatcher(dispatcher)
@@ -0,0 +1,9 @@
+package com.sequenceiq.flow.reactor.dispatcher;
+
+/**
+ * Priority lanes of the {@link LaneDispatcher}, in the order the waiting events are picked up.
+ */
+public enum EventLane {
+    PRIORITY,
+    DEFAULT
+}
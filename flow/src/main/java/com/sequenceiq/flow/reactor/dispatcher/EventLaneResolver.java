@@ -0,0 +1,38 @@
+package com.sequenceiq.flow.reactor.dispatcher;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import reactor.bus.Event;
+
+public class EventLaneResolver {
+
+    private final List<Pattern> prioritySelectorPatterns;
+
+    private final Map<String, EventLane> lanesBySelector = new ConcurrentHashMap<>();
+
+    /**
+     * @param prioritySelectors regular expressions of the selectors that are dispatched on the {@link EventLane#PRIORITY} lane
+     */
+    public EventLaneResolver(Collection<String> prioritySelectors) {
+        prioritySelectorPatterns = prioritySelectors.stream()
+                .filter(selector -> !selector.isBlank())
+                .map(selector -> Pattern.compile(selector.trim()))
+                .collect(Collectors.toList());
+    }
+
+    public EventLane resolve(Object data) {
+        if (data instanceof Event && ((Event<?>) data).getKey() != null) {
+            return lanesBySelector.computeIfAbsent(((Event<?>) data).getKey().toString(), this::resolveSelector);
+        }
+        return EventLane.DEFAULT;
+    }
+
+    private EventLane resolveSelector(String selector) {
+        return prioritySelectorPatterns.stream().anyMatch(pattern -> pattern.matcher(selector).matches()) ? EventLane.PRIORITY : EventLane.DEFAULT;
+    }
+}
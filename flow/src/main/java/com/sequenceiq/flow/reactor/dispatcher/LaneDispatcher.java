@@ -0,0 +1,282 @@
+package com.sequenceiq.flow.reactor.dispatcher;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sequenceiq.cloudbreak.common.event.Payload;
+import com.sequenceiq.cloudbreak.common.metrics.MetricService;
+import com.sequenceiq.flow.core.FlowMetricType;
+import com.sequenceiq.flow.reactor.eventbus.EventCanNotBeDeliveredException;
+
+import reactor.bus.Event;
+import reactor.core.Dispatcher;
+import reactor.fn.Consumer;
+
+/**
+ * Reactor dispatcher running the consumers on a shared executor, with
+ * <ul>
+ *     <li>priority lanes: a free worker always picks up the waiting event of the highest priority lane, so e.g. the cancel and termination
+ *     events do not wait behind the provisioning events</li>
+ *     <li>per resource ordering: the events of a resource on the same lane are consumed one by one in the order of dispatch. Events dispatched by
+ *     a consumer of the same resource and lane are not held back by it, so a consumer waiting for the reply of another consumer cannot block
+ *     itself.</li>
+ *     <li>bounded backlog: the events over the backlog size are rejected through the error consumer</li>
+ *     <li>backlog gauges and dispatch latency timers per lane</li>
+ * </ul>
+ */
+public class LaneDispatcher implements Dispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LaneDispatcher.class);
+
+    private static final String LANE_TAG = "lane";
+
+    private final ExecutorService executor;
+
+    private final int backlogSize;
+
+    private final EventLaneResolver laneResolver;
+
+    private final MetricService metricService;
+
+    private final Map<EventLane, Queue<Task<?>>> readyTasks = new EnumMap<>(EventLane.class);
+
+    private final Map<EventLane, AtomicInteger> backlogs = new EnumMap<>(EventLane.class);
+
+    private final Map<String, Deque<Task<?>>> waitingTasksByOrderingKey = new HashMap<>();
+
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    private final ThreadLocal<String> currentOrderingKey = new ThreadLocal<>();
+
+    private volatile boolean alive = true;
+
+    public LaneDispatcher(ExecutorService executor, int backlogSize, EventLaneResolver laneResolver, MetricService metricService) {
+        this.executor = executor;
+        this.backlogSize = backlogSize;
+        this.laneResolver = laneResolver;
+        this.metricService = metricService;
+        for (EventLane lane : EventLane.values()) {
+            readyTasks.put(lane, new ConcurrentLinkedQueue<>());
+            backlogs.put(lane, metricService.gauge(FlowMetricType.EVENTBUS_BACKLOG, new AtomicInteger(), AtomicInteger::get, LANE_TAG, lane.name()));
+        }
+    }
+
+    @Override
+    public <E> void tryDispatch(E data, Consumer<E> eventConsumer, Consumer<Throwable> errorConsumer) {
+        dispatch(data, eventConsumer, errorConsumer);
+    }
+
+    @Override
+    public <E> void dispatch(E data, Consumer<E> eventConsumer, Consumer<Throwable> errorConsumer) {
+        if (!alive) {
+            throw new IllegalStateException("This Dispatcher has been shut down.");
+        }
+        EventLane lane = laneResolver.resolve(data);
+        if (backlog.incrementAndGet() > backlogSize) {
+            backlog.decrementAndGet();
+            metricService.incrementMetricCounter(FlowMetricType.EVENTBUS_REJECTED, LANE_TAG, lane.name());
+            LOGGER.error("Event has been rejected, the backlog of the dispatcher is full: {}", data);
+            reject(data, errorConsumer, new RejectedExecutionException("Event bus backlog is full, size: " + backlogSize));
+            return;
+        }
+        backlogs.get(lane).incrementAndGet();
+        Task<E> task = new Task<>(data, eventConsumer, errorConsumer, lane, getOrderingKey(lane, data));
+        if (task.orderingKey == null || task.orderingKey.equals(currentOrderingKey.get()) || !waitForPreviousTask(task)) {
+            submit(task);
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        dispatch(command, Runnable::run, null);
+    }
+
+    @Override
+    public boolean inContext() {
+        return currentOrderingKey.get() != null;
+    }
+
+    @Override
+    public boolean supportsOrdering() {
+        return false;
+    }
+
+    @Override
+    public long backlogSize() {
+        return backlogSize;
+    }
+
+    @Override
+    public long remainingSlots() {
+        return backlogSize - backlog.get();
+    }
+
+    @Override
+    public boolean alive() {
+        return alive;
+    }
+
+    @Override
+    public void shutdown() {
+        alive = false;
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean awaitAndShutdown() {
+        return awaitAndShutdown(Integer.MAX_VALUE, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public boolean awaitAndShutdown(long timeout, TimeUnit timeUnit) {
+        shutdown();
+        try {
+            return executor.awaitTermination(timeout, timeUnit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void forceShutdown() {
+        alive = false;
+        readyTasks.values().forEach(Queue::clear);
+        synchronized (waitingTasksByOrderingKey) {
+            waitingTasksByOrderingKey.clear();
+        }
+        executor.shutdownNow();
+    }
+
+    private String getOrderingKey(EventLane lane, Object data) {
+        if (data instanceof Event && ((Event<?>) data).getData() instanceof Payload) {
+            Long resourceId = ((Payload) ((Event<?>) data).getData()).getResourceId();
+            return resourceId == null ? null : lane.name() + ':' + resourceId;
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the task has to wait for a previous task of its ordering key, false if it can be submitted
+     */
+    private boolean waitForPreviousTask(Task<?> task) {
+        synchronized (waitingTasksByOrderingKey) {
+            Deque<Task<?>> waitingTasks = waitingTasksByOrderingKey.get(task.orderingKey);
+            if (waitingTasks == null) {
+                waitingTasksByOrderingKey.put(task.orderingKey, new ArrayDeque<>());
+                task.ordered = true;
+                return false;
+            }
+            waitingTasks.add(task);
+            return true;
+        }
+    }
+
+    private void submitNextTask(String orderingKey) {
+        Task<?> next;
+        synchronized (waitingTasksByOrderingKey) {
+            Deque<Task<?>> waitingTasks = waitingTasksByOrderingKey.get(orderingKey);
+            next = waitingTasks == null ? null : waitingTasks.poll();
+            if (next == null) {
+                waitingTasksByOrderingKey.remove(orderingKey);
+            } else {
+                next.ordered = true;
+            }
+        }
+        if (next != null) {
+            submit(next);
+        }
+    }
+
+    private void submit(Task<?> task) {
+        readyTasks.get(task.lane).add(task);
+        try {
+            executor.execute(this::runNextTask);
+        } catch (RejectedExecutionException e) {
+            if (readyTasks.get(task.lane).remove(task)) {
+                complete(task);
+                reject(task.data, task.errorConsumer, e);
+            }
+        }
+    }
+
+    private void runNextTask() {
+        for (EventLane lane : EventLane.values()) {
+            Task<?> task = readyTasks.get(lane).poll();
+            if (task != null) {
+                run(task);
+                return;
+            }
+        }
+    }
+
+    private <E> void run(Task<E> task) {
+        metricService.recordTimerMetric(FlowMetricType.EVENTBUS_DISPATCH_LATENCY, Duration.ofNanos(System.nanoTime() - task.dispatchedAt),
+                LANE_TAG, task.lane.name());
+        currentOrderingKey.set(task.orderingKey == null ? task.lane.name() : task.orderingKey);
+        try {
+            task.eventConsumer.accept(task.data);
+        } catch (Throwable t) {
+            if (task.errorConsumer != null) {
+                task.errorConsumer.accept(t);
+            } else {
+                LOGGER.error("Exception happened in dispatcher", t);
+            }
+        } finally {
+            currentOrderingKey.remove();
+            complete(task);
+        }
+    }
+
+    private void complete(Task<?> task) {
+        backlog.decrementAndGet();
+        backlogs.get(task.lane).decrementAndGet();
+        if (task.ordered) {
+            submitNextTask(task.orderingKey);
+        }
+    }
+
+    private void reject(Object data, Consumer<Throwable> errorConsumer, RejectedExecutionException e) {
+        if (errorConsumer != null) {
+            errorConsumer.accept(data instanceof Event ? new EventCanNotBeDeliveredException((Event<?>) data) : e);
+        }
+    }
+
+    private static class Task<E> {
+
+        private final E data;
+
+        private final Consumer<E> eventConsumer;
+
+        private final Consumer<Throwable> errorConsumer;
+
+        private final EventLane lane;
+
+        private final String orderingKey;
+
+        private final long dispatchedAt = System.nanoTime();
+
+        private boolean ordered;
+
+        Task(E data, Consumer<E> eventConsumer, Consumer<Throwable> errorConsumer, EventLane lane, String orderingKey) {
+            this.data = data;
+            this.eventConsumer = eventConsumer;
+            this.errorConsumer = errorConsumer;
+            this.lane = lane;
+            this.orderingKey = orderingKey;
+        }
+    }
+}
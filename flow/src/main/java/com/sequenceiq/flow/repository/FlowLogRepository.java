@@ -1,5 +1,6 @@
 package com.sequenceiq.flow.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -26,6 +27,9 @@ public interface FlowLogRepository extends CrudRepository<FlowLog, Long> {
             + "WHERE fl.stateStatus = 'PENDING' AND fl.resourceId = :resourceId")
     Set<FlowLogIdWithTypeAndTimestamp> findAllRunningFlowLogByResourceId(@Param("resourceId") Long resourceId);
 
+    @Query("SELECT DISTINCT fl.resourceId FROM FlowLog fl WHERE fl.stateStatus = 'PENDING' AND fl.resourceId IN (:resourceIds)")
+    Set<Long> findAllResourceIdsWithRunningFlow(@Param("resourceIds") Collection<Long> resourceIds);
+
     @Query("SELECT DISTINCT fl.flowId, fl.resourceId, fl.cloudbreakNodeId FROM FlowLog fl WHERE fl.stateStatus = 'PENDING'")
     List<Object[]> findAllPending();
 
@@ -1,5 +1,6 @@
 package com.sequenceiq.flow.service.flowlog;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -14,6 +15,7 @@ import javax.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
@@ -36,9 +38,12 @@ import com.sequenceiq.flow.core.config.AbstractFlowConfiguration;
 import com.sequenceiq.flow.domain.FlowChainLog;
 import com.sequenceiq.flow.domain.FlowLog;
 import com.sequenceiq.flow.domain.FlowLogIdWithTypeAndTimestamp;
+import com.sequenceiq.flow.domain.FlowLogPayloadFormat;
 import com.sequenceiq.flow.domain.StateStatus;
 import com.sequenceiq.flow.ha.NodeConfig;
 import com.sequenceiq.flow.repository.FlowLogRepository;
+import com.sequenceiq.flow.service.flowlog.codec.FlowPayloadCodec;
+import com.sequenceiq.flow.service.flowlog.codec.FlowPayloadCodecs;
 
 @Primary
 @Service
@@ -68,12 +73,17 @@ public class FlowLogDBService implements FlowLogService {
     @Inject
     private ResourceIdProvider resourceIdProvider;
 
+    @Value("${flow.payload.format:JSON_IO}")
+    private FlowLogPayloadFormat payloadFormat;
+
     public FlowLog save(FlowParameters flowParameters, String flowChanId, String key, Payload payload, Map<Object, Object> variables, Class<?> flowType,
             FlowState currentState) {
-        String payloadAsString = getSerializedString(payload);
-        String variablesJson = getSerializedString(variables);
+        FlowPayloadCodec codec = FlowPayloadCodecs.get(payloadFormat);
+        String payloadAsString = codec.encode(getSerializedString(payload));
+        String variablesAsString = codec.encode(getSerializedString(variables));
         FlowLog flowLog = new FlowLog(payload.getResourceId(), flowParameters.getFlowId(), flowChanId, flowParameters.getFlowTriggerUserCrn(), key,
-                payloadAsString, payload.getClass(), variablesJson, flowType, currentState.toString());
+                payloadAsString, payload.getClass(), variablesAsString, flowType, currentState.toString());
+        flowLog.setPayloadFormat(codec.getFormat());
         flowLog.setCloudbreakNodeId(nodeConfig.getId());
         return flowLogRepository.save(flowLog);
     }
@@ -176,17 +186,23 @@ public class FlowLogDBService implements FlowLogService {
         return !flowIds.isEmpty();
     }
 
+    public Set<Long> findAllResourceIdsWithRunningFlow(Collection<Long> resourceIds) {
+        return resourceIds.isEmpty() ? Collections.emptySet() : flowLogRepository.findAllResourceIdsWithRunningFlow(resourceIds);
+    }
+
     public boolean repeatedFlowState(FlowLog lastFlowLog, String event) {
         return Optional.ofNullable(lastFlowLog).map(FlowLog::getNextEvent).map(flowLog -> flowLog.equalsIgnoreCase(event)).orElse(false);
     }
 
     public void updateLastFlowLogPayload(FlowLog lastFlowLog, Payload payload, Map<Object, Object> variables) {
-        String payloadJson = JsonWriter.objectToJson(payload, writeOptions);
-        String variablesJson = JsonWriter.objectToJson(variables, writeOptions);
+        FlowPayloadCodec codec = FlowPayloadCodecs.get(payloadFormat);
+        String payloadAsString = codec.encode(JsonWriter.objectToJson(payload, writeOptions));
+        String variablesAsString = codec.encode(JsonWriter.objectToJson(variables, writeOptions));
         Optional.ofNullable(lastFlowLog)
                 .ifPresent(flowLog -> {
-                    flowLog.setPayload(payloadJson);
-                    flowLog.setVariables(variablesJson);
+                    flowLog.setPayload(payloadAsString);
+                    flowLog.setVariables(variablesAsString);
+                    flowLog.setPayloadFormat(codec.getFormat());
                     flowLogRepository.save(flowLog);
                 });
     }
@@ -0,0 +1,59 @@
+package com.sequenceiq.flow.service.flowlog.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterOutputStream;
+
+import com.sequenceiq.flow.domain.FlowLogPayloadFormat;
+
+/**
+ * Deflates the json-io document and stores it base64 encoded. The fully qualified class names repeated in the @type fields make up most of the
+ * json-io documents, so they compress well.
+ */
+class DeflatedJsonIoFlowPayloadCodec implements FlowPayloadCodec {
+
+    @Override
+    public FlowLogPayloadFormat getFormat() {
+        return FlowLogPayloadFormat.DEFLATED_JSON_IO;
+    }
+
+    @Override
+    public String encode(String json) {
+        if (json == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(bytes, deflater)) {
+            deflaterStream.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress flow payload", e);
+        } finally {
+            deflater.end();
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    @Override
+    public String decode(String encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Inflater inflater = new Inflater();
+        try (InflaterOutputStream inflaterStream = new InflaterOutputStream(bytes, inflater)) {
+            inflaterStream.write(Base64.getDecoder().decode(encoded));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress flow payload", e);
+        } finally {
+            inflater.end();
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
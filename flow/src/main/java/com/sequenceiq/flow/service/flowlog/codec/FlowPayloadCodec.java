@@ -0,0 +1,16 @@
+package com.sequenceiq.flow.service.flowlog.codec;
+
+import com.sequenceiq.flow.domain.FlowLogPayloadFormat;
+
+/**
+ * Encodes the json-io serialized payload and variables of a flow log before they are stored, and decodes them when they are read back.
+ * The format of every flow log row is stored next to the payload, so rows written in any format stay readable.
+ */
+public interface FlowPayloadCodec {
+
+    FlowLogPayloadFormat getFormat();
+
+    String encode(String json);
+
+    String decode(String encoded);
+}
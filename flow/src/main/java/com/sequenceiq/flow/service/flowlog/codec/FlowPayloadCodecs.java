@@ -0,0 +1,36 @@
+package com.sequenceiq.flow.service.flowlog.codec;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.sequenceiq.flow.domain.FlowLog;
+import com.sequenceiq.flow.domain.FlowLogPayloadFormat;
+
+public class FlowPayloadCodecs {
+
+    private static final Map<FlowLogPayloadFormat, FlowPayloadCodec> CODECS = new EnumMap<>(FlowLogPayloadFormat.class);
+
+    static {
+        Stream.of(new JsonIoFlowPayloadCodec(), new DeflatedJsonIoFlowPayloadCodec()).forEach(codec -> CODECS.put(codec.getFormat(), codec));
+    }
+
+    private FlowPayloadCodecs() {
+    }
+
+    /**
+     * @param format the format of the flow log, rows written before the format was recorded have no format
+     * @return the codec of the format, the json-io codec if the format is not set
+     */
+    public static FlowPayloadCodec get(FlowLogPayloadFormat format) {
+        return CODECS.get(format == null ? FlowLogPayloadFormat.JSON_IO : format);
+    }
+
+    public static String getPayloadJson(FlowLog flowLog) {
+        return get(flowLog.getPayloadFormat()).decode(flowLog.getPayload());
+    }
+
+    public static String getVariablesJson(FlowLog flowLog) {
+        return get(flowLog.getPayloadFormat()).decode(flowLog.getVariables());
+    }
+}
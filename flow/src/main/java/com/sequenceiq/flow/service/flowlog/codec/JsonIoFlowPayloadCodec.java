@@ -0,0 +1,21 @@
+package com.sequenceiq.flow.service.flowlog.codec;
+
+import com.sequenceiq.flow.domain.FlowLogPayloadFormat;
+
+class JsonIoFlowPayloadCodec implements FlowPayloadCodec {
+
+    @Override
+    public FlowLogPayloadFormat getFormat() {
+        return FlowLogPayloadFormat.JSON_IO;
+    }
+
+    @Override
+    public String encode(String json) {
+        return json;
+    }
+
+    @Override
+    public String decode(String encoded) {
+        return encoded;
+    }
+}
@@ -0,0 +1,95 @@
+package com.sequenceiq.flow.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sequenceiq.cloudbreak.common.metrics.MetricService;
+
+@ExtendWith(MockitoExtension.class)
+class FlowRegisterTest {
+
+    private static final Long RESOURCE_ID = 1L;
+
+    private static final String FLOW_CHAIN_ID = "flowChainId";
+
+    @Mock
+    private MetricService metricService;
+
+    @InjectMocks
+    private FlowRegister underTest;
+
+    @BeforeEach
+    void setUp() {
+        when(metricService.gaugeMapSize(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        underTest.init();
+    }
+
+    @Test
+    void testFlowsAreRegisteredWithTheirFlowChain() {
+        Flow flow1 = flow("flow1", RESOURCE_ID);
+        Flow flow2 = flow("flow2", RESOURCE_ID);
+
+        underTest.put(flow1, FLOW_CHAIN_ID);
+        underTest.put(flow2, null);
+
+        assertSame(flow1, underTest.get("flow1"));
+        assertEquals(FLOW_CHAIN_ID, underTest.getFlowChainId("flow1"));
+        assertNull(underTest.getFlowChainId("flow2"));
+        assertEquals(Set.of("flow1", "flow2"), underTest.getRunningFlowIds());
+    }
+
+    @Test
+    void testRemoveRecordsFlowDuration() {
+        Flow flow1 = flow("flow1", RESOURCE_ID);
+        underTest.put(flow1, FLOW_CHAIN_ID);
+
+        assertSame(flow1, underTest.remove("flow1"));
+
+        assertNull(underTest.get("flow1"));
+        assertNull(underTest.getFlowChainId("flow1"));
+        assertTrue(underTest.getRunningFlowIds().isEmpty());
+        verify(metricService).recordTimerMetric(eq(FlowMetricType.ACTIVE_FLOW_DURATION), any(Duration.class));
+    }
+
+    @Test
+    void testRemoveUnknownFlow() {
+        assertNull(underTest.remove("unknown"));
+
+        verify(metricService, never()).recordTimerMetric(any(), any());
+    }
+
+    @Test
+    void testPutAgainMovesFlowToNewFlowChain() {
+        Flow flow = flow("flow1", RESOURCE_ID);
+        underTest.put(flow, FLOW_CHAIN_ID);
+
+        underTest.put(flow, "otherFlowChainId");
+
+        assertEquals("otherFlowChainId", underTest.getFlowChainId("flow1"));
+    }
+
+    private Flow flow(String flowId, Long resourceId) {
+        Flow flow = mock(Flow.class);
+        when(flow.getFlowId()).thenReturn(flowId);
+        when(flow.getResourceId()).thenReturn(resourceId);
+        return flow;
+    }
+}
@@ -0,0 +1,172 @@
+package com.sequenceiq.flow.reactor.dispatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sequenceiq.cloudbreak.common.metrics.MetricService;
+import com.sequenceiq.flow.core.TestPayload;
+import com.sequenceiq.flow.reactor.eventbus.EventCanNotBeDeliveredException;
+
+import reactor.bus.Event;
+
+@ExtendWith(MockitoExtension.class)
+class LaneDispatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 10L;
+
+    private static final long NOT_RUN_WAIT_MILLIS = 200L;
+
+    @Mock
+    private MetricService metricService;
+
+    private ExecutorService executor;
+
+    private final List<String> consumed = new CopyOnWriteArrayList<>();
+
+    private final CountDownLatch blocked = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        when(metricService.gauge(any(), any(), any(), anyString(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testPriorityLaneIsConsumedFirst() throws InterruptedException {
+        LaneDispatcher underTest = createDispatcher(1, 10);
+        underTest.dispatch(event("BLOCK", null), this::consume, null);
+        blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        underTest.dispatch(event("PROVISION", 1L), this::consume, null);
+        underTest.dispatch(event("FLOWCANCEL", 2L), this::consume, null);
+        underTest.dispatch(event("STACK_TERMINATE_TRIGGER_EVENT", 3L), this::consume, null);
+        underTest.dispatch(event("CLUSTER_TERMINATION_TRIGGER_EVENT", 4L), this::consume, null);
+        underTest.dispatch(event("TERMINATESTACKFINALIZED", 5L), this::consume, null);
+
+        release.countDown();
+
+        awaitConsumed(6);
+        assertEquals(List.of("BLOCK", "FLOWCANCEL", "STACK_TERMINATE_TRIGGER_EVENT", "CLUSTER_TERMINATION_TRIGGER_EVENT", "TERMINATESTACKFINALIZED",
+                "PROVISION"), consumed);
+    }
+
+    @Test
+    void testEventsOfResourceAreConsumedInOrder() throws InterruptedException {
+        LaneDispatcher underTest = createDispatcher(4, 10);
+        underTest.dispatch(event("BLOCK", 1L), this::consume, null);
+        underTest.dispatch(event("NEXT", 1L), this::consume, null);
+        underTest.dispatch(event("OTHER_RESOURCE", 2L), this::consume, null);
+
+        awaitConsumed(1);
+        Thread.sleep(NOT_RUN_WAIT_MILLIS);
+        assertEquals(List.of("OTHER_RESOURCE"), consumed);
+        assertEquals(8L, underTest.remainingSlots());
+
+        release.countDown();
+
+        awaitConsumed(3);
+        assertEquals(List.of("OTHER_RESOURCE", "BLOCK", "NEXT"), consumed);
+    }
+
+    @Test
+    void testEventDispatchedByConsumerOfSameResourceIsNotHeldBack() throws InterruptedException {
+        LaneDispatcher underTest = createDispatcher(2, 10);
+        CountDownLatch replied = new CountDownLatch(1);
+        AtomicReference<Boolean> replyReceived = new AtomicReference<>();
+        underTest.dispatch(event("REQUEST", 1L), request -> {
+            underTest.dispatch(event("REPLY", 1L), reply -> replied.countDown(), null);
+            try {
+                replyReceived.set(replied.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            consume(request);
+        }, null);
+
+        awaitConsumed(1);
+        assertTrue(replyReceived.get());
+    }
+
+    @Test
+    void testEventIsRejectedWhenBacklogIsFull() throws InterruptedException {
+        LaneDispatcher underTest = createDispatcher(1, 1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        underTest.dispatch(event("BLOCK", null), this::consume, null);
+        blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Event<TestPayload> rejected = event("REJECTED", 1L);
+
+        underTest.dispatch(rejected, this::consume, error::set);
+
+        assertTrue(error.get() instanceof EventCanNotBeDeliveredException);
+        assertEquals(rejected, ((EventCanNotBeDeliveredException) error.get()).getEvent());
+        release.countDown();
+        awaitConsumed(1);
+        Thread.sleep(NOT_RUN_WAIT_MILLIS);
+        assertEquals(List.of("BLOCK"), consumed);
+    }
+
+    @Test
+    void testDispatchIsRefusedAfterShutdown() {
+        LaneDispatcher underTest = createDispatcher(1, 1);
+
+        underTest.forceShutdown();
+
+        assertFalse(underTest.alive());
+        assertThrows(IllegalStateException.class, () -> underTest.dispatch(event("PROVISION", 1L), this::consume, null));
+    }
+
+    private LaneDispatcher createDispatcher(int threads, int backlogSize) {
+        executor = Executors.newFixedThreadPool(threads);
+        return new LaneDispatcher(executor, backlogSize, new EventLaneResolver(List.of("FLOWCANCEL", ".*TERMINAT.*")), metricService);
+    }
+
+    private Event<TestPayload> event(String selector, Long resourceId) {
+        return new Event<>(new TestPayload(resourceId)).setKey(selector);
+    }
+
+    private void consume(Event<TestPayload> event) {
+        if ("BLOCK".equals(event.getKey())) {
+            blocked.countDown();
+            try {
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        consumed.add(event.getKey().toString());
+    }
+
+    private void awaitConsumed(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS);
+        while (consumed.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(count, consumed.size());
+    }
+}
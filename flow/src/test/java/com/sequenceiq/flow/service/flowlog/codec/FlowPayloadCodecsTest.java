@@ -0,0 +1,72 @@
+package com.sequenceiq.flow.service.flowlog.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import com.cedarsoftware.util.io.JsonReader;
+import com.cedarsoftware.util.io.JsonWriter;
+import com.sequenceiq.flow.core.TestPayload;
+import com.sequenceiq.flow.domain.FlowLog;
+import com.sequenceiq.flow.domain.FlowLogPayloadFormat;
+
+class FlowPayloadCodecsTest {
+
+    @ParameterizedTest
+    @EnumSource(FlowLogPayloadFormat.class)
+    void testRoundTrip(FlowLogPayloadFormat format) {
+        FlowPayloadCodec codec = FlowPayloadCodecs.get(format);
+        String json = JsonWriter.objectToJson(new TestPayload(1L));
+
+        String encoded = codec.encode(json);
+
+        assertEquals(format, codec.getFormat());
+        assertEquals(json, codec.decode(encoded));
+        assertEquals(1L, ((TestPayload) JsonReader.jsonToJava(codec.decode(encoded))).getResourceId());
+    }
+
+    @ParameterizedTest
+    @EnumSource(FlowLogPayloadFormat.class)
+    void testNull(FlowLogPayloadFormat format) {
+        FlowPayloadCodec codec = FlowPayloadCodecs.get(format);
+
+        assertNull(codec.encode(null));
+        assertNull(codec.decode(null));
+    }
+
+    @Test
+    void testDeflatedPayloadIsSmaller() {
+        String json = JsonWriter.objectToJson(Map.of("first", new TestPayload(1L), "second", new TestPayload(2L), "third", new TestPayload(3L)));
+
+        String encoded = FlowPayloadCodecs.get(FlowLogPayloadFormat.DEFLATED_JSON_IO).encode(json);
+
+        assertTrue(encoded.length() < json.length());
+    }
+
+    @Test
+    void testLegacyRowWithoutFormatIsReadAsJsonIo() {
+        String payloadJson = JsonWriter.objectToJson(new TestPayload(1L));
+        String variablesJson = JsonWriter.objectToJson(Map.of("key", "value"));
+        FlowLog flowLog = new FlowLog(1L, "flowId", null, null, "event", payloadJson, TestPayload.class, variablesJson, null, "state");
+
+        assertEquals(payloadJson, FlowPayloadCodecs.getPayloadJson(flowLog));
+        assertEquals(variablesJson, FlowPayloadCodecs.getVariablesJson(flowLog));
+    }
+
+    @Test
+    void testDeflatedRowIsDecoded() {
+        FlowPayloadCodec codec = FlowPayloadCodecs.get(FlowLogPayloadFormat.DEFLATED_JSON_IO);
+        String payloadJson = JsonWriter.objectToJson(new TestPayload(1L));
+        FlowLog flowLog = new FlowLog(1L, "flowId", null, null, "event", codec.encode(payloadJson), TestPayload.class, null, null, "state");
+        flowLog.setPayloadFormat(FlowLogPayloadFormat.DEFLATED_JSON_IO);
+
+        assertEquals(payloadJson, FlowPayloadCodecs.getPayloadJson(flowLog));
+        assertNull(FlowPayloadCodecs.getVariablesJson(flowLog));
+    }
+}
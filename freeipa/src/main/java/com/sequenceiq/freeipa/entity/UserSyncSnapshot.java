@@ -0,0 +1,66 @@
+package com.sequenceiq.freeipa.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.OneToOne;
+import javax.persistence.SequenceGenerator;
+
+import com.sequenceiq.cloudbreak.common.json.Json;
+import com.sequenceiq.cloudbreak.common.json.JsonToString;
+import com.sequenceiq.cloudbreak.service.secret.domain.AccountIdAwareResource;
+
+@Entity
+public class UserSyncSnapshot implements AccountIdAwareResource {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO, generator = "usersyncsnapshot_generator")
+    @SequenceGenerator(name = "usersyncsnapshot_generator", sequenceName = "usersyncsnapshot_id_seq", allocationSize = 1)
+    private Long id;
+
+    @OneToOne
+    private Stack stack;
+
+    @Convert(converter = JsonToString.class)
+    @Column(columnDefinition = "TEXT")
+    private Json usersState;
+
+    public UserSyncSnapshot() {
+    }
+
+    public UserSyncSnapshot(Stack stack) {
+        this.stack = stack;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Stack getStack() {
+        return stack;
+    }
+
+    public void setStack(Stack stack) {
+        this.stack = stack;
+    }
+
+    public Json getUsersState() {
+        return usersState;
+    }
+
+    public void setUsersState(Json usersState) {
+        this.usersState = usersState;
+    }
+
+    @Override
+    public String getAccountId() {
+        return stack.getAccountId();
+    }
+}
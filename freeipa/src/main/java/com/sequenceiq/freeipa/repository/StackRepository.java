@@ -28,9 +28,15 @@ public interface StackRepository extends AccountAwareResourceRepository<Stack, L
     @Query("SELECT s FROM Stack s WHERE s.terminated = -1 and s.stackStatus.status in (:statuses)")
     List<Stack> findAllRunningAndStatusIn(@Param("statuses") Collection<Status> statuses);
 
+    @Query("SELECT s.id FROM Stack s WHERE s.terminated = -1 and s.stackStatus.status in (:statuses) ORDER BY s.id")
+    List<Long> findAllRunningIdsAndStatusIn(@Param("statuses") Collection<Status> statuses);
+
     @Query("SELECT s FROM Stack s LEFT JOIN FETCH s.instanceGroups ig LEFT JOIN FETCH ig.instanceMetaData WHERE s.id= :id ")
     Optional<Stack> findOneWithLists(@Param("id") Long id);
 
+    @Query("SELECT DISTINCT s FROM Stack s LEFT JOIN FETCH s.instanceGroups ig LEFT JOIN FETCH ig.instanceMetaData WHERE s.id IN (:ids)")
+    List<Stack> findAllWithListsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT s FROM Stack s WHERE s.accountId = :accountId AND s.environmentCrn = :environmentCrn AND s.name = :name AND s.terminated = -1")
     Optional<Stack> findByAccountIdEnvironmentCrnAndName(
             @Param("accountId") String accountId,
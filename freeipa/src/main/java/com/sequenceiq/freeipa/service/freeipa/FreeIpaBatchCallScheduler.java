@@ -0,0 +1,149 @@
+package com.sequenceiq.freeipa.service.freeipa;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
+import com.sequenceiq.freeipa.client.FreeIpaClient;
+import com.sequenceiq.freeipa.client.FreeIpaClientException;
+import com.sequenceiq.freeipa.client.FreeIpaErrorCodes;
+import com.sequenceiq.freeipa.configuration.BatchPartitionSizeProperties;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Sends the FreeIPA batch calls of the user sync. The calls towards one FreeIPA server share a token bucket limiting the operations per
+ * second, and the partition size of every operation type adapts to the server: it is halved when a call is slower than the target latency
+ * or reports failures, and grows back step by step up to the configured partition size while the calls are fast and clean.
+ */
+@Component
+public class FreeIpaBatchCallScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FreeIpaBatchCallScheduler.class);
+
+    private static final int GROWTH_STEPS = 10;
+
+    @Value("${freeipa.usersync.ipa.max-operations-per-second}")
+    private double maxOperationsPerSecond;
+
+    @Value("${freeipa.usersync.ipa.batch.target-latency-millis}")
+    private long targetLatencyMillis;
+
+    @Value("${freeipa.usersync.ipa.batch.min-size}")
+    private int minBatchSize;
+
+    @Inject
+    private BatchPartitionSizeProperties batchPartitionSizeProperties;
+
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    private final Map<String, AdaptiveBatchSize> batchSizes = new ConcurrentHashMap<>();
+
+    public void callBatch(FreeIpaClient freeIpaClient, String operationName, List<Object> operations, BiConsumer<String, String> warnings,
+            Set<FreeIpaErrorCodes> acceptableErrorCodes) throws FreeIpaClientException {
+        if (operations.isEmpty()) {
+            return;
+        }
+        String ipa = getIpaKey(freeIpaClient);
+        AdaptiveBatchSize batchSize = getBatchSize(ipa, operationName);
+        Optional<RateLimiter> rateLimiter = getRateLimiter(ipa);
+        int position = 0;
+        while (position < operations.size()) {
+            int size = Math.min(batchSize.get(), operations.size() - position);
+            List<Object> partition = operations.subList(position, position + size);
+            rateLimiter.ifPresent(limiter -> limiter.acquire(size));
+            AtomicBoolean failed = new AtomicBoolean();
+            BiConsumer<String, String> trackingWarnings = (key, value) -> {
+                failed.set(true);
+                warnings.accept(key, value);
+            };
+            long start = System.nanoTime();
+            try {
+                freeIpaClient.callBatch(trackingWarnings, partition, size, acceptableErrorCodes);
+            } catch (FreeIpaClientException | RuntimeException e) {
+                failed.set(true);
+                throw e;
+            } finally {
+                long elapsedNanos = System.nanoTime() - start;
+                batchSize.adjust(TimeUnit.NANOSECONDS.toMillis(elapsedNanos), failed.get());
+                Timer.builder("freeipa.usersync.batch.call")
+                        .tag("operation", operationName)
+                        .tag("outcome", failed.get() ? "failed" : "succeeded")
+                        .register(Metrics.globalRegistry)
+                        .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            }
+            position += size;
+        }
+    }
+
+    @VisibleForTesting
+    AdaptiveBatchSize getBatchSize(String ipa, String operationName) {
+        int configuredSize = batchPartitionSizeProperties.getByOperation(operationName);
+        return batchSizes.computeIfAbsent(ipa + '/' + operationName,
+                key -> new AdaptiveBatchSize(Math.min(minBatchSize, configuredSize), configuredSize, targetLatencyMillis));
+    }
+
+    private Optional<RateLimiter> getRateLimiter(String ipa) {
+        if (maxOperationsPerSecond <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(rateLimiters.computeIfAbsent(ipa, key -> RateLimiter.create(maxOperationsPerSecond)));
+    }
+
+    private String getIpaKey(FreeIpaClient freeIpaClient) {
+        return Optional.ofNullable(freeIpaClient.getHostname()).orElse("unknown");
+    }
+
+    @VisibleForTesting
+    static class AdaptiveBatchSize {
+
+        private final int minSize;
+
+        private final int maxSize;
+
+        private final int step;
+
+        private final long targetLatencyMillis;
+
+        private int size;
+
+        AdaptiveBatchSize(int minSize, int maxSize, long targetLatencyMillis) {
+            this.minSize = Math.max(1, minSize);
+            this.maxSize = Math.max(this.minSize, maxSize);
+            this.step = Math.max(1, this.maxSize / GROWTH_STEPS);
+            this.targetLatencyMillis = targetLatencyMillis;
+            size = this.maxSize;
+        }
+
+        synchronized int get() {
+            return size;
+        }
+
+        synchronized void adjust(long latencyMillis, boolean failed) {
+            int previous = size;
+            if (failed || latencyMillis > targetLatencyMillis) {
+                size = Math.max(minSize, size / 2);
+            } else if (latencyMillis < targetLatencyMillis / 2) {
+                size = Math.min(maxSize, size + step);
+            }
+            if (size != previous) {
+                LOGGER.debug("FreeIPA batch size changed from {} to {} after a call of {} ms, failed: {}", previous, size, latencyMillis, failed);
+            }
+        }
+    }
+}
@@ -19,7 +19,6 @@ import com.sequenceiq.freeipa.client.FreeIpaClientException;
 import com.sequenceiq.freeipa.client.operation.AbstractFreeipaOperation;
 import com.sequenceiq.freeipa.client.operation.SetWlCredentialOperation;
 import com.sequenceiq.freeipa.client.operation.UserModOperation;
-import com.sequenceiq.freeipa.configuration.BatchPartitionSizeProperties;
 import com.sequenceiq.freeipa.service.freeipa.user.conversion.UserMetadataConverter;
 import com.sequenceiq.freeipa.service.freeipa.user.kerberos.KrbKeySetEncoder;
 import com.sequenceiq.freeipa.service.freeipa.user.model.UserSyncOptions;
@@ -31,7 +30,7 @@ public class WorkloadCredentialService {
     private static final Logger LOGGER = LoggerFactory.getLogger(WorkloadCredentialService.class);
 
     @Inject
-    private BatchPartitionSizeProperties batchPartitionSizeProperties;
+    private FreeIpaBatchCallScheduler freeIpaBatchCallScheduler;
 
     @Inject
     private UserMetadataConverter userMetadataConverter;
@@ -81,7 +80,7 @@ public class WorkloadCredentialService {
         String operationName = operations.stream()
                 .map(UserModOperation::getOperationName)
                 .findFirst().orElse("unknown");
-        freeIpaClient.callBatch(warnings, batchCallOperations, batchPartitionSizeProperties.getByOperation(operationName), Set.of());
+        freeIpaBatchCallScheduler.callBatch(freeIpaClient, operationName, batchCallOperations, warnings, Set.of());
     }
 
     private Stream<SetWlCredentialOperation> createUpdateOperation(UserSyncOptions options, FreeIpaClient freeIpaClient, BiConsumer<String, String> warnings,
@@ -9,8 +9,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,11 +61,11 @@ import com.sequenceiq.freeipa.client.operation.GroupRemoveMemberOperation;
 import com.sequenceiq.freeipa.client.operation.GroupRemoveOperation;
 import com.sequenceiq.freeipa.client.operation.UserAddOperation;
 import com.sequenceiq.freeipa.client.operation.UserRemoveOperation;
-import com.sequenceiq.freeipa.configuration.BatchPartitionSizeProperties;
 import com.sequenceiq.freeipa.configuration.UsersyncConfig;
 import com.sequenceiq.freeipa.entity.Operation;
 import com.sequenceiq.freeipa.entity.Stack;
 import com.sequenceiq.freeipa.entity.UserSyncStatus;
+import com.sequenceiq.freeipa.service.freeipa.FreeIpaBatchCallScheduler;
 import com.sequenceiq.freeipa.service.freeipa.FreeIpaClientFactory;
 import com.sequenceiq.freeipa.service.freeipa.WorkloadCredentialService;
 import com.sequenceiq.freeipa.service.freeipa.user.model.WorkloadCredentialUpdate;
@@ -75,12 +78,16 @@ import com.sequenceiq.freeipa.service.freeipa.user.model.UserMetadata;
 import com.sequenceiq.freeipa.service.freeipa.user.model.UserSyncOptions;
 import com.sequenceiq.freeipa.service.freeipa.user.model.UsersState;
 import com.sequenceiq.freeipa.service.freeipa.user.model.UsersStateDifference;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersStateSnapshot;
 import com.sequenceiq.freeipa.service.freeipa.user.model.WorkloadCredential;
 import com.sequenceiq.freeipa.service.freeipa.user.ums.UmsEventGenerationIdsProvider;
 import com.sequenceiq.freeipa.service.freeipa.user.ums.UmsUsersStateProviderDispatcher;
 import com.sequenceiq.freeipa.service.operation.OperationService;
 import com.sequenceiq.freeipa.service.stack.StackService;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 @Service
 public class UserSyncService {
 
@@ -95,6 +102,7 @@ public class UserSyncService {
         RETRIEVE_FULL_IPA_STATE,
         RETRIEVE_PARTIAL_IPA_STATE,
         CALCULATE_UMS_IPA_DIFFERENCE,
+        CALCULATE_UMS_SNAPSHOT_DIFFERENCE,
         APPLY_DIFFERENCE_TO_IPA,
         SET_WORKLOAD_CREDENTIALS,
         SYNC_CLOUD_IDENTITIES,
@@ -110,6 +118,9 @@ public class UserSyncService {
     @Value("${freeipa.usersync.max-subjects-per-request}")
     int maxSubjectsPerRequest;
 
+    @Value("${freeipa.usersync.max-concurrent-environments}")
+    private int maxConcurrentEnvironments;
+
     @Inject
     private StackService stackService;
 
@@ -151,7 +162,10 @@ public class UserSyncService {
     private UserSyncRequestValidator userSyncRequestValidator;
 
     @Inject
-    private BatchPartitionSizeProperties batchPartitionSizeProperties;
+    private FreeIpaBatchCallScheduler freeIpaBatchCallScheduler;
+
+    @Inject
+    private UserSyncSnapshotService userSyncSnapshotService;
 
     public Operation synchronizeUsers(String accountId, String actorCrn, Set<String> environmentCrnFilter,
             Set<String> userCrnFilter, Set<String> machineUserCrnFilter, WorkloadCredentialsUpdateType workloadCredentialsUpdateType) {
@@ -277,6 +291,7 @@ public class UserSyncService {
             LOGGER.info("Starting {} for environments {} with operationId {} ...", logUserSyncEvent, environmentCrns, operationId);
 
             Map<String, Future<SyncStatusDetail>> statusFutures;
+            Semaphore environmentPermits = new Semaphore(maxConcurrentEnvironments > 0 ? maxConcurrentEnvironments : Integer.MAX_VALUE);
 
             if (userSyncFilter.getDeletedWorkloadUser().isEmpty()) {
                 LogEvent logRetrieveUmsEvent = options.isFullSync() ? LogEvent.RETRIEVE_FULL_UMS_STATE : LogEvent.RETRIEVE_PARTIAL_UMS_STATE;
@@ -288,11 +303,12 @@ public class UserSyncService {
                 statusFutures = stacks.stream()
                         .collect(Collectors.toMap(Stack::getEnvironmentCrn,
                                 stack -> asyncSynchronizeStack(stack, envToUmsStateMap.get(stack.getEnvironmentCrn()), umsEventGenerationIds, options,
-                                        operationId, accountId)));
+                                        operationId, accountId, environmentPermits)));
             } else {
                 String deletedWorkloadUser = userSyncFilter.getDeletedWorkloadUser().get();
                 statusFutures = stacks.stream()
-                        .collect(Collectors.toMap(Stack::getEnvironmentCrn, stack -> asyncSynchronizeStackForDeleteUser(stack, deletedWorkloadUser)));
+                        .collect(Collectors.toMap(Stack::getEnvironmentCrn,
+                                stack -> asyncSynchronizeStackForDeleteUser(stack, deletedWorkloadUser, environmentPermits)));
             }
 
             List<SuccessDetails> success = new ArrayList<>();
@@ -335,8 +351,8 @@ public class UserSyncService {
     }
 
     private Future<SyncStatusDetail> asyncSynchronizeStack(Stack stack, UmsUsersState umsUsersState, UmsEventGenerationIds umsEventGenerationIds,
-            UserSyncOptions options, String operationId, String accountId) {
-        return asyncTaskExecutor.submit(() -> {
+            UserSyncOptions options, String operationId, String accountId, Semaphore environmentPermits) {
+        return submitWithPermit(environmentPermits, () -> {
             SyncStatusDetail statusDetail = internalSynchronizeStack(stack, umsUsersState, options);
             if (options.isFullSync() && statusDetail.getStatus() == SynchronizationStatus.COMPLETED) {
                 UserSyncStatus userSyncStatus = userSyncStatusService.getOrCreateForStack(stack);
@@ -349,20 +365,47 @@ public class UserSyncService {
 
     }
 
-    private Future<SyncStatusDetail> asyncSynchronizeStackForDeleteUser(Stack stack, String deletedWorkloadUser) {
-        return asyncTaskExecutor.submit(() -> internalSynchronizeStackForDeleteUser(stack, deletedWorkloadUser, false));
+    private Future<SyncStatusDetail> asyncSynchronizeStackForDeleteUser(Stack stack, String deletedWorkloadUser, Semaphore environmentPermits) {
+        return submitWithPermit(environmentPermits, () -> internalSynchronizeStackForDeleteUser(stack, deletedWorkloadUser, false));
+    }
+
+    /**
+     * Submits the sync of one environment once a permit is available, so a single operation syncs at most
+     * {@code freeipa.usersync.max-concurrent-environments} environments at a time and big accounts do not take every thread of the shared
+     * executor. The caller is the operation task, which runs on the same executor and blocks on the permits while its environments are
+     * synced. It keeps that executor thread until the operation finishes, as it would while waiting for the environment results anyway.
+     */
+    private Future<SyncStatusDetail> submitWithPermit(Semaphore environmentPermits, Callable<SyncStatusDetail> task) {
+        environmentPermits.acquireUninterruptibly();
+        try {
+            return asyncTaskExecutor.submit(() -> {
+                try {
+                    return task.call();
+                } finally {
+                    environmentPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            environmentPermits.release();
+            throw e;
+        }
     }
 
-    private SyncStatusDetail internalSynchronizeStack(Stack stack, UmsUsersState umsUsersState, UserSyncOptions options) {
+    @VisibleForTesting
+    SyncStatusDetail internalSynchronizeStack(Stack stack, UmsUsersState umsUsersState, UserSyncOptions options) {
         MDCBuilder.buildMdcContext(stack);
         String environmentCrn = stack.getEnvironmentCrn();
         Multimap<String, String> warnings = ArrayListMultimap.create();
         try {
             FreeIpaClient freeIpaClient = freeIpaClientFactory.getFreeIpaClientForStack(stack);
-            UsersStateDifference usersStateDifferenceBeforeSync = compareUmsAndFreeIpa(umsUsersState, options, freeIpaClient);
-            applyDifference(umsUsersState, environmentCrn, warnings, usersStateDifferenceBeforeSync, options, freeIpaClient);
+            Optional<UsersStateSnapshot> snapshot = options.isFullSync() ? userSyncSnapshotService.findUsableSnapshot(stack) : Optional.empty();
+            if (snapshot.isEmpty() || !applyDeltaToIpa(umsUsersState, snapshot.get(), environmentCrn, options, freeIpaClient)) {
+                snapshot = Optional.empty();
+                UsersStateDifference usersStateDifferenceBeforeSync = compareUmsAndFreeIpa(umsUsersState, options, freeIpaClient);
+                applyDifference(umsUsersState, environmentCrn, warnings, usersStateDifferenceBeforeSync, options, freeIpaClient);
 
-            retrySyncIfBatchCallHasWarnings(stack, umsUsersState, warnings, options, freeIpaClient, usersStateDifferenceBeforeSync);
+                retrySyncIfBatchCallHasWarnings(stack, umsUsersState, warnings, options, freeIpaClient, usersStateDifferenceBeforeSync);
+            }
 
             // TODO For now we only sync cloud ids during full sync. We should eventually allow more granular syncs (actor level and group level sync).
             if (options.isFullSync() && entitlementService.cloudIdentityMappingEnabled(stack.getAccountId())) {
@@ -371,10 +414,57 @@ public class UserSyncService {
                 LOGGER.debug("Finished {}.", LogEvent.SYNC_CLOUD_IDENTITIES);
             }
 
-            return toSyncStatusDetail(environmentCrn, warnings);
+            SyncStatusDetail statusDetail = toSyncStatusDetail(environmentCrn, warnings);
+            updateSnapshot(stack, umsUsersState, statusDetail, snapshot, options);
+            return statusDetail;
         } catch (Exception e) {
             LOGGER.warn("Failed to synchronize environment {}", environmentCrn, e);
-            return SyncStatusDetail.fail(environmentCrn, e.getLocalizedMessage(), warnings);
+            SyncStatusDetail statusDetail = SyncStatusDetail.fail(environmentCrn, e.getLocalizedMessage(), warnings);
+            updateSnapshot(stack, umsUsersState, statusDetail, Optional.empty(), options);
+            return statusDetail;
+        }
+    }
+
+    private boolean applyDeltaToIpa(UmsUsersState umsUsersState, UsersStateSnapshot snapshot, String environmentCrn, UserSyncOptions options,
+            FreeIpaClient freeIpaClient) throws FreeIpaClientException {
+        LOGGER.debug("Starting {} ...", LogEvent.CALCULATE_UMS_SNAPSHOT_DIFFERENCE);
+        UsersStateDifference usersStateDifference = UsersStateDifference.fromUmsAndIpaUsersStates(umsUsersState, snapshot.toUsersState(), options);
+        LOGGER.debug("Finished {}.", LogEvent.CALCULATE_UMS_SNAPSHOT_DIFFERENCE);
+
+        Multimap<String, String> deltaWarnings = ArrayListMultimap.create();
+        applyDifference(umsUsersState, environmentCrn, deltaWarnings, usersStateDifference, options, freeIpaClient);
+        if (deltaWarnings.isEmpty()) {
+            return true;
+        } else {
+            LOGGER.info("Delta sync of environment {} completed with warnings, FreeIPA may have drifted from the last applied state. "
+                    + "Falling back to full sync. Warnings: {}", environmentCrn, deltaWarnings);
+            return false;
+        }
+    }
+
+    /**
+     * Saves the applied users state after a successful full sync. Any other sync drops the snapshot: a partial sync changes FreeIPA without
+     * covering the whole users state, and a failed sync may leave FreeIPA in an unknown state, so the next full sync has to read FreeIPA.
+     */
+    private void updateSnapshot(Stack stack, UmsUsersState umsUsersState, SyncStatusDetail statusDetail, Optional<UsersStateSnapshot> snapshot,
+            UserSyncOptions options) {
+        if (options.isFullSync() && statusDetail.getStatus() == SynchronizationStatus.COMPLETED) {
+            try {
+                userSyncSnapshotService.saveSnapshot(stack, umsUsersState.getUsersState(), snapshot);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to save the users state snapshot of environment {}", stack.getEnvironmentCrn(), e);
+                deleteSnapshot(stack);
+            }
+        } else {
+            deleteSnapshot(stack);
+        }
+    }
+
+    private void deleteSnapshot(Stack stack) {
+        try {
+            userSyncSnapshotService.deleteSnapshot(stack);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to delete the users state snapshot of environment {}", stack.getEnvironmentCrn(), e);
         }
     }
 
@@ -434,7 +524,9 @@ public class UserSyncService {
             ImmutableSet<WorkloadCredentialUpdate> credentialUpdates = usersStateDifference.getUsersWithCredentialsToUpdate().stream()
                     .map(username -> getCredentialUpdate(username, umsUsersState))
                     .collect(ImmutableSet.toImmutableSet());
+            long start = System.nanoTime();
             workloadCredentialService.setWorkloadCredentials(options, freeIpaClient, credentialUpdates, warnings::put);
+            recordThroughput(environmentCrn, credentialUpdates.size(), System.nanoTime() - start);
             LOGGER.debug("Finished {}.", LogEvent.SET_WORKLOAD_CREDENTIALS);
         }
     }
@@ -474,6 +566,8 @@ public class UserSyncService {
         } catch (Exception e) {
             LOGGER.warn("Failed to synchronize environment {}", environmentCrn, e);
             return SyncStatusDetail.fail(environmentCrn, e.getLocalizedMessage(), warnings);
+        } finally {
+            deleteSnapshot(stack);
         }
     }
 
@@ -502,6 +596,7 @@ public class UserSyncService {
     void applyStateDifferenceToIpa(String environmentCrn, FreeIpaClient freeIpaClient, UsersStateDifference stateDifference,
             BiConsumer<String, String> warnings, boolean fmsToFreeipaBatchCallEnabled) throws FreeIpaClientException {
         LOGGER.info("Applying state difference to environment {}.", environmentCrn);
+        long start = System.nanoTime();
 
         LOGGER.debug("Starting {} for {} groups ...", LogEvent.ADD_GROUPS,
                 stateDifference.getGroupsToAdd().size());
@@ -532,6 +627,20 @@ public class UserSyncService {
                 stateDifference.getGroupsToRemove().size());
         removeGroups(fmsToFreeipaBatchCallEnabled, freeIpaClient, stateDifference.getGroupsToRemove(), warnings);
         LOGGER.debug("Finished {}.", LogEvent.REMOVE_GROUPS);
+
+        recordThroughput(environmentCrn, stateDifference.getGroupsToAdd().size() + stateDifference.getUsersToAdd().size()
+                + stateDifference.getGroupMembershipToAdd().size() + stateDifference.getGroupMembershipToRemove().size()
+                + stateDifference.getUsersToRemove().size() + stateDifference.getGroupsToRemove().size(), System.nanoTime() - start);
+    }
+
+    /**
+     * The operations/sec of an environment is the rate of the {@code freeipa.usersync.operations} counter, or the counter divided by the
+     * total time of the {@code freeipa.usersync.apply} timer when only the busy periods matter.
+     */
+    private void recordThroughput(String environmentCrn, int operationCount, long elapsedNanos) {
+        Metrics.counter("freeipa.usersync.operations", "environmentCrn", environmentCrn).increment(operationCount);
+        Timer.builder("freeipa.usersync.apply").tag("environmentCrn", environmentCrn).register(Metrics.globalRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
     }
 
     void addGroups(boolean fmsToFreeipaBatchCallEnabled, FreeIpaClient freeIpaClient, Set<FmsGroup> fmsGroups,
@@ -604,8 +713,7 @@ public class UserSyncService {
         if (fmsToFreeipaBatchCallEnabled) {
             List<Object> batchCallOperations = operations.stream().map(operation -> operation.getOperationParamsForBatchCall()).collect(Collectors.toList());
             String operationName = operations.stream().map(op -> op.getOperationName()).findFirst().orElse("unknown");
-            Integer partitionSize = batchPartitionSizeProperties.getByOperation(operationName);
-            freeipaClient.callBatch(warnings, batchCallOperations, partitionSize, acceptableErrorCodes);
+            freeIpaBatchCallScheduler.callBatch(freeipaClient, operationName, batchCallOperations, warnings, acceptableErrorCodes);
         } else {
             for (T operation : operations) {
                 try {
@@ -0,0 +1,81 @@
+package com.sequenceiq.freeipa.service.freeipa.user;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.sequenceiq.cloudbreak.common.json.Json;
+import com.sequenceiq.cloudbreak.common.service.Clock;
+import com.sequenceiq.freeipa.entity.Stack;
+import com.sequenceiq.freeipa.entity.UserSyncSnapshot;
+import com.sequenceiq.freeipa.repository.UserSyncSnapshotRepository;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersState;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersStateSnapshot;
+
+@Service
+public class UserSyncSnapshotService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserSyncSnapshotService.class);
+
+    @Value("${freeipa.usersync.delta.enabled:true}")
+    private boolean deltaSyncEnabled;
+
+    @Value("${freeipa.usersync.delta.max-snapshot-age:PT24H}")
+    private Duration maxSnapshotAge;
+
+    @Inject
+    private UserSyncSnapshotRepository userSyncSnapshotRepository;
+
+    @Inject
+    private Clock clock;
+
+    /**
+     * Returns the snapshot of the last applied users state if it can be used for a delta sync. It is not usable if delta sync is
+     * disabled, if no full sync was recorded yet or if the last full sync is older than the max snapshot age, the periodic full sync
+     * corrects the changes made in FreeIPA directly.
+     */
+    public Optional<UsersStateSnapshot> findUsableSnapshot(Stack stack) {
+        if (!deltaSyncEnabled) {
+            return Optional.empty();
+        }
+        Optional<UsersStateSnapshot> snapshot = userSyncSnapshotRepository.getByStack(stack)
+                .flatMap(userSyncSnapshot -> readSnapshot(stack, userSyncSnapshot))
+                .filter(usersStateSnapshot -> isRecent(stack, usersStateSnapshot));
+        LOGGER.debug("Users state snapshot for environment {}: {}", stack.getEnvironmentCrn(), snapshot);
+        return snapshot;
+    }
+
+    public void saveSnapshot(Stack stack, UsersState usersState, Optional<UsersStateSnapshot> previousSnapshot) {
+        long lastFullSyncTime = previousSnapshot.map(UsersStateSnapshot::getLastFullSyncTime).orElseGet(clock::getCurrentTimeMillis);
+        UserSyncSnapshot userSyncSnapshot = userSyncSnapshotRepository.getByStack(stack).orElseGet(() -> new UserSyncSnapshot(stack));
+        userSyncSnapshot.setUsersState(new Json(UsersStateSnapshot.fromUsersState(usersState, lastFullSyncTime)));
+        userSyncSnapshotRepository.save(userSyncSnapshot);
+    }
+
+    public void deleteSnapshot(Stack stack) {
+        userSyncSnapshotRepository.getByStack(stack).ifPresent(userSyncSnapshotRepository::delete);
+    }
+
+    private Optional<UsersStateSnapshot> readSnapshot(Stack stack, UserSyncSnapshot userSyncSnapshot) {
+        try {
+            return Optional.ofNullable(userSyncSnapshot.getUsersState()).map(json -> json.getSilent(UsersStateSnapshot.class));
+        } catch (IllegalStateException e) {
+            LOGGER.warn("Failed to read the users state snapshot of environment {}, full sync is required", stack.getEnvironmentCrn(), e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isRecent(Stack stack, UsersStateSnapshot usersStateSnapshot) {
+        boolean recent = usersStateSnapshot.getLastFullSyncTime() > clock.nowMinus(maxSnapshotAge).toEpochMilli();
+        if (!recent) {
+            LOGGER.info("The last full sync of environment {} is older than {}, full sync is required", stack.getEnvironmentCrn(), maxSnapshotAge);
+        }
+        return recent;
+    }
+}
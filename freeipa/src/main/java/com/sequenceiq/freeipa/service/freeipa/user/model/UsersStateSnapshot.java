@@ -0,0 +1,152 @@
+package com.sequenceiq.freeipa.service.freeipa.user.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * The UMS users state that was last applied to an environment, persisted between the syncs. The state is compared to the
+ * current UMS state instead of the FreeIPA state during delta sync. lastFullSyncTime is the time of the last sync that compared
+ * the UMS state to the FreeIPA state, it is kept by the delta syncs.
+ */
+public class UsersStateSnapshot {
+
+    private long lastFullSyncTime;
+
+    private Set<String> groups = new HashSet<>();
+
+    private List<User> users = new ArrayList<>();
+
+    private Map<String, Set<String>> groupMembership = new HashMap<>();
+
+    public long getLastFullSyncTime() {
+        return lastFullSyncTime;
+    }
+
+    public void setLastFullSyncTime(long lastFullSyncTime) {
+        this.lastFullSyncTime = lastFullSyncTime;
+    }
+
+    public Set<String> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Set<String> groups) {
+        this.groups = groups;
+    }
+
+    public List<User> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<User> users) {
+        this.users = users;
+    }
+
+    public Map<String, Set<String>> getGroupMembership() {
+        return groupMembership;
+    }
+
+    public void setGroupMembership(Map<String, Set<String>> groupMembership) {
+        this.groupMembership = groupMembership;
+    }
+
+    public static UsersStateSnapshot fromUsersState(UsersState usersState, long lastFullSyncTime) {
+        UsersStateSnapshot snapshot = new UsersStateSnapshot();
+        snapshot.setLastFullSyncTime(lastFullSyncTime);
+        usersState.getGroups().forEach(group -> snapshot.groups.add(group.getName()));
+        usersState.getUsers().forEach(fmsUser -> {
+            User user = new User();
+            user.setName(fmsUser.getName());
+            user.setFirstName(fmsUser.getFirstName());
+            user.setLastName(fmsUser.getLastName());
+            UserMetadata userMetadata = usersState.getUserMetadataMap().get(fmsUser.getName());
+            if (userMetadata != null) {
+                user.setCrn(userMetadata.getCrn());
+                user.setWorkloadCredentialsVersion(userMetadata.getWorkloadCredentialsVersion());
+            }
+            snapshot.users.add(user);
+        });
+        usersState.getGroupMembership().asMap().forEach((group, members) -> snapshot.groupMembership.put(group, new HashSet<>(members)));
+        return snapshot;
+    }
+
+    public UsersState toUsersState() {
+        UsersState.Builder builder = UsersState.newBuilder();
+        groups.forEach(group -> builder.addGroup(new FmsGroup().withName(group)));
+        users.forEach(user -> {
+            builder.addUser(new FmsUser().withName(user.getName()).withFirstName(user.getFirstName()).withLastName(user.getLastName()));
+            if (user.getCrn() != null) {
+                builder.addUserMetadata(user.getName(), new UserMetadata(user.getCrn(), user.getWorkloadCredentialsVersion()));
+            }
+        });
+        groupMembership.forEach((group, members) -> members.forEach(member -> builder.addMemberToGroup(group, member)));
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "UsersStateSnapshot{"
+                + "lastFullSyncTime=" + lastFullSyncTime
+                + ", groups=" + groups.size()
+                + ", users=" + users.size()
+                + ", groupMembership=" + groupMembership.size()
+                + '}';
+    }
+
+    public static class User {
+
+        private String name;
+
+        private String firstName;
+
+        private String lastName;
+
+        private String crn;
+
+        private long workloadCredentialsVersion;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName(String firstName) {
+            this.firstName = firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public void setLastName(String lastName) {
+            this.lastName = lastName;
+        }
+
+        public String getCrn() {
+            return crn;
+        }
+
+        public void setCrn(String crn) {
+            this.crn = crn;
+        }
+
+        public long getWorkloadCredentialsVersion() {
+            return workloadCredentialsVersion;
+        }
+
+        public void setWorkloadCredentialsVersion(long workloadCredentialsVersion) {
+            this.workloadCredentialsVersion = workloadCredentialsVersion;
+        }
+    }
+}
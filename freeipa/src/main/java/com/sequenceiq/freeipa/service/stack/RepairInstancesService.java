@@ -40,6 +40,7 @@ import com.sequenceiq.freeipa.flow.chain.FlowChainTriggers;
 import com.sequenceiq.freeipa.flow.freeipa.repair.event.RepairEvent;
 import com.sequenceiq.freeipa.flow.instance.reboot.RebootInstanceEvent;
 import com.sequenceiq.freeipa.service.freeipa.flow.FreeIpaFlowManager;
+import com.sequenceiq.freeipa.service.freeipa.user.UserSyncSnapshotService;
 import com.sequenceiq.freeipa.service.operation.OperationService;
 
 @Service
@@ -75,6 +76,9 @@ public class RepairInstancesService {
     @Inject
     private StackUpdater stackUpdater;
 
+    @Inject
+    private UserSyncSnapshotService userSyncSnapshotService;
+
     private void validate(String accountId, Stack stack, Set<InstanceMetaData> remainingGoodInstances, Set<InstanceMetaData> remainingBadInstances,
             Collection<InstanceMetaData> instancesToRepair) {
         LOGGER.debug("Validating repair for account {} and stack ID {}. Remaining good instances [{}]. Remaining bad instances [{}]. Instances to repair [{}].",
@@ -186,6 +190,7 @@ public class RepairInstancesService {
         Operation operation = operationService.startOperation(accountId, OperationType.REPAIR, Set.of(stack.getEnvironmentCrn()), Collections.emptySet());
         if (operation.getStatus() == OperationState.RUNNING) {
             stackUpdater.updateStackStatus(stack.getId(), DetailedStackStatus.REPAIR_REQUESTED, "Repair requested");
+            userSyncSnapshotService.deleteSnapshot(stack);
             flowManager.notify(FlowChainTriggers.REPAIR_TRIGGER_EVENT, new RepairEvent(FlowChainTriggers.REPAIR_TRIGGER_EVENT, stack.getId(),
                     operation.getOperationId(), nodeCount, instancesToRepair.keySet().stream().collect(Collectors.toList()), additionalTerminatedInstanceIds));
         }
@@ -31,6 +31,20 @@ import com.sequenceiq.freeipa.repository.StackRepository;
 @Service
 public class StackService implements ResourcePropertyProvider {
 
+    private static final List<Status> AUTO_SYNC_STATUSES = List.of(
+            Status.AVAILABLE,
+            Status.UPDATE_FAILED,
+            Status.START_FAILED,
+            Status.STOP_FAILED,
+            Status.UNREACHABLE,
+            Status.UNHEALTHY,
+            Status.UNKNOWN,
+            Status.STOPPED,
+            Status.START_IN_PROGRESS,
+            Status.STOP_IN_PROGRESS,
+            Status.STOP_REQUESTED,
+            Status.START_REQUESTED);
+
     @VisibleForTesting
     Supplier<LocalDateTime> nowSupplier = LocalDateTime::now;
 
@@ -45,19 +59,15 @@ public class StackService implements ResourcePropertyProvider {
     }
 
     public List<Stack> findAllForAutoSync() {
-        return stackRepository.findAllRunningAndStatusIn(List.of(
-                Status.AVAILABLE,
-                Status.UPDATE_FAILED,
-                Status.START_FAILED,
-                Status.STOP_FAILED,
-                Status.UNREACHABLE,
-                Status.UNHEALTHY,
-                Status.UNKNOWN,
-                Status.STOPPED,
-                Status.START_IN_PROGRESS,
-                Status.STOP_IN_PROGRESS,
-                Status.STOP_REQUESTED,
-                Status.START_REQUESTED));
+        return stackRepository.findAllRunningAndStatusIn(AUTO_SYNC_STATUSES);
+    }
+
+    public List<Long> findAllIdsForAutoSync() {
+        return stackRepository.findAllRunningIdsAndStatusIn(AUTO_SYNC_STATUSES);
+    }
+
+    public List<Stack> findAllWithListsByIds(Collection<Long> ids) {
+        return stackRepository.findAllWithListsByIdIn(ids);
     }
 
     public Stack getByIdWithListsInTransaction(Long id) {
@@ -0,0 +1,82 @@
+package com.sequenceiq.freeipa.sync;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.BatchStatusCheckerJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.StatusCheckerJob;
+import com.sequenceiq.flow.core.FlowLogService;
+import com.sequenceiq.freeipa.entity.Stack;
+import com.sequenceiq.freeipa.service.stack.StackService;
+
+import io.opentracing.Tracer;
+
+@DisallowConcurrentExecution
+@Component
+public class StackStatusBatchCheckerJob extends BatchStatusCheckerJob<Stack> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StackStatusBatchCheckerJob.class);
+
+    @Inject
+    private FlowLogService flowLogService;
+
+    @Inject
+    private StackService stackService;
+
+    @Inject
+    private StackStatusCheckerJob stackStatusCheckerJob;
+
+    @Inject
+    private AutoSyncConfig autoSyncConfig;
+
+    public StackStatusBatchCheckerJob(Tracer tracer) {
+        super(tracer, "Stack Status Batch Checker Job");
+    }
+
+    @Override
+    protected List<Long> findSyncableResourceIds() {
+        return stackService.findAllIdsForAutoSync();
+    }
+
+    @Override
+    protected Collection<Stack> loadBatch(Collection<Long> resourceIds) {
+        Set<Long> stacksWithRunningFlow = flowLogService.findAllResourceIdsWithRunningFlow(resourceIds);
+        if (!stacksWithRunningFlow.isEmpty()) {
+            LOGGER.debug("Syncing is skipped, because flow is running for freeipa stacks: {}", stacksWithRunningFlow);
+        }
+        List<Long> stackIds = resourceIds.stream()
+                .filter(id -> !stacksWithRunningFlow.contains(id))
+                .collect(Collectors.toList());
+        return stackIds.isEmpty() ? Collections.emptyList() : stackService.findAllWithListsByIds(stackIds);
+    }
+
+    @Override
+    protected void syncResource(Stack stack) {
+        stackStatusCheckerJob.syncAStack(stack);
+    }
+
+    @Override
+    protected Long getResourceId(Stack stack) {
+        return stack.getId();
+    }
+
+    @Override
+    public boolean isAutoSyncEnabled() {
+        return autoSyncConfig.isEnabled();
+    }
+
+    @Override
+    public Class<? extends StatusCheckerJob> getReplacedJobClass() {
+        return StackStatusCheckerJob.class;
+    }
+}
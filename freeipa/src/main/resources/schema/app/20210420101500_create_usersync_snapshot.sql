@@ -0,0 +1,27 @@
+-- // Store the last applied users state for delta user sync
+
+CREATE SEQUENCE IF NOT EXISTS usersyncsnapshot_id_seq START WITH 1
+  INCREMENT BY 1
+  NO MINVALUE
+  NO MAXVALUE
+  CACHE 1;
+
+CREATE TABLE IF NOT EXISTS usersyncsnapshot
+(
+  id bigint default nextval('usersyncsnapshot_id_seq'::regclass) not null
+    constraint usersyncsnapshot_pkey
+      primary key,
+  stack_id bigint not null
+    constraint fk_usersyncsnapshot_stack_id
+      references stack,
+  usersstate text
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS usersyncsnapshot_stack_id_idx
+  on usersyncsnapshot (stack_id);
+
+-- //@UNDO
+
+DROP TABLE IF EXISTS usersyncsnapshot;
+
+DROP SEQUENCE IF EXISTS usersyncsnapshot_id_seq;
@@ -0,0 +1,30 @@
+-- // structured event keyset index and archive table
+-- Migration SQL that makes the change goes here.
+
+CREATE INDEX IF NOT EXISTS idx_cdp_structured_event_resourcecrn_timestamp_id ON cdp_structured_event (resourcecrn, timestamp DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_cdp_structured_event_timestamp ON cdp_structured_event (timestamp);
+
+CREATE TABLE IF NOT EXISTS cdp_structured_event_archive (
+    id                      BIGINT NOT NULL,
+    eventtype               VARCHAR (255) NOT NULL,
+    resourcetype            VARCHAR (255) NOT NULL,
+    resourcecrn             VARCHAR (255) NOT NULL,
+    accountid               VARCHAR (255) NOT NULL,
+    timestamp               BIGINT NOT NULL,
+    structuredeventjson     TEXT NOT NULL,
+
+    CONSTRAINT              pk_cdp_structured_event_archive_id      PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_cdp_structured_event_archive_resourcecrn_timestamp ON cdp_structured_event_archive (resourcecrn, timestamp);
+CREATE INDEX IF NOT EXISTS idx_cdp_structured_event_archive_timestamp ON cdp_structured_event_archive (timestamp);
+
+
+-- //@UNDO
+-- SQL to undo the change goes here.
+
+DROP INDEX IF EXISTS idx_cdp_structured_event_archive_timestamp;
+DROP INDEX IF EXISTS idx_cdp_structured_event_archive_resourcecrn_timestamp;
+DROP TABLE IF EXISTS cdp_structured_event_archive;
+DROP INDEX IF EXISTS idx_cdp_structured_event_timestamp;
+DROP INDEX IF EXISTS idx_cdp_structured_event_resourcecrn_timestamp_id;
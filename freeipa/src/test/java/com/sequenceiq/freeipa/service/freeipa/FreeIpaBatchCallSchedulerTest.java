@@ -0,0 +1,127 @@
+package com.sequenceiq.freeipa.service.freeipa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+import com.sequenceiq.freeipa.client.FreeIpaClient;
+import com.sequenceiq.freeipa.client.FreeIpaClientException;
+import com.sequenceiq.freeipa.configuration.BatchPartitionSizeProperties;
+
+@ExtendWith(MockitoExtension.class)
+class FreeIpaBatchCallSchedulerTest {
+
+    private static final String OPERATION = "user_add";
+
+    private final Multimap<String, String> warnings = ArrayListMultimap.create();
+
+    @Mock
+    private FreeIpaClient freeIpaClient;
+
+    @Mock
+    private BatchPartitionSizeProperties batchPartitionSizeProperties;
+
+    @InjectMocks
+    private FreeIpaBatchCallScheduler underTest;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "targetLatencyMillis", 60000L);
+        ReflectionTestUtils.setField(underTest, "minBatchSize", 2);
+    }
+
+    @Test
+    void testOperationsArePartitionedByConfiguredSize() throws FreeIpaClientException {
+        when(freeIpaClient.getHostname()).thenReturn("ipa1");
+        when(batchPartitionSizeProperties.getByOperation(OPERATION)).thenReturn(10);
+        List<Integer> partitionSizes = new ArrayList<>();
+        doAnswer(invocation -> partitionSizes.add(invocation.<List<Object>>getArgument(1).size()))
+                .when(freeIpaClient).callBatch(any(), anyList(), anyInt(), any());
+
+        underTest.callBatch(freeIpaClient, OPERATION, operations(25), warnings::put, Set.of());
+
+        assertEquals(List.of(10, 10, 5), partitionSizes);
+    }
+
+    @Test
+    void testBatchSizeIsHalvedAfterWarnings() throws FreeIpaClientException {
+        when(freeIpaClient.getHostname()).thenReturn("ipa1");
+        when(batchPartitionSizeProperties.getByOperation(OPERATION)).thenReturn(10);
+        List<Integer> partitionSizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Object> partition = invocation.getArgument(1);
+            partitionSizes.add(partition.size());
+            if (partitionSizes.size() == 1) {
+                invocation.<BiConsumer<String, String>>getArgument(0).accept("batch call failed: ", "error");
+            }
+            return null;
+        }).when(freeIpaClient).callBatch(any(), anyList(), anyInt(), any());
+
+        underTest.callBatch(freeIpaClient, OPERATION, operations(20), warnings::put, Set.of());
+
+        assertEquals(List.of(10, 5, 5), partitionSizes);
+        assertEquals(1, warnings.size());
+    }
+
+    @Test
+    void testBatchSizeDoesNotGoBelowMinimum() {
+        FreeIpaBatchCallScheduler.AdaptiveBatchSize batchSize = new FreeIpaBatchCallScheduler.AdaptiveBatchSize(2, 10, 100L);
+
+        batchSize.adjust(200L, false);
+        batchSize.adjust(200L, false);
+        batchSize.adjust(0L, true);
+        assertEquals(2, batchSize.get());
+
+        batchSize.adjust(10L, false);
+        assertEquals(3, batchSize.get());
+        batchSize.adjust(75L, false);
+        assertEquals(3, batchSize.get());
+    }
+
+    @Test
+    void testFailedCallIsRethrownAndShrinksTheBatch() throws FreeIpaClientException {
+        when(freeIpaClient.getHostname()).thenReturn("ipa1");
+        when(batchPartitionSizeProperties.getByOperation(OPERATION)).thenReturn(10);
+        doThrow(new FreeIpaClientException("unusable")).when(freeIpaClient).callBatch(any(), anyList(), eq(10), any());
+
+        assertThrows(FreeIpaClientException.class, () -> underTest.callBatch(freeIpaClient, OPERATION, operations(20), warnings::put, Set.of()));
+
+        assertEquals(5, underTest.getBatchSize("ipa1", OPERATION).get());
+    }
+
+    @Test
+    void testEmptyOperationsAreNotSent() throws FreeIpaClientException {
+        underTest.callBatch(freeIpaClient, OPERATION, List.of(), warnings::put, Set.of());
+
+        verify(freeIpaClient, never()).callBatch(any(), any(), any(), any());
+    }
+
+    private List<Object> operations(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "op" + i).collect(Collectors.toList());
+    }
+}
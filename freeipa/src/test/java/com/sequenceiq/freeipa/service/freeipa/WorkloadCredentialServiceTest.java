@@ -5,7 +5,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -38,7 +37,6 @@ import com.sequenceiq.freeipa.client.FreeIpaClient;
 import com.sequenceiq.freeipa.client.FreeIpaClientException;
 import com.sequenceiq.cloudbreak.client.RPCResponse;
 import com.sequenceiq.freeipa.client.model.User;
-import com.sequenceiq.freeipa.configuration.BatchPartitionSizeProperties;
 import com.sequenceiq.freeipa.service.freeipa.user.model.WorkloadCredentialUpdate;
 import com.sequenceiq.freeipa.service.freeipa.user.UserSyncTestUtils;
 import com.sequenceiq.freeipa.service.freeipa.user.conversion.UserMetadataConverter;
@@ -64,7 +62,7 @@ class WorkloadCredentialServiceTest {
     private FreeIpaClient freeIpaClient;
 
     @Mock
-    private BatchPartitionSizeProperties batchPartitionSizeProperties;
+    private FreeIpaBatchCallScheduler freeIpaBatchCallScheduler;
 
     @Mock
     private UserMetadataConverter userMetadataConverter;
@@ -106,24 +104,20 @@ class WorkloadCredentialServiceTest {
     @Test
     void testBatchSetWorkloadCredentials() throws Exception {
         Multimap<String, String> warnings = ArrayListMultimap.create();
-        when(batchPartitionSizeProperties.getByOperation(any())).thenReturn(100);
-        doNothing().when(freeIpaClient).callBatch(any(), any(), any(), any());
 
         setWorkloadCredentials(true, false, freeIpaClient, getCredentialMap(), getUsersWithCredentialsToUpdate(), getUserToCrnMap(), warnings::put);
 
-        verify(freeIpaClient).callBatch(any(), any(), any(), any());
+        verify(freeIpaBatchCallScheduler).callBatch(eq(freeIpaClient), any(), any(), any(), any());
     }
 
     @Test
     void testBatchSetWorkloadCredentialsWithUpdateOptimization() throws Exception {
         Multimap<String, String> warnings = ArrayListMultimap.create();
-        when(batchPartitionSizeProperties.getByOperation(any())).thenReturn(100);
-        doNothing().when(freeIpaClient).callBatch(any(), any(), any(), any());
         when(userMetadataConverter.toUserMetadataJson(any(), anyLong())).thenReturn("userMetadataJson");
 
         setWorkloadCredentials(true, true, freeIpaClient, getCredentialMap(), getUsersWithCredentialsToUpdate(), getUserToCrnMap(), warnings::put);
 
-        verify(freeIpaClient).callBatch(any(), any(), any(), any());
+        verify(freeIpaBatchCallScheduler).callBatch(eq(freeIpaClient), any(), any(), any(), any());
         verify(userMetadataConverter, times(USERS.size())).toUserMetadataJson(any(), anyLong());
     }
 
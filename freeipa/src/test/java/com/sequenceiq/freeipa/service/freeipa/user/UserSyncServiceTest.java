@@ -10,8 +10,8 @@ import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,8 +19,10 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
 import org.junit.Before;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,20 +39,26 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider;
 import com.sequenceiq.cloudbreak.auth.altus.EntitlementService;
+import com.sequenceiq.freeipa.api.v1.freeipa.user.model.SynchronizationStatus;
 import com.sequenceiq.freeipa.api.v1.freeipa.user.model.WorkloadCredentialsUpdateType;
 import com.sequenceiq.freeipa.api.v1.operation.model.OperationState;
 import com.sequenceiq.freeipa.api.v1.operation.model.OperationType;
-import com.sequenceiq.freeipa.configuration.BatchPartitionSizeProperties;
 import com.sequenceiq.freeipa.client.FreeIpaClient;
 import com.sequenceiq.freeipa.client.FreeIpaClientException;
+import com.sequenceiq.freeipa.client.model.Config;
 import com.sequenceiq.freeipa.entity.Operation;
 import com.sequenceiq.freeipa.entity.Stack;
 import com.sequenceiq.freeipa.entity.UserSyncStatus;
+import com.sequenceiq.freeipa.service.freeipa.FreeIpaBatchCallScheduler;
 import com.sequenceiq.freeipa.service.freeipa.FreeIpaClientFactory;
 import com.sequenceiq.freeipa.service.freeipa.user.model.FmsGroup;
 import com.sequenceiq.freeipa.service.freeipa.user.model.FmsUser;
+import com.sequenceiq.freeipa.service.freeipa.user.model.SyncStatusDetail;
 import com.sequenceiq.freeipa.service.freeipa.user.model.UmsUsersState;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UserSyncOptions;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersState;
 import com.sequenceiq.freeipa.service.freeipa.user.model.UsersStateDifference;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersStateSnapshot;
 import com.sequenceiq.freeipa.service.operation.OperationService;
 import com.sequenceiq.freeipa.service.stack.StackService;
 
@@ -88,7 +96,10 @@ class UserSyncServiceTest {
     FreeIpaClient freeIpaClient;
 
     @Mock
-    BatchPartitionSizeProperties batchPartitionSizeProperties;
+    FreeIpaBatchCallScheduler freeIpaBatchCallScheduler;
+
+    @Mock
+    UserSyncSnapshotService userSyncSnapshotService;
 
     @InjectMocks
     UserSyncService underTest;
@@ -100,7 +111,6 @@ class UserSyncServiceTest {
 
     @Before
     public void setup() throws FreeIpaClientException {
-        when(batchPartitionSizeProperties.getByOperation(anyString())).thenReturn(100);
         when(freeIpaClientFactory.getFreeIpaClientForStack(any())).thenReturn(freeIpaClient);
     }
 
@@ -125,7 +135,6 @@ class UserSyncServiceTest {
         Multimap<String, String> groupMapping = setupGroupMapping(5, underTest.maxSubjectsPerRequest * 2);
 
         Multimap<String, String> warnings = ArrayListMultimap.create();
-        doNothing().when(freeIpaClient).callBatch(any(), any(), any(), any());
 
         underTest.addUsersToGroups(true, freeIpaClient, groupMapping, warnings::put);
 
@@ -137,7 +146,6 @@ class UserSyncServiceTest {
         Multimap<String, String> groupMapping = setupGroupMapping(5, underTest.maxSubjectsPerRequest * 2);
 
         Multimap<String, String> warnings = ArrayListMultimap.create();
-        doNothing().when(freeIpaClient).callBatch(any(), any(), any(), any());
 
         underTest.removeUsersFromGroups(true, freeIpaClient, groupMapping, warnings::put);
 
@@ -149,7 +157,6 @@ class UserSyncServiceTest {
         Multimap<String, String> groupMapping = setupGroupMapping(1, 1);
 
         Multimap<String, String> warnings = ArrayListMultimap.create();
-        doNothing().when(freeIpaClient).callBatch(any(), any(), any(), any());
 
         underTest.removeUsersFromGroups(true, freeIpaClient, groupMapping, warnings::put);
 
@@ -194,8 +201,6 @@ class UserSyncServiceTest {
         String userToRemove2 = "userToRemove2";
         Multimap<String, String> warnings = ArrayListMultimap.create();
 
-        doNothing().when(freeIpaClient).callBatch(any(), any(), any(), any());
-
         UsersStateDifference usersStateDifference = new UsersStateDifference(
                 ImmutableSet.of(groupToAdd1, groupToAdd2),
                 ImmutableSet.of(groupToRemove1, groupToRemove2),
@@ -214,11 +219,111 @@ class UserSyncServiceTest {
 
         underTest.applyStateDifferenceToIpa(ENV_CRN, freeIpaClient, usersStateDifference, warnings::put, true);
 
-        verify(freeIpaClient, times(6)).callBatch(any(), any(), any(), any());
+        verify(freeIpaBatchCallScheduler, times(6)).callBatch(any(), any(), any(), any(), any());
 
         verifyNoMoreInteractions(freeIpaClient);
     }
 
+    @Test
+    void testFullSyncAppliesDifferenceToSnapshotWithoutReadingIpaState() throws FreeIpaClientException {
+        Stack stack = createStack();
+        UmsUsersState umsUsersState = createUmsUsersState("group1");
+        UsersStateSnapshot snapshot = UsersStateSnapshot.fromUsersState(UsersState.newBuilder().build(), 1L);
+        when(freeIpaClientFactory.getFreeIpaClientForStack(stack)).thenReturn(freeIpaClient);
+        when(freeIpaClient.getConfig()).thenReturn(new Config());
+        when(userSyncSnapshotService.findUsableSnapshot(stack)).thenReturn(Optional.of(snapshot));
+
+        SyncStatusDetail result = underTest.internalSynchronizeStack(stack, umsUsersState, createOptions(true));
+
+        assertEquals(SynchronizationStatus.COMPLETED, result.getStatus());
+        verify(freeIpaBatchCallScheduler).callBatch(eq(freeIpaClient), eq("group_add"), anyList(), any(), any());
+        verify(freeIpaUsersStateProvider, never()).getUsersState(any());
+        verify(userSyncSnapshotService).saveSnapshot(stack, umsUsersState.getUsersState(), Optional.of(snapshot));
+    }
+
+    @Test
+    void testFullSyncReadsIpaStateWithoutSnapshot() throws FreeIpaClientException {
+        Stack stack = createStack();
+        UmsUsersState umsUsersState = createUmsUsersState("group1");
+        when(freeIpaClientFactory.getFreeIpaClientForStack(stack)).thenReturn(freeIpaClient);
+        when(freeIpaClient.getConfig()).thenReturn(new Config());
+        when(userSyncSnapshotService.findUsableSnapshot(stack)).thenReturn(Optional.empty());
+        when(freeIpaUsersStateProvider.getUsersState(freeIpaClient)).thenReturn(UsersState.newBuilder().build());
+
+        SyncStatusDetail result = underTest.internalSynchronizeStack(stack, umsUsersState, createOptions(true));
+
+        assertEquals(SynchronizationStatus.COMPLETED, result.getStatus());
+        verify(freeIpaUsersStateProvider).getUsersState(freeIpaClient);
+        verify(userSyncSnapshotService).saveSnapshot(stack, umsUsersState.getUsersState(), Optional.empty());
+    }
+
+    @Test
+    void testFullSyncFallsBackToIpaStateWhenDifferenceToSnapshotHasWarnings() throws FreeIpaClientException {
+        Stack stack = createStack();
+        UmsUsersState umsUsersState = createUmsUsersState("group1");
+        UsersStateSnapshot snapshot = UsersStateSnapshot.fromUsersState(UsersState.newBuilder().build(), 1L);
+        when(freeIpaClientFactory.getFreeIpaClientForStack(stack)).thenReturn(freeIpaClient);
+        when(freeIpaClient.getConfig()).thenReturn(new Config());
+        when(userSyncSnapshotService.findUsableSnapshot(stack)).thenReturn(Optional.of(snapshot));
+        when(freeIpaUsersStateProvider.getUsersState(freeIpaClient)).thenReturn(umsUsersState.getUsersState());
+        doAnswer(invocation -> {
+            invocation.getArgument(3, BiConsumer.class).accept("group_add", "group1 already exists");
+            return null;
+        }).doNothing().when(freeIpaBatchCallScheduler).callBatch(any(), any(), any(), any(), any());
+
+        SyncStatusDetail result = underTest.internalSynchronizeStack(stack, umsUsersState, createOptions(true));
+
+        assertEquals(SynchronizationStatus.COMPLETED, result.getStatus());
+        verify(freeIpaUsersStateProvider).getUsersState(freeIpaClient);
+        verify(userSyncSnapshotService).saveSnapshot(stack, umsUsersState.getUsersState(), Optional.empty());
+    }
+
+    @Test
+    void testFailedFullSyncDeletesSnapshot() throws FreeIpaClientException {
+        Stack stack = createStack();
+        UmsUsersState umsUsersState = createUmsUsersState("group1");
+        when(freeIpaClientFactory.getFreeIpaClientForStack(stack)).thenThrow(new FreeIpaClientException("unavailable"));
+
+        SyncStatusDetail result = underTest.internalSynchronizeStack(stack, umsUsersState, createOptions(true));
+
+        assertEquals(SynchronizationStatus.FAILED, result.getStatus());
+        verify(userSyncSnapshotService).deleteSnapshot(stack);
+        verify(userSyncSnapshotService, never()).saveSnapshot(any(), any(), any());
+    }
+
+    @Test
+    void testPartialSyncDeletesSnapshot() throws FreeIpaClientException {
+        Stack stack = createStack();
+        UmsUsersState umsUsersState = createUmsUsersState("group1");
+        when(freeIpaClientFactory.getFreeIpaClientForStack(stack)).thenReturn(freeIpaClient);
+        when(freeIpaClient.getConfig()).thenReturn(new Config());
+        when(freeIpaUsersStateProvider.getFilteredFreeIpaState(eq(freeIpaClient), any())).thenReturn(UsersState.newBuilder().build());
+
+        SyncStatusDetail result = underTest.internalSynchronizeStack(stack, umsUsersState, createOptions(false));
+
+        assertEquals(SynchronizationStatus.COMPLETED, result.getStatus());
+        verify(userSyncSnapshotService, never()).findUsableSnapshot(any());
+        verify(userSyncSnapshotService).deleteSnapshot(stack);
+        verify(userSyncSnapshotService, never()).saveSnapshot(any(), any(), any());
+    }
+
+    private Stack createStack() {
+        Stack stack = new Stack();
+        stack.setAccountId(ACCOUNT_ID);
+        stack.setEnvironmentCrn(ENV_CRN);
+        return stack;
+    }
+
+    private UmsUsersState createUmsUsersState(String groupName) {
+        return UmsUsersState.newBuilder()
+                .setUsersState(UsersState.newBuilder().addGroup(new FmsGroup().withName(groupName)).build())
+                .build();
+    }
+
+    private UserSyncOptions createOptions(boolean fullSync) {
+        return new UserSyncOptions(fullSync, true, WorkloadCredentialsUpdateType.FORCE_UPDATE);
+    }
+
     private Multimap<String, String> setupGroupMapping(int numGroups, int numPerGroup) {
         Multimap<String, String> groupMapping = HashMultimap.create();
         for (int i = 0; i < numGroups; ++i) {
@@ -0,0 +1,117 @@
+package com.sequenceiq.freeipa.service.freeipa.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.common.json.Json;
+import com.sequenceiq.cloudbreak.common.service.Clock;
+import com.sequenceiq.freeipa.entity.Stack;
+import com.sequenceiq.freeipa.entity.UserSyncSnapshot;
+import com.sequenceiq.freeipa.repository.UserSyncSnapshotRepository;
+import com.sequenceiq.freeipa.service.freeipa.user.model.FmsGroup;
+import com.sequenceiq.freeipa.service.freeipa.user.model.FmsUser;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UserMetadata;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersState;
+import com.sequenceiq.freeipa.service.freeipa.user.model.UsersStateSnapshot;
+
+@ExtendWith(MockitoExtension.class)
+class UserSyncSnapshotServiceTest {
+
+    private static final Duration MAX_SNAPSHOT_AGE = Duration.ofHours(24);
+
+    private static final Instant NOW = Instant.parse("2021-04-20T10:00:00Z");
+
+    @Mock
+    private UserSyncSnapshotRepository userSyncSnapshotRepository;
+
+    @Mock
+    private Clock clock;
+
+    @InjectMocks
+    private UserSyncSnapshotService underTest;
+
+    private final Stack stack = UserSyncTestUtils.createStack();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "deltaSyncEnabled", true);
+        ReflectionTestUtils.setField(underTest, "maxSnapshotAge", MAX_SNAPSHOT_AGE);
+    }
+
+    @Test
+    void testSavedSnapshotRestoresUsersState() {
+        UsersState usersState = UsersState.newBuilder()
+                .addGroup(new FmsGroup().withName("group"))
+                .addUser(new FmsUser().withName("user").withFirstName("first").withLastName("last"))
+                .addMemberToGroup("group", "user")
+                .addMemberToGroup(UserSyncConstants.CDP_USERSYNC_INTERNAL_GROUP, "user")
+                .addUserMetadata("user", new UserMetadata("userCrn", 3L))
+                .build();
+        when(clock.getCurrentTimeMillis()).thenReturn(NOW.toEpochMilli());
+        when(userSyncSnapshotRepository.getByStack(stack)).thenReturn(Optional.empty());
+
+        underTest.saveSnapshot(stack, usersState, Optional.empty());
+
+        ArgumentCaptor<UserSyncSnapshot> captor = ArgumentCaptor.forClass(UserSyncSnapshot.class);
+        verify(userSyncSnapshotRepository).save(captor.capture());
+        when(userSyncSnapshotRepository.getByStack(stack)).thenReturn(Optional.of(captor.getValue()));
+        when(clock.nowMinus(MAX_SNAPSHOT_AGE)).thenReturn(NOW.minus(MAX_SNAPSHOT_AGE));
+
+        UsersStateSnapshot snapshot = underTest.findUsableSnapshot(stack).get();
+        UsersState restored = snapshot.toUsersState();
+        assertEquals(NOW.toEpochMilli(), snapshot.getLastFullSyncTime());
+        assertEquals(usersState.getGroups(), restored.getGroups());
+        assertEquals(usersState.getUsers(), restored.getUsers());
+        assertEquals(usersState.getGroupMembership(), restored.getGroupMembership());
+        assertEquals(usersState.getUserMetadataMap(), restored.getUserMetadataMap());
+    }
+
+    @Test
+    void testDeltaSyncKeepsTimeOfLastFullSync() {
+        UsersStateSnapshot previousSnapshot = new UsersStateSnapshot();
+        previousSnapshot.setLastFullSyncTime(NOW.minusSeconds(60L).toEpochMilli());
+        when(userSyncSnapshotRepository.getByStack(stack)).thenReturn(Optional.empty());
+
+        underTest.saveSnapshot(stack, UsersState.newBuilder().build(), Optional.of(previousSnapshot));
+
+        ArgumentCaptor<UserSyncSnapshot> captor = ArgumentCaptor.forClass(UserSyncSnapshot.class);
+        verify(userSyncSnapshotRepository).save(captor.capture());
+        assertEquals(previousSnapshot.getLastFullSyncTime(),
+                captor.getValue().getUsersState().getSilent(UsersStateSnapshot.class).getLastFullSyncTime());
+    }
+
+    @Test
+    void testOutdatedSnapshotIsNotUsable() {
+        UsersStateSnapshot outdated = new UsersStateSnapshot();
+        outdated.setLastFullSyncTime(NOW.minus(MAX_SNAPSHOT_AGE).minusSeconds(1L).toEpochMilli());
+        UserSyncSnapshot userSyncSnapshot = new UserSyncSnapshot(stack);
+        userSyncSnapshot.setUsersState(new Json(outdated));
+        when(userSyncSnapshotRepository.getByStack(stack)).thenReturn(Optional.of(userSyncSnapshot));
+        when(clock.nowMinus(any())).thenReturn(NOW.minus(MAX_SNAPSHOT_AGE));
+
+        assertTrue(underTest.findUsableSnapshot(stack).isEmpty());
+    }
+
+    @Test
+    void testSnapshotIsNotUsableWhenDeltaSyncIsDisabled() {
+        ReflectionTestUtils.setField(underTest, "deltaSyncEnabled", false);
+
+        assertTrue(underTest.findUsableSnapshot(stack).isEmpty());
+    }
+}
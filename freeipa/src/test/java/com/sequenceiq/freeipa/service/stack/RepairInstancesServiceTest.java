@@ -51,6 +51,7 @@ import com.sequenceiq.freeipa.entity.Stack;
 import com.sequenceiq.freeipa.flow.freeipa.repair.event.RepairEvent;
 import com.sequenceiq.freeipa.flow.instance.InstanceEvent;
 import com.sequenceiq.freeipa.service.freeipa.flow.FreeIpaFlowManager;
+import com.sequenceiq.freeipa.service.freeipa.user.UserSyncSnapshotService;
 import com.sequenceiq.freeipa.service.operation.OperationService;
 
 @ExtendWith(MockitoExtension.class)
@@ -89,6 +90,9 @@ class RepairInstancesServiceTest {
     @Mock
     private StackUpdater stackUpdater;
 
+    @Mock
+    private UserSyncSnapshotService userSyncSnapshotService;
+
     @InjectMocks
     private RepairInstancesService underTest;
 
@@ -147,6 +151,7 @@ class RepairInstancesServiceTest {
         RepairEvent repairEvent = (RepairEvent) acAcceptable.getValue();
         assertEquals(instanceIds, repairEvent.getRepairInstanceIds());
         verify(stackUpdater).updateStackStatus(eq(STACK_ID), eq(DetailedStackStatus.REPAIR_REQUESTED), any());
+        verify(userSyncSnapshotService).deleteSnapshot(stack);
     }
 
     @Test
@@ -0,0 +1,56 @@
+package com.sequenceiq.cloudbreak.grpc;
+
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * A GRPC client interceptor that records the latency of the calls into the {@code grpc.client.requests} timer, tagged with the full name of the
+ * method and the status code of the call. The failed calls are the ones with a status other than {@code OK}.
+ */
+public class GrpcClientMetricsInterceptor implements ClientInterceptor {
+
+    static final String METRIC_NAME = "grpc.client.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    public GrpcClientMetricsInterceptor() {
+        this(Metrics.globalRegistry);
+    }
+
+    GrpcClientMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <R, S> ClientCall<R, S> interceptCall(MethodDescriptor<R, S> method, CallOptions callOptions, Channel next) {
+        return new SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<S> responseListener, Metadata headers) {
+                long startedAt = System.nanoTime();
+                super.start(new SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        Timer.builder(METRIC_NAME)
+                                .tag("method", method.getFullMethodName())
+                                .tag("status", status.getCode().name())
+                                .register(meterRegistry)
+                                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.sequenceiq.cloudbreak.grpc;
+
+import static io.grpc.internal.GrpcUtil.DEFAULT_MAX_MESSAGE_SIZE;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+
+/**
+ * Pool of long-lived channels, one per endpoint address. The channels are shared by the calls of the gRPC connectors, so the connection
+ * and its HTTP/2 streams are reused instead of building and tearing down a channel for every call. Idle channels release their connection
+ * after the idle timeout and reconnect transparently on the next call. Every call through the pooled channels is measured by
+ * {@link GrpcClientMetricsInterceptor}.
+ */
+@Component
+public class ManagedChannelPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManagedChannelPool.class);
+
+    @Value("${grpc.channel.keepalive.time.seconds:60}")
+    private long keepAliveTimeSeconds;
+
+    @Value("${grpc.channel.keepalive.timeout.seconds:20}")
+    private long keepAliveTimeoutSeconds;
+
+    @Value("${grpc.channel.idle.timeout.minutes:5}")
+    private long idleTimeoutMinutes;
+
+    @Value("${grpc.channel.shutdown.timeout.seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    private final Map<String, ManagedChannelWrapper> channels = new ConcurrentHashMap<>();
+
+    private final GrpcClientMetricsInterceptor metricsInterceptor = new GrpcClientMetricsInterceptor();
+
+    /**
+     * Returns the shared channel of the address, the channel is created on the first call or when the previous one has been shut down.
+     * Closing the returned wrapper does not shut down the channel.
+     *
+     * @param host the host of the endpoint
+     * @param port the port of the endpoint
+     * @return the wrapper of the shared channel
+     */
+    public ManagedChannelWrapper getChannel(String host, int port) {
+        return channels.compute(host + ':' + port, (address, current) -> {
+            if (current == null || current.getChannel().isShutdown()) {
+                LOGGER.debug("Creating shared gRPC channel for {}", address);
+                return ManagedChannelWrapper.shared(createChannel(host, port));
+            }
+            return current;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(wrapper -> wrapper.getChannel().shutdown());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(shutdownTimeoutSeconds);
+        for (Map.Entry<String, ManagedChannelWrapper> entry : channels.entrySet()) {
+            ManagedChannel channel = entry.getValue().getChannel();
+            try {
+                if (!channel.awaitTermination(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS)) {
+                    LOGGER.warn("Timed out waiting for the gRPC channel of {} to shutdown cleanly, cancelling its calls.", entry.getKey());
+                    channel.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                channel.shutdownNow();
+            }
+        }
+        channels.clear();
+    }
+
+    private ManagedChannel createChannel(String host, int port) {
+        return ManagedChannelBuilder.forAddress(host, port)
+                .usePlaintext()
+                .maxInboundMessageSize(DEFAULT_MAX_MESSAGE_SIZE)
+                .keepAliveTime(keepAliveTimeSeconds, TimeUnit.SECONDS)
+                .keepAliveTimeout(keepAliveTimeoutSeconds, TimeUnit.SECONDS)
+                .idleTimeout(idleTimeoutMinutes, TimeUnit.MINUTES)
+                .intercept(metricsInterceptor)
+                .build();
+    }
+}
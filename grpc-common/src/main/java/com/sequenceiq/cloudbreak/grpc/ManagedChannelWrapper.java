@@ -10,7 +10,8 @@ import org.slf4j.LoggerFactory;
 import io.grpc.ManagedChannel;
 
 /**
- * A managed wrapper channel to provide auto closeable functionality.
+ * A managed wrapper channel to provide auto closeable functionality. Closing the wrapper of a shared channel, see {@link ManagedChannelPool},
+ * leaves the channel open for the other calls.
  */
 public class ManagedChannelWrapper implements AutoCloseable {
 
@@ -18,13 +19,24 @@ public class ManagedChannelWrapper implements AutoCloseable {
 
     private final ManagedChannel channel;
 
+    private final boolean shared;
+
     /**
      * Constructor.
      *
      * @param channel the channel
      */
     public ManagedChannelWrapper(ManagedChannel channel) {
+        this(channel, false);
+    }
+
+    private ManagedChannelWrapper(ManagedChannel channel, boolean shared) {
         this.channel = checkNotNull(channel);
+        this.shared = shared;
+    }
+
+    static ManagedChannelWrapper shared(ManagedChannel channel) {
+        return new ManagedChannelWrapper(channel, true);
     }
 
     /**
@@ -34,8 +46,18 @@ public class ManagedChannelWrapper implements AutoCloseable {
         return channel;
     }
 
+    /**
+     * @return true if the channel is shared and it is not shut down on close
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
     @Override
     public void close() {
+        if (shared) {
+            return;
+        }
         channel.shutdown();
         try {
             if (!channel.awaitTermination(1, TimeUnit.MINUTES)) {
@@ -0,0 +1,71 @@
+package com.sequenceiq.cloudbreak.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ManagedChannelPoolTest {
+
+    private static final String HOST = "localhost";
+
+    private static final int PORT = 8982;
+
+    private final ManagedChannelPool underTest = new ManagedChannelPool();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(underTest, "keepAliveTimeSeconds", 60L);
+        ReflectionTestUtils.setField(underTest, "keepAliveTimeoutSeconds", 20L);
+        ReflectionTestUtils.setField(underTest, "idleTimeoutMinutes", 5L);
+        ReflectionTestUtils.setField(underTest, "shutdownTimeoutSeconds", 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.shutdown();
+    }
+
+    @Test
+    void testChannelIsSharedPerAddress() {
+        ManagedChannelWrapper channel = underTest.getChannel(HOST, PORT);
+
+        assertSame(channel, underTest.getChannel(HOST, PORT));
+        assertNotSame(channel, underTest.getChannel(HOST, PORT + 1));
+        assertTrue(channel.isShared());
+    }
+
+    @Test
+    void testClosingWrapperKeepsChannelOpen() {
+        try (ManagedChannelWrapper channel = underTest.getChannel(HOST, PORT)) {
+            assertFalse(channel.getChannel().isShutdown());
+        }
+
+        assertFalse(underTest.getChannel(HOST, PORT).getChannel().isShutdown());
+    }
+
+    @Test
+    void testShutDownChannelIsRecreated() {
+        ManagedChannelWrapper channel = underTest.getChannel(HOST, PORT);
+        channel.getChannel().shutdownNow();
+
+        ManagedChannelWrapper recreated = underTest.getChannel(HOST, PORT);
+
+        assertNotSame(channel, recreated);
+        assertFalse(recreated.getChannel().isShutdown());
+    }
+
+    @Test
+    void testShutdownTerminatesChannels() {
+        ManagedChannelWrapper channel = underTest.getChannel(HOST, PORT);
+
+        underTest.shutdown();
+
+        assertTrue(channel.getChannel().isTerminated());
+    }
+}
@@ -12,9 +12,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.sequenceiq.cloudbreak.client.TlsClientCache;
 import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorFailedException;
 import com.sequenceiq.cloudbreak.orchestrator.model.GatewayConfig;
 import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+import com.sequenceiq.cloudbreak.orchestrator.salt.poller.SaltActiveJobsMonitor;
 
 import io.opentracing.Tracer;
 
@@ -29,11 +31,23 @@ public class SaltService {
     @Inject
     private Tracer tracer;
 
+    @Inject
+    private TlsClientCache tlsClientCache;
+
+    @Inject
+    private SaltActiveJobsMonitor activeJobsMonitor;
+
     @Value("${rest.debug}")
     private boolean restDebug;
 
+    @Value("${cb.salt.client.pooled:true}")
+    private boolean pooledClient;
+
     public SaltConnector createSaltConnector(GatewayConfig gatewayConfig) {
-        return new SaltConnector(gatewayConfig, saltErrorResolver, restDebug, tracer);
+        if (pooledClient) {
+            return new SaltConnector(gatewayConfig, saltErrorResolver, activeJobsMonitor, restDebug, tracer, tlsClientCache);
+        }
+        return new SaltConnector(gatewayConfig, saltErrorResolver, activeJobsMonitor, restDebug, tracer);
     }
 
     public List<SaltConnector> createSaltConnector(Collection<GatewayConfig> gatewayConfigs) {
@@ -39,6 +39,7 @@ import com.sequenceiq.cloudbreak.certificate.PkiUtil;
 import com.sequenceiq.cloudbreak.client.DisableProxyAuthFeature;
 import com.sequenceiq.cloudbreak.client.RestClientUtil;
 import com.sequenceiq.cloudbreak.client.SetProxyTimeoutFeature;
+import com.sequenceiq.cloudbreak.client.TlsClientCache;
 import com.sequenceiq.cloudbreak.common.json.JsonUtil;
 import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorFailedException;
 import com.sequenceiq.cloudbreak.orchestrator.model.GatewayConfig;
@@ -50,6 +51,7 @@ import com.sequenceiq.cloudbreak.orchestrator.salt.domain.FingerprintRequest;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.FingerprintsResponse;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.Pillar;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.SaltAction;
+import com.sequenceiq.cloudbreak.orchestrator.salt.poller.SaltActiveJobsMonitor;
 import com.sequenceiq.cloudbreak.util.JaxRSUtil;
 
 import io.opentracing.Tracer;
@@ -77,6 +79,8 @@ public class SaltConnector implements Closeable {
 
     private final Client restClient;
 
+    private final boolean closeRestClient;
+
     private final WebTarget saltTarget;
 
     private final String saltPassword;
@@ -87,14 +91,36 @@ public class SaltConnector implements Closeable {
 
     private final String hostname;
 
-    public SaltConnector(GatewayConfig gatewayConfig, SaltErrorResolver saltErrorResolver, boolean debug, Tracer tracer) {
+    private final String saltUrl;
+
+    private final SaltActiveJobsMonitor activeJobsMonitor;
+
+    public SaltConnector(GatewayConfig gatewayConfig, SaltErrorResolver saltErrorResolver, SaltActiveJobsMonitor activeJobsMonitor, boolean debug,
+            Tracer tracer) {
+        this(gatewayConfig, saltErrorResolver, activeJobsMonitor, tracer, createRestClient(gatewayConfig, debug), true);
+    }
+
+    /**
+     * Creates a connector on the shared, pooled client of the gateway, so the TLS connections are reused between connectors.
+     * The pooled client is left open when the connector is closed.
+     */
+    public SaltConnector(GatewayConfig gatewayConfig, SaltErrorResolver saltErrorResolver, SaltActiveJobsMonitor activeJobsMonitor, boolean debug,
+            Tracer tracer, TlsClientCache tlsClientCache) {
+        this(gatewayConfig, saltErrorResolver, activeJobsMonitor, tracer, tlsClientCache.getClient(gatewayConfig.getGatewayUrl(),
+                gatewayConfig.getServerCert(), gatewayConfig.getClientCert(), gatewayConfig.getClientKey(), debug), false);
+    }
+
+    private SaltConnector(GatewayConfig gatewayConfig, SaltErrorResolver saltErrorResolver, SaltActiveJobsMonitor activeJobsMonitor, Tracer tracer,
+            Client restClient, boolean closeRestClient) {
         this.hostname = gatewayConfig.getHostname();
+        this.saltUrl = gatewayConfig.getGatewayUrl();
+        this.activeJobsMonitor = activeJobsMonitor;
+        this.restClient = restClient;
+        this.closeRestClient = closeRestClient;
         ClientTracingFeature tracingFeature = new ClientTracingFeature.Builder(tracer)
                 .withTraceSerialization(false)
                 .withDecorators(List.of(new TracingClientSpanDecorator())).build();
         try {
-            restClient = RestClientUtil.createClient(
-                    gatewayConfig.getServerCert(), gatewayConfig.getClientCert(), gatewayConfig.getClientKey(), debug);
             String saltBootPasswd = Optional.ofNullable(gatewayConfig.getSaltBootPassword()).orElse(SALT_BOOT_PASSWORD);
             saltTarget = restClient.target(gatewayConfig.getGatewayUrl())
                     .register(HttpAuthenticationFeature.basic(SALT_BOOT_USER, saltBootPasswd))
@@ -109,6 +135,14 @@ public class SaltConnector implements Closeable {
         }
     }
 
+    private static Client createRestClient(GatewayConfig gatewayConfig, boolean debug) {
+        try {
+            return RestClientUtil.createClient(gatewayConfig.getServerCert(), gatewayConfig.getClientCert(), gatewayConfig.getClientKey(), debug);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create rest client with 2-way-ssl config", e);
+        }
+    }
+
     @Measure(SaltConnector.class)
     public GenericResponse health() {
         Response response = saltTarget.path(SaltEndpoint.BOOT_HEALTH.getContextPath()).request().get();
@@ -335,7 +369,7 @@ public class SaltConnector implements Closeable {
 
     @Override
     public void close() {
-        if (restClient != null) {
+        if (restClient != null && closeRestClient) {
             restClient.close();
         }
     }
@@ -352,6 +386,17 @@ public class SaltConnector implements Closeable {
         return hostname;
     }
 
+    public String getSaltUrl() {
+        return saltUrl;
+    }
+
+    /**
+     * @return the monitor sharing the active jobs of the salt master between the job trackers, null if the connector polls on its own
+     */
+    public SaltActiveJobsMonitor getActiveJobsMonitor() {
+        return activeJobsMonitor;
+    }
+
     private String toJson(Object target) {
         try {
             return MAPPER.writeValueAsString(target);
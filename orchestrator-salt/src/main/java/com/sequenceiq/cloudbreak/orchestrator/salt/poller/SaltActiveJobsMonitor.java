@@ -0,0 +1,104 @@
+package com.sequenceiq.cloudbreak.orchestrator.salt.poller;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorFailedException;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+import com.sequenceiq.cloudbreak.orchestrator.salt.states.SaltStates;
+
+/**
+ * Shares the result of the {@code jobs.active} runner call between the job trackers that poll the same salt master.
+ * <p>
+ * A tracker reuses the last snapshot of the gateway if the query was started after its job had been submitted and it is not older than the
+ * configured maximum age, otherwise it starts a new query. Trackers arriving while a query is in flight wait for its result instead of
+ * sending another one, so the number of {@code jobs.active} calls no longer grows with the number of jobs running on the same cluster.
+ */
+@Component
+public class SaltActiveJobsMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaltActiveJobsMonitor.class);
+
+    private static final int SNAPSHOT_RETENTION_MULTIPLIER = 10;
+
+    @Value("${cb.salt.jobs.active.max.age.ms:5000}")
+    private long maxAgeMs;
+
+    private Cache<String, ActiveJobsSnapshot> snapshots;
+
+    @PostConstruct
+    public void init() {
+        snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(Math.max(maxAgeMs, 1L) * SNAPSHOT_RETENTION_MULTIPLIER, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * @param saltConnector connector of the salt master the job was submitted to
+     * @param jid           id of the job
+     * @param notBefore     the time in millis after which the queried snapshot has to be started, usually the submission time of the job
+     * @return whether the job is in the active jobs of the salt master
+     */
+    public boolean isJobRunning(SaltConnector saltConnector, String jid, long notBefore) throws CloudbreakOrchestratorFailedException {
+        return getActiveJobIds(saltConnector, notBefore).contains(jid);
+    }
+
+    private Set<String> getActiveJobIds(SaltConnector saltConnector, long notBefore) throws CloudbreakOrchestratorFailedException {
+        String gateway = saltConnector.getSaltUrl();
+        long now = System.currentTimeMillis();
+        ActiveJobsSnapshot candidate = new ActiveJobsSnapshot(now);
+        ActiveJobsSnapshot snapshot = snapshots.asMap().compute(gateway,
+                (key, current) -> current != null && current.isReusable(notBefore, now, maxAgeMs) ? current : candidate);
+        if (snapshot == candidate) {
+            query(saltConnector, gateway, snapshot);
+        } else {
+            LOGGER.debug("Reusing active salt jobs of {} queried at {}", gateway, snapshot.startedAt);
+        }
+        try {
+            return snapshot.activeJobIds.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CloudbreakOrchestratorFailedException) {
+                throw (CloudbreakOrchestratorFailedException) e.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private void query(SaltConnector saltConnector, String gateway, ActiveJobsSnapshot snapshot) {
+        try {
+            snapshot.activeJobIds.complete(SaltStates.getActiveJobIds(saltConnector));
+        } catch (CloudbreakOrchestratorFailedException | RuntimeException e) {
+            LOGGER.debug("Failed to query the active salt jobs of {}", gateway, e);
+            snapshots.asMap().remove(gateway, snapshot);
+            snapshot.activeJobIds.completeExceptionally(e);
+        }
+    }
+
+    private static class ActiveJobsSnapshot {
+
+        private final long startedAt;
+
+        private final CompletableFuture<Set<String>> activeJobIds = new CompletableFuture<>();
+
+        ActiveJobsSnapshot(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        boolean isReusable(long notBefore, long now, long maxAgeMs) {
+            return startedAt > notBefore
+                    && !activeJobIds.isCompletedExceptionally()
+                    && (!activeJobIds.isDone() || now - startedAt <= maxAgeMs);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorIn
 import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorTerminateException;
 import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
 import com.sequenceiq.cloudbreak.orchestrator.salt.domain.JobState;
+import com.sequenceiq.cloudbreak.orchestrator.salt.poller.checker.SaltJobFailedException;
 import com.sequenceiq.cloudbreak.orchestrator.salt.states.SaltStates;
 
 public class SaltJobIdTracker implements OrchestratorBootstrap {
@@ -27,6 +28,8 @@ public class SaltJobIdTracker implements OrchestratorBootstrap {
 
     private final boolean retryOnFail;
 
+    private long jobSubmittedAt;
+
     public SaltJobIdTracker(SaltConnector saltConnector, SaltJobRunner saltJobRunner) {
         this(saltConnector, saltJobRunner, true);
     }
@@ -35,13 +38,14 @@ public class SaltJobIdTracker implements OrchestratorBootstrap {
         this.saltConnector = saltConnector;
         this.saltJobRunner = saltJobRunner;
         this.retryOnFail = retryOnFail;
+        jobSubmittedAt = System.currentTimeMillis();
     }
 
     @Override
     public Boolean call() throws Exception {
         if (JobState.NOT_STARTED.equals(saltJobRunner.getJobState())) {
             LOGGER.debug("Job has not started in the cluster. Starting for first time.");
-            saltJobRunner.setJid(jobId(saltJobRunner.submit(saltConnector)));
+            submit();
             checkIsFinished(saltJobRunner.getJid().getJobId());
         } else if (JobState.IN_PROGRESS.equals(saltJobRunner.getJobState())) {
             String jobId = saltJobRunner.getJid().getJobId();
@@ -54,7 +58,7 @@ public class SaltJobIdTracker implements OrchestratorBootstrap {
         } else if (JobState.FAILED == saltJobRunner.getJobState() || JobState.AMBIGUOUS == saltJobRunner.getJobState()) {
             String jobId = saltJobRunner.getJid().getJobId();
             LOGGER.debug("Job: {} failed in the previous time. Trigger again with these targets: {}", jobId, saltJobRunner.getTargetHostnames());
-            saltJobRunner.setJid(jobId(saltJobRunner.submit(saltConnector)));
+            submit();
             saltJobRunner.setJobState(JobState.IN_PROGRESS);
             return call();
         }
@@ -70,8 +74,16 @@ public class SaltJobIdTracker implements OrchestratorBootstrap {
         return true;
     }
 
+    private void submit() throws SaltJobFailedException {
+        saltJobRunner.setJid(jobId(saltJobRunner.submit(saltConnector)));
+        jobSubmittedAt = System.currentTimeMillis();
+    }
+
     private void checkIsFinished(String jobId) throws CloudbreakOrchestratorFailedException {
-        boolean jobRunning = SaltStates.jobIsRunning(saltConnector, jobId);
+        SaltActiveJobsMonitor activeJobsMonitor = saltConnector.getActiveJobsMonitor();
+        boolean jobRunning = activeJobsMonitor != null
+                ? activeJobsMonitor.isJobRunning(saltConnector, jobId, jobSubmittedAt)
+                : SaltStates.jobIsRunning(saltConnector, jobId);
         if (jobRunning) {
             LOGGER.debug("Job: {} is running currently, waiting for next polling attempt.", jobId);
             saltJobRunner.setJobState(JobState.IN_PROGRESS);
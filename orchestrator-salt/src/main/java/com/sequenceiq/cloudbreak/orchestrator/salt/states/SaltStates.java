@@ -7,10 +7,12 @@ import static com.sequenceiq.cloudbreak.util.Benchmark.measure;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -177,17 +179,18 @@ public class SaltStates {
     }
 
     public static boolean jobIsRunning(SaltConnector sc, String jid) throws CloudbreakOrchestratorFailedException {
+        return getActiveJobIds(sc).contains(jid);
+    }
+
+    public static Set<String> getActiveJobIds(SaltConnector sc) throws CloudbreakOrchestratorFailedException {
         RunningJobsResponse runningInfo = sc.run("jobs.active", RUNNER, RunningJobsResponse.class);
         LOGGER.debug("Active salt jobs: {}", runningInfo);
         validateRunningInfoResultNotNull(runningInfo);
+        Set<String> activeJobIds = new HashSet<>();
         for (Map<String, Map<String, Object>> results : runningInfo.getResult()) {
-            for (Entry<String, Map<String, Object>> stringMapEntry : results.entrySet()) {
-                if (stringMapEntry.getKey().equals(jid)) {
-                    return true;
-                }
-            }
+            activeJobIds.addAll(results.keySet());
         }
-        return false;
+        return activeJobIds;
     }
 
     private static void validateRunningInfoResultNotNull(RunningJobsResponse runningInfo) throws CloudbreakOrchestratorFailedException {
@@ -0,0 +1,101 @@
+package com.sequenceiq.cloudbreak.orchestrator.salt.poller;
+
+import static com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltClientType.RUNNER;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.reflect.Whitebox;
+
+import com.sequenceiq.cloudbreak.orchestrator.exception.CloudbreakOrchestratorFailedException;
+import com.sequenceiq.cloudbreak.orchestrator.salt.client.SaltConnector;
+import com.sequenceiq.cloudbreak.orchestrator.salt.domain.RunningJobsResponse;
+
+public class SaltActiveJobsMonitorTest {
+
+    private static final String GATEWAY_URL = "https://10.0.0.1:9443";
+
+    private static final String RUNNING_JID = "20201018101010123456";
+
+    private static final long MAX_AGE_MS = 60000L;
+
+    private final SaltActiveJobsMonitor underTest = new SaltActiveJobsMonitor();
+
+    private SaltConnector saltConnector;
+
+    @Before
+    public void setUp() {
+        Whitebox.setInternalState(underTest, "maxAgeMs", MAX_AGE_MS);
+        underTest.init();
+        saltConnector = createConnector(GATEWAY_URL);
+    }
+
+    @Test
+    public void testSnapshotIsSharedBetweenJobsSubmittedBeforeTheQuery() throws CloudbreakOrchestratorFailedException {
+        long submittedAt = System.currentTimeMillis() - 1;
+
+        assertTrue(underTest.isJobRunning(saltConnector, RUNNING_JID, submittedAt));
+        assertFalse(underTest.isJobRunning(saltConnector, "20201018101010999999", submittedAt));
+
+        verify(saltConnector, times(1)).run("jobs.active", RUNNER, RunningJobsResponse.class);
+    }
+
+    @Test
+    public void testSnapshotIsNotReusedForJobSubmittedAfterTheQuery() throws CloudbreakOrchestratorFailedException {
+        underTest.isJobRunning(saltConnector, RUNNING_JID, System.currentTimeMillis() - 1);
+
+        assertTrue(underTest.isJobRunning(saltConnector, RUNNING_JID, System.currentTimeMillis() + MAX_AGE_MS));
+
+        verify(saltConnector, times(2)).run("jobs.active", RUNNER, RunningJobsResponse.class);
+    }
+
+    @Test
+    public void testSnapshotIsNotSharedBetweenGateways() throws CloudbreakOrchestratorFailedException {
+        SaltConnector otherConnector = createConnector("https://10.0.0.2:9443");
+        long submittedAt = System.currentTimeMillis() - 1;
+
+        underTest.isJobRunning(saltConnector, RUNNING_JID, submittedAt);
+        underTest.isJobRunning(otherConnector, RUNNING_JID, submittedAt);
+
+        verify(saltConnector, times(1)).run("jobs.active", RUNNER, RunningJobsResponse.class);
+        verify(otherConnector, times(1)).run("jobs.active", RUNNER, RunningJobsResponse.class);
+    }
+
+    @Test
+    public void testFailedQueryIsNotCached() throws CloudbreakOrchestratorFailedException {
+        when(saltConnector.run("jobs.active", RUNNER, RunningJobsResponse.class)).thenReturn(null).thenReturn(runningJobsResponse());
+        long submittedAt = System.currentTimeMillis() - 1;
+
+        try {
+            underTest.isJobRunning(saltConnector, RUNNING_JID, submittedAt);
+            fail("should throw exception");
+        } catch (CloudbreakOrchestratorFailedException e) {
+            assertTrue(e.getMessage().contains("empty response"));
+        }
+        assertTrue(underTest.isJobRunning(saltConnector, RUNNING_JID, submittedAt));
+
+        verify(saltConnector, times(2)).run("jobs.active", RUNNER, RunningJobsResponse.class);
+    }
+
+    private SaltConnector createConnector(String gatewayUrl) {
+        SaltConnector connector = mock(SaltConnector.class);
+        when(connector.getSaltUrl()).thenReturn(gatewayUrl);
+        when(connector.run("jobs.active", RUNNER, RunningJobsResponse.class)).thenReturn(runningJobsResponse());
+        return connector;
+    }
+
+    private RunningJobsResponse runningJobsResponse() {
+        RunningJobsResponse response = new RunningJobsResponse();
+        response.setResult(List.of(Map.of(RUNNING_JID, Map.of("Function", "state.highstate"))));
+        return response;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sequenceiq.redbeams.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -28,4 +29,7 @@ public interface DBStackRepository extends JpaRepository<DBStack, Long> {
 
     @Query("SELECT d FROM DBStack d LEFT JOIN d.dbStackStatus dss WHERE dss.status IN :statuses")
     Set<DBStack> findAllDbStackByStatusIn(@Param("statuses") Set<Status> statuses);
+
+    @Query("SELECT d.id FROM DBStack d LEFT JOIN d.dbStackStatus dss WHERE dss.status IN :statuses ORDER BY d.id")
+    List<Long> findAllIdsByStatusIn(@Param("statuses") Set<Status> statuses);
 }
@@ -1,5 +1,7 @@
 package com.sequenceiq.redbeams.service.stack;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -59,6 +61,14 @@ public class DBStackService {
         return dbStackRepository.findAllDbStackByStatusIn(Status.getAutoSyncStatuses());
     }
 
+    public List<Long> findAllIdsForAutoSync() {
+        return dbStackRepository.findAllIdsByStatusIn(Status.getAutoSyncStatuses());
+    }
+
+    public List<DBStack> findAllByIds(Collection<Long> ids) {
+        return dbStackRepository.findAllById(ids);
+    }
+
     public DBStack save(DBStack dbStack) {
         return dbStackRepository.save(dbStack);
     }
@@ -0,0 +1,86 @@
+package com.sequenceiq.redbeams.sync;
+
+import static com.sequenceiq.cloudbreak.util.Benchmark.measure;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.sequenceiq.cloudbreak.auth.ThreadBasedUserCrnProvider;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.BatchStatusCheckerJob;
+import com.sequenceiq.cloudbreak.quartz.statuschecker.job.StatusCheckerJob;
+import com.sequenceiq.flow.core.FlowLogService;
+import com.sequenceiq.redbeams.domain.stack.DBStack;
+import com.sequenceiq.redbeams.service.stack.DBStackService;
+
+import io.opentracing.Tracer;
+
+@DisallowConcurrentExecution
+@Component
+public class DBStackStatusBatchSyncJob extends BatchStatusCheckerJob<DBStack> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DBStackStatusBatchSyncJob.class);
+
+    @Inject
+    private FlowLogService flowLogService;
+
+    @Inject
+    private DBStackService dbStackService;
+
+    @Inject
+    private DBStackStatusSyncService dbStackStatusSyncService;
+
+    @Inject
+    private AutoSyncConfig autoSyncConfig;
+
+    public DBStackStatusBatchSyncJob(Tracer tracer) {
+        super(tracer, "DB Stack Status Batch Sync Job");
+    }
+
+    @Override
+    protected List<Long> findSyncableResourceIds() {
+        return dbStackService.findAllIdsForAutoSync();
+    }
+
+    @Override
+    protected Collection<DBStack> loadBatch(Collection<Long> resourceIds) {
+        Set<Long> dbStacksWithRunningFlow = flowLogService.findAllResourceIdsWithRunningFlow(resourceIds);
+        if (!dbStacksWithRunningFlow.isEmpty()) {
+            LOGGER.debug(":::Auto sync::: DB stack sync is skipped, because flow is running for DB stacks: {}", dbStacksWithRunningFlow);
+        }
+        List<Long> dbStackIds = resourceIds.stream()
+                .filter(id -> !dbStacksWithRunningFlow.contains(id))
+                .collect(Collectors.toList());
+        return dbStackIds.isEmpty() ? Collections.emptyList() : dbStackService.findAllByIds(dbStackIds);
+    }
+
+    @Override
+    protected void syncResource(DBStack dbStack) {
+        measure(() -> ThreadBasedUserCrnProvider.doAsInternalActor(() -> dbStackStatusSyncService.sync(dbStack)),
+                LOGGER, ":::Auto sync::: DB stack sync in {}ms for {}", dbStack.getId());
+    }
+
+    @Override
+    protected Long getResourceId(DBStack dbStack) {
+        return dbStack.getId();
+    }
+
+    @Override
+    public boolean isAutoSyncEnabled() {
+        return autoSyncConfig.isEnabled();
+    }
+
+    @Override
+    public Class<? extends StatusCheckerJob> getReplacedJobClass() {
+        return DBStackStatusSyncJob.class;
+    }
+}
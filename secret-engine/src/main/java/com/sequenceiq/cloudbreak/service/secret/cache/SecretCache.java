@@ -0,0 +1,137 @@
+package com.sequenceiq.cloudbreak.service.secret.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache of the secret values read from the secret engines.
+ * <ul>
+ *     <li>the size is bounded by the length of the cached paths and values, not by the number of entries</li>
+ *     <li>a secret that is older than the refresh period is reloaded in the background on read, while the cached value is served</li>
+ *     <li>secrets that do not exist are cached for a shorter time</li>
+ *     <li>the missing secrets of a batched read are loaded in parallel</li>
+ * </ul>
+ * Put and delete invalidate the path on this node only. Some paths are rewritten in place, like the keytabs and certificates of freeipa,
+ * so the time to live must stay short: it is how long other nodes may serve the old value.
+ */
+public class SecretCache {
+
+    public static final String CACHE_NAME = "secretCache";
+
+    private final LoadingCache<String, Optional<String>> cache;
+
+    private final ExecutorService loaderExecutor;
+
+    public SecretCache(SecretCacheConfig config, Function<String, String> loader, MeterRegistry meterRegistry) {
+        loaderExecutor = Executors.newFixedThreadPool(config.getLoaderThreads(),
+                new ThreadFactoryBuilder().setNameFormat("secret-cache-loader-%d").setDaemon(true).build());
+        cache = Caffeine.newBuilder()
+                .maximumWeight(config.getMaxWeight())
+                .weigher((String secret, Optional<String> value) -> secret.length() + value.map(String::length).orElse(0))
+                .expireAfter(new SecretExpiry(config))
+                .refreshAfterWrite(Duration.ofSeconds(config.getRefreshSeconds()))
+                .executor(loaderExecutor)
+                .recordStats()
+                .build(new SecretLoader(loader, loaderExecutor));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public String get(String secret) {
+        return cache.get(secret).orElse(null);
+    }
+
+    /**
+     * @return the values of the secrets, the value is null if the secret does not exist
+     */
+    public Map<String, String> getAll(Collection<String> secrets) {
+        Map<String, String> result = new HashMap<>();
+        cache.getAll(secrets).forEach((secret, value) -> result.put(secret, value.orElse(null)));
+        return result;
+    }
+
+    public void invalidate(String secret) {
+        cache.invalidate(secret);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public void shutdown() {
+        loaderExecutor.shutdownNow();
+    }
+
+    private static class SecretLoader implements CacheLoader<String, Optional<String>> {
+
+        private final Function<String, String> loader;
+
+        private final ExecutorService executor;
+
+        SecretLoader(Function<String, String> loader, ExecutorService executor) {
+            this.loader = loader;
+            this.executor = executor;
+        }
+
+        @Override
+        public Optional<String> load(String secret) {
+            return Optional.ofNullable(loader.apply(secret));
+        }
+
+        @Override
+        public Map<String, Optional<String>> loadAll(Iterable<? extends String> secrets) {
+            Map<String, CompletableFuture<Optional<String>>> futures = new HashMap<>();
+            secrets.forEach(secret -> futures.put(secret, CompletableFuture.supplyAsync(() -> load(secret), executor)));
+            Map<String, Optional<String>> result = new HashMap<>();
+            futures.forEach((secret, future) -> result.put(secret, future.join()));
+            return result;
+        }
+    }
+
+    private static class SecretExpiry implements Expiry<String, Optional<String>> {
+
+        private final long timeToLiveNanos;
+
+        private final long negativeTimeToLiveNanos;
+
+        SecretExpiry(SecretCacheConfig config) {
+            timeToLiveNanos = TimeUnit.SECONDS.toNanos(config.getTimeToLiveSeconds());
+            negativeTimeToLiveNanos = TimeUnit.SECONDS.toNanos(config.getNegativeTimeToLiveSeconds());
+        }
+
+        @Override
+        public long expireAfterCreate(String secret, Optional<String> value, long currentTime) {
+            return value.isPresent() ? timeToLiveNanos : negativeTimeToLiveNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String secret, Optional<String> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(secret, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String secret, Optional<String> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sequenceiq.cloudbreak.service.secret.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SecretCacheConfig {
+
+    @Value("${secret.cache.max.weight:20000000}")
+    private long maxWeight;
+
+    @Value("${secret.cache.ttl.seconds:5}")
+    private long timeToLiveSeconds;
+
+    @Value("${secret.cache.refresh.seconds:4}")
+    private long refreshSeconds;
+
+    @Value("${secret.cache.negative.ttl.seconds:5}")
+    private long negativeTimeToLiveSeconds;
+
+    @Value("${secret.cache.loader.threads:8}")
+    private int loaderThreads;
+
+    /**
+     * @return the upper bound of the summed length of the cached secret paths and values
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @return how long a secret is served from the cache, this bounds how long other nodes may serve the old value of a rewritten path
+     */
+    public long getTimeToLiveSeconds() {
+        return timeToLiveSeconds;
+    }
+
+    /**
+     * @return the age after which a cached secret is reloaded in the background on the next read, while the old value is served
+     */
+    public long getRefreshSeconds() {
+        return refreshSeconds;
+    }
+
+    /**
+     * @return how long it is remembered that a secret does not exist
+     */
+    public long getNegativeTimeToLiveSeconds() {
+        return negativeTimeToLiveSeconds;
+    }
+
+    /**
+     * @return the number of threads that refresh secrets in the background and load the missing secrets of batched reads
+     */
+    public int getLoaderThreads() {
+        return loaderThreads;
+    }
+}
@@ -3,11 +3,17 @@ package com.sequenceiq.cloudbreak.service.secret.service;
 import static java.lang.String.format;
 
 import java.security.InvalidKeyException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,12 +26,16 @@ import com.google.gson.Gson;
 import com.sequenceiq.cloudbreak.common.metrics.MetricService;
 import com.sequenceiq.cloudbreak.common.metrics.type.MetricType;
 import com.sequenceiq.cloudbreak.service.secret.SecretEngine;
+import com.sequenceiq.cloudbreak.service.secret.cache.SecretCache;
+import com.sequenceiq.cloudbreak.service.secret.cache.SecretCacheConfig;
 import com.sequenceiq.cloudbreak.service.secret.conf.VaultConfig;
 import com.sequenceiq.cloudbreak.service.secret.model.SecretResponse;
 import com.sequenceiq.cloudbreak.service.secret.vault.VaultKvV1Engine;
 import com.sequenceiq.cloudbreak.service.secret.vault.VaultKvV2Engine;
 import com.sequenceiq.cloudbreak.service.secret.vault.VaultSecret;
 
+import io.micrometer.core.instrument.Metrics;
+
 @Service
 @ConditionalOnBean({VaultKvV2Engine.class, VaultKvV1Engine.class, VaultConfig.class})
 public class SecretService {
@@ -43,10 +53,13 @@ public class SecretService {
 
     private final VaultRetryService vaultRetryService;
 
-    public SecretService(MetricService metricService, List<SecretEngine> engines, VaultRetryService vaultRetryService) {
+    private final SecretCache secretCache;
+
+    public SecretService(MetricService metricService, List<SecretEngine> engines, VaultRetryService vaultRetryService, SecretCacheConfig secretCacheConfig) {
         this.metricService = metricService;
         this.engines = engines;
         this.vaultRetryService = vaultRetryService;
+        secretCache = new SecretCache(secretCacheConfig, this::readSecret, Metrics.globalRegistry);
     }
 
     @PostConstruct
@@ -57,6 +70,11 @@ public class SecretService {
         }
     }
 
+    @PreDestroy
+    public void destroy() {
+        secretCache.shutdown();
+    }
+
     /**
      * Stores a secret in Secret's key-value store.
      *
@@ -79,6 +97,7 @@ public class SecretService {
         metricService.submit(MetricType.VAULT_WRITE, duration);
         LOGGER.trace("Secret write took {} ms", duration);
         metricService.incrementMetricCounter(() -> "secret.write." + convertSecretToMetric(secret));
+        secretCache.invalidate(secret);
         return secret;
     }
 
@@ -94,18 +113,21 @@ public class SecretService {
             return null;
         }
         metricService.incrementMetricCounter(() -> "secret.read." + convertSecretToMetric(secret));
-        long start = System.currentTimeMillis();
+        return nullIfNullString(secretCache.get(secret));
+    }
 
-        String response = vaultRetryService.tryReadingVault(() -> {
-            return getFirstEngineStream(secret)
-                    .map(e -> e.get(secret))
-                    .filter(Objects::nonNull)
-                    .orElse(null);
-        });
-        long duration = System.currentTimeMillis() - start;
-        metricService.submit(MetricType.VAULT_READ, duration);
-        LOGGER.trace("Secret read took {} ms", duration);
-        return "null".equals(response) ? null : response;
+    /**
+     * Fetches multiple secrets from Secret's store, the secrets that are not cached are read in parallel.
+     *
+     * @param secrets Key-value secrets in Secret
+     * @return Secret contents by secret, the content is null if the secret is not found.
+     */
+    public Map<String, String> getAll(Collection<String> secrets) {
+        List<String> nonNullSecrets = secrets.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        nonNullSecrets.forEach(secret -> metricService.incrementMetricCounter(() -> "secret.read." + convertSecretToMetric(secret)));
+        Map<String, String> result = new HashMap<>();
+        secretCache.getAll(nonNullSecrets).forEach((secret, value) -> result.put(secret, nullIfNullString(value)));
+        return result;
     }
 
     /**
@@ -124,6 +146,25 @@ public class SecretService {
         return get(secretAsJson);
     }
 
+    private String readSecret(String secret) {
+        long start = System.currentTimeMillis();
+        String response = vaultRetryService.tryReadingVault(() -> {
+            return getFirstEngineStream(secret)
+                    .map(e -> e.get(secret))
+                    .filter(Objects::nonNull)
+                    .orElse(null);
+        });
+        long duration = System.currentTimeMillis() - start;
+        metricService.submit(MetricType.VAULT_READ, duration);
+        metricService.recordTimerMetric(MetricType.VAULT_READ_LATENCY, Duration.ofMillis(duration));
+        LOGGER.trace("Secret read took {} ms", duration);
+        return response;
+    }
+
+    private String nullIfNullString(String response) {
+        return "null".equals(response) ? null : response;
+    }
+
     private Optional<SecretEngine> getFirstEngineStream(String secret) {
         return engines.stream()
                 .filter(e -> e.isSecret(secret))
@@ -141,6 +182,7 @@ public class SecretService {
         engines.stream()
                 .filter(e -> e.isSecret(secret))
                 .forEach(e -> e.delete(secret));
+        secretCache.invalidate(secret);
         long duration = System.currentTimeMillis() - start;
         metricService.submit(MetricType.VAULT_WRITE, duration);
         LOGGER.trace("Secret delete took {} ms", duration);
@@ -154,6 +196,7 @@ public class SecretService {
         metricService.incrementMetricCounter(() -> "secret.cleanup." + pathPrefix);
         long start = System.currentTimeMillis();
         persistentEngine.cleanup(pathPrefix);
+        secretCache.invalidateAll();
         long duration = System.currentTimeMillis() - start;
         metricService.submit(MetricType.VAULT_WRITE, duration);
         LOGGER.trace("Secret cleanup took {} ms", duration);
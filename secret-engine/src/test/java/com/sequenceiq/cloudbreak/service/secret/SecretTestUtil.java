@@ -2,8 +2,10 @@ package com.sequenceiq.cloudbreak.service.secret;
 
 import java.lang.reflect.Field;
 
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.ReflectionUtils;
 
+import com.sequenceiq.cloudbreak.service.secret.cache.SecretCacheConfig;
 import com.sequenceiq.cloudbreak.service.secret.domain.Secret;
 
 public class SecretTestUtil {
@@ -18,4 +20,14 @@ public class SecretTestUtil {
         } catch (IllegalAccessException ignore) {
         }
     }
+
+    public static SecretCacheConfig secretCacheConfig() {
+        SecretCacheConfig secretCacheConfig = new SecretCacheConfig();
+        ReflectionTestUtils.setField(secretCacheConfig, "maxWeight", 10_000L);
+        ReflectionTestUtils.setField(secretCacheConfig, "timeToLiveSeconds", 60L);
+        ReflectionTestUtils.setField(secretCacheConfig, "refreshSeconds", 30L);
+        ReflectionTestUtils.setField(secretCacheConfig, "negativeTimeToLiveSeconds", 10L);
+        ReflectionTestUtils.setField(secretCacheConfig, "loaderThreads", 2);
+        return secretCacheConfig;
+    }
 }
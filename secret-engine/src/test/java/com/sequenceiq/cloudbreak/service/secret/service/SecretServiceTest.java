@@ -10,7 +10,9 @@ import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
 import java.security.InvalidKeyException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.junit.Assert;
@@ -28,6 +30,7 @@ import com.sequenceiq.cloudbreak.common.metrics.MetricService;
 import com.sequenceiq.cloudbreak.common.metrics.type.Metric;
 import com.sequenceiq.cloudbreak.common.metrics.type.MetricType;
 import com.sequenceiq.cloudbreak.service.secret.SecretEngine;
+import com.sequenceiq.cloudbreak.service.secret.SecretTestUtil;
 
 @RunWith(MockitoJUnitRunner.class)
 public class SecretServiceTest {
@@ -42,7 +45,7 @@ public class SecretServiceTest {
     private final VaultRetryService vaultRetryService = Mockito.mock(VaultRetryService.class);
 
     @InjectMocks
-    private final SecretService underTest = new SecretService(metricService, List.of(persistentEngine), vaultRetryService);
+    private final SecretService underTest = new SecretService(metricService, List.of(persistentEngine), vaultRetryService, SecretTestUtil.secretCacheConfig());
 
     @Before
     public void setup() {
@@ -117,6 +120,65 @@ public class SecretServiceTest {
         Assert.assertEquals("value", result);
     }
 
+    @Test
+    public void testGetSecretIsCached() {
+        when(persistentEngine.get("secret")).thenReturn("value");
+
+        underTest.get("secret");
+        String result = underTest.get("secret");
+
+        Assert.assertEquals("value", result);
+        verify(persistentEngine, times(1)).get("secret");
+        verify(metricService, times(1)).submit(eq(MetricType.VAULT_READ), anyDouble());
+    }
+
+    @Test
+    public void testGetMissingSecretIsCached() {
+        underTest.get("secret");
+        String result = underTest.get("secret");
+
+        Assert.assertNull(result);
+        verify(persistentEngine, times(1)).get("secret");
+    }
+
+    @Test
+    public void testGetAll() {
+        when(persistentEngine.get("cached")).thenReturn("cachedValue");
+        when(persistentEngine.get("other")).thenReturn("otherValue");
+        underTest.get("cached");
+
+        Map<String, String> result = underTest.getAll(Arrays.asList("cached", "other", "missing", null));
+
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals("cachedValue", result.get("cached"));
+        Assert.assertEquals("otherValue", result.get("other"));
+        Assert.assertNull(result.get("missing"));
+        verify(persistentEngine, times(1)).get("cached");
+    }
+
+    @Test
+    public void testPutInvalidatesMissingSecret() throws Exception {
+        when(persistentEngine.put("key", "value")).thenReturn("secret");
+        underTest.get("secret");
+        when(persistentEngine.get("secret")).thenReturn("value");
+
+        underTest.put("key", "value");
+
+        Assert.assertEquals("value", underTest.get("secret"));
+    }
+
+    @Test
+    public void testDeleteInvalidatesSecret() {
+        when(persistentEngine.get("secret")).thenReturn("value");
+        underTest.get("secret");
+
+        underTest.delete("secret");
+        when(persistentEngine.get("secret")).thenReturn(null);
+
+        Assert.assertNull(underTest.get("secret"));
+        verify(persistentEngine, times(2)).get("secret");
+    }
+
     @Test
     public void testDeleteNullSecret() {
         when(persistentEngine.isSecret(any())).thenReturn(false);
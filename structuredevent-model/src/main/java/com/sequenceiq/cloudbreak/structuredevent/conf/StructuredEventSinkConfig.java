@@ -0,0 +1,61 @@
+package com.sequenceiq.cloudbreak.structuredevent.conf;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import com.sequenceiq.cloudbreak.structuredevent.sink.RotatingNdjsonFileWriter;
+import com.sequenceiq.cloudbreak.structuredevent.sink.StructuredEventSinkPipeline;
+import com.sequenceiq.cloudbreak.structuredevent.sink.StructuredEventSinkPipeline.OverflowPolicy;
+
+import io.micrometer.core.instrument.Metrics;
+
+@Configuration
+public class StructuredEventSinkConfig {
+
+    @Value("${cb.structuredevent.sink.queue.size:10000}")
+    private int queueSize;
+
+    @Value("${cb.structuredevent.sink.batch.size:100}")
+    private int batchSize;
+
+    @Value("${cb.structuredevent.sink.batch.linger.ms:50}")
+    private long lingerMillis;
+
+    @Value("${cb.structuredevent.sink.overflow:CALLER_RUNS}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${cb.structuredevent.sink.shutdown.timeout.ms:10000}")
+    private long shutdownTimeoutMillis;
+
+    @Value("${cb.audit.file.max.bytes:104857600}")
+    private long auditFileMaxBytes;
+
+    @Value("${cb.audit.file.max.backups:5}")
+    private int auditFileMaxBackups;
+
+    @Value("${cb.audit.file.bare.events:false}")
+    private boolean auditFileBareEvents;
+
+    public <E> StructuredEventSinkPipeline<E> createPipeline(String name, Consumer<List<E>> handler) {
+        return new StructuredEventSinkPipeline<>(name, queueSize, batchSize, lingerMillis, overflowPolicy, handler, Metrics.globalRegistry);
+    }
+
+    public RotatingNdjsonFileWriter createAuditFileWriter(String auditFilePath) {
+        return new RotatingNdjsonFileWriter(Paths.get(auditFilePath), auditFileMaxBytes, auditFileMaxBackups);
+    }
+
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+
+    /**
+     * @return true if the lines of the audit file are the structured events themselves instead of the reactor event wrappers around them
+     */
+    public boolean isAuditFileBareEvents() {
+        return auditFileBareEvents;
+    }
+}
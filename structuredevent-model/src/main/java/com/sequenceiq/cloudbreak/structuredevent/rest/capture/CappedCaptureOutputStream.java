@@ -0,0 +1,80 @@
+package com.sequenceiq.cloudbreak.structuredevent.rest.capture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Forwards the response entity to the wrapped stream and keeps at most the configured number of its bytes for the structured event.
+ * The capture buffer is allocated at the first captured byte and grows with the captured content only, not with the entity.
+ */
+public class CappedCaptureOutputStream extends FilterOutputStream {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private final boolean contentLogging;
+
+    private final int maxContentLength;
+
+    private ByteArrayOutputStream captured;
+
+    private boolean truncated;
+
+    public CappedCaptureOutputStream(OutputStream inner, boolean contentLogging, int maxContentLength) {
+        super(inner);
+        this.contentLogging = contentLogging;
+        this.maxContentLength = maxContentLength;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        if (contentLogging) {
+            if (capturedSize() < maxContentLength) {
+                captureBuffer().write(b);
+            } else {
+                truncated = true;
+            }
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        if (contentLogging && len > 0) {
+            int capturable = Math.min(len, maxContentLength - capturedSize());
+            if (capturable > 0) {
+                captureBuffer().write(b, off, capturable);
+            }
+            truncated = truncated || capturable < len;
+        }
+    }
+
+    public String getCapturedBody(Charset charset) {
+        if (!contentLogging) {
+            return "";
+        }
+        RestBodyCapture.recordCapturedBytes(RestBodyCapture.RESPONSE, capturedSize(), truncated);
+        StringBuilder body = new StringBuilder(capturedSize() + RestBodyCapture.TRUNCATED_SUFFIX.length() + 1);
+        if (captured != null) {
+            body.append(captured.toString(charset));
+        }
+        if (truncated) {
+            body.append(RestBodyCapture.TRUNCATED_SUFFIX);
+        }
+        return body.append('\n').toString();
+    }
+
+    private int capturedSize() {
+        return captured == null ? 0 : captured.size();
+    }
+
+    private ByteArrayOutputStream captureBuffer() {
+        if (captured == null) {
+            captured = new ByteArrayOutputStream(Math.min(INITIAL_BUFFER_SIZE, maxContentLength));
+        }
+        return captured;
+    }
+}
@@ -0,0 +1,65 @@
+package com.sequenceiq.cloudbreak.structuredevent.rest.capture;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import org.apache.commons.io.IOUtils;
+
+import io.micrometer.core.instrument.Metrics;
+
+public class RestBodyCapture {
+
+    public static final int DEFAULT_MAX_CONTENT_LENGTH = 65535;
+
+    static final String TRUNCATED_SUFFIX = "...more...";
+
+    static final String REQUEST = "request";
+
+    static final String RESPONSE = "response";
+
+    private static final String CAPTURED_BYTES_METRIC = "structuredevent.rest.body.captured.bytes";
+
+    private static final String TRUNCATED_METRIC = "structuredevent.rest.body.truncated";
+
+    private static final String DIRECTION_TAG = "direction";
+
+    private RestBodyCapture() {
+    }
+
+    /**
+     * Appends at most maxContentLength bytes of the request entity to the content and returns a stream that still starts at the beginning
+     * of the entity. The read buffer is sized by the content length of the request when it is known and smaller than the cap.
+     */
+    public static InputStream captureInbound(StringBuilder content, InputStream stream, Charset charset, int maxContentLength, int contentLength)
+            throws IOException {
+        int captureLimit = contentLength >= 0 ? Math.min(contentLength, maxContentLength) : maxContentLength;
+        int bufferSize = captureLimit + 1;
+        if (!stream.markSupported()) {
+            stream = new BufferedInputStream(stream, bufferSize);
+        }
+        stream.mark(bufferSize);
+        byte[] entity = new byte[bufferSize];
+        int entitySize = IOUtils.read(stream, entity);
+        if (entitySize != -1) {
+            int capturedSize = Math.min(entitySize, captureLimit);
+            boolean truncated = entitySize > captureLimit;
+            content.append(new String(entity, 0, capturedSize, charset));
+            if (truncated) {
+                content.append(TRUNCATED_SUFFIX);
+            }
+            recordCapturedBytes(REQUEST, capturedSize, truncated);
+        }
+        content.append('\n');
+        stream.reset();
+        return stream;
+    }
+
+    static void recordCapturedBytes(String direction, int capturedBytes, boolean truncated) {
+        Metrics.summary(CAPTURED_BYTES_METRIC, DIRECTION_TAG, direction).record(capturedBytes);
+        if (truncated) {
+            Metrics.counter(TRUNCATED_METRIC, DIRECTION_TAG, direction).increment();
+        }
+    }
+}
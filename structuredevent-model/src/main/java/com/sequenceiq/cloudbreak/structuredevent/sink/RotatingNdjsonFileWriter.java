@@ -0,0 +1,90 @@
+package com.sequenceiq.cloudbreak.structuredevent.sink;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends JSON documents to a file, one per line, keeping the file open between the batches. Once the file reaches the size limit it is
+ * renamed to {@code <file>.1}, the older backups are shifted and the backups over the configured count are deleted.
+ */
+public class RotatingNdjsonFileWriter implements Closeable {
+
+    private final Path file;
+
+    private final long maxBytes;
+
+    private final int maxBackups;
+
+    private BufferedWriter writer;
+
+    private long bytes;
+
+    public RotatingNdjsonFileWriter(Path file, long maxBytes, int maxBackups) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxBackups = maxBackups;
+    }
+
+    public synchronized void write(List<String> jsonLines) throws IOException {
+        if (jsonLines.isEmpty()) {
+            return;
+        }
+        BufferedWriter currentWriter = open();
+        for (String jsonLine : jsonLines) {
+            currentWriter.write(jsonLine);
+            currentWriter.write('\n');
+            bytes += jsonLine.getBytes(StandardCharsets.UTF_8).length + 1;
+        }
+        currentWriter.flush();
+        if (maxBytes > 0 && bytes >= maxBytes) {
+            rotate();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    private BufferedWriter open() throws IOException {
+        if (writer == null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            bytes = Files.size(file);
+        }
+        return writer;
+    }
+
+    private void rotate() throws IOException {
+        close();
+        if (maxBackups <= 0) {
+            Files.delete(file);
+            return;
+        }
+        Files.deleteIfExists(backup(maxBackups));
+        for (int i = maxBackups - 1; i >= 1; i--) {
+            Path backup = backup(i);
+            if (Files.exists(backup)) {
+                Files.move(backup, backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, backup(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path backup(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
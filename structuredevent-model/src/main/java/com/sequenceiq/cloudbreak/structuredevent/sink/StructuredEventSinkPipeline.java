@@ -0,0 +1,200 @@
+package com.sequenceiq.cloudbreak.structuredevent.sink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Hands the structured events of one sink to its handler in batches on a dedicated thread, so the flow and request threads creating the
+ * events do not wait for the sink. The events are queued in a bounded queue, the worker drains it into batches bounded by size and by the
+ * linger time. When the queue is full the overflow policy decides whether the event is dropped or handled on the caller thread. The events
+ * submitted after the shutdown are rejected, since the sink may already be closed.
+ * <p>
+ * Metrics, tagged with the name of the sink: {@code structuredevent.sink.events} counters by outcome, the {@code structuredevent.sink.lag}
+ * timer from queueing an event to handling its batch, the {@code structuredevent.sink.batch.size} summary and the queue size gauge.
+ */
+public class StructuredEventSinkPipeline<E> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StructuredEventSinkPipeline.class);
+
+    private static final String SINK_TAG = "sink";
+
+    private final String name;
+
+    private final BlockingQueue<QueuedEvent<E>> queue;
+
+    private final int batchSize;
+
+    private final long lingerMillis;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Consumer<List<E>> handler;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Thread worker;
+
+    private volatile boolean running;
+
+    private volatile boolean shutDown;
+
+    public StructuredEventSinkPipeline(String name, int capacity, int batchSize, long lingerMillis, OverflowPolicy overflowPolicy,
+            Consumer<List<E>> handler, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.overflowPolicy = overflowPolicy;
+        this.handler = handler;
+        this.meterRegistry = meterRegistry;
+        worker = new Thread(this::run, "structured-event-sink-" + name);
+        worker.setDaemon(true);
+    }
+
+    public void start() {
+        meterRegistry.gauge("structuredevent.sink.queue.size", Tags.of(SINK_TAG, name), queue, BlockingQueue::size);
+        running = true;
+        worker.start();
+        LOGGER.info("Structured event sink '{}' is started with batch size {}, linger {} ms and overflow policy {}", name, batchSize, lingerMillis,
+                overflowPolicy);
+    }
+
+    public void submit(E event) {
+        QueuedEvent<E> queuedEvent = new QueuedEvent<>(event);
+        if (shutDown) {
+            reject();
+        } else if (!running) {
+            handle(List.of(queuedEvent));
+        } else if (queue.offer(queuedEvent)) {
+            // the shutdown may have drained the queue in the meantime, an event that is still queued would never be handled
+            if (shutDown && queue.remove(queuedEvent)) {
+                reject();
+            }
+        } else if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            countEvents("overflow_caller_runs", 1);
+            handle(List.of(queuedEvent));
+        } else {
+            countEvents("dropped", 1);
+            LOGGER.warn("Structured event sink '{}' is full, dropping event", name);
+        }
+    }
+
+    /**
+     * Stops the worker and handles the events still in the queue on the calling thread, after the worker finished its last batch or the
+     * timeout elapsed.
+     */
+    public void shutdown(long timeoutMillis) {
+        if (running) {
+            shutDown = true;
+            running = false;
+            try {
+                worker.join(timeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            List<QueuedEvent<E>> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            if (!remaining.isEmpty()) {
+                handle(remaining);
+            }
+        }
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<QueuedEvent<E>> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    handle(batch);
+                }
+            } catch (InterruptedException e) {
+                LOGGER.info("Structured event sink '{}' is interrupted", name);
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<QueuedEvent<E>> nextBatch() throws InterruptedException {
+        List<QueuedEvent<E>> batch = new ArrayList<>();
+        QueuedEvent<E> first = queue.poll(lingerMillis, TimeUnit.MILLISECONDS);
+        if (first != null) {
+            batch.add(first);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+            while (batch.size() < batchSize) {
+                queue.drainTo(batch, batchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= batchSize || remaining <= 0L) {
+                    break;
+                }
+                QueuedEvent<E> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        }
+        return batch;
+    }
+
+    private void handle(List<QueuedEvent<E>> batch) {
+        DistributionSummary.builder("structuredevent.sink.batch.size").tag(SINK_TAG, name).register(meterRegistry).record(batch.size());
+        try {
+            handler.accept(batch.stream().map(QueuedEvent::getEvent).collect(Collectors.toList()));
+            countEvents("handled", batch.size());
+        } catch (RuntimeException e) {
+            countEvents("failed", batch.size());
+            LOGGER.error("Structured event sink '{}' failed to handle a batch of {} events", name, batch.size(), e);
+        }
+        Timer lag = Timer.builder("structuredevent.sink.lag").tag(SINK_TAG, name).register(meterRegistry);
+        long now = System.nanoTime();
+        batch.forEach(queuedEvent -> lag.record(now - queuedEvent.getQueuedAt(), TimeUnit.NANOSECONDS));
+    }
+
+    private void reject() {
+        countEvents("rejected", 1);
+        LOGGER.warn("Structured event sink '{}' is shut down, rejecting event", name);
+    }
+
+    private void countEvents(String outcome, int count) {
+        Counter.builder("structuredevent.sink.events").tag(SINK_TAG, name).tag("outcome", outcome).register(meterRegistry).increment(count);
+    }
+
+    public enum OverflowPolicy {
+        DROP,
+        CALLER_RUNS
+    }
+
+    private static class QueuedEvent<E> {
+
+        private final E event;
+
+        private final long queuedAt = System.nanoTime();
+
+        QueuedEvent(E event) {
+            this.event = event;
+        }
+
+        E getEvent() {
+            return event;
+        }
+
+        long getQueuedAt() {
+            return queuedAt;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sequenceiq.cloudbreak.structuredevent.rest.capture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CappedCaptureOutputStreamTest {
+
+    private static final String ENTITY = "{\"id\":1,\"name\":\"cluster\"}";
+
+    @Test
+    public void testWholeEntityIsForwardedAndCapturedUnderTheCap() throws IOException {
+        ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        CappedCaptureOutputStream underTest = new CappedCaptureOutputStream(inner, true, RestBodyCapture.DEFAULT_MAX_CONTENT_LENGTH);
+
+        underTest.write(ENTITY.getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertEquals(ENTITY, inner.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(ENTITY + "\n", underTest.getCapturedBody(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testCaptureStopsAtTheCapButTheEntityIsForwarded() throws IOException {
+        ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        CappedCaptureOutputStream underTest = new CappedCaptureOutputStream(inner, true, 10);
+
+        byte[] entity = ENTITY.getBytes(StandardCharsets.UTF_8);
+        underTest.write(entity, 0, 4);
+        underTest.write(entity[4]);
+        underTest.write(entity, 5, entity.length - 5);
+
+        Assertions.assertEquals(ENTITY, inner.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals(ENTITY.substring(0, 10) + "...more...\n", underTest.getCapturedBody(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNothingIsCapturedWhenContentLoggingIsDisabled() throws IOException {
+        ByteArrayOutputStream inner = new ByteArrayOutputStream();
+        CappedCaptureOutputStream underTest = new CappedCaptureOutputStream(inner, false, RestBodyCapture.DEFAULT_MAX_CONTENT_LENGTH);
+
+        underTest.write(ENTITY.getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertEquals(ENTITY, inner.toString(StandardCharsets.UTF_8));
+        Assertions.assertEquals("", underTest.getCapturedBody(StandardCharsets.UTF_8));
+    }
+}
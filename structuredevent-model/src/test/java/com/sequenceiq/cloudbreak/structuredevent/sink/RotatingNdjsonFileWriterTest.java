@@ -0,0 +1,44 @@
+package com.sequenceiq.cloudbreak.structuredevent.sink;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RotatingNdjsonFileWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLinesAreAppendedAndFileIsRotatedAtSizeLimit() throws IOException {
+        Path file = tempDir.resolve("audit.log");
+        try (RotatingNdjsonFileWriter underTest = new RotatingNdjsonFileWriter(file, 20L, 2)) {
+            underTest.write(List.of("{\"a\":1}", "{\"b\":2}"));
+            underTest.write(List.of("{\"c\":3}"));
+            underTest.write(List.of("{\"d\":4}", "{\"e\":5}", "{\"f\":6}"));
+            underTest.write(List.of("{\"g\":7}"));
+        }
+
+        Assertions.assertEquals(List.of("{\"g\":7}"), Files.readAllLines(file));
+        Assertions.assertEquals(List.of("{\"d\":4}", "{\"e\":5}", "{\"f\":6}"), Files.readAllLines(tempDir.resolve("audit.log.1")));
+        Assertions.assertEquals(List.of("{\"a\":1}", "{\"b\":2}", "{\"c\":3}"), Files.readAllLines(tempDir.resolve("audit.log.2")));
+    }
+
+    @Test
+    public void testOldestBackupIsDeleted() throws IOException {
+        Path file = tempDir.resolve("audit.log");
+        try (RotatingNdjsonFileWriter underTest = new RotatingNdjsonFileWriter(file, 1L, 1)) {
+            underTest.write(List.of("{\"a\":1}"));
+            underTest.write(List.of("{\"b\":2}"));
+        }
+
+        Assertions.assertFalse(Files.exists(file));
+        Assertions.assertEquals(List.of("{\"b\":2}"), Files.readAllLines(tempDir.resolve("audit.log.1")));
+        Assertions.assertFalse(Files.exists(tempDir.resolve("audit.log.2")));
+    }
+}
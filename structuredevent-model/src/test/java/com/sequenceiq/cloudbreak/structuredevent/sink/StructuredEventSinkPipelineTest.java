@@ -0,0 +1,93 @@
+package com.sequenceiq.cloudbreak.structuredevent.sink;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.sequenceiq.cloudbreak.structuredevent.sink.StructuredEventSinkPipeline.OverflowPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class StructuredEventSinkPipelineTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void testEventsAreHandledInBatches() {
+        StructuredEventSinkPipeline<String> underTest = new StructuredEventSinkPipeline<>("test", 100, 3, 1000L, OverflowPolicy.DROP,
+                batches::add, meterRegistry);
+        underTest.start();
+
+        for (int i = 0; i < 7; i++) {
+            underTest.submit("event-" + i);
+        }
+        underTest.shutdown(TimeUnit.SECONDS.toMillis(10L));
+
+        List<String> handled = new ArrayList<>();
+        batches.forEach(handled::addAll);
+        Assertions.assertEquals(List.of("event-0", "event-1", "event-2", "event-3", "event-4", "event-5", "event-6"), handled);
+        Assertions.assertTrue(batches.stream().allMatch(batch -> batch.size() <= 3));
+        Assertions.assertEquals(7.0, meterRegistry.get("structuredevent.sink.events").tag("outcome", "handled").counter().count());
+        Assertions.assertEquals(7L, meterRegistry.get("structuredevent.sink.lag").timer().count());
+    }
+
+    @Test
+    public void testEventIsDroppedWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch handlerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseHandler = new CountDownLatch(1);
+        StructuredEventSinkPipeline<String> dropping = new StructuredEventSinkPipeline<>("dropping", 1, 1, 1L, OverflowPolicy.DROP, batch -> {
+            handlerBlocked.countDown();
+            await(releaseHandler);
+            batches.add(batch);
+        }, meterRegistry);
+        dropping.start();
+
+        dropping.submit("in-handler");
+        Assertions.assertTrue(handlerBlocked.await(10L, TimeUnit.SECONDS));
+        dropping.submit("queued");
+        dropping.submit("dropped");
+        releaseHandler.countDown();
+        dropping.shutdown(TimeUnit.SECONDS.toMillis(10L));
+
+        Assertions.assertEquals(List.of(List.of("in-handler"), List.of("queued")), batches);
+        Assertions.assertEquals(1.0, meterRegistry.get("structuredevent.sink.events").tag("sink", "dropping").tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    public void testEventIsHandledOnCallerThreadWhenPipelineIsNotStarted() {
+        List<String> handledOnCaller = new ArrayList<>();
+        StructuredEventSinkPipeline<String> callerRuns = new StructuredEventSinkPipeline<>("caller", 1, 1, 1L, OverflowPolicy.CALLER_RUNS,
+                handledOnCaller::addAll, meterRegistry);
+        callerRuns.submit("not-started");
+        Assertions.assertEquals(List.of("not-started"), handledOnCaller);
+    }
+
+    @Test
+    public void testEventIsRejectedAfterShutdown() {
+        StructuredEventSinkPipeline<String> underTest = new StructuredEventSinkPipeline<>("shutdown", 10, 1, 1L, OverflowPolicy.CALLER_RUNS,
+                batches::add, meterRegistry);
+        underTest.start();
+        underTest.submit("before-shutdown");
+        underTest.shutdown(TimeUnit.SECONDS.toMillis(10L));
+
+        underTest.submit("after-shutdown");
+
+        Assertions.assertEquals(List.of(List.of("before-shutdown")), batches);
+        Assertions.assertEquals(1.0, meterRegistry.get("structuredevent.sink.events").tag("sink", "shutdown").tag("outcome", "rejected").counter().count());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,7 +6,10 @@ import javax.transaction.Transactional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.sequenceiq.cloudbreak.structuredevent.domain.CDPStructuredEventEntity;
@@ -21,4 +24,11 @@ public interface CDPPagingStructuredEventRepository extends PagingAndSortingRepo
     Page<CDPStructuredEventEntity> findByEventTypeAndResourceCrn(StructuredEventType eventType, String resourceCrn, Pageable pageable);
 
     Page<CDPStructuredEventEntity> findByEventTypeInAndResourceCrn(List<StructuredEventType> eventType, String resourceCrn, Pageable pageable);
+
+    Slice<CDPStructuredEventEntity> readByEventTypeInAndResourceCrn(List<StructuredEventType> eventTypes, String resourceCrn, Pageable pageable);
+
+    @Query("SELECT e FROM CDPStructuredEventEntity e WHERE e.resourceCrn = :resourceCrn AND e.eventType IN :eventTypes "
+            + "AND (e.timestamp < :timestamp OR (e.timestamp = :timestamp AND e.id < :id)) ORDER BY e.timestamp DESC, e.id DESC")
+    List<CDPStructuredEventEntity> findPageBefore(@Param("eventTypes") List<StructuredEventType> eventTypes, @Param("resourceCrn") String resourceCrn,
+            @Param("timestamp") Long timestamp, @Param("id") Long id, Pageable pageable);
 }
\ No newline at end of file
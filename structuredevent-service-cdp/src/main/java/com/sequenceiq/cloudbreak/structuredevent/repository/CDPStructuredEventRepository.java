@@ -7,6 +7,9 @@ import java.util.Set;
 import javax.transaction.Transactional;
 import javax.transaction.Transactional.TxType;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.sequenceiq.cloudbreak.structuredevent.domain.CDPStructuredEventEntity;
@@ -23,6 +26,14 @@ public interface CDPStructuredEventRepository extends AccountAwareResourceReposi
 
     List<CDPStructuredEventEntity> findByEventTypeInAndResourceCrn(List<StructuredEventType> eventTypes, String resourceCrn);
 
+    @Modifying
+    @Query(nativeQuery = true, value = "WITH moved AS (DELETE FROM cdp_structured_event WHERE id IN "
+            + "(SELECT id FROM cdp_structured_event WHERE timestamp < :before ORDER BY timestamp LIMIT :limit) "
+            + "RETURNING id, eventtype, resourcetype, resourcecrn, accountid, timestamp, structuredeventjson) "
+            + "INSERT INTO cdp_structured_event_archive (id, eventtype, resourcetype, resourcecrn, accountid, timestamp, structuredeventjson) "
+            + "SELECT id, eventtype, resourcetype, resourcecrn, accountid, timestamp, structuredeventjson FROM moved")
+    int archiveOlderThan(@Param("before") Long before, @Param("limit") int limit);
+
     @Override
     default Optional<CDPStructuredEventEntity> findByNameAndAccountId(
             String name,
@@ -1,6 +1,9 @@
 package com.sequenceiq.cloudbreak.structuredevent.rest.controller;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -19,7 +22,6 @@ import com.sequenceiq.cloudbreak.auth.altus.Crn;
 import com.sequenceiq.cloudbreak.common.json.JsonUtil;
 import com.sequenceiq.cloudbreak.structuredevent.event.StructuredEventType;
 import com.sequenceiq.cloudbreak.structuredevent.event.cdp.CDPStructuredEvent;
-import com.sequenceiq.cloudbreak.structuredevent.event.cdp.CDPStructuredNotificationEvent;
 import com.sequenceiq.cloudbreak.structuredevent.rest.endpoint.CDPStructuredEventV1Endpoint;
 import com.sequenceiq.cloudbreak.structuredevent.service.db.CDPStructuredEventDBService;
 
@@ -32,22 +34,17 @@ public class CDPStructuredEventV1Controller implements CDPStructuredEventV1Endpo
     @Override
     @CustomPermissionCheck
     public List<CDPStructuredEvent> getAuditEvents(@ResourceCrn String resourceCrn, List<StructuredEventType> types, Integer page, Integer size) {
-        PageRequest pageable = PageRequest.of(page, size, Sort.by("timestamp").descending());
-        return structuredEventDBService.getPagedEventsOfResource(types, resourceCrn, pageable).getContent();
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Order.desc("timestamp"), Sort.Order.desc("id")));
+        return structuredEventDBService.getPageOfEventsOfResource(types, resourceCrn, pageable);
     }
 
     @Override
     @CustomPermissionCheck
     public Response getAuditEventsZip(@ResourceCrn String resourceCrn, List<StructuredEventType> types) {
-        Collection<CDPStructuredNotificationEvent> events = structuredEventDBService.getEventsOfResource(types, resourceCrn);
-        return getAuditEventsZipResponse(events, resourceCrn);
-    }
-
-    private Response getAuditEventsZipResponse(Collection<CDPStructuredNotificationEvent> events, String resourceCrn) {
         StreamingOutput streamingOutput = output -> {
             try (ZipOutputStream zipOutputStream = new ZipOutputStream(output)) {
                 zipOutputStream.putNextEntry(new ZipEntry("struct-events.json"));
-                zipOutputStream.write(JsonUtil.writeValueAsString(events).getBytes());
+                writeEvents(zipOutputStream, types, resourceCrn);
                 zipOutputStream.closeEntry();
             }
         };
@@ -55,4 +52,27 @@ public class CDPStructuredEventV1Controller implements CDPStructuredEventV1Endpo
         String fileName = String.format("audit-%s.zip", resourceType);
         return Response.ok(streamingOutput).header("content-disposition", String.format("attachment; filename = %s", fileName)).build();
     }
+
+    private void writeEvents(OutputStream output, List<StructuredEventType> types, String resourceCrn) throws IOException {
+        output.write('[');
+        boolean[] first = {true};
+        try {
+            structuredEventDBService.streamEventsOfResource(types, resourceCrn, events -> {
+                try {
+                    for (CDPStructuredEvent event : events) {
+                        if (!first[0]) {
+                            output.write(',');
+                        }
+                        first[0] = false;
+                        output.write(JsonUtil.writeValueAsString(event).getBytes(StandardCharsets.UTF_8));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        output.write(']');
+    }
 }
@@ -17,12 +17,12 @@ import javax.ws.rs.ext.WriterInterceptorContext;
 import org.apache.commons.lang3.BooleanUtils;
 import org.glassfish.jersey.message.MessageUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.google.common.collect.Maps;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestRequestDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestResponseDetails;
+import com.sequenceiq.cloudbreak.structuredevent.rest.capture.CappedCaptureOutputStream;
 import com.sequenceiq.cloudbreak.structuredevent.rest.urlparser.CDPRestUrlParser;
 
 @Component
@@ -40,9 +40,6 @@ public class CDPStructuredEventFilter implements WriterInterceptor, ContainerReq
 
     private static final String RESPONSE_DETAILS = "RESPONSE_DETAIS";
 
-    @Value("${cdp.structuredevent.rest.contentlogging}")
-    private Boolean contentLogging;
-
     //Do not remove the @Autowired annotation Jersey is able to inject dependencies that are instantiated by Spring this way only!
     @Autowired
     private RestEventFilterRelatedObjectFactory restEventFilterRelatedObjectFactory;
@@ -63,7 +60,7 @@ public class CDPStructuredEventFilter implements WriterInterceptor, ContainerReq
             requestContext.setProperty(REQUEST_TIME, System.currentTimeMillis());
             StringBuilder body = new StringBuilder();
             requestContext.setEntityStream(structuredEventFilterUtil.logInboundEntity(body, requestContext.getEntityStream(),
-                    MessageUtils.getCharset(requestContext.getMediaType())));
+                    MessageUtils.getCharset(requestContext.getMediaType()), requestContext.getLength()));
             requestContext.setProperty(REST_PARAMS, getRequestUrlParameters(requestContext));
             requestContext.setProperty(REQUEST_DETAILS, restEventFilterRelatedObjectFactory.createRequestDetails(requestContext, body.toString()));
         }
@@ -74,7 +71,7 @@ public class CDPStructuredEventFilter implements WriterInterceptor, ContainerReq
         if (BooleanUtils.isTrue((Boolean) requestContext.getProperty(LOGGING_ENABLED_PROPERTY))) {
             RestResponseDetails restResponse = restEventFilterRelatedObjectFactory.createResponseDetails(responseContext);
             if (responseContext.hasEntity()) {
-                OutputStream stream = new LoggingStream(responseContext.getEntityStream(), contentLogging);
+                OutputStream stream = structuredEventFilterUtil.logOutboundEntity(responseContext.getEntityStream());
                 responseContext.setEntityStream(stream);
                 requestContext.setProperty(LOGGINGSTREAM_PROPERTY, stream);
                 requestContext.setProperty(RESPONSE_DETAILS, restResponse);
@@ -94,8 +91,8 @@ public class CDPStructuredEventFilter implements WriterInterceptor, ContainerReq
             Long requestTime = (Long) context.getProperty(REQUEST_TIME);
             RestRequestDetails restRequest = (RestRequestDetails) context.getProperty(REQUEST_DETAILS);
             RestResponseDetails restResponse = (RestResponseDetails) context.getProperty(RESPONSE_DETAILS);
-            String responseBody = ((LoggingStream) context.getProperty(LOGGINGSTREAM_PROPERTY)).getStringBuilder(
-                    MessageUtils.getCharset(context.getMediaType())).toString();
+            String responseBody = ((CappedCaptureOutputStream) context.getProperty(LOGGINGSTREAM_PROPERTY)).getCapturedBody(
+                    MessageUtils.getCharset(context.getMediaType()));
             Map<String, String> restParams = (Map<String, String>) context.getProperty(REST_PARAMS);
             if (restParams == null) {
                 restParams = new HashMap<>();
@@ -1,19 +1,17 @@
 package com.sequenceiq.cloudbreak.structuredevent.rest.filter;
 
-import static com.sequenceiq.cloudbreak.structuredevent.rest.filter.LoggingStream.MAX_CONTENT_LENGTH;
 import static com.sequenceiq.cloudbreak.structuredevent.rest.urlparser.CDPRestUrlParser.RESOURCE_CRN;
 import static com.sequenceiq.cloudbreak.structuredevent.rest.urlparser.CDPRestUrlParser.RESOURCE_NAME;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.Map;
 import java.util.Objects;
 
 import javax.inject.Inject;
 
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,6 +23,8 @@ import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestCallDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestRequestDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestResponseDetails;
 import com.sequenceiq.cloudbreak.structuredevent.rest.CDPRestCommonService;
+import com.sequenceiq.cloudbreak.structuredevent.rest.capture.CappedCaptureOutputStream;
+import com.sequenceiq.cloudbreak.structuredevent.rest.capture.RestBodyCapture;
 import com.sequenceiq.cloudbreak.structuredevent.service.CDPDefaultStructuredEventClient;
 
 @Component
@@ -35,6 +35,9 @@ public class StructuredEventFilterUtil {
     @Value("${cdp.structuredevent.rest.contentlogging}")
     private Boolean contentLogging;
 
+    @Value("${cdp.structuredevent.rest.maxcontentlength:" + RestBodyCapture.DEFAULT_MAX_CONTENT_LENGTH + "}")
+    private int maxContentLength;
+
     @Inject
     private CDPDefaultStructuredEventClient structuredEventClient;
 
@@ -47,26 +50,17 @@ public class StructuredEventFilterUtil {
     @Inject
     private RestEventFilterRelatedObjectFactory restEventFilterRelatedObjectFactory;
 
-    public InputStream logInboundEntity(StringBuilder content, InputStream stream, Charset charset) throws IOException {
+    public InputStream logInboundEntity(StringBuilder content, InputStream stream, Charset charset, int contentLength) throws IOException {
         if (contentLogging) {
-            if (!stream.markSupported()) {
-                stream = new BufferedInputStream(stream, MAX_CONTENT_LENGTH + 1);
-            }
-            stream.mark(MAX_CONTENT_LENGTH + 1);
-            byte[] entity = new byte[MAX_CONTENT_LENGTH + 1];
-            int entitySize = IOUtils.read(stream, entity);
-            if (entitySize != -1) {
-                content.append(new String(entity, 0, Math.min(entitySize, MAX_CONTENT_LENGTH), charset));
-                if (entitySize > MAX_CONTENT_LENGTH) {
-                    content.append("...more...");
-                }
-            }
-            content.append('\n');
-            stream.reset();
+            return RestBodyCapture.captureInbound(content, stream, charset, maxContentLength, contentLength);
         }
         return stream;
     }
 
+    public OutputStream logOutboundEntity(OutputStream stream) {
+        return new CappedCaptureOutputStream(stream, contentLogging, maxContentLength);
+    }
+
     public void sendStructuredEvent(RestRequestDetails restRequest, RestResponseDetails restResponse, Map<String, String> restParams, Long requestTime,
             String responseBody) {
         boolean valid = checkRestParams(restParams);
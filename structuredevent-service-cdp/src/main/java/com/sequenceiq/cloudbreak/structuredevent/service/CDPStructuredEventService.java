@@ -1,6 +1,7 @@
 package com.sequenceiq.cloudbreak.structuredevent.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,5 +14,9 @@ public interface CDPStructuredEventService extends CDPStructuredEventSenderServi
 
     <T extends CDPStructuredEvent> Page<T> getPagedEventsOfResource(List<StructuredEventType> eventType, String resourceCrn, Pageable pageable);
 
+    <T extends CDPStructuredEvent> List<T> getPageOfEventsOfResource(List<StructuredEventType> eventTypes, String resourceCrn, Pageable pageable);
+
     <T extends CDPStructuredEvent> List<T> getEventsOfResource(List<StructuredEventType> eventTypes, String resourceCrn);
+
+    void streamEventsOfResource(List<StructuredEventType> eventTypes, String resourceCrn, Consumer<List<CDPStructuredEvent>> batchConsumer);
 }
@@ -0,0 +1,64 @@
+package com.sequenceiq.cloudbreak.structuredevent.service.db;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.sequenceiq.cloudbreak.structuredevent.repository.CDPStructuredEventRepository;
+
+/**
+ * Moves the structured events older than the retention period from {@code cdp_structured_event} to {@code cdp_structured_event_archive}.
+ * Every batch is moved by a single DELETE ... RETURNING / INSERT statement in its own transaction, oldest first along the timestamp index,
+ * so the job never holds long locks on the live table and the live table stays small enough for the per resource queries.
+ */
+@Service
+public class CDPStructuredEventArchiveService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CDPStructuredEventArchiveService.class);
+
+    @Value("${cdp.structuredevent.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cdp.structuredevent.archive.retention.days:90}")
+    private long retentionDays;
+
+    @Value("${cdp.structuredevent.archive.batch.size:1000}")
+    private int batchSize;
+
+    @Value("${cdp.structuredevent.archive.max.batches:100}")
+    private int maxBatches;
+
+    @Inject
+    private CDPStructuredEventRepository structuredEventRepository;
+
+    @Scheduled(fixedDelayString = "${cdp.structuredevent.archive.fixed-delay-millis:3600000}",
+            initialDelayString = "${cdp.structuredevent.archive.initial-delay-millis:600000}")
+    public void triggerArchive() {
+        if (enabled) {
+            try {
+                archiveOlderThan(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays));
+            } catch (Exception e) {
+                LOGGER.error("Failed to archive structured events", e);
+            }
+        }
+    }
+
+    public int archiveOlderThan(long before) {
+        int archived = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int moved = structuredEventRepository.archiveOlderThan(before, batchSize);
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        LOGGER.info("{} structured events older than {} were moved to the archive table", archived, before);
+        return archived;
+    }
+}
@@ -3,15 +3,19 @@ package com.sequenceiq.cloudbreak.structuredevent.service.db;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -34,6 +38,9 @@ public class CDPStructuredEventDBService extends AbstractAccountAwareResourceSer
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CDPStructuredEventDBService.class);
 
+    @Value("${cdp.structuredevent.stream.batch.size:500}")
+    private int streamBatchSize;
+
     @Inject
     private ConversionService conversionService;
 
@@ -97,6 +104,25 @@ public class CDPStructuredEventDBService extends AbstractAccountAwareResourceSer
         }
     }
 
+    /**
+     * Returns the requested page without counting all the events of the resource, for the callers that do not need the total.
+     */
+    @Override
+    public <T extends CDPStructuredEvent> List<T> getPageOfEventsOfResource(List<StructuredEventType> eventTypes, String resourceCrn, Pageable pageable) {
+        LOGGER.debug("Gathering page of events for types: '{}' and resource CRN: '{}'", eventTypes, resourceCrn);
+        List<StructuredEventType> types = getAllEventTypeIfEmpty(eventTypes);
+        try {
+            Slice<CDPStructuredEventEntity> events = pagingStructuredEventRepository.readByEventTypeInAndResourceCrn(types, resourceCrn, pageable);
+            return (List<T>) Optional.ofNullable(events).map(Slice::getContent).orElse(new ArrayList<>()).stream()
+                    .map(event -> conversionService.convert(event, CDPStructuredEvent.class))
+                    .collect(Collectors.toList());
+        } catch (Exception ex) {
+            String msg = String.format("Failed get page of events for types: '%s' and resource CRN: '%s'", types, resourceCrn);
+            LOGGER.warn(msg, ex);
+            throw new CloudbreakServiceException(msg, ex);
+        }
+    }
+
     @Override
     public <T extends CDPStructuredEvent> List<T> getEventsOfResource(List<StructuredEventType> eventTypes, String resourceCrn) {
         LOGGER.debug("Gathering events for type: '{}' and resource CRN: '{}'", eventTypes, resourceCrn);
@@ -113,6 +139,31 @@ public class CDPStructuredEventDBService extends AbstractAccountAwareResourceSer
         }
     }
 
+    /**
+     * Hands the events of the resource to the consumer in batches, newest first. The batches are read with keyset pagination on
+     * (timestamp, id), so every batch is a short index range scan and only one batch is held in memory at a time.
+     */
+    @Override
+    public void streamEventsOfResource(List<StructuredEventType> eventTypes, String resourceCrn, Consumer<List<CDPStructuredEvent>> batchConsumer) {
+        LOGGER.debug("Streaming events for types: '{}' and resource CRN: '{}'", eventTypes, resourceCrn);
+        List<StructuredEventType> types = getAllEventTypeIfEmpty(eventTypes);
+        PageRequest batchLimit = PageRequest.of(0, streamBatchSize);
+        Long timestamp = Long.MAX_VALUE;
+        Long id = Long.MAX_VALUE;
+        List<CDPStructuredEventEntity> batch;
+        do {
+            batch = pagingStructuredEventRepository.findPageBefore(types, resourceCrn, timestamp, id, batchLimit);
+            if (!batch.isEmpty()) {
+                CDPStructuredEventEntity last = batch.get(batch.size() - 1);
+                timestamp = last.getTimestamp();
+                id = last.getId();
+                batchConsumer.accept(batch.stream()
+                        .map(event -> conversionService.convert(event, CDPStructuredEvent.class))
+                        .collect(Collectors.toList()));
+            }
+        } while (batch.size() >= streamBatchSize);
+    }
+
     private List<StructuredEventType> getAllEventTypeIfEmpty(List<StructuredEventType> eventTypes) {
         List<StructuredEventType> types = new ArrayList<>(eventTypes);
         if (CollectionUtils.isEmpty(eventTypes)) {
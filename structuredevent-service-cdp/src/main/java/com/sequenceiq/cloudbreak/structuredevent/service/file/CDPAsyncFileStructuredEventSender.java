@@ -1,30 +1,49 @@
 package com.sequenceiq.cloudbreak.structuredevent.service.file;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.structuredevent.conf.StructuredEventEnablementConfig;
+import com.sequenceiq.cloudbreak.structuredevent.conf.StructuredEventSinkConfig;
 import com.sequenceiq.cloudbreak.structuredevent.event.cdp.CDPStructuredEvent;
 import com.sequenceiq.cloudbreak.structuredevent.event.cdp.CDPStructuredEventSenderService;
+import com.sequenceiq.cloudbreak.structuredevent.sink.StructuredEventSinkPipeline;
 import com.sequenceiq.flow.reactor.ErrorHandlerAwareReactorEventFactory;
 
-import reactor.bus.Event;
-import reactor.bus.EventBus;
-
 @Component
 public class CDPAsyncFileStructuredEventSender implements CDPStructuredEventSenderService {
 
-    public static final String SAVE_STRUCTURED_EVENT_TO_FILE = "SAVE_STRUCTURED_EVENT_TO_FILE";
-
     @Inject
     private StructuredEventEnablementConfig structuredEventEnablementConfig;
 
     @Inject
-    private ErrorHandlerAwareReactorEventFactory eventFactory;
+    private StructuredEventSinkConfig structuredEventSinkConfig;
 
     @Inject
-    private EventBus eventBus;
+    private CDPFileStructuredEventHandler fileStructuredEventHandler;
+
+    @Inject
+    private ErrorHandlerAwareReactorEventFactory eventFactory;
+
+    private StructuredEventSinkPipeline<Object> pipeline;
+
+    @PostConstruct
+    public void init() {
+        if (isEnabled()) {
+            pipeline = structuredEventSinkConfig.createPipeline("cdp-file", fileStructuredEventHandler::writeBatch);
+            pipeline.start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pipeline != null) {
+            pipeline.shutdown(structuredEventSinkConfig.getShutdownTimeoutMillis());
+        }
+    }
 
     @Override
     public boolean isEnabled() {
@@ -33,11 +52,6 @@ public class CDPAsyncFileStructuredEventSender implements CDPStructuredEventSend
 
     @Override
     public void create(CDPStructuredEvent structuredEvent) {
-        sendAsyncEvent(SAVE_STRUCTURED_EVENT_TO_FILE, eventFactory.createEvent(structuredEvent));
+        pipeline.submit(structuredEventSinkConfig.isAuditFileBareEvents() ? structuredEvent : eventFactory.createEvent(structuredEvent));
     }
-
-    private void sendAsyncEvent(String selector, Event<?> event) {
-        eventBus.notify(selector, event);
-    }
-
 }
@@ -2,7 +2,9 @@ package com.sequenceiq.cloudbreak.structuredevent.service.kafka;
 
 import static com.sequenceiq.cloudbreak.common.anonymizer.AnonymizerUtil.REPLACEMENT;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import javax.inject.Inject;
@@ -21,39 +23,39 @@ import com.sequenceiq.cloudbreak.structuredevent.event.cdp.CDPStructuredEvent;
 import com.sequenceiq.cloudbreak.structuredevent.event.cdp.CDPStructuredRestCallEvent;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestRequestDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestResponseDetails;
-import com.sequenceiq.flow.reactor.api.handler.EventHandler;
-
-import reactor.bus.Event;
 
 @Component
-public class CDPKafkaStructuredEventHandler<T extends CDPStructuredEvent> implements EventHandler<T> {
+public class CDPKafkaStructuredEventHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CDPKafkaStructuredEventHandler.class);
 
     @Inject
     private KafkaTemplate<String, String> kafkaTemplate;
 
-    @Override
-    public String selector() {
-        return CDPAsyncKafkaStructuredEventSender.KAFKA_EVENT_LOG_MESSAGE;
-    }
-
-    @Override
-    public void accept(Event<T> structuredEvent) {
-        String topicByType = getTopicNameForEvent(structuredEvent);
-        try {
-            CDPStructuredEvent event = structuredEvent.getData();
-            sanitizeSensitiveRestData(event);
-            ListenableFuture<SendResult<String, String>> sendResultFuture =
-                    kafkaTemplate.send(topicByType, JsonUtil.writeValueAsString(structuredEvent.getData()));
-            SendResult<String, String> sendResult = sendResultFuture.get();
-            LOGGER.trace("Structured event sent to kafka with topic {}: {}", topicByType, sendResult.getProducerRecord());
-        } catch (InvalidTopicException e) {
-            LOGGER.error("Structured event invalid topic name {}", topicByType, e);
-        } catch (JsonProcessingException e) {
-            LOGGER.error("Structured event json processing error", e);
-        } catch (InterruptedException | ExecutionException e) {
-            LOGGER.error("Error happened in message sending to kafka", e);
+    public void sendBatch(List<? extends CDPStructuredEvent> structuredEvents) {
+        List<ListenableFuture<SendResult<String, String>>> sendResultFutures = new ArrayList<>(structuredEvents.size());
+        for (CDPStructuredEvent event : structuredEvents) {
+            String topicByType = getTopicNameForEvent(event);
+            try {
+                sanitizeSensitiveRestData(event);
+                sendResultFutures.add(kafkaTemplate.send(topicByType, JsonUtil.writeValueAsString(event)));
+            } catch (InvalidTopicException e) {
+                LOGGER.error("Structured event invalid topic name {}", topicByType, e);
+            } catch (JsonProcessingException e) {
+                LOGGER.error("Structured event json processing error", e);
+            }
+        }
+        for (ListenableFuture<SendResult<String, String>> sendResultFuture : sendResultFutures) {
+            try {
+                SendResult<String, String> sendResult = sendResultFuture.get();
+                LOGGER.trace("Structured event sent to kafka: {}", sendResult.getProducerRecord());
+            } catch (ExecutionException e) {
+                LOGGER.error("Error happened in message sending to kafka", e);
+            } catch (InterruptedException e) {
+                LOGGER.error("Interrupted while waiting for kafka to acknowledge the structured events", e);
+                Thread.currentThread().interrupt();
+                return;
+            }
         }
     }
 
@@ -69,7 +71,7 @@ public class CDPKafkaStructuredEventHandler<T extends CDPStructuredEvent> implem
         }
     }
 
-    private String getTopicNameForEvent(Event<T> event) {
-        return "cb" + event.getData().getType();
+    private String getTopicNameForEvent(CDPStructuredEvent event) {
+        return "cb" + event.getType();
     }
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestRequestDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestResponseDetails;
 import com.sequenceiq.cloudbreak.structuredevent.rest.CDPRestCommonService;
+import com.sequenceiq.cloudbreak.structuredevent.rest.capture.RestBodyCapture;
 import com.sequenceiq.cloudbreak.structuredevent.service.CDPDefaultStructuredEventClient;
 
 @ExtendWith(MockitoExtension.class)
@@ -49,17 +50,18 @@ public class StructuredEventFilterUtilTest {
     @BeforeEach
     public void setup() {
         ReflectionTestUtils.setField(underTest, "contentLogging", true);
+        ReflectionTestUtils.setField(underTest, "maxContentLength", RestBodyCapture.DEFAULT_MAX_CONTENT_LENGTH);
     }
 
     @Test
     public void testLogInboundEntityWhenMarkSupportedAndContentLongerThenMax() throws IOException {
-        int length = LoggingStream.MAX_CONTENT_LENGTH * 2;
+        int length = RestBodyCapture.DEFAULT_MAX_CONTENT_LENGTH * 2;
         String generatedString = RandomStringUtils.random(length, true, true);
 
         ByteArrayInputStream bais = new ByteArrayInputStream(generatedString.getBytes());
 
         StringBuilder sb = new StringBuilder();
-        InputStream actual = underTest.logInboundEntity(sb, bais, Charset.defaultCharset());
+        InputStream actual = underTest.logInboundEntity(sb, bais, Charset.defaultCharset(), -1);
 
         Assertions.assertEquals(bais, actual);
         Assertions.assertTrue(sb.toString().endsWith("...more...\n"));
@@ -67,7 +69,7 @@ public class StructuredEventFilterUtilTest {
 
     @Test
     public void testLogInboundEntityWhenMarkNotSupportedAndContentLongerThenMax() throws IOException {
-        int length = LoggingStream.MAX_CONTENT_LENGTH * 2;
+        int length = RestBodyCapture.DEFAULT_MAX_CONTENT_LENGTH * 2;
         String generatedString = RandomStringUtils.random(length, true, true);
 
         ByteArrayInputStream bais = new ByteArrayInputStream(generatedString.getBytes());
@@ -79,7 +81,7 @@ public class StructuredEventFilterUtilTest {
         };
 
         StringBuilder sb = new StringBuilder();
-        InputStream actual = underTest.logInboundEntity(sb, inputStream, Charset.defaultCharset());
+        InputStream actual = underTest.logInboundEntity(sb, inputStream, Charset.defaultCharset(), -1);
 
         Assertions.assertNotEquals(inputStream, actual);
         Assertions.assertTrue(sb.toString().endsWith("...more...\n"));
@@ -93,7 +95,7 @@ public class StructuredEventFilterUtilTest {
         ByteArrayInputStream bais = new ByteArrayInputStream(generatedString.getBytes());
 
         StringBuilder sb = new StringBuilder();
-        InputStream actual = underTest.logInboundEntity(sb, bais, Charset.defaultCharset());
+        InputStream actual = underTest.logInboundEntity(sb, bais, Charset.defaultCharset(), -1);
 
         Assertions.assertEquals(bais, actual);
         Assertions.assertFalse(sb.toString().endsWith("...more...\n"));
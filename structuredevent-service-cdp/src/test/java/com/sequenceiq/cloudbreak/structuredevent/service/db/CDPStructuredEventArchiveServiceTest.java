@@ -0,0 +1,58 @@
+package com.sequenceiq.cloudbreak.structuredevent.service.db;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sequenceiq.cloudbreak.structuredevent.repository.CDPStructuredEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CDPStructuredEventArchiveServiceTest {
+
+    @InjectMocks
+    private CDPStructuredEventArchiveService underTest;
+
+    @Mock
+    private CDPStructuredEventRepository structuredEventRepository;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(underTest, "batchSize", 10);
+        ReflectionTestUtils.setField(underTest, "maxBatches", 3);
+    }
+
+    @Test
+    public void testArchiveStopsAfterPartialBatch() {
+        when(structuredEventRepository.archiveOlderThan(100L, 10)).thenReturn(10, 4);
+
+        Assertions.assertEquals(14, underTest.archiveOlderThan(100L));
+        verify(structuredEventRepository, times(2)).archiveOlderThan(100L, 10);
+    }
+
+    @Test
+    public void testArchiveStopsAtMaxBatches() {
+        when(structuredEventRepository.archiveOlderThan(100L, 10)).thenReturn(10);
+
+        Assertions.assertEquals(30, underTest.archiveOlderThan(100L));
+        verify(structuredEventRepository, times(3)).archiveOlderThan(100L, 10);
+    }
+
+    @Test
+    public void testTriggerDoesNothingWhenDisabled() {
+        underTest.triggerArchive();
+
+        verify(structuredEventRepository, never()).archiveOlderThan(anyLong(), anyInt());
+    }
+}
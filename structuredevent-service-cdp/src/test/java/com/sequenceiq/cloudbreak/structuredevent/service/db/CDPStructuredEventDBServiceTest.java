@@ -3,11 +3,13 @@ package com.sequenceiq.cloudbreak.structuredevent.service.db;
 import static com.sequenceiq.cloudbreak.structuredevent.event.StructuredEventType.FLOW;
 import static com.sequenceiq.cloudbreak.structuredevent.event.StructuredEventType.NOTIFICATION;
 import static com.sequenceiq.cloudbreak.structuredevent.event.StructuredEventType.REST;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,7 +23,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.sequenceiq.cloudbreak.structuredevent.domain.CDPStructuredEventEntity;
 import com.sequenceiq.cloudbreak.structuredevent.event.cdp.CDPOperationDetails;
@@ -69,6 +73,24 @@ public class CDPStructuredEventDBServiceTest {
         Assertions.assertEquals(List.of(NOTIFICATION), actual);
     }
 
+    @Test
+    public void testStreamEventsOfResourceSeeksFromTheLastEventOfTheBatch() {
+        ReflectionTestUtils.setField(underTest, "streamBatchSize", 2);
+        PageRequest batchLimit = PageRequest.of(0, 2);
+        CDPStructuredEventEntity newest = entity(3L, 300L);
+        CDPStructuredEventEntity middle = entity(2L, 200L);
+        CDPStructuredEventEntity oldest = entity(1L, 100L);
+        when(pagingStructuredEventRepository.findPageBefore(List.of(NOTIFICATION), "crn", Long.MAX_VALUE, Long.MAX_VALUE, batchLimit))
+                .thenReturn(List.of(newest, middle));
+        when(pagingStructuredEventRepository.findPageBefore(List.of(NOTIFICATION), "crn", 200L, 2L, batchLimit)).thenReturn(List.of(oldest));
+        when(conversionService.convert(any(CDPStructuredEventEntity.class), eq(CDPStructuredEvent.class))).thenReturn(new CDPStructuredRestCallEvent());
+
+        List<Integer> batchSizes = new ArrayList<>();
+        underTest.streamEventsOfResource(List.of(NOTIFICATION), "crn", events -> batchSizes.add(events.size()));
+
+        Assertions.assertEquals(List.of(2, 1), batchSizes);
+    }
+
     @Test
     public void testCreateWhenResourceCrnIsNull() {
         CDPStructuredEvent event = new CDPStructuredRestCallEvent();
@@ -101,4 +123,11 @@ public class CDPStructuredEventDBServiceTest {
         verify(conversionService, Mockito.times(1)).convert(event, CDPStructuredEventEntity.class);
         verify(structuredEventRepository, Mockito.times(1)).save(entity);
     }
+
+    private CDPStructuredEventEntity entity(Long id, Long timestamp) {
+        CDPStructuredEventEntity entity = new CDPStructuredEventEntity();
+        entity.setId(id);
+        entity.setTimestamp(timestamp);
+        return entity;
+    }
 }
@@ -2,9 +2,6 @@ package com.sequenceiq.cloudbreak.structuredevent.rest;
 
 import static com.sequenceiq.cloudbreak.structuredevent.event.StructuredEventType.REST;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -30,7 +27,6 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.ext.WriterInterceptor;
 import javax.ws.rs.ext.WriterInterceptorContext;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
@@ -57,6 +53,8 @@ import com.sequenceiq.cloudbreak.structuredevent.event.legacy.OperationDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestCallDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestRequestDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.rest.RestResponseDetails;
+import com.sequenceiq.cloudbreak.structuredevent.rest.capture.CappedCaptureOutputStream;
+import com.sequenceiq.cloudbreak.structuredevent.rest.capture.RestBodyCapture;
 import com.sequenceiq.cloudbreak.structuredevent.rest.urlparser.LegacyRestUrlParser;
 import com.sequenceiq.cloudbreak.structuredevent.service.lookup.WorkspaceAwareRepositoryLookupService;
 import com.sequenceiq.cloudbreak.workspace.controller.WorkspaceEntityType;
@@ -80,8 +78,6 @@ public class LegacyStructuredEventFilter implements WriterInterceptor, Container
 
     private static final String RESPONSE_DETAILS = "RESPONSE_DETAIS";
 
-    private static final int MAX_CONTENT_LENGTH = 65535;
-
     private static final String ID = "id";
 
     private static final String CRN = "crn";
@@ -100,6 +96,9 @@ public class LegacyStructuredEventFilter implements WriterInterceptor, Container
     @Value("${cb.structuredevent.rest.contentlogging}")
     private Boolean contentLogging;
 
+    @Value("${cb.structuredevent.rest.maxcontentlength:" + RestBodyCapture.DEFAULT_MAX_CONTENT_LENGTH + "}")
+    private int maxContentLength;
+
     //Do not remove the @Autowired annotation Jersey is able to inject dependencies that are instantiated by Spring this way only!
     @Autowired
     private NodeConfig nodeConfig;
@@ -154,7 +153,8 @@ public class LegacyStructuredEventFilter implements WriterInterceptor, Container
         if (loggingEnabled) {
             requestContext.setProperty(REQUEST_TIME, System.currentTimeMillis());
             StringBuilder body = new StringBuilder();
-            requestContext.setEntityStream(logInboundEntity(body, requestContext.getEntityStream(), MessageUtils.getCharset(requestContext.getMediaType())));
+            requestContext.setEntityStream(logInboundEntity(body, requestContext.getEntityStream(), MessageUtils.getCharset(requestContext.getMediaType()),
+                    requestContext.getLength()));
             requestContext.setProperty(REST_PARAMS, getRequestUrlParameters(requestContext));
             requestContext.setProperty(REQUEST_DETAILS, createRequestDetails(requestContext, body.toString()));
         }
@@ -165,7 +165,7 @@ public class LegacyStructuredEventFilter implements WriterInterceptor, Container
         if (BooleanUtils.isTrue((Boolean) requestContext.getProperty(LOGGING_ENABLED_PROPERTY))) {
             RestResponseDetails restResponse = createResponseDetails(responseContext);
             if (responseContext.hasEntity()) {
-                OutputStream stream = new LoggingStream(responseContext.getEntityStream());
+                OutputStream stream = new CappedCaptureOutputStream(responseContext.getEntityStream(), contentLogging, maxContentLength);
                 responseContext.setEntityStream(stream);
                 requestContext.setProperty(LOGGINGSTREAM_PROPERTY, stream);
                 requestContext.setProperty(RESPONSE_DETAILS, restResponse);
@@ -185,8 +185,8 @@ public class LegacyStructuredEventFilter implements WriterInterceptor, Container
             Long requestTime = (Long) context.getProperty(REQUEST_TIME);
             RestRequestDetails restRequest = (RestRequestDetails) context.getProperty(REQUEST_DETAILS);
             RestResponseDetails restResponse = (RestResponseDetails) context.getProperty(RESPONSE_DETAILS);
-            String responseBody = ((LoggingStream) context.getProperty(LOGGINGSTREAM_PROPERTY)).getStringBuilder(
-                    MessageUtils.getCharset(context.getMediaType())).toString();
+            String responseBody = ((CappedCaptureOutputStream) context.getProperty(LOGGINGSTREAM_PROPERTY)).getCapturedBody(
+                    MessageUtils.getCharset(context.getMediaType()));
             Map<String, String> restParams = (Map<String, String>) context.getProperty(REST_PARAMS);
             if (restParams == null) {
                 restParams = new HashMap<>();
@@ -363,52 +363,10 @@ public class LegacyStructuredEventFilter implements WriterInterceptor, Container
         return restResponse;
     }
 
-    private InputStream logInboundEntity(StringBuilder content, InputStream stream, Charset charset) throws IOException {
+    private InputStream logInboundEntity(StringBuilder content, InputStream stream, Charset charset, int contentLength) throws IOException {
         if (contentLogging) {
-            if (!stream.markSupported()) {
-                stream = new BufferedInputStream(stream, MAX_CONTENT_LENGTH + 1);
-            }
-            stream.mark(MAX_CONTENT_LENGTH + 1);
-            byte[] entity = new byte[MAX_CONTENT_LENGTH + 1];
-            int entitySize = IOUtils.read(stream, entity);
-            if (entitySize != -1) {
-                content.append(new String(entity, 0, Math.min(entitySize, MAX_CONTENT_LENGTH), charset));
-                if (entitySize > MAX_CONTENT_LENGTH) {
-                    content.append("...more...");
-                }
-            }
-            content.append('\n');
-            stream.reset();
+            return RestBodyCapture.captureInbound(content, stream, charset, maxContentLength, contentLength);
         }
         return stream;
     }
-
-    private class LoggingStream extends FilterOutputStream {
-        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        LoggingStream(OutputStream inner) {
-            super(inner);
-        }
-
-        StringBuffer getStringBuilder(Charset charset) {
-            StringBuffer b = new StringBuffer();
-            if (contentLogging) {
-                byte[] entity = baos.toByteArray();
-                b.append(new String(entity, 0, Math.min(entity.length, MAX_CONTENT_LENGTH), charset));
-                if (entity.length > MAX_CONTENT_LENGTH) {
-                    b.append("...more...");
-                }
-                b.append('\n');
-            }
-            return b;
-        }
-
-        @Override
-        public void write(int i) throws IOException {
-            if (contentLogging && baos.size() <= MAX_CONTENT_LENGTH) {
-                baos.write(i);
-            }
-            out.write(i);
-        }
-    }
 }
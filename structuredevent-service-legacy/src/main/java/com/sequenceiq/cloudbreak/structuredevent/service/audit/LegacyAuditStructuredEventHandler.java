@@ -8,9 +8,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import com.sequenceiq.cloudbreak.audit.AuditClient;
 import com.sequenceiq.cloudbreak.audit.model.ActorCrn;
 import com.sequenceiq.cloudbreak.audit.model.AuditEvent;
+import com.sequenceiq.cloudbreak.audit.pipeline.AuditEventPipeline;
 import com.sequenceiq.cloudbreak.structuredevent.event.legacy.OperationDetails;
 import com.sequenceiq.cloudbreak.structuredevent.event.StructuredEvent;
 import com.sequenceiq.flow.reactor.api.handler.EventHandler;
@@ -23,7 +23,7 @@ public class LegacyAuditStructuredEventHandler<T extends StructuredEvent> implem
     private static final Logger LOGGER = LoggerFactory.getLogger(LegacyAuditStructuredEventHandler.class);
 
     @Inject
-    private AuditClient auditClient;
+    private AuditEventPipeline auditEventPipeline;
 
     @Inject
     private Map<String, LegacyEventDataExtractor<T>> eventDataExtractorMap;
@@ -48,7 +48,7 @@ public class LegacyAuditStructuredEventHandler<T extends StructuredEvent> implem
                     .withEventSource(extractor.eventSource(data))
                     .withSourceIp(extractor.sourceIp(data))
                     .build();
-            auditClient.createAuditEvent(event);
+            auditEventPipeline.submit(event);
         } catch (UnsupportedOperationException e) {
             LOGGER.debug("Audit log is unnecessary: {}", e.getMessage());
         } catch (Exception e) {
@@ -1,25 +1,24 @@
 package com.sequenceiq.cloudbreak.structuredevent.service.file;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sequenceiq.cloudbreak.structuredevent.conf.StructuredEventEnablementConfig;
-import com.sequenceiq.cloudbreak.structuredevent.event.StructuredEvent;
-import com.sequenceiq.flow.reactor.api.handler.EventHandler;
-
-import reactor.bus.Event;
+import com.sequenceiq.cloudbreak.structuredevent.conf.StructuredEventSinkConfig;
+import com.sequenceiq.cloudbreak.structuredevent.sink.RotatingNdjsonFileWriter;
 
 @Component
-public class LegacyFileStructuredEventHandler<T extends StructuredEvent> implements EventHandler<T> {
+public class LegacyFileStructuredEventHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LegacyFileStructuredEventHandler.class);
 
@@ -28,20 +27,48 @@ public class LegacyFileStructuredEventHandler<T extends StructuredEvent> impleme
     @Inject
     private StructuredEventEnablementConfig structuredEventEnablementConfig;
 
-    @Override
-    public String selector() {
-        return LegacyAsyncFileStructuredEventSender.SAVE_STRUCTURED_EVENT_TO_FILE;
-    }
+    @Inject
+    private StructuredEventSinkConfig structuredEventSinkConfig;
 
-    @Override
-    public void accept(Event<T> structuredEvent) {
-        File file = new File(structuredEventEnablementConfig.getAuditFilePath());
+    private RotatingNdjsonFileWriter writer;
+
+    /**
+     * Writes one line per event. The events are either the structured events or the reactor event wrappers around them, depending on
+     * {@code cb.audit.file.bare.events}.
+     */
+    public void writeBatch(List<?> structuredEvents) {
+        List<String> structuredEventsAsJson = new ArrayList<>(structuredEvents.size());
+        for (Object structuredEvent : structuredEvents) {
+            try {
+                structuredEventsAsJson.add(objectMapper.writeValueAsString(structuredEvent));
+            } catch (JsonProcessingException e) {
+                LOGGER.error("Can not serialize structured event {}", structuredEvent.getClass().getSimpleName(), e);
+            }
+        }
+        String auditFilePath = structuredEventEnablementConfig.getAuditFilePath();
         try {
-            String structuredEventAsJson = objectMapper.writeValueAsString(structuredEvent);
-            FileUtils.writeStringToFile(file, structuredEventAsJson + '\n', StandardCharsets.UTF_8, true);
-            LOGGER.trace("Structured event\n{}\nhas been sent to file: {}", structuredEventAsJson, file.getAbsolutePath());
+            getWriter(auditFilePath).write(structuredEventsAsJson);
+            LOGGER.trace("{} structured events have been sent to file: {}", structuredEventsAsJson.size(), auditFilePath);
         } catch (IOException e) {
-            LOGGER.error("Can not write structured event to file " + file.getAbsolutePath(), e);
+            LOGGER.error("Can not write structured events to file " + auditFilePath, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                LOGGER.warn("Can not close structured event file", e);
+            }
+        }
+    }
+
+    private synchronized RotatingNdjsonFileWriter getWriter(String auditFilePath) {
+        if (writer == null) {
+            writer = structuredEventSinkConfig.createAuditFileWriter(auditFilePath);
         }
+        return writer;
     }
-}
\ No newline at end of file
+}
@@ -1,30 +1,45 @@
 package com.sequenceiq.cloudbreak.structuredevent.service.kafka;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Component;
 
 import com.sequenceiq.cloudbreak.structuredevent.StructuredEventSenderService;
 import com.sequenceiq.cloudbreak.structuredevent.conf.StructuredEventEnablementConfig;
+import com.sequenceiq.cloudbreak.structuredevent.conf.StructuredEventSinkConfig;
 import com.sequenceiq.cloudbreak.structuredevent.event.StructuredEvent;
-import com.sequenceiq.flow.reactor.ErrorHandlerAwareReactorEventFactory;
-
-import reactor.bus.Event;
-import reactor.bus.EventBus;
+import com.sequenceiq.cloudbreak.structuredevent.sink.StructuredEventSinkPipeline;
 
 @Component
 public class LegacyAsyncKafkaStructuredEventSender implements StructuredEventSenderService {
 
-    public static final String KAFKA_EVENT_LOG_MESSAGE = "KAFKA_EVENT_LOG_MESSAGE";
-
     @Inject
     private StructuredEventEnablementConfig structuredEventEnablementConfig;
 
     @Inject
-    private ErrorHandlerAwareReactorEventFactory eventFactory;
+    private StructuredEventSinkConfig structuredEventSinkConfig;
 
     @Inject
-    private EventBus eventBus;
+    private LegacyKafkaStructuredEventHandler kafkaStructuredEventHandler;
+
+    private StructuredEventSinkPipeline<StructuredEvent> pipeline;
+
+    @PostConstruct
+    public void init() {
+        if (isEnabled()) {
+            pipeline = structuredEventSinkConfig.createPipeline("legacy-kafka", kafkaStructuredEventHandler::sendBatch);
+            pipeline.start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pipeline != null) {
+            pipeline.shutdown(structuredEventSinkConfig.getShutdownTimeoutMillis());
+        }
+    }
 
     @Override
     public boolean isEnabled() {
@@ -33,10 +48,6 @@ public class LegacyAsyncKafkaStructuredEventSender implements StructuredEventSen
 
     @Override
     public void create(StructuredEvent structuredEvent) {
-        sendAsyncEvent(KAFKA_EVENT_LOG_MESSAGE, eventFactory.createEvent(structuredEvent));
-    }
-
-    private void sendAsyncEvent(String selector, Event<?> event) {
-        eventBus.notify(selector, event);
+        pipeline.submit(structuredEvent);
     }
 }
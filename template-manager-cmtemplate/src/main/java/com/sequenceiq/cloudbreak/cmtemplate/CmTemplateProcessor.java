@@ -78,16 +78,43 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
 
     private static final String ROLE_TYPE = "roleType";
 
-    private final ApiClusterTemplate cmTemplate;
+    private final String cmTemplateText;
+
+    private ApiClusterTemplate cmTemplate;
+
+    private boolean shared;
 
     public CmTemplateProcessor(@Nonnull String cmTemplateText) {
+        this.cmTemplateText = cmTemplateText;
+        cmTemplate = parse(cmTemplateText);
+    }
+
+    /**
+     * Creates a processor over a parsed template that is shared with other processors. The lookups read the shared template, it is
+     * parsed again from the text on the first modification or when the model is handed out, so the shared template never changes.
+     */
+    CmTemplateProcessor(@Nonnull String cmTemplateText, @Nonnull ApiClusterTemplate sharedTemplate) {
+        this.cmTemplateText = cmTemplateText;
+        cmTemplate = sharedTemplate;
+        shared = true;
+    }
+
+    static ApiClusterTemplate parse(String cmTemplateText) {
         try {
-            cmTemplate = JsonUtil.readValue(cmTemplateText, ApiClusterTemplate.class);
+            return JsonUtil.readValue(cmTemplateText, ApiClusterTemplate.class);
         } catch (IOException e) {
             throw new BlueprintProcessingException("Failed to parse blueprint text.", e);
         }
     }
 
+    private ApiClusterTemplate mutableTemplate() {
+        if (shared) {
+            cmTemplate = parse(cmTemplateText);
+            shared = false;
+        }
+        return cmTemplate;
+    }
+
     @Override
     public ClusterManagerType getClusterManagerType() {
         return ClusterManagerType.CLOUDERA_MANAGER;
@@ -375,11 +402,11 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public List<ApiClusterTemplateHostTemplate> getHostTemplates() {
-        return cmTemplate.getHostTemplates();
+        return mutableTemplate().getHostTemplates();
     }
 
     public boolean everyHostTemplateHasRoleConfigGroupsRefNames() {
-        for (ApiClusterTemplateHostTemplate hostTemplate : getHostTemplates()) {
+        for (ApiClusterTemplateHostTemplate hostTemplate : cmTemplate.getHostTemplates()) {
             if (hostTemplate.getRoleConfigGroupsRefNames() == null) {
                 return false;
             }
@@ -411,12 +438,13 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public void addInstantiator(ClouderaManagerRepo clouderaManagerRepoDetails, TemplatePreparationObject templatePreparationObject, String sdxContextName) {
-        ApiClusterTemplateInstantiator instantiator = ofNullable(cmTemplate.getInstantiator()).orElseGet(ApiClusterTemplateInstantiator::new);
+        ApiClusterTemplate template = mutableTemplate();
+        ApiClusterTemplateInstantiator instantiator = ofNullable(template.getInstantiator()).orElseGet(ApiClusterTemplateInstantiator::new);
         if (instantiator.getClusterName() == null) {
             instantiator.setClusterName(templatePreparationObject.getGeneralClusterConfigs().getClusterName());
         }
         addCmVersionDependantConfigs(clouderaManagerRepoDetails, templatePreparationObject, instantiator);
-        for (ApiClusterTemplateService service : ofNullable(cmTemplate.getServices()).orElse(List.of())) {
+        for (ApiClusterTemplateService service : ofNullable(template.getServices()).orElse(List.of())) {
             List<String> nonBaseRefs = ofNullable(service.getRoleConfigGroups()).orElse(List.of())
                     .stream()
                     .filter(rcg -> rcg.getBase() == null || !rcg.getBase())
@@ -431,7 +459,7 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
                 .map(name -> List.of(new ApiDataContextRef().name(name)))
                 .map(apiDataContextRefs -> new ApiClusterTemplateClusterSpec().dataContextRefs(apiDataContextRefs))
                 .ifPresent(instantiator::clusterSpec);
-        cmTemplate.setInstantiator(instantiator);
+        template.setInstantiator(instantiator);
     }
 
     private void addCmVersionDependantConfigs(ClouderaManagerRepo cmRepoDetails, TemplatePreparationObject templatePreparationObject,
@@ -452,19 +480,20 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
 
     public void addVariables(List<ApiClusterTemplateVariable> vars) {
         for (ApiClusterTemplateVariable v : vars) {
-            cmTemplate.getInstantiator().addVariablesItem(v);
+            mutableTemplate().getInstantiator().addVariablesItem(v);
         }
     }
 
     public void extendTemplateWithAdditionalServices(Map<String, ApiClusterTemplateService> hostGroupServices) {
+        ApiClusterTemplate template = mutableTemplate();
         for (Entry<String, ApiClusterTemplateService> hostGroupService : hostGroupServices.entrySet()) {
             ApiClusterTemplateService service = hostGroupService.getValue();
             List<String> serviceRefNames = service.getRoleConfigGroups().stream()
                     .map(ApiClusterTemplateRoleConfigGroup::getRefName).collect(Collectors.toList());
             if (getServiceByType(service.getServiceType()).isEmpty()) {
-                cmTemplate.addServicesItem(service);
+                template.addServicesItem(service);
             }
-            cmTemplate.getHostTemplates().stream()
+            template.getHostTemplates().stream()
                     .filter(hostTemplate -> hostTemplate.getRefName().equals(hostGroupService.getKey()))
                     .forEach(ht -> ht.getRoleConfigGroupsRefNames().addAll(serviceRefNames));
         }
@@ -550,7 +579,7 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public boolean isRoleTypePresentInService(String serviceType, List<String> roleTypes) {
-        return getServiceByType(serviceType).filter(acts -> isAnyRoleTypePresent(acts, roleTypes)).isPresent();
+        return findServiceByType(serviceType).filter(acts -> isAnyRoleTypePresent(acts, roleTypes)).isPresent();
     }
 
     private boolean isAnyRoleTypePresent(ApiClusterTemplateService apiClusterTemplateService, List<String> roleTypes) {
@@ -559,6 +588,11 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public Optional<ApiClusterTemplateService> getServiceByType(String serviceType) {
+        mutableTemplate();
+        return findServiceByType(serviceType);
+    }
+
+    private Optional<ApiClusterTemplateService> findServiceByType(String serviceType) {
         for (ApiClusterTemplateService service : cmTemplate.getServices()) {
             if (serviceType.equalsIgnoreCase(service.getServiceType())) {
                 return Optional.of(service);
@@ -568,58 +602,60 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public ApiClusterTemplate getTemplate() {
-        return cmTemplate;
+        return mutableTemplate();
     }
 
     public void addHosts(Map<String, List<Map<String, String>>> hostGroupMappings) {
+        ApiClusterTemplateInstantiator instantiator = mutableTemplate().getInstantiator();
         hostGroupMappings.forEach((hostGroup, hostAttributes) -> hostAttributes.forEach(
-                attr -> cmTemplate.getInstantiator().addHostsItem(new ApiClusterTemplateHostInfo().hostName(attr.get("fqdn")).hostTemplateRefName(hostGroup))
+                attr -> instantiator.addHostsItem(new ApiClusterTemplateHostInfo().hostName(attr.get("fqdn")).hostTemplateRefName(hostGroup))
         ));
     }
 
     public void resetProducts() {
-        cmTemplate.setProducts(new ArrayList<>());
+        mutableTemplate().setProducts(new ArrayList<>());
     }
 
     public void resetRepositories() {
-        cmTemplate.setRepositories(new ArrayList<>());
+        mutableTemplate().setRepositories(new ArrayList<>());
     }
 
     public void addProduct(String product, String version) {
         ApiProductVersion productVersion = new ApiProductVersion();
         productVersion.setProduct(product);
         productVersion.setVersion(version);
-        cmTemplate.addProductsItem(productVersion);
+        mutableTemplate().addProductsItem(productVersion);
     }
 
     public void addRepositoryItem(String repositoriesItem) {
-        cmTemplate.addRepositoriesItem(repositoriesItem);
+        mutableTemplate().addRepositoriesItem(repositoriesItem);
     }
 
     public void setCmVersion(String cmVersion) {
-        cmTemplate.setCmVersion(cmVersion);
+        mutableTemplate().setCmVersion(cmVersion);
     }
 
     public void setCdhVersion(String cdhVersion) {
-        cmTemplate.setCdhVersion(cdhVersion);
+        mutableTemplate().setCdhVersion(cdhVersion);
     }
 
     public void setDisplayName(String displayName) {
-        cmTemplate.setDisplayName(displayName);
+        mutableTemplate().setDisplayName(displayName);
     }
 
     public void setHostTemplates(List<ApiClusterTemplateHostTemplate> hostTemplates) {
-        cmTemplate.setHostTemplates(hostTemplates);
+        mutableTemplate().setHostTemplates(hostTemplates);
     }
 
     public void setServices(List<ApiClusterTemplateService> services) {
-        cmTemplate.setServices(services);
+        mutableTemplate().setServices(services);
     }
 
     public void addDiagnosticTags(TemplatePreparationObject templatePreparationObject, ClouderaManagerRepo clouderaManagerRepo) {
         if (Objects.nonNull(clouderaManagerRepo) && isTagsResourceSupportedViaBlueprint(clouderaManagerRepo)) {
-            cmTemplate.addTagsItem(new ApiEntityTag().name("_cldr_cb_origin").value("cloudbreak"));
-            cmTemplate.addTagsItem(new ApiEntityTag().name("_cldr_cb_clustertype").value(getClusterType(templatePreparationObject.getStackType())));
+            ApiClusterTemplate template = mutableTemplate();
+            template.addTagsItem(new ApiEntityTag().name("_cldr_cb_origin").value("cloudbreak"));
+            template.addTagsItem(new ApiEntityTag().name("_cldr_cb_clustertype").value(getClusterType(templatePreparationObject.getStackType())));
         }
     }
 
@@ -667,14 +703,15 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public void removeDanglingVariableReferences() {
-        if (cmTemplate.getServices() != null) {
-            Set<String> existingVariables = cmTemplate.getInstantiator() != null && cmTemplate.getInstantiator().getVariables() != null
-                    ? cmTemplate.getInstantiator().getVariables().stream()
+        ApiClusterTemplate template = mutableTemplate();
+        if (template.getServices() != null) {
+            Set<String> existingVariables = template.getInstantiator() != null && template.getInstantiator().getVariables() != null
+                    ? template.getInstantiator().getVariables().stream()
                     .map(ApiClusterTemplateVariable::getName)
                     .collect(toSet())
                     : Set.of();
 
-            for (ApiClusterTemplateService s : cmTemplate.getServices()) {
+            for (ApiClusterTemplateService s : template.getServices()) {
                 s.setServiceConfigs(removeDanglingVariableReferences(s.getServiceConfigs(), existingVariables, s.getRefName()));
                 if (s.getRoleConfigGroups() != null) {
                     for (ApiClusterTemplateRoleConfigGroup rcg : s.getRoleConfigGroups()) {
@@ -715,7 +752,7 @@ public class CmTemplateProcessor implements BlueprintTextProcessor {
     }
 
     public Optional<ApiClusterTemplateConfig> getRoleConfig(String serviceType, String roleType, String configName) {
-        return getServiceByType(serviceType).flatMap(
+        return findServiceByType(serviceType).flatMap(
                 service -> Optional.ofNullable(service.getRoleConfigGroups()).orElseGet(List::of).stream()
                         .filter(rcg -> Objects.equals(roleType, rcg.getRoleType()))
                         .flatMap(rcg -> Optional.ofNullable(rcg.getConfigs()).orElseGet(List::of).stream())
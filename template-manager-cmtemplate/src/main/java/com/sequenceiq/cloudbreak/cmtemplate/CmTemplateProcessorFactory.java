@@ -1,10 +1,56 @@
 package com.sequenceiq.cloudbreak.cmtemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
 import org.springframework.stereotype.Component;
 
+import com.cloudera.api.swagger.model.ApiClusterTemplate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Creates the template processors over templates parsed once per template content. The processors share the parsed template until they
+ * modify it, so the lookups of the flows that build several processors from the same blueprint text do not parse it again.
+ */
 @Component
 public class CmTemplateProcessorFactory {
+
+    private static final String CACHE_NAME = "cmTemplateParseCache";
+
+    private static final long MAX_PARSED_TEMPLATES = 200L;
+
+    private static final long EXPIRE_AFTER_ACCESS_MINUTES = 30L;
+
+    private final Cache<String, ApiClusterTemplate> parsedTemplates = Caffeine.newBuilder()
+            .maximumSize(MAX_PARSED_TEMPLATES)
+            .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+            .recordStats()
+            .build();
+
+    @PostConstruct
+    public void init() {
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, parsedTemplates, CACHE_NAME);
+    }
+
     public CmTemplateProcessor get(String cmTemplateText) {
-        return new CmTemplateProcessor(cmTemplateText);
+        ApiClusterTemplate parsedTemplate = parsedTemplates.get(contentHash(cmTemplateText), key -> CmTemplateProcessor.parse(cmTemplateText));
+        return new CmTemplateProcessor(cmTemplateText, parsedTemplate);
+    }
+
+    @VisibleForTesting
+    long parseCount() {
+        return parsedTemplates.stats().missCount();
+    }
+
+    private String contentHash(String cmTemplateText) {
+        return Hashing.sha256().hashString(cmTemplateText, StandardCharsets.UTF_8).toString();
     }
 }
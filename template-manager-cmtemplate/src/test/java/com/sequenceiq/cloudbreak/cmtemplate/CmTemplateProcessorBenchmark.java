@@ -0,0 +1,98 @@
+package com.sequenceiq.cloudbreak.cmtemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sequenceiq.cloudbreak.util.FileReaderUtils;
+
+/**
+ * Compares building a processor per lookup with the parse sharing factory, as the cluster creation flow builds one processor from the same
+ * blueprint text at every step. Every invocation stands for one cluster creation, it starts with an empty factory.
+ * Run it with {@code ./gradlew :template-manager-cmtemplate:cmTemplateBenchmark}, the parse count per cluster creation is logged after the
+ * measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CmTemplateProcessorBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmTemplateProcessorBenchmark.class);
+
+    @Param({"35"})
+    private int lookupsPerClusterCreation;
+
+    @Param({"input/clouderamanager.bp", "input/cdp-data-mart.bp"})
+    private String blueprintPath;
+
+    private String blueprintText;
+
+    private long clusterCreations;
+
+    private long parses;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CmTemplateProcessorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        blueprintText = FileReaderUtils.readFileFromClasspathQuietly(blueprintPath);
+        clusterCreations = 0L;
+        parses = 0L;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (clusterCreations > 0L) {
+            LOGGER.info("{} parses per cluster creation: {} without sharing, {} with the factory", blueprintPath,
+                    lookupsPerClusterCreation, parses / clusterCreations);
+        }
+    }
+
+    @Benchmark
+    public int processorPerLookup() {
+        int components = 0;
+        for (int i = 0; i < lookupsPerClusterCreation; i++) {
+            CmTemplateProcessor processor = new CmTemplateProcessor(blueprintText);
+            components += processor.getServiceComponentsByHostGroup().size() + processor.getCardinalityByHostGroup().size();
+        }
+        return components;
+    }
+
+    @Benchmark
+    public int sharedParse() {
+        CmTemplateProcessorFactory factory = new CmTemplateProcessorFactory();
+        int components = 0;
+        for (int i = 0; i < lookupsPerClusterCreation; i++) {
+            CmTemplateProcessor processor = factory.get(blueprintText);
+            components += processor.getServiceComponentsByHostGroup().size() + processor.getCardinalityByHostGroup().size();
+        }
+        clusterCreations++;
+        parses += factory.parseCount();
+        return components;
+    }
+}
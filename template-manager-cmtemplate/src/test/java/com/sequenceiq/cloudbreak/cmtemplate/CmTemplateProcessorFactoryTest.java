@@ -0,0 +1,53 @@
+package com.sequenceiq.cloudbreak.cmtemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.sequenceiq.cloudbreak.util.FileReaderUtils;
+
+class CmTemplateProcessorFactoryTest {
+
+    private static final String BLUEPRINT_PATH = "input/clouderamanager.bp";
+
+    private final CmTemplateProcessorFactory underTest = new CmTemplateProcessorFactory();
+
+    @Test
+    void testSameTextIsParsedOnceForLookups() {
+        String blueprintText = FileReaderUtils.readFileFromClasspathQuietly(BLUEPRINT_PATH);
+
+        CmTemplateProcessor first = underTest.get(blueprintText);
+        CmTemplateProcessor second = underTest.get(new String(blueprintText));
+
+        assertEquals(first.getServiceComponentsByHostGroup(), second.getServiceComponentsByHostGroup());
+        assertEquals(first.getCardinalityByHostGroup(), second.getCardinalityByHostGroup());
+        assertEquals(1L, underTest.parseCount());
+    }
+
+    @Test
+    void testModificationDoesNotChangeSharedTemplate() {
+        String blueprintText = FileReaderUtils.readFileFromClasspathQuietly(BLUEPRINT_PATH);
+        CmTemplateProcessor modified = underTest.get(blueprintText);
+        CmTemplateProcessor other = underTest.get(blueprintText);
+        String originalCdhVersion = other.getStackVersion();
+
+        modified.setCdhVersion("7.99.0");
+        modified.getTemplate().setDisplayName("modified");
+
+        assertEquals("7.99.0", modified.getStackVersion());
+        assertNotEquals("7.99.0", other.getStackVersion());
+        assertEquals(originalCdhVersion, underTest.get(blueprintText).getStackVersion());
+        assertNotEquals("modified", underTest.get(blueprintText).getTemplate().getDisplayName());
+    }
+
+    @Test
+    void testModelIsCopiedOnceWhenHandedOut() {
+        CmTemplateProcessor processor = underTest.get(FileReaderUtils.readFileFromClasspathQuietly(BLUEPRINT_PATH));
+
+        assertSame(processor.getTemplate(), processor.getTemplate());
+        assertNotSame(processor.getTemplate(), underTest.get(FileReaderUtils.readFileFromClasspathQuietly(BLUEPRINT_PATH)).getTemplate());
+    }
+}